@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.script.disassembler.BulkDisassembler;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +46,8 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "scripts", true, "directory to dump disassembled scripts to");
+		options.addOption(null, "verify-scripts", false, "verify disassembled scripts reassemble to the original");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -115,6 +118,19 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("scripts"))
+		{
+			String scriptdir = cmd.getOptionValue("scripts");
+
+			if (scriptdir == null)
+			{
+				System.err.println("Script directory must be specified");
+				return;
+			}
+
+			System.out.println("Dumping scripts to " + scriptdir);
+			dumpScripts(store, new File(scriptdir), cmd.hasOption("verify-scripts"));
+		}
 		else
 		{
 			System.err.println("Nothing to do");
@@ -158,4 +174,16 @@ public class Cache
 		dumper.load();
 		dumper.export(spritedir);
 	}
+
+	private static void dumpScripts(Store store, File scriptdir, boolean verify) throws IOException
+	{
+		BulkDisassembler disassembler = new BulkDisassembler();
+		BulkDisassembler.Result result = disassembler.disassemble(store, verify);
+		BulkDisassembler.write(result, scriptdir);
+
+		if (verify && !result.getMismatches().isEmpty())
+		{
+			System.err.println("Scripts which do not round trip: " + result.getMismatches());
+		}
+	}
 }
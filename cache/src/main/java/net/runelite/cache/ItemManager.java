@@ -28,8 +28,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
@@ -40,12 +38,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionTable;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final DefinitionTable<ItemDefinition> items = new DefinitionTable<>(new ItemLoader()::load);
 
 	public ItemManager(Store store)
 	{
@@ -53,6 +52,18 @@ public class ItemManager implements ItemProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(false);
+	}
+
+	/**
+	 * Load the items
+	 *
+	 * @param lazy if set, keep only the raw definition data and decode
+	 * each definition the first time it is accessed
+	 * @throws IOException
+	 */
+	public void load(boolean lazy) throws IOException
 	{
 		ItemLoader loader = new ItemLoader();
 
@@ -63,8 +74,15 @@ public class ItemManager implements ItemProvider
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
+		items.ensureCapacity(files.getFiles().size());
 		for (FSFile f : files.getFiles())
 		{
+			if (lazy)
+			{
+				items.putRaw(f.getFileId(), f.getContents());
+				continue;
+			}
+
 			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
 			items.put(f.getFileId(), def);
 		}
@@ -72,7 +90,7 @@ public class ItemManager implements ItemProvider
 
 	public Collection<ItemDefinition> getItems()
 	{
-		return Collections.unmodifiableCollection(items.values());
+		return Collections.unmodifiableCollection(items);
 	}
 
 	public ItemDefinition getItem(int itemId)
@@ -84,7 +102,7 @@ public class ItemManager implements ItemProvider
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : items)
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -100,7 +118,7 @@ public class ItemManager implements ItemProvider
 		{
 			try (IDClass nulls = IDClass.create(java, "NullItemID"))
 			{
-				for (ItemDefinition def : items.values())
+				for (ItemDefinition def : items)
 				{
 					if (def.name.equalsIgnoreCase("NULL"))
 					{
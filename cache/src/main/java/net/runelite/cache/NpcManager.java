@@ -28,8 +28,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
@@ -39,12 +37,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionTable;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
 {
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final DefinitionTable<NpcDefinition> npcs = new DefinitionTable<>(new NpcLoader()::load);
 
 	public NpcManager(Store store)
 	{
@@ -52,6 +51,18 @@ public class NpcManager
 	}
 
 	public void load() throws IOException
+	{
+		load(false);
+	}
+
+	/**
+	 * Load the npcs
+	 *
+	 * @param lazy if set, keep only the raw definition data and decode
+	 * each definition the first time it is accessed
+	 * @throws IOException
+	 */
+	public void load(boolean lazy) throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
 
@@ -62,8 +73,15 @@ public class NpcManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
+		npcs.ensureCapacity(files.getFiles().size());
 		for (FSFile f : files.getFiles())
 		{
+			if (lazy)
+			{
+				npcs.putRaw(f.getFileId(), f.getContents());
+				continue;
+			}
+
 			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
 			npcs.put(f.getFileId(), npc);
 		}
@@ -71,7 +89,7 @@ public class NpcManager
 
 	public Collection<NpcDefinition> getNpcs()
 	{
-		return Collections.unmodifiableCollection(npcs.values());
+		return Collections.unmodifiableCollection(npcs);
 	}
 
 	public NpcDefinition get(int npcId)
@@ -83,7 +101,7 @@ public class NpcManager
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : npcs)
 		{
 			NpcExporter exporter = new NpcExporter(def);
 
@@ -97,7 +115,7 @@ public class NpcManager
 		java.mkdirs();
 		try (IDClass ids = IDClass.create(java, "NpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : npcs)
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -28,8 +28,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
@@ -39,12 +37,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionTable;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final DefinitionTable<ObjectDefinition> objects = new DefinitionTable<>(new ObjectLoader()::load);
 
 	public ObjectManager(Store store)
 	{
@@ -52,6 +51,18 @@ public class ObjectManager
 	}
 
 	public void load() throws IOException
+	{
+		load(false);
+	}
+
+	/**
+	 * Load the objects
+	 *
+	 * @param lazy if set, keep only the raw definition data and decode
+	 * each definition the first time it is accessed
+	 * @throws IOException
+	 */
+	public void load(boolean lazy) throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
 
@@ -62,8 +73,15 @@ public class ObjectManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
+		objects.ensureCapacity(files.getFiles().size());
 		for (FSFile f : files.getFiles())
 		{
+			if (lazy)
+			{
+				objects.putRaw(f.getFileId(), f.getContents());
+				continue;
+			}
+
 			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
 			objects.put(f.getFileId(), def);
 		}
@@ -71,7 +89,7 @@ public class ObjectManager
 
 	public Collection<ObjectDefinition> getObjects()
 	{
-		return Collections.unmodifiableCollection(objects.values());
+		return Collections.unmodifiableCollection(objects);
 	}
 
 	public ObjectDefinition getObject(int id)
@@ -83,7 +101,7 @@ public class ObjectManager
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : objects)
 		{
 			ObjectExporter exporter = new ObjectExporter(def);
 
@@ -99,7 +117,7 @@ public class ObjectManager
 		{
 			try (IDClass nulls = IDClass.create(java, "NullObjectID"))
 			{
-				for (ObjectDefinition def : objects.values())
+				for (ObjectDefinition def : objects)
 				{
 					if ("null".equals(def.getName()))
 					{
@@ -24,13 +24,13 @@
  */
 package net.runelite.cache;
 
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
@@ -43,7 +43,9 @@ import net.runelite.cache.fs.Store;
 public class SpriteManager implements SpriteProvider
 {
 	private final Store store;
-	private final Multimap<Integer, SpriteDefinition> sprites = LinkedListMultimap.create();
+	// indexed by sprite id, then frame
+	private SpriteDefinition[][] sprites = new SpriteDefinition[0][];
+	private final List<SpriteDefinition> spriteList = new ArrayList<>();
 
 	public SpriteManager(Store store)
 	{
@@ -55,6 +57,15 @@ public class SpriteManager implements SpriteProvider
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
+		int maxId = -1;
+		for (Archive a : index.getArchives())
+		{
+			maxId = Math.max(maxId, a.getArchiveId());
+		}
+
+		sprites = new SpriteDefinition[maxId + 1][];
+		spriteList.clear();
+
 		for (Archive a : index.getArchives())
 		{
 			byte[] contents = a.decompress(storage.loadArchive(a));
@@ -62,28 +73,31 @@ public class SpriteManager implements SpriteProvider
 			SpriteLoader loader = new SpriteLoader();
 			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
 
-			for (SpriteDefinition sprite : defs)
-			{
-				sprites.put(sprite.getId(), sprite);
-			}
+			// the loader assigns frames in order, so defs is already frame indexed
+			sprites[a.getArchiveId()] = defs;
+			Collections.addAll(spriteList, defs);
 		}
 	}
 
 	public Collection<SpriteDefinition> getSprites()
 	{
-		return Collections.unmodifiableCollection(sprites.values());
+		return Collections.unmodifiableCollection(spriteList);
 	}
 
 	public SpriteDefinition findSprite(int spriteId, int frameId)
 	{
-		for (SpriteDefinition sprite : sprites.get(spriteId))
+		if (spriteId < 0 || spriteId >= sprites.length)
 		{
-			if (sprite.getFrame() == frameId)
-			{
-				return sprite;
-			}
+			return null;
+		}
+
+		SpriteDefinition[] frames = sprites[spriteId];
+		if (frames == null || frameId < 0 || frameId >= frames.length)
+		{
+			return null;
 		}
-		return null;
+
+		return frames[frameId];
 	}
 
 	public BufferedImage getSpriteImage(SpriteDefinition sprite)
@@ -95,7 +109,7 @@ public class SpriteManager implements SpriteProvider
 
 	public void export(File outDir) throws IOException
 	{
-		for (SpriteDefinition sprite : sprites.values())
+		for (SpriteDefinition sprite : spriteList)
 		{
 			// I don't know why this happens
 			if (sprite.getHeight() <= 0 || sprite.getWidth() <= 0)
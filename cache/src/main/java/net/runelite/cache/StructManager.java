@@ -37,11 +37,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionTable;
 
 public class StructManager implements StructProvider
 {
 	private final Store store;
-	private final Map<Integer, StructDefinition> structs = new HashMap<>();
+	private final DefinitionTable<StructDefinition> structs = new DefinitionTable<>();
 
 	public StructManager(Store store)
 	{
@@ -68,7 +69,12 @@ public class StructManager implements StructProvider
 
 	public Map<Integer, StructDefinition> getStructs()
 	{
-		return Collections.unmodifiableMap(structs);
+		Map<Integer, StructDefinition> map = new HashMap<>(structs.size());
+		for (StructDefinition def : structs)
+		{
+			map.put(def.id, def);
+		}
+		return Collections.unmodifiableMap(map);
 	}
 
 	public StructDefinition getStruct(int structId)
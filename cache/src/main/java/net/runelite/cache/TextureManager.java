@@ -36,11 +36,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionTable;
 
 public class TextureManager implements TextureProvider
 {
 	private final Store store;
 	private final List<TextureDefinition> textures = new ArrayList<>();
+	private final DefinitionTable<TextureDefinition> textureTable = new DefinitionTable<>();
 
 	public TextureManager(Store store)
 	{
@@ -62,6 +64,7 @@ public class TextureManager implements TextureProvider
 		{
 			TextureDefinition texture = loader.load(file.getFileId(), file.getContents());
 			textures.add(texture);
+			textureTable.put(texture.getId(), texture);
 		}
 	}
 
@@ -72,14 +75,7 @@ public class TextureManager implements TextureProvider
 
 	public TextureDefinition findTexture(int id)
 	{
-		for (TextureDefinition td : textures)
-		{
-			if (td.getId() == id)
-			{
-				return td;
-			}
-		}
-		return null;
+		return textureTable.get(id);
 	}
 
 	@Override
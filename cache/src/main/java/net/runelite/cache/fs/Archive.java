@@ -157,6 +157,66 @@ public class Archive
 		return files;
 	}
 
+	/**
+	 * Get the files of this archive as slices of the decompressed data
+	 *
+	 * @param data
+	 * @param keys
+	 * @return
+	 * @throws IOException
+	 * @see ArchiveFiles#loadSlices(byte[])
+	 */
+	public ArchiveFiles getFileSlices(byte[] data, int[] keys) throws IOException
+	{
+		byte[] decompressedData = decompress(data, keys);
+
+		ArchiveFiles files = new ArchiveFiles();
+		for (FileData fileEntry : fileData)
+		{
+			FSFile file = new FSFile(fileEntry.getId());
+			file.setNameHash(fileEntry.getNameHash());
+			files.addFile(file);
+		}
+		files.loadSlices(decompressedData);
+		return files;
+	}
+
+	/**
+	 * Get the contents of a single file of this archive
+	 *
+	 * @param data
+	 * @param keys
+	 * @param fileId
+	 * @return the file contents, or null if the archive has no such file or
+	 * can't be decrypted
+	 * @throws IOException
+	 */
+	public byte[] getFile(byte[] data, int[] keys, int fileId) throws IOException
+	{
+		int index = -1;
+		for (int i = 0; i < fileData.length; ++i)
+		{
+			if (fileData[i].getId() == fileId)
+			{
+				index = i;
+				break;
+			}
+		}
+
+		if (index == -1)
+		{
+			return null;
+		}
+
+		byte[] decompressedData = decompress(data, keys);
+		if (decompressedData == null)
+		{
+			return null;
+		}
+
+		return ArchiveFiles.readFile(decompressedData, fileData.length, index);
+	}
+
 	public int getArchiveId()
 	{
 		return archiveId;
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -167,6 +168,136 @@ public class ArchiveFiles
 		}
 	}
 
+	/**
+	 * Load the contents of the archive as slices of the decompressed data
+	 * rather than copying each file out of it. Files stored in a single chunk
+	 * share the data array, files split over multiple chunks are copied
+	 * together the first time their contents are requested.
+	 *
+	 * @param data decompressed archive data, which must not be modified afterwards
+	 */
+	public void loadSlices(byte[] data)
+	{
+		logger.trace("Loading slices of archive ({} files)", files.size());
+
+		assert !this.getFiles().isEmpty();
+
+		int filesCount = this.getFiles().size();
+
+		if (filesCount == 1)
+		{
+			this.getFiles().get(0).setContents(data);
+			return;
+		}
+
+		int chunks = data[data.length - 1] & 0xFF;
+		ByteBuffer table = chunkTable(data, chunks, filesCount);
+
+		if (chunks == 1)
+		{
+			int offset = 0;
+			int chunkSize = 0;
+
+			for (int id = 0; id < filesCount; ++id)
+			{
+				chunkSize += table.getInt();
+				this.getFiles().get(id).setContents(data, offset, chunkSize);
+				offset += chunkSize;
+			}
+			return;
+		}
+
+		int[][] fileChunks = new int[filesCount][chunks * 2];
+		int[] filesSize = new int[filesCount];
+		int offset = 0;
+
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int chunkSize = 0;
+
+			for (int id = 0; id < filesCount; ++id)
+			{
+				chunkSize += table.getInt();
+
+				fileChunks[id][chunk * 2] = offset;
+				fileChunks[id][chunk * 2 + 1] = chunkSize;
+				filesSize[id] += chunkSize;
+
+				offset += chunkSize;
+			}
+		}
+
+		for (int id = 0; id < filesCount; ++id)
+		{
+			this.getFiles().get(id).setContents(data, fileChunks[id], filesSize[id]);
+		}
+	}
+
+	/**
+	 * Read a single file out of decompressed archive data, without splitting
+	 * the rest of the archive
+	 *
+	 * @param data decompressed archive data
+	 * @param filesCount number of files in the archive
+	 * @param index position of the file in the archive, which is its position
+	 * in the archive's file list and not its file id
+	 * @return
+	 */
+	public static byte[] readFile(byte[] data, int filesCount, int index)
+	{
+		Preconditions.checkElementIndex(index, filesCount);
+
+		if (filesCount == 1)
+		{
+			return data;
+		}
+
+		int chunks = data[data.length - 1] & 0xFF;
+		ByteBuffer table = chunkTable(data, chunks, filesCount);
+
+		int[] chunkOffsets = new int[chunks];
+		int[] chunkSizes = new int[chunks];
+		int fileSize = 0;
+		int offset = 0;
+
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int chunkSize = 0;
+
+			for (int id = 0; id < filesCount; ++id)
+			{
+				chunkSize += table.getInt();
+
+				if (id == index)
+				{
+					chunkOffsets[chunk] = offset;
+					chunkSizes[chunk] = chunkSize;
+					fileSize += chunkSize;
+				}
+
+				offset += chunkSize;
+			}
+		}
+
+		byte[] contents = new byte[fileSize];
+		int pos = 0;
+
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			System.arraycopy(data, chunkOffsets[chunk], contents, pos, chunkSizes[chunk]);
+			pos += chunkSizes[chunk];
+		}
+
+		return contents;
+	}
+
+	private static ByteBuffer chunkTable(byte[] data, int chunks, int filesCount)
+	{
+		// -1 for chunks count + one int per file slot per chunk
+		int length = chunks * filesCount * 4;
+		return ByteBuffer.wrap(data, data.length - 1 - length, length);
+	}
+
 	public byte[] saveContents()
 	{
 		OutputStream stream = new OutputStream();
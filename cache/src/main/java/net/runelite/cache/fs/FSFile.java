@@ -25,6 +25,7 @@
 
 package net.runelite.cache.fs;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 public class FSFile
@@ -33,6 +34,12 @@ public class FSFile
 	private int nameHash;
 	private byte[] contents;
 
+	// when loaded as a slice, the shared archive data the file is read from
+	private byte[] data;
+	private int offset;
+	private int length;
+	private int[] chunks; // offset/length pairs, for files split over multiple chunks
+
 	public FSFile(int fileId)
 	{
 		this.fileId = fileId;
@@ -44,7 +51,7 @@ public class FSFile
 		int hash = 7;
 		hash = 97 * hash + this.fileId;
 		hash = 97 * hash + this.nameHash;
-		hash = 97 * hash + Arrays.hashCode(this.contents);
+		hash = 97 * hash + Arrays.hashCode(this.getContents());
 		return hash;
 	}
 
@@ -68,7 +75,7 @@ public class FSFile
 		{
 			return false;
 		}
-		if (!Arrays.equals(this.contents, other.contents))
+		if (!Arrays.equals(this.getContents(), other.getContents()))
 		{
 			return false;
 		}
@@ -92,16 +99,91 @@ public class FSFile
 
 	public byte[] getContents()
 	{
+		if (contents == null && data != null)
+		{
+			contents = materialize();
+			data = null;
+			chunks = null;
+		}
 		return contents;
 	}
 
 	public void setContents(byte[] contents)
 	{
 		this.contents = contents;
+		this.data = null;
+		this.chunks = null;
+	}
+
+	/**
+	 * Set the contents to a slice of the archive data, without copying it
+	 *
+	 * @param data archive data
+	 * @param offset
+	 * @param length
+	 */
+	void setContents(byte[] data, int offset, int length)
+	{
+		this.contents = null;
+		this.data = data;
+		this.offset = offset;
+		this.length = length;
+		this.chunks = null;
+	}
+
+	/**
+	 * Set the contents to chunks of the archive data, which are copied
+	 * together the first time the contents are requested
+	 *
+	 * @param data archive data
+	 * @param chunks offset/length pairs of each chunk
+	 * @param length total length
+	 */
+	void setContents(byte[] data, int[] chunks, int length)
+	{
+		this.contents = null;
+		this.data = data;
+		this.offset = 0;
+		this.length = length;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Get a read-only view of the contents. For files stored in a single
+	 * chunk of the archive this does not copy the data.
+	 *
+	 * @return
+	 */
+	public ByteBuffer getContentsBuffer()
+	{
+		if (contents == null && data != null && chunks == null)
+		{
+			return ByteBuffer.wrap(data, offset, length).slice().asReadOnlyBuffer();
+		}
+
+		byte[] c = getContents();
+		return c != null ? ByteBuffer.wrap(c).asReadOnlyBuffer() : null;
+	}
+
+	private byte[] materialize()
+	{
+		if (chunks == null)
+		{
+			return Arrays.copyOfRange(data, offset, offset + length);
+		}
+
+		byte[] b = new byte[length];
+		int pos = 0;
+		for (int i = 0; i < chunks.length; i += 2)
+		{
+			System.arraycopy(data, chunks[i], b, pos, chunks[i + 1]);
+			pos += chunks[i + 1];
+		}
+		return b;
 	}
-	
+
 	public int getSize()
 	{
-		return contents.length;
+		return contents != null ? contents.length : length;
 	}
 }
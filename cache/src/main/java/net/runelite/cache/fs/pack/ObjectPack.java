@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only, content addressed blob store. Blobs are keyed by the
+ * sha256 of their contents, so storing the same blob twice is free.
+ * <p>
+ * The pack file is a header followed by records of
+ * {@code [hash (32)][length (4)][data (length)]}. An index file holding the
+ * sorted hash to offset table is written on {@link #flush()}; on open any
+ * records appended after the last index write are recovered by scanning the
+ * tail of the pack.
+ */
+public class ObjectPack implements Closeable
+{
+	private static final Logger logger = LoggerFactory.getLogger(ObjectPack.class);
+
+	static final String PACK_FILE = "objects.pack";
+	static final String INDEX_FILE = "objects.idx";
+
+	private static final int PACK_MAGIC = 0x524c504b; // RLPK
+	private static final int INDEX_MAGIC = 0x524c4958; // RLIX
+	private static final int VERSION = 1;
+
+	private static final int HEADER_LEN = 8;
+	private static final int HASH_LEN = 32;
+	private static final int RECORD_HEADER_LEN = HASH_LEN + 4;
+	private static final int INDEX_ENTRY_LEN = HASH_LEN + 8 + 4;
+
+	private final File folder;
+	private final Map<HashCode, PackEntry> entries = new HashMap<>();
+
+	private FileChannel channel;
+	private long length;
+	private boolean dirty;
+
+	private MappedByteBuffer map;
+
+	public ObjectPack(File folder) throws IOException
+	{
+		this.folder = folder;
+		folder.mkdirs();
+		open();
+	}
+
+	private void open() throws IOException
+	{
+		File packFile = new File(folder, PACK_FILE);
+		channel = FileChannel.open(packFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		length = channel.size();
+
+		if (length == 0)
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_LEN);
+			header.putInt(PACK_MAGIC).putInt(VERSION).flip();
+			writeFully(header, 0);
+			length = HEADER_LEN;
+			dirty = true;
+			return;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_LEN);
+		readFully(header, 0);
+		header.flip();
+		if (header.getInt() != PACK_MAGIC || header.getInt() != VERSION)
+		{
+			throw new IOException("invalid pack file " + packFile);
+		}
+
+		long indexed = readIndex();
+		if (indexed < length)
+		{
+			logger.debug("Recovering pack entries from offset {} to {}", indexed, length);
+			scan(indexed);
+		}
+	}
+
+	/**
+	 * Read the index file
+	 *
+	 * @return the pack length the index covers
+	 * @throws IOException
+	 */
+	private long readIndex() throws IOException
+	{
+		File indexFile = new File(folder, INDEX_FILE);
+		if (!indexFile.exists())
+		{
+			return HEADER_LEN;
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile.toPath()));
+		if (buffer.remaining() < 16 || buffer.getInt() != INDEX_MAGIC)
+		{
+			logger.warn("Ignoring invalid pack index {}", indexFile);
+			return HEADER_LEN;
+		}
+
+		long covered = buffer.getLong();
+		int count = buffer.getInt();
+		if (covered > length || buffer.remaining() != count * INDEX_ENTRY_LEN)
+		{
+			logger.warn("Ignoring stale pack index {}", indexFile);
+			return HEADER_LEN;
+		}
+
+		byte[] hash = new byte[HASH_LEN];
+		for (int i = 0; i < count; ++i)
+		{
+			buffer.get(hash);
+			long offset = buffer.getLong();
+			int len = buffer.getInt();
+			entries.put(HashCode.fromBytes(hash.clone()), new PackEntry(offset, len));
+		}
+		return covered;
+	}
+
+	private void scan(long offset) throws IOException
+	{
+		ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LEN);
+		byte[] hash = new byte[HASH_LEN];
+		while (offset + RECORD_HEADER_LEN <= length)
+		{
+			header.clear();
+			readFully(header, offset);
+			header.flip();
+			header.get(hash);
+			int len = header.getInt();
+
+			long dataOffset = offset + RECORD_HEADER_LEN;
+			if (len < 0 || dataOffset + len > length)
+			{
+				break;
+			}
+
+			entries.put(HashCode.fromBytes(hash.clone()), new PackEntry(dataOffset, len));
+			offset = dataOffset + len;
+		}
+
+		if (offset != length)
+		{
+			// partially written record from a crash, drop it
+			logger.warn("Truncating pack from {} to {}", length, offset);
+			channel.truncate(offset);
+			length = offset;
+		}
+		dirty = true;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		flush();
+		map = null;
+		channel.close();
+	}
+
+	/**
+	 * Sync the pack to disk and write out the index
+	 *
+	 * @throws IOException
+	 */
+	public void flush() throws IOException
+	{
+		if (!dirty)
+		{
+			return;
+		}
+
+		channel.force(false);
+
+		List<Map.Entry<HashCode, PackEntry>> sorted = new ArrayList<>(entries.entrySet());
+		sorted.sort((e1, e2) -> compare(e1.getKey().asBytes(), e2.getKey().asBytes()));
+
+		ByteBuffer buffer = ByteBuffer.allocate(16 + sorted.size() * INDEX_ENTRY_LEN);
+		buffer.putInt(INDEX_MAGIC);
+		buffer.putLong(length);
+		buffer.putInt(sorted.size());
+		for (Map.Entry<HashCode, PackEntry> entry : sorted)
+		{
+			buffer.put(entry.getKey().asBytes());
+			buffer.putLong(entry.getValue().offset);
+			buffer.putInt(entry.getValue().length);
+		}
+
+		File tmp = new File(folder, INDEX_FILE + ".tmp");
+		Files.write(tmp.toPath(), buffer.array());
+		Files.move(tmp.toPath(), new File(folder, INDEX_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		dirty = false;
+	}
+
+	/**
+	 * Store a blob in the pack, if it is not already present
+	 *
+	 * @param data blob
+	 * @return sha256 of the blob
+	 * @throws IOException
+	 */
+	public byte[] put(byte[] data) throws IOException
+	{
+		HashCode hash = Hashing.sha256().hashBytes(data);
+		if (entries.containsKey(hash))
+		{
+			return hash.asBytes();
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_LEN + data.length);
+		buffer.put(hash.asBytes());
+		buffer.putInt(data.length);
+		buffer.put(data);
+		buffer.flip();
+		writeFully(buffer, length);
+
+		entries.put(hash, new PackEntry(length + RECORD_HEADER_LEN, data.length));
+		length += RECORD_HEADER_LEN + data.length;
+		dirty = true;
+		return hash.asBytes();
+	}
+
+	/**
+	 * Look up a blob by its hash
+	 *
+	 * @param hash sha256 of the blob
+	 * @return the blob, or null if it is not in the pack
+	 * @throws IOException
+	 */
+	public byte[] get(byte[] hash) throws IOException
+	{
+		PackEntry entry = entries.get(HashCode.fromBytes(hash));
+		if (entry == null)
+		{
+			return null;
+		}
+
+		byte[] data = new byte[entry.length];
+		long end = entry.offset + entry.length;
+		if (end > Integer.MAX_VALUE)
+		{
+			// beyond what a single mapping can address
+			readFully(ByteBuffer.wrap(data), entry.offset);
+			return data;
+		}
+
+		if (map == null || map.capacity() < end)
+		{
+			map = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(length, Integer.MAX_VALUE));
+		}
+
+		ByteBuffer view = map.duplicate();
+		view.position((int) entry.offset);
+		view.get(data);
+		return data;
+	}
+
+	public boolean contains(byte[] hash)
+	{
+		return entries.containsKey(HashCode.fromBytes(hash));
+	}
+
+	public int getEntryCount()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * @return size of the pack file, in bytes
+	 */
+	public long getLength()
+	{
+		return length;
+	}
+
+	public Collection<HashCode> getHashes()
+	{
+		return entries.keySet();
+	}
+
+	/**
+	 * Rewrite the pack keeping only the given blobs
+	 *
+	 * @param live hashes of the blobs to keep
+	 * @return number of bytes reclaimed
+	 * @throws IOException
+	 */
+	public long compact(Set<HashCode> live) throws IOException
+	{
+		List<Map.Entry<HashCode, PackEntry>> keep = new ArrayList<>();
+		for (Map.Entry<HashCode, PackEntry> entry : entries.entrySet())
+		{
+			if (live.contains(entry.getKey()))
+			{
+				keep.add(entry);
+			}
+		}
+
+		int dropped = entries.size() - keep.size();
+		if (dropped == 0)
+		{
+			return 0L;
+		}
+
+		// keep the original pack order for locality
+		keep.sort((e1, e2) -> Long.compare(e1.getValue().offset, e2.getValue().offset));
+
+		File tmp = new File(folder, PACK_FILE + ".tmp");
+		Map<HashCode, PackEntry> newEntries = new HashMap<>();
+		long newLength;
+		try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_LEN);
+			header.putInt(PACK_MAGIC).putInt(VERSION).flip();
+			while (header.hasRemaining())
+			{
+				out.write(header);
+			}
+
+			newLength = HEADER_LEN;
+			for (Map.Entry<HashCode, PackEntry> entry : keep)
+			{
+				PackEntry pe = entry.getValue();
+				long recordOffset = pe.offset - RECORD_HEADER_LEN;
+				long recordLength = RECORD_HEADER_LEN + pe.length;
+				long transferred = 0;
+				while (transferred < recordLength)
+				{
+					transferred += channel.transferTo(recordOffset + transferred, recordLength - transferred, out);
+				}
+
+				newEntries.put(entry.getKey(), new PackEntry(newLength + RECORD_HEADER_LEN, pe.length));
+				newLength += recordLength;
+			}
+
+			out.force(false);
+		}
+
+		long reclaimed = length - newLength;
+
+		map = null;
+		channel.close();
+		Files.move(tmp.toPath(), new File(folder, PACK_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		channel = FileChannel.open(new File(folder, PACK_FILE).toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+		length = newLength;
+		entries.clear();
+		entries.putAll(newEntries);
+		dirty = true;
+		flush();
+
+		logger.debug("Compacted pack, dropped {} blobs, reclaimed {} bytes", dropped, reclaimed);
+		return reclaimed;
+	}
+
+	private void readFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			int i = channel.read(buffer, position);
+			if (i == -1)
+			{
+				throw new IOException("short read from pack at " + position);
+			}
+			position += i;
+		}
+	}
+
+	private void writeFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			position += channel.write(buffer, position);
+		}
+	}
+
+	private static int compare(byte[] b1, byte[] b2)
+	{
+		for (int i = 0; i < b1.length; ++i)
+		{
+			int c = Integer.compare(b1[i] & 0xff, b2[i] & 0xff);
+			if (c != 0)
+			{
+				return c;
+			}
+		}
+		return 0;
+	}
+
+	private static class PackEntry
+	{
+		private final long offset;
+		private final int length;
+
+		PackEntry(long offset, int length)
+		{
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+}
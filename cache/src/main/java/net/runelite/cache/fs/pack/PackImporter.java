@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports a cache, typically a jagex disk cache, into a pack folder as
+ * a named revision.
+ */
+public class PackImporter
+{
+	private static final Logger logger = LoggerFactory.getLogger(PackImporter.class);
+
+	private int archives;
+	private int newArchives;
+	private long bytes;
+
+	/**
+	 * Copy every index and archive of source into target
+	 *
+	 * @param source loaded store to import
+	 * @param target store backed by a {@link PackStorage}
+	 * @throws IOException
+	 */
+	public void importStore(Store source, Store target) throws IOException
+	{
+		Storage sourceStorage = source.getStorage();
+		PackStorage targetStorage = (PackStorage) target.getStorage();
+		ObjectPack pack = targetStorage.getPack();
+
+		for (Index index : source.getIndexes())
+		{
+			Index targetIndex = target.findIndex(index.getId());
+			if (targetIndex != null)
+			{
+				target.removeIndex(targetIndex);
+			}
+
+			targetIndex = target.addIndex(index.getId());
+			targetIndex.setProtocol(index.getProtocol());
+			targetIndex.setRevision(index.getRevision());
+			targetIndex.setNamed(index.isNamed());
+			targetIndex.setCompression(index.getCompression());
+			targetIndex.setCrc(index.getCrc());
+
+			for (Archive archive : index.getArchives())
+			{
+				byte[] data = sourceStorage.loadArchive(archive);
+				if (data == null)
+				{
+					continue;
+				}
+
+				Archive targetArchive = targetIndex.addArchive(archive.getArchiveId());
+				targetArchive.setNameHash(archive.getNameHash());
+				targetArchive.setRevision(archive.getRevision());
+				targetArchive.setCompression(archive.getCompression());
+				targetArchive.setFileData(archive.getFileData());
+
+				int entries = pack.getEntryCount();
+				targetStorage.saveArchive(targetArchive, data);
+
+				++archives;
+				bytes += data.length;
+				if (pack.getEntryCount() != entries)
+				{
+					++newArchives;
+				}
+			}
+		}
+
+		target.save();
+	}
+
+	/**
+	 * @return number of archives imported
+	 */
+	public int getArchives()
+	{
+		return archives;
+	}
+
+	/**
+	 * @return number of imported archives which were not already in the pack
+	 */
+	public int getNewArchives()
+	{
+		return newArchives;
+	}
+
+	/**
+	 * @return total size of the imported archive data
+	 */
+	public long getBytes()
+	{
+		return bytes;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		Options options = new Options();
+
+		options.addOption("c", "cache", true, "cache base");
+		options.addOption("p", "pack", true, "pack folder");
+		options.addOption("r", "revision", true, "revision name");
+		options.addOption(null, "compact", false, "compact the pack after importing");
+
+		CommandLineParser parser = new DefaultParser();
+		CommandLine cmd;
+		try
+		{
+			cmd = parser.parse(options, args);
+		}
+		catch (ParseException ex)
+		{
+			System.err.println("Error parsing command line options: " + ex.getMessage());
+			System.exit(-1);
+			return;
+		}
+
+		String cache = cmd.getOptionValue("cache");
+		String packDir = cmd.getOptionValue("pack");
+		String revision = cmd.getOptionValue("revision");
+
+		if (cache == null || packDir == null || revision == null)
+		{
+			System.err.println("Cache, pack and revision must be specified");
+			return;
+		}
+
+		PackImporter importer = new PackImporter();
+		long start = System.nanoTime();
+
+		try (Store source = new Store(new File(cache));
+			Store target = new Store(new PackStorage(new File(packDir), revision)))
+		{
+			source.load();
+			target.load();
+
+			importer.importStore(source, target);
+
+			long elapsed = System.nanoTime() - start;
+			PackStorage storage = (PackStorage) target.getStorage();
+			logger.info("Imported {} archives ({} new, {} bytes) in {}ms, pack is {} bytes",
+				importer.getArchives(), importer.getNewArchives(), importer.getBytes(),
+				elapsed / 1_000_000L, storage.getPack().getLength());
+
+			if (cmd.hasOption("compact"))
+			{
+				long reclaimed = storage.compact();
+				logger.info("Compacted pack, reclaimed {} bytes", reclaimed);
+			}
+		}
+	}
+}
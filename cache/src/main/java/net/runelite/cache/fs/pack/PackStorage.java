@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Ints;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.index.IndexData;
+import net.runelite.cache.util.Crc32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Storage which keeps archive data content addressed in a shared
+ * {@link ObjectPack}, with a small manifest per cache revision mapping
+ * each archive to the hash of its data. Archives which do not change
+ * between revisions are stored once, and rewriting an archive does not
+ * leak space in the way the jagex data file does.
+ */
+public class PackStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(PackStorage.class);
+
+	static final String REVISIONS_DIR = "revisions";
+	static final String MANIFEST_EXTENSION = ".manifest";
+
+	private static final int MANIFEST_MAGIC = 0x524c4d46; // RLMF
+	private static final int MANIFEST_VERSION = 1;
+
+	private final File folder;
+	private final String revision;
+	private final ObjectPack pack;
+	private final Map<Long, byte[]> hashes = new HashMap<>();
+
+	/**
+	 * @param folder pack folder, shared between revisions
+	 * @param revision name of the cache revision to load and save
+	 * @throws IOException
+	 */
+	public PackStorage(File folder, String revision) throws IOException
+	{
+		this.folder = folder;
+		this.revision = revision;
+		this.pack = new ObjectPack(folder);
+		new File(folder, REVISIONS_DIR).mkdirs();
+	}
+
+	public ObjectPack getPack()
+	{
+		return pack;
+	}
+
+	private File manifestFile(String revision)
+	{
+		return new File(new File(folder, REVISIONS_DIR), revision + MANIFEST_EXTENSION);
+	}
+
+	/**
+	 * @return the names of the revisions stored in the pack folder
+	 */
+	public List<String> getRevisions()
+	{
+		List<String> revisions = new ArrayList<>();
+		String[] manifests = new File(folder, REVISIONS_DIR).list((dir, name) -> name.endsWith(MANIFEST_EXTENSION));
+		if (manifests != null)
+		{
+			for (String manifest : manifests)
+			{
+				revisions.add(manifest.substring(0, manifest.length() - MANIFEST_EXTENSION.length()));
+			}
+		}
+		return revisions;
+	}
+
+	/**
+	 * Remove a revision's manifest. The archive data it referenced is
+	 * only freed by {@link #compact()}.
+	 *
+	 * @param revision
+	 * @return true if the revision existed
+	 */
+	public boolean deleteRevision(String revision)
+	{
+		if (this.revision.equals(revision))
+		{
+			throw new IllegalArgumentException("can't delete the open revision");
+		}
+		return manifestFile(revision).delete();
+	}
+
+	/**
+	 * Drop blobs from the pack which are not referenced by any revision
+	 *
+	 * @return number of bytes reclaimed
+	 * @throws IOException
+	 */
+	public long compact() throws IOException
+	{
+		Set<HashCode> live = new HashSet<>();
+		for (byte[] hash : hashes.values())
+		{
+			live.add(HashCode.fromBytes(hash));
+		}
+
+		for (String rev : getRevisions())
+		{
+			if (rev.equals(revision))
+			{
+				continue;
+			}
+
+			try (DataInputStream in = openManifest(manifestFile(rev)))
+			{
+				readManifest(in, null, live);
+			}
+		}
+
+		return pack.compact(live);
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		File manifest = manifestFile(revision);
+		if (!manifest.exists())
+		{
+			return;
+		}
+
+		try (DataInputStream in = openManifest(manifest))
+		{
+			int indexCount = in.readUnsignedByte();
+			for (int i = 0; i < indexCount; ++i)
+			{
+				store.addIndex(in.readUnsignedByte());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		pack.close();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		File manifest = manifestFile(revision);
+		if (!manifest.exists())
+		{
+			return;
+		}
+
+		try (DataInputStream in = openManifest(manifest))
+		{
+			readManifest(in, store, null);
+		}
+	}
+
+	private DataInputStream openManifest(File file) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		if (in.readInt() != MANIFEST_MAGIC || in.readInt() != MANIFEST_VERSION)
+		{
+			in.close();
+			throw new IOException("invalid manifest " + file);
+		}
+		return in;
+	}
+
+	/**
+	 * Read a manifest, either populating the store or collecting the
+	 * archive hashes it references.
+	 */
+	private void readManifest(DataInputStream in, Store store, Set<HashCode> live) throws IOException
+	{
+		int indexCount = in.readUnsignedByte();
+		in.skipBytes(indexCount);
+
+		for (int i = 0; i < indexCount; ++i)
+		{
+			int indexId = in.readUnsignedByte();
+			Index index = store != null ? store.findIndex(indexId) : null;
+			if (store != null && index == null)
+			{
+				throw new IOException("manifest references unknown index " + indexId);
+			}
+
+			int protocol = in.readUnsignedByte();
+			int indexRevision = in.readInt();
+			int compression = in.readUnsignedByte();
+			int crc = in.readInt();
+			boolean named = in.readBoolean();
+
+			if (index != null)
+			{
+				index.setProtocol(protocol);
+				index.setRevision(indexRevision);
+				index.setCompression(compression);
+				index.setCrc(crc);
+				index.setNamed(named);
+			}
+
+			int archiveCount = in.readInt();
+			for (int j = 0; j < archiveCount; ++j)
+			{
+				int archiveId = in.readInt();
+				int nameHash = in.readInt();
+				int archiveRevision = in.readInt();
+				int archiveCrc = in.readInt();
+				int archiveCompression = in.readUnsignedByte();
+				byte[] hash = null;
+				if (in.readBoolean())
+				{
+					hash = new byte[32];
+					in.readFully(hash);
+				}
+
+				int fileCount = in.readInt();
+				FileData[] fileData = new FileData[fileCount];
+				for (int k = 0; k < fileCount; ++k)
+				{
+					FileData fd = new FileData();
+					fd.setId(in.readInt());
+					fd.setNameHash(in.readInt());
+					fileData[k] = fd;
+				}
+
+				if (live != null && hash != null)
+				{
+					live.add(HashCode.fromBytes(hash));
+				}
+
+				if (index != null)
+				{
+					Archive archive = index.addArchive(archiveId);
+					archive.setNameHash(nameHash);
+					archive.setRevision(archiveRevision);
+					archive.setCrc(archiveCrc);
+					archive.setCompression(archiveCompression);
+					archive.setHash(hash);
+					archive.setFileData(fileData);
+
+					if (hash != null)
+					{
+						hashes.put(key(archive), hash);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		logger.debug("Saving revision {}", revision);
+
+		pack.flush();
+
+		File manifest = manifestFile(revision);
+		File tmp = new File(manifest.getParentFile(), manifest.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(MANIFEST_MAGIC);
+			out.writeInt(MANIFEST_VERSION);
+
+			List<Index> indexes = store.getIndexes();
+			out.writeByte(indexes.size());
+			for (Index index : indexes)
+			{
+				out.writeByte(index.getId());
+			}
+
+			for (Index index : indexes)
+			{
+				updateCrc(index);
+
+				out.writeByte(index.getId());
+				out.writeByte(index.getProtocol());
+				out.writeInt(index.getRevision());
+				out.writeByte(index.getCompression());
+				out.writeInt(index.getCrc());
+				out.writeBoolean(index.isNamed());
+
+				List<Archive> archives = index.getArchives();
+				out.writeInt(archives.size());
+				for (Archive archive : archives)
+				{
+					byte[] hash = hashes.get(key(archive));
+
+					out.writeInt(archive.getArchiveId());
+					out.writeInt(archive.getNameHash());
+					out.writeInt(archive.getRevision());
+					out.writeInt(archive.getCrc());
+					out.writeByte(archive.getCompression());
+					out.writeBoolean(hash != null);
+					if (hash != null)
+					{
+						out.write(hash);
+					}
+
+					FileData[] fileData = archive.getFileData();
+					out.writeInt(fileData.length);
+					for (FileData fd : fileData)
+					{
+						out.writeInt(fd.getId());
+						out.writeInt(fd.getNameHash());
+					}
+				}
+			}
+		}
+
+		Files.move(tmp.toPath(), manifest.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void updateCrc(Index index) throws IOException
+	{
+		IndexData indexData = index.toIndexData();
+		byte[] data = indexData.writeIndexData();
+
+		Container container = new Container(index.getCompression(), -1); // index data revision is always -1
+		container.compress(data, null);
+		byte[] compressedData = container.data;
+
+		Crc32 crc = new Crc32();
+		crc.update(compressedData, 0, compressedData.length);
+		index.setCrc(crc.getHash());
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		byte[] hash = hashes.get(key(archive));
+		if (hash == null)
+		{
+			logger.debug("can't read archive {} from index {}", archive.getArchiveId(), archive.getIndex().getId());
+			return null;
+		}
+
+		byte[] data = pack.get(hash);
+		if (data == null)
+		{
+			throw new IOException("pack is missing data for archive " + archive.getIndex().getId() + "/" + archive.getArchiveId());
+		}
+		return data;
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		byte[] hash = pack.put(data);
+		hashes.put(key(archive), hash);
+		archive.setHash(hash);
+
+		byte compression = data[0];
+		int compressedSize = Ints.fromBytes(data[1], data[2], data[3], data[4]);
+
+		// don't crc the appended revision, if it is there
+		int length = 1 // compression type
+			+ 4 // compressed size
+			+ compressedSize
+			+ (compression != CompressionType.NONE ? 4 : 0);
+
+		Crc32 crc = new Crc32();
+		crc.update(data, 0, length);
+		archive.setCrc(crc.getHash());
+
+		logger.trace("Saved archive {}/{} with hash {}", archive.getIndex().getId(), archive.getArchiveId(),
+			HashCode.fromBytes(hash));
+	}
+
+	private static long key(Archive archive)
+	{
+		return (long) archive.getIndex().getId() << 32 | archive.getArchiveId();
+	}
+}
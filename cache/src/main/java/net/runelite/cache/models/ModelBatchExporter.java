@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports every model in the models index to OBJ/MTL, decoding and
+ * writing models on a thread pool.
+ */
+public class ModelBatchExporter
+{
+	private static final Logger logger = LoggerFactory.getLogger(ModelBatchExporter.class);
+
+	private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+	private final Store store;
+	private final TextureManager textureManager;
+	private final ModelGeometryCache geometryCache;
+	private final int threads;
+
+	/**
+	 * @param store loaded store
+	 * @param textureManager loaded texture manager
+	 * @param geometryCache geometry cache, or null to always compute geometry
+	 * @param threads number of threads to decode and export on
+	 */
+	public ModelBatchExporter(Store store, TextureManager textureManager, ModelGeometryCache geometryCache, int threads)
+	{
+		this.store = store;
+		this.textureManager = textureManager;
+		this.geometryCache = geometryCache;
+		this.threads = threads;
+	}
+
+	/**
+	 * Export all models to outDir as {@code <id>.obj} and {@code <id>.mtl}
+	 *
+	 * @param outDir
+	 * @return number of models exported
+	 * @throws IOException
+	 */
+	public int export(File outDir) throws IOException
+	{
+		outDir.mkdirs();
+
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.MODELS);
+
+		// bound the number of archives read ahead of the workers
+		Semaphore inFlight = new Semaphore(threads * 4);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>(index.getArchives().size());
+		try
+		{
+			for (Archive archive : index.getArchives())
+			{
+				// the storage isn't thread safe, so archives are read here and handed off
+				byte[] data = storage.loadArchive(archive);
+				if (data == null)
+				{
+					continue;
+				}
+
+				inFlight.acquire();
+				futures.add(executor.submit(() ->
+				{
+					try
+					{
+						export(archive, data, outDir);
+					}
+					finally
+					{
+						inFlight.release();
+					}
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted exporting models", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			throw new IOException("error exporting models", ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		return futures.size();
+	}
+
+	private void export(Archive archive, byte[] data, File outDir) throws IOException
+	{
+		byte[] contents = archive.decompress(data);
+
+		ModelLoader loader = new ModelLoader();
+		ModelDefinition model = loader.load(archive.getArchiveId(), contents);
+
+		if (geometryCache != null)
+		{
+			geometryCache.apply(model, archive.getCrc());
+		}
+
+		ObjExporter exporter = new ObjExporter(textureManager, model);
+		try (Writer objWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outDir, model.id + ".obj")), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+			Writer mtlWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outDir, model.id + ".mtl")), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE))
+		{
+			exporter.export(objWriter, mtlWriter);
+		}
+
+		logger.trace("Exported model {}", model.id);
+	}
+}
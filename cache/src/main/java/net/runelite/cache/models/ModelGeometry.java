@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import net.runelite.cache.definitions.ModelDefinition;
+
+/**
+ * The data derived from a model by {@link ModelDefinition#computeNormals()},
+ * {@link ModelDefinition#computeTextureUVCoordinates()} and
+ * {@link ModelDefinition#computeAnimationTables()}, so it can be cached and
+ * applied to freshly decoded copies of the same model.
+ * <p>
+ * Applied models share these arrays, so they must not be animated or
+ * otherwise modified.
+ */
+public class ModelGeometry
+{
+	private final VertexNormal[] vertexNormals;
+	private final FaceNormal[] faceNormals;
+	private final float[][] faceTextureUCoordinates;
+	private final float[][] faceTextureVCoordinates;
+	private final int[][] vertexGroups;
+
+	private ModelGeometry(VertexNormal[] vertexNormals, FaceNormal[] faceNormals,
+		float[][] faceTextureUCoordinates, float[][] faceTextureVCoordinates, int[][] vertexGroups)
+	{
+		this.vertexNormals = vertexNormals;
+		this.faceNormals = faceNormals;
+		this.faceTextureUCoordinates = faceTextureUCoordinates;
+		this.faceTextureVCoordinates = faceTextureVCoordinates;
+		this.vertexGroups = vertexGroups;
+	}
+
+	/**
+	 * Compute the derived data for a model, storing it on the model
+	 *
+	 * @param model
+	 * @return
+	 */
+	public static ModelGeometry compute(ModelDefinition model)
+	{
+		model.computeNormals();
+		model.computeTextureUVCoordinates();
+		model.computeAnimationTables();
+
+		return new ModelGeometry(model.vertexNormals, model.faceNormals,
+			model.faceTextureUCoordinates, model.faceTextureVCoordinates, model.getVertexGroups());
+	}
+
+	/**
+	 * Store the derived data on a model decoded from the same data
+	 *
+	 * @param model
+	 */
+	public void apply(ModelDefinition model)
+	{
+		model.vertexNormals = vertexNormals;
+		model.faceNormals = faceNormals;
+		model.faceTextureUCoordinates = faceTextureUCoordinates;
+		model.faceTextureVCoordinates = faceTextureVCoordinates;
+		if (vertexGroups != null)
+		{
+			model.setVertexGroups(vertexGroups);
+			model.vertexSkins = null;
+		}
+	}
+
+	public void write(DataOutputStream out) throws IOException
+	{
+		out.writeInt(vertexNormals.length);
+		for (VertexNormal normal : vertexNormals)
+		{
+			out.writeInt(normal.x);
+			out.writeInt(normal.y);
+			out.writeInt(normal.z);
+			out.writeInt(normal.magnitude);
+		}
+
+		out.writeInt(faceNormals != null ? faceNormals.length : -1);
+		if (faceNormals != null)
+		{
+			for (FaceNormal normal : faceNormals)
+			{
+				out.writeBoolean(normal != null);
+				if (normal != null)
+				{
+					out.writeInt(normal.x);
+					out.writeInt(normal.y);
+					out.writeInt(normal.z);
+				}
+			}
+		}
+
+		out.writeInt(faceTextureUCoordinates.length);
+		for (int i = 0; i < faceTextureUCoordinates.length; ++i)
+		{
+			float[] u = faceTextureUCoordinates[i];
+			float[] v = faceTextureVCoordinates[i];
+			out.writeBoolean(u != null);
+			if (u != null)
+			{
+				for (int j = 0; j < 3; ++j)
+				{
+					out.writeFloat(u[j]);
+					out.writeFloat(v[j]);
+				}
+			}
+		}
+
+		out.writeInt(vertexGroups != null ? vertexGroups.length : -1);
+		if (vertexGroups != null)
+		{
+			for (int[] group : vertexGroups)
+			{
+				out.writeInt(group.length);
+				for (int vertex : group)
+				{
+					out.writeInt(vertex);
+				}
+			}
+		}
+	}
+
+	public static ModelGeometry read(DataInputStream in) throws IOException
+	{
+		VertexNormal[] vertexNormals = new VertexNormal[in.readInt()];
+		for (int i = 0; i < vertexNormals.length; ++i)
+		{
+			VertexNormal normal = vertexNormals[i] = new VertexNormal();
+			normal.x = in.readInt();
+			normal.y = in.readInt();
+			normal.z = in.readInt();
+			normal.magnitude = in.readInt();
+		}
+
+		FaceNormal[] faceNormals = null;
+		int faceNormalCount = in.readInt();
+		if (faceNormalCount != -1)
+		{
+			faceNormals = new FaceNormal[faceNormalCount];
+			for (int i = 0; i < faceNormalCount; ++i)
+			{
+				if (in.readBoolean())
+				{
+					FaceNormal normal = faceNormals[i] = new FaceNormal();
+					normal.x = in.readInt();
+					normal.y = in.readInt();
+					normal.z = in.readInt();
+				}
+			}
+		}
+
+		int faceCount = in.readInt();
+		float[][] faceTextureUCoordinates = new float[faceCount][];
+		float[][] faceTextureVCoordinates = new float[faceCount][];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			if (in.readBoolean())
+			{
+				float[] u = faceTextureUCoordinates[i] = new float[3];
+				float[] v = faceTextureVCoordinates[i] = new float[3];
+				for (int j = 0; j < 3; ++j)
+				{
+					u[j] = in.readFloat();
+					v[j] = in.readFloat();
+				}
+			}
+		}
+
+		int[][] vertexGroups = null;
+		int groupCount = in.readInt();
+		if (groupCount != -1)
+		{
+			vertexGroups = new int[groupCount][];
+			for (int i = 0; i < groupCount; ++i)
+			{
+				int[] group = vertexGroups[i] = new int[in.readInt()];
+				for (int j = 0; j < group.length; ++j)
+				{
+					group[j] = in.readInt();
+				}
+			}
+		}
+
+		return new ModelGeometry(vertexNormals, faceNormals, faceTextureUCoordinates, faceTextureVCoordinates, vertexGroups);
+	}
+}
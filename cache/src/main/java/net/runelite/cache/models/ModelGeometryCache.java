@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.definitions.ModelDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches {@link ModelGeometry} keyed by model id and the crc of the model's
+ * archive, in memory and optionally in a directory so it survives between
+ * runs. A changed model has a different crc, so stale entries are never used.
+ */
+public class ModelGeometryCache
+{
+	private static final Logger logger = LoggerFactory.getLogger(ModelGeometryCache.class);
+
+	private final File directory;
+	private final Cache<Long, ModelGeometry> geometry;
+
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger diskHits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * @param directory directory to persist geometry to, or null to only cache in memory
+	 * @param maximumSize maximum number of models to keep in memory
+	 */
+	public ModelGeometryCache(File directory, int maximumSize)
+	{
+		this.directory = directory;
+		this.geometry = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.build();
+
+		if (directory != null)
+		{
+			directory.mkdirs();
+		}
+	}
+
+	/**
+	 * Populate a model's normals, texture coordinates and animation tables,
+	 * from the cache if possible
+	 *
+	 * @param model decoded model
+	 * @param crc crc of the model's archive
+	 * @throws IOException
+	 */
+	public void apply(ModelDefinition model, int crc) throws IOException
+	{
+		long key = (long) model.id << 32 | (crc & 0xFFFFFFFFL);
+		ModelGeometry g = geometry.getIfPresent(key);
+		if (g != null)
+		{
+			hits.incrementAndGet();
+			g.apply(model);
+			return;
+		}
+
+		File file = directory != null ? new File(directory, model.id + "-" + Integer.toHexString(crc) + ".geom") : null;
+		if (file != null && file.exists())
+		{
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+			{
+				g = ModelGeometry.read(in);
+				diskHits.incrementAndGet();
+			}
+			catch (IOException ex)
+			{
+				logger.warn("unable to read cached geometry for model {}", model.id, ex);
+			}
+		}
+
+		if (g != null)
+		{
+			g.apply(model);
+		}
+		else
+		{
+			misses.incrementAndGet();
+			g = ModelGeometry.compute(model);
+
+			if (file != null)
+			{
+				write(g, file);
+			}
+		}
+
+		geometry.put(key, g);
+	}
+
+	private static void write(ModelGeometry g, File file) throws IOException
+	{
+		File tmp = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			g.write(out);
+		}
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	public int getHits()
+	{
+		return hits.get();
+	}
+
+	public int getDiskHits()
+	{
+		return diskHits.get();
+	}
+
+	public int getMisses()
+	{
+		return misses.get();
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.disassembler;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.loaders.ScriptLoader;
+import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.script.Instructions;
+import net.runelite.cache.script.assembler.Assembler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disassembles every script in the clientscript index on a thread pool,
+ * optionally reassembling each one to verify it round trips.
+ */
+public class BulkDisassembler
+{
+	private static final Logger logger = LoggerFactory.getLogger(BulkDisassembler.class);
+
+	private final Instructions instructions;
+	private final int threads;
+
+	// Disassembler builds its own instruction table, so reuse one per thread
+	private final ThreadLocal<Disassembler> disassembler = ThreadLocal.withInitial(Disassembler::new);
+
+	public BulkDisassembler(Instructions instructions, int threads)
+	{
+		this.instructions = instructions;
+		this.threads = threads;
+	}
+
+	public BulkDisassembler()
+	{
+		this(defaultInstructions(), Runtime.getRuntime().availableProcessors());
+	}
+
+	private static Instructions defaultInstructions()
+	{
+		Instructions instructions = new Instructions();
+		instructions.init();
+		return instructions;
+	}
+
+	/**
+	 * Disassemble all scripts in the store
+	 *
+	 * @param store loaded store
+	 * @param verify whether to reassemble each script and compare it to the original
+	 * @return the results, ordered by script id
+	 * @throws IOException
+	 */
+	public Result disassemble(Store store, boolean verify) throws IOException
+	{
+		// Storages are not thread safe, so read the data up front
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CLIENTSCRIPT);
+		List<Archive> archives = index.getArchives();
+		List<byte[]> data = new ArrayList<>(archives.size());
+		for (Archive archive : archives)
+		{
+			data.add(storage.loadArchive(archive));
+		}
+
+		Result result = new Result();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>(archives.size());
+			for (int i = 0; i < archives.size(); ++i)
+			{
+				Archive archive = archives.get(i);
+				byte[] compressed = data.get(i);
+				futures.add(executor.submit(() ->
+				{
+					process(archive, compressed, verify, result);
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted disassembling scripts", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			throw new IOException("error disassembling scripts", ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		return result;
+	}
+
+	private void process(Archive archive, byte[] compressed, boolean verify, Result result) throws IOException
+	{
+		byte[] contents = archive.decompress(compressed);
+		if (contents == null)
+		{
+			return;
+		}
+
+		ScriptLoader loader = new ScriptLoader();
+		ScriptDefinition script = loader.load(archive.getArchiveId(), contents);
+
+		String source = disassembler.get().disassemble(script);
+		result.scripts.put(archive.getArchiveId(), source);
+
+		if (!verify)
+		{
+			return;
+		}
+
+		Assembler assembler = new Assembler(instructions);
+		ScriptDefinition assembled = assembler.assemble(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)));
+		byte[] saved = new ScriptSaver().save(assembled);
+
+		// switch tables are not necessarily written in their original order,
+		// so fall back to comparing the decoded scripts
+		if (!Arrays.equals(contents, saved) && !script.equals(assembled))
+		{
+			logger.debug("Script {} does not round trip", archive.getArchiveId());
+			result.mismatches.add(archive.getArchiveId());
+		}
+	}
+
+	/**
+	 * Write disassembled scripts to a directory as {@code <id>.rs2asm}
+	 *
+	 * @param result
+	 * @param outDir
+	 * @throws IOException
+	 */
+	public static void write(Result result, File outDir) throws IOException
+	{
+		outDir.mkdirs();
+
+		for (Map.Entry<Integer, String> entry : result.getScripts().entrySet())
+		{
+			File outFile = new File(outDir, entry.getKey() + ".rs2asm");
+			Files.write(outFile.toPath(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	public static class Result
+	{
+		private final Map<Integer, String> scripts = new ConcurrentSkipListMap<>();
+		private final List<Integer> mismatches = Collections.synchronizedList(new ArrayList<>());
+
+		/**
+		 * @return disassembled scripts keyed by script id
+		 */
+		public Map<Integer, String> getScripts()
+		{
+			return Collections.unmodifiableMap(scripts);
+		}
+
+		/**
+		 * @return ids of scripts which did not reassemble to the original data
+		 */
+		public List<Integer> getMismatches()
+		{
+			List<Integer> ids = new ArrayList<>(mismatches);
+			Collections.sort(ids);
+			return ids;
+		}
+	}
+}
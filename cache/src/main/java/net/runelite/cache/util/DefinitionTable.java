@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An id indexed table of definitions. Config and other cache file ids are
+ * dense, so the table is a flat array indexed by id rather than a map.
+ * <p>
+ * Entries may be added either decoded, or as raw file contents which are
+ * decoded on first access and then replace the raw data.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionTable<T> extends AbstractCollection<T>
+{
+	@FunctionalInterface
+	public interface Decoder<T>
+	{
+		T decode(int id, byte[] data);
+	}
+
+	private final Decoder<T> decoder;
+	private AtomicReferenceArray<Object> entries = new AtomicReferenceArray<>(0);
+	private int size;
+
+	/**
+	 * @param decoder decoder for entries added with {@link #putRaw(int, byte[])}, may be null
+	 */
+	public DefinitionTable(Decoder<T> decoder)
+	{
+		this.decoder = decoder;
+	}
+
+	public DefinitionTable()
+	{
+		this(null);
+	}
+
+	/**
+	 * Ensure the table can hold ids up to, but not including, capacity
+	 * without growing
+	 *
+	 * @param capacity
+	 */
+	public void ensureCapacity(int capacity)
+	{
+		if (capacity > entries.length())
+		{
+			AtomicReferenceArray<Object> newEntries = new AtomicReferenceArray<>(capacity);
+			for (int i = 0; i < entries.length(); ++i)
+			{
+				newEntries.lazySet(i, entries.get(i));
+			}
+			entries = newEntries;
+		}
+	}
+
+	public void put(int id, T definition)
+	{
+		set(id, definition);
+	}
+
+	/**
+	 * Add an entry which is decoded the first time it is accessed
+	 *
+	 * @param id
+	 * @param data raw file contents
+	 */
+	public void putRaw(int id, byte[] data)
+	{
+		if (decoder == null)
+		{
+			throw new IllegalStateException("table has no decoder");
+		}
+
+		set(id, data);
+	}
+
+	private void set(int id, Object value)
+	{
+		if (id < 0)
+		{
+			throw new IllegalArgumentException("negative id " + id);
+		}
+
+		if (id >= entries.length())
+		{
+			ensureCapacity(Math.max(id + 1, entries.length() * 3 / 2));
+		}
+
+		if (entries.getAndSet(id, value) == null)
+		{
+			++size;
+		}
+	}
+
+	/**
+	 * Look up a definition
+	 *
+	 * @param id
+	 * @return the definition, or null if there is no entry for id
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int id)
+	{
+		AtomicReferenceArray<Object> entries = this.entries;
+		if (id < 0 || id >= entries.length())
+		{
+			return null;
+		}
+
+		Object entry = entries.get(id);
+		if (entry instanceof byte[])
+		{
+			return decode(entries, id, (byte[]) entry);
+		}
+		return (T) entry;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T decode(AtomicReferenceArray<Object> entries, int id, byte[] data)
+	{
+		T definition = decoder.decode(id, data);
+		if (!entries.compareAndSet(id, data, definition))
+		{
+			// another thread decoded it first
+			return (T) entries.get(id);
+		}
+		return definition;
+	}
+
+	/**
+	 * @return number of ids the table can hold without growing
+	 */
+	public int capacity()
+	{
+		return entries.length();
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Iterates the definitions in id order, decoding any entries which
+	 * have not yet been decoded
+	 */
+	@Override
+	public Iterator<T> iterator()
+	{
+		return new Iterator<T>()
+		{
+			private int next = advance(0);
+
+			private int advance(int from)
+			{
+				while (from < entries.length() && entries.get(from) == null)
+				{
+					++from;
+				}
+				return from;
+			}
+
+			@Override
+			public boolean hasNext()
+			{
+				return next < entries.length();
+			}
+
+			@Override
+			public T next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+
+				T definition = get(next);
+				next = advance(next + 1);
+				return definition;
+			}
+		};
+	}
+}
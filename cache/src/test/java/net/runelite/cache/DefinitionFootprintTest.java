@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks the definition managers' tables against plain maps. The heap footprint and lookup cost
+ * are measured by {@link #footprint()}, which is run by hand.
+ */
+public class DefinitionFootprintTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(DefinitionFootprintTest.class);
+
+	private static final int LOOKUPS = 5_000_000;
+
+	@Test
+	public void testObjects() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			ObjectManager eager = new ObjectManager(store);
+			eager.load();
+
+			ObjectManager lazy = new ObjectManager(store);
+			lazy.load(true);
+
+			Map<Integer, ObjectDefinition> map = toMap(eager);
+			for (Map.Entry<Integer, ObjectDefinition> entry : map.entrySet())
+			{
+				assertSame(entry.getValue(), eager.getObject(entry.getKey()));
+			}
+
+			int[] keys = map.keySet().stream().mapToInt(Integer::intValue).toArray();
+			for (int id : new int[]{keys[0], keys[keys.length / 2], keys[keys.length - 1]})
+			{
+				ObjectDefinition def = lazy.getObject(id);
+				assertNotNull(def);
+				assertEquals(map.get(id).getName(), def.getName());
+			}
+		}
+	}
+
+	@Test
+	public void testSprites() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			SpriteManager sprites = new SpriteManager(store);
+			sprites.load();
+
+			for (SpriteDefinition sprite : sprites.getSprites())
+			{
+				assertSame(sprite, sprites.findSprite(sprite.getId(), sprite.getFrame()));
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void footprint() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			long before = usedMemory();
+			ObjectManager eager = new ObjectManager(store);
+			eager.load();
+			long eagerBytes = usedMemory() - before;
+
+			before = usedMemory();
+			ObjectManager lazy = new ObjectManager(store);
+			lazy.load(true);
+			long lazyBytes = usedMemory() - before;
+
+			logger.info("{} objects, eager {} KB, lazy {} KB", eager.getObjects().size(), eagerBytes / 1024, lazyBytes / 1024);
+
+			Map<Integer, ObjectDefinition> map = toMap(eager);
+			int[] keys = map.keySet().stream().mapToInt(Integer::intValue).toArray();
+			int[] ids = new Random(42).ints(LOOKUPS, 0, keys.length).map(i -> keys[i]).toArray();
+
+			// warm up both paths before timing
+			long sink = lookupTable(eager, ids) + lookupMap(map, ids);
+
+			long start = System.nanoTime();
+			sink += lookupMap(map, ids);
+			long mapNanos = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			sink += lookupTable(eager, ids);
+			long tableNanos = System.nanoTime() - start;
+
+			logger.info("{} lookups, HashMap {}ms, table {}ms ({})", LOOKUPS, mapNanos / 1_000_000L, tableNanos / 1_000_000L, sink);
+		}
+	}
+
+	private static Map<Integer, ObjectDefinition> toMap(ObjectManager manager)
+	{
+		Map<Integer, ObjectDefinition> map = new HashMap<>();
+		for (ObjectDefinition def : manager.getObjects())
+		{
+			map.put(def.getId(), def);
+		}
+		return map;
+	}
+
+	private static long usedMemory()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; ++i)
+		{
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static long lookupTable(ObjectManager manager, int[] ids)
+	{
+		long sink = 0;
+		for (int id : ids)
+		{
+			sink += manager.getObject(id).getId();
+		}
+		return sink;
+	}
+
+	private static long lookupMap(Map<Integer, ObjectDefinition> map, int[] ids)
+	{
+		long sink = 0;
+		for (int id : ids)
+		{
+			sink += map.get(id).getId();
+		}
+		return sink;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ArchiveFilesTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ArchiveFilesTest.class);
+
+	private static final int ITERATIONS = 200;
+
+	@Test
+	public void testSlices()
+	{
+		Random random = new Random(42L);
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < 5; ++i)
+		{
+			byte[] contents = new byte[random.nextInt(64)];
+			random.nextBytes(contents);
+
+			FSFile file = new FSFile(i * 3);
+			file.setContents(contents);
+			files.addFile(file);
+		}
+
+		byte[] data = files.saveContents();
+
+		ArchiveFiles slices = create(0, 3, 6, 9, 12);
+		slices.loadSlices(data);
+
+		for (int i = 0; i < 5; ++i)
+		{
+			FSFile expected = files.getFiles().get(i);
+			FSFile slice = slices.getFiles().get(i);
+
+			assertEquals(expected.getSize(), slice.getSize());
+
+			ByteBuffer buffer = slice.getContentsBuffer();
+			assertTrue(buffer.isReadOnly());
+			byte[] b = new byte[buffer.remaining()];
+			buffer.get(b);
+			assertArrayEquals(expected.getContents(), b);
+
+			assertArrayEquals(expected.getContents(), slice.getContents());
+			assertArrayEquals(expected.getContents(), ArchiveFiles.readFile(data, 5, i));
+		}
+
+		assertEquals(files, slices);
+	}
+
+	@Test
+	public void testMultipleChunks()
+	{
+		// file 0 is {1, 2, 3} + {4}, file 1 is {5} + {6, 7}
+		byte[] data = ByteBuffer.allocate(7 + 4 * 4 + 1)
+			.put(new byte[]
+			{
+				1, 2, 3, 5, 4, 6, 7
+			})
+			.putInt(3).putInt(-2)
+			.putInt(1).putInt(1)
+			.put((byte) 2)
+			.array();
+
+		ArchiveFiles files = create(0, 1);
+		files.loadContents(data);
+
+		ArchiveFiles slices = create(0, 1);
+		slices.loadSlices(data);
+
+		assertArrayEquals(new byte[]
+		{
+			1, 2, 3, 4
+		}, files.findFile(0).getContents());
+		assertArrayEquals(new byte[]
+		{
+			5, 6, 7
+		}, files.findFile(1).getContents());
+
+		assertEquals(4, slices.findFile(0).getSize());
+		assertEquals(3, slices.findFile(1).getSize());
+		assertEquals(files, slices);
+
+		assertArrayEquals(files.findFile(0).getContents(), ArchiveFiles.readFile(data, 2, 0));
+		assertArrayEquals(files.findFile(1).getContents(), ArchiveFiles.readFile(data, 2, 1));
+	}
+
+	@Test
+	public void testFetchItem() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			Storage storage = store.getStorage();
+			Index index = store.getIndex(IndexType.CONFIGS);
+			Archive archive = index.getArchive(ConfigType.ITEM.getId());
+			byte[] archiveData = storage.loadArchive(archive);
+
+			ArchiveFiles files = archive.getFiles(archiveData);
+			int itemId = files.getFiles().get(files.getFiles().size() / 2).getFileId();
+			byte[] expected = files.findFile(itemId).getContents();
+
+			assertArrayEquals(expected, archive.getFile(archiveData, null, itemId));
+			assertArrayEquals(expected, archive.getFileSlices(archiveData, null).findFile(itemId).getContents());
+			assertNull(archive.getFile(archiveData, null, -1));
+
+			ItemLoader loader = new ItemLoader();
+			ItemDefinition def = null;
+
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i)
+			{
+				def = loader.load(itemId, archive.getFiles(archiveData).findFile(itemId).getContents());
+			}
+			long split = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i)
+			{
+				def = loader.load(itemId, archive.getFileSlices(archiveData, null).findFile(itemId).getContents());
+			}
+			long sliced = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i)
+			{
+				def = loader.load(itemId, archive.getFile(archiveData, null, itemId));
+			}
+			long single = System.nanoTime() - start;
+
+			logger.info("Fetched item {} ({}) from {} files: split {}us, sliced {}us, single file {}us",
+				itemId, def.name, files.getFiles().size(),
+				split / ITERATIONS / 1000L, sliced / ITERATIONS / 1000L, single / ITERATIONS / 1000L);
+		}
+	}
+
+	private static ArchiveFiles create(int... fileIds)
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int fileId : fileIds)
+		{
+			files.addFile(new FSFile(fileId));
+		}
+		return files;
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PackStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static byte[] compress(String s, int revision) throws IOException
+	{
+		Container container = new Container(0, revision);
+		container.compress(s.getBytes(), null);
+		return container.data;
+	}
+
+	private static Archive addArchive(Index index, int id)
+	{
+		Archive archive = index.addArchive(id);
+		FileData[] fileData = new FileData[1];
+		fileData[0] = new FileData();
+		archive.setFileData(fileData);
+		return archive;
+	}
+
+	@Test
+	public void testSaveArchive() throws Exception
+	{
+		File file = folder.newFolder();
+		Archive archive;
+		try (Store store = new Store(new PackStorage(file, "1")))
+		{
+			Index index = store.addIndex(0);
+			archive = addArchive(index, 0);
+			archive.setRevision(42);
+			store.getStorage().saveArchive(archive, compress("test", 42));
+			store.save();
+		}
+
+		try (Store store = new Store(new PackStorage(file, "1")))
+		{
+			store.load();
+			Archive archive2 = store.findIndex(0).getArchive(0);
+
+			byte[] data = archive2.decompress(store.getStorage().loadArchive(archive2));
+			assertArrayEquals("test".getBytes(), data);
+			assertEquals(archive.getCrc(), archive2.getCrc());
+			assertEquals(archive.getRevision(), archive2.getRevision());
+			assertArrayEquals(archive.getHash(), archive2.getHash());
+		}
+	}
+
+	@Test
+	public void testDeduplicate() throws Exception
+	{
+		File file = folder.newFolder();
+		long length;
+		try (Store store = new Store(new PackStorage(file, "1")))
+		{
+			Index index = store.addIndex(0);
+			store.getStorage().saveArchive(addArchive(index, 0), compress("test", -1));
+			store.getStorage().saveArchive(addArchive(index, 1), compress("test2", -1));
+			store.save();
+
+			// rewriting the same data doesn't grow the pack
+			length = ((PackStorage) store.getStorage()).getPack().getLength();
+			store.getStorage().saveArchive(index.getArchive(0), compress("test", -1));
+			assertEquals(length, ((PackStorage) store.getStorage()).getPack().getLength());
+		}
+
+		try (Store store = new Store(new PackStorage(file, "2")))
+		{
+			Index index = store.addIndex(0);
+			store.getStorage().saveArchive(addArchive(index, 0), compress("test", -1));
+			store.getStorage().saveArchive(addArchive(index, 1), compress("test3", -1));
+			store.save();
+
+			PackStorage storage = (PackStorage) store.getStorage();
+			assertEquals(3, storage.getPack().getEntryCount());
+			assertEquals(2, storage.getRevisions().size());
+		}
+	}
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new PackStorage(file, "1")))
+		{
+			Index index = store.addIndex(0);
+			store.getStorage().saveArchive(addArchive(index, 0), compress("test", -1));
+			store.save();
+		}
+
+		try (Store store = new Store(new PackStorage(file, "2")))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = addArchive(index, 0);
+			store.getStorage().saveArchive(archive, compress("test2", -1));
+			store.getStorage().saveArchive(archive, compress("test3", -1));
+			store.save();
+
+			PackStorage storage = (PackStorage) store.getStorage();
+			assertEquals(3, storage.getPack().getEntryCount());
+
+			// test2 is orphaned
+			assertTrue(storage.compact() > 0);
+			assertEquals(2, storage.getPack().getEntryCount());
+
+			assertTrue(storage.deleteRevision("1"));
+			assertTrue(storage.compact() > 0);
+			assertEquals(1, storage.getPack().getEntryCount());
+
+			byte[] data = archive.decompress(storage.loadArchive(archive));
+			assertArrayEquals("test3".getBytes(), data);
+		}
+
+		try (Store store = new Store(new PackStorage(file, "2")))
+		{
+			store.load();
+			Archive archive = store.findIndex(0).getArchive(0);
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			assertArrayEquals("test3".getBytes(), data);
+			assertNull(((PackStorage) store.getStorage()).getPack().get(new byte[32]));
+		}
+	}
+
+	@Test
+	public void testImport() throws Exception
+	{
+		File file = folder.newFolder();
+		try (Store source = new Store(StoreLocation.LOCATION))
+		{
+			source.load();
+
+			PackImporter importer = new PackImporter();
+			try (Store target = new Store(new PackStorage(file, "1")))
+			{
+				importer.importStore(source, target);
+			}
+			long packLength = new File(file, ObjectPack.PACK_FILE).length();
+
+			// a second revision with the same contents adds nothing to the pack
+			importer = new PackImporter();
+			try (Store target = new Store(new PackStorage(file, "2")))
+			{
+				importer.importStore(source, target);
+			}
+			assertEquals(0, importer.getNewArchives());
+			assertEquals(packLength, new File(file, ObjectPack.PACK_FILE).length());
+
+			try (Store target = new Store(new PackStorage(file, "2")))
+			{
+				target.load();
+				assertTrue(source.equals(target));
+
+				for (Index index : source.getIndexes())
+				{
+					Index targetIndex = target.findIndex(index.getId());
+					for (Archive archive : index.getArchives())
+					{
+						byte[] expected = source.getStorage().loadArchive(archive);
+						if (expected == null)
+						{
+							continue;
+						}
+
+						Archive targetArchive = targetIndex.getArchive(archive.getArchiveId());
+						assertArrayEquals(expected, target.getStorage().loadArchive(targetArchive));
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.File;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ModelBatchExporterTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ModelBatchExporterTest.class);
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testExport() throws Exception
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			TextureManager tm = new TextureManager(store);
+			tm.load();
+
+			File geometryDir = folder.newFolder("geometry");
+			File outDir = folder.newFolder("models");
+			int threads = Runtime.getRuntime().availableProcessors();
+
+			ModelGeometryCache cache = new ModelGeometryCache(geometryDir, 1024);
+			long start = System.nanoTime();
+			int count = new ModelBatchExporter(store, tm, cache, threads).export(outDir);
+			long cold = System.nanoTime() - start;
+
+			assertTrue(count > 0);
+			assertEquals(count, cache.getMisses());
+			assertEquals(count * 2, outDir.list().length);
+
+			// a fresh cache over the same directory should compute nothing
+			cache = new ModelGeometryCache(geometryDir, 1024);
+			start = System.nanoTime();
+			new ModelBatchExporter(store, tm, cache, threads).export(outDir);
+			long warm = System.nanoTime() - start;
+
+			assertEquals(0, cache.getMisses());
+			assertEquals(count, cache.getDiskHits());
+
+			logger.info("Exported {} models in {}ms, {}ms with cached geometry", count, cold / 1_000_000L, warm / 1_000_000L);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DefinitionTableTest
+{
+	@Test
+	public void testPutGet()
+	{
+		DefinitionTable<String> table = new DefinitionTable<>();
+		table.put(0, "zero");
+		table.put(100, "hundred");
+		table.put(5, "five");
+
+		assertEquals(3, table.size());
+		assertEquals("zero", table.get(0));
+		assertEquals("hundred", table.get(100));
+		assertEquals("five", table.get(5));
+		assertNull(table.get(1));
+		assertNull(table.get(-1));
+		assertNull(table.get(1000));
+
+		table.put(5, "FIVE");
+		assertEquals(3, table.size());
+		assertEquals("FIVE", table.get(5));
+
+		List<String> values = new ArrayList<>(table);
+		assertEquals(Arrays.asList("zero", "FIVE", "hundred"), values);
+	}
+
+	@Test
+	public void testLazy()
+	{
+		int[] decodes = new int[1];
+		DefinitionTable<String> table = new DefinitionTable<>((id, data) ->
+		{
+			++decodes[0];
+			return id + ":" + new String(data);
+		});
+
+		table.putRaw(1, "one".getBytes());
+		table.putRaw(2, "two".getBytes());
+		assertEquals(0, decodes[0]);
+
+		assertEquals("1:one", table.get(1));
+		assertEquals("1:one", table.get(1));
+		assertEquals(1, decodes[0]);
+
+		assertEquals(Arrays.asList("1:one", "2:two"), new ArrayList<>(table));
+		assertEquals(2, decodes[0]);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testPutRawWithoutDecoder()
+	{
+		new DefinitionTable<String>().putRaw(0, new byte[0]);
+	}
+}
@@ -30,6 +30,10 @@ import net.runelite.http.api.ws.WebsocketMessage;
 public class Handshake extends WebsocketMessage
 {
 	private UUID session;
+	/**
+	 * Whether the client can send and receive party messages as binary frames
+	 */
+	private boolean binaryFrames;
 
 	public UUID getSession()
 	{
@@ -40,4 +44,14 @@ public class Handshake extends WebsocketMessage
 	{
 		this.session = session;
 	}
+
+	public boolean isBinaryFrames()
+	{
+		return binaryFrames;
+	}
+
+	public void setBinaryFrames(boolean binaryFrames)
+	{
+		this.binaryFrames = binaryFrames;
+	}
 }
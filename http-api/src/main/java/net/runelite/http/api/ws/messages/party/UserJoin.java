@@ -36,4 +36,9 @@ public class UserJoin extends WebsocketMessage
 	private final UUID memberId;
 	private final UUID partyId;
 	private final String name;
+	/**
+	 * Whether the server relays binary frames, and the member asked for them in its handshake.
+	 * Servers and clients which predate binary frames leave this false.
+	 */
+	private final boolean binaryFrames;
 }
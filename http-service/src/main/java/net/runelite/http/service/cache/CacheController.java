@@ -206,19 +206,13 @@ public class CacheController
 	{
 		ArchiveEntry archiveEntry = findConfig(ConfigType.ITEM);
 
-		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
-		if (archiveFiles == null)
+		byte[] contents = cacheService.getArchiveFile(archiveEntry, itemId);
+		if (contents == null)
 		{
 			throw new NotFoundException();
 		}
 
-		FSFile file = archiveFiles.findFile(itemId);
-		if (file == null)
-		{
-			throw new NotFoundException();
-		}
-
-		ItemDefinition itemdef = new ItemLoader().load(itemId, file.getContents());
+		ItemDefinition itemdef = new ItemLoader().load(itemId, contents);
 		return itemdef;
 	}
 
@@ -321,19 +315,13 @@ public class CacheController
 	{
 		ArchiveEntry archiveEntry = findConfig(ConfigType.OBJECT);
 
-		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
-		if (archiveFiles == null)
-		{
-			throw new NotFoundException();
-		}
-
-		FSFile file = archiveFiles.findFile(objectId);
-		if (file == null)
+		byte[] contents = cacheService.getArchiveFile(archiveEntry, objectId);
+		if (contents == null)
 		{
 			throw new NotFoundException();
 		}
 
-		ObjectDefinition objectdef = new ObjectLoader().load(objectId, file.getContents());
+		ObjectDefinition objectdef = new ObjectLoader().load(objectId, contents);
 		return objectdef;
 	}
 
@@ -344,19 +332,13 @@ public class CacheController
 	{
 		ArchiveEntry archiveEntry = findConfig(ConfigType.NPC);
 
-		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
-		if (archiveFiles == null)
-		{
-			throw new NotFoundException();
-		}
-
-		FSFile file = archiveFiles.findFile(npcId);
-		if (file == null)
+		byte[] contents = cacheService.getArchiveFile(archiveEntry, npcId);
+		if (contents == null)
 		{
 			throw new NotFoundException();
 		}
 
-		NpcDefinition npcdef = new NpcLoader().load(npcId, file.getContents());
+		NpcDefinition npcdef = new NpcLoader().load(npcId, contents);
 		return npcdef;
 	}
 }
@@ -156,6 +156,55 @@ public class CacheService
 		}
 	}
 
+	/**
+	 * Get the contents of a single file of an archive, without splitting
+	 * the other files out of it
+	 *
+	 * @param archiveEntry
+	 * @param fileId
+	 * @return the file contents, or null if the file does not exist
+	 * @throws IOException
+	 */
+	public byte[] getArchiveFile(ArchiveEntry archiveEntry, int fileId) throws IOException
+	{
+		CacheDAO cacheDao = new CacheDAO();
+
+		int filesCount = 0;
+		int index = -1;
+
+		try (Connection con = sql2o.open();
+			ResultSetIterable<FileEntry> files = cacheDao.findFilesForArchive(con, archiveEntry))
+		{
+			for (FileEntry fileEntry : files)
+			{
+				if (fileEntry.getFileId() == fileId)
+				{
+					index = filesCount;
+				}
+				++filesCount;
+			}
+		}
+
+		if (index == -1)
+		{
+			return null;
+		}
+
+		byte[] archiveData = getArchive(archiveEntry);
+		if (archiveData == null)
+		{
+			return null;
+		}
+
+		Container result = Container.decompress(archiveData, null);
+		if (result == null)
+		{
+			return null;
+		}
+
+		return ArchiveFiles.readFile(result.data, filesCount, index);
+	}
+
 	public List<CacheEntry> listCaches()
 	{
 		try (Connection con = sql2o.open())
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates an implementation of each {@code @ConfigGroup} interface, which caches each config
+ * item in a typed field until the item is changed. Interfaces which can't be implemented
+ * are skipped, and are accessed through a proxy instead.
+ */
+@SupportedAnnotationTypes(ConfigProcessor.CONFIG_GROUP)
+public class ConfigProcessor extends AbstractProcessor
+{
+	static final String CONFIG_GROUP = "net.runelite.client.config.ConfigGroup";
+	private static final String CONFIG_ITEM = "net.runelite.client.config.ConfigItem";
+	private static final String GENERATED_CONFIG = "net.runelite.client.config.GeneratedConfig";
+	private static final String CONFIG_MANAGER = "net.runelite.client.config.ConfigManager";
+
+	/**
+	 * Suffix of generated class names, must match GeneratedConfig
+	 */
+	private static final String SUFFIX = "Impl";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() != ElementKind.INTERFACE)
+				{
+					continue;
+				}
+
+				TypeElement type = (TypeElement) element;
+				String skipped = validate(type);
+				if (skipped != null)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+						"Not generating config implementation, " + skipped, type);
+					continue;
+				}
+
+				try
+				{
+					generate(type);
+				}
+				catch (IOException ex)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Unable to write config implementation: " + ex.getMessage(), type);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return why an implementation can't be generated for the interface, or null
+	 */
+	private String validate(TypeElement type)
+	{
+		for (Element e = type; e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement())
+		{
+			if (!e.getModifiers().contains(Modifier.PUBLIC))
+			{
+				return "it is not public";
+			}
+		}
+
+		if (!type.getTypeParameters().isEmpty())
+		{
+			return "it is generic";
+		}
+
+		for (ExecutableElement method : methods(type))
+		{
+			if (method.getModifiers().contains(Modifier.DEFAULT) && getKeyName(method) == null)
+			{
+				// left to the interface
+				continue;
+			}
+
+			if (getKeyName(method) == null)
+			{
+				return method + " has no @ConfigItem";
+			}
+
+			if (!method.getTypeParameters().isEmpty() || !method.getThrownTypes().isEmpty())
+			{
+				return method + " is generic or throws";
+			}
+
+			boolean getter = method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID;
+			boolean setter = method.getParameters().size() == 1 && method.getReturnType().getKind() == TypeKind.VOID;
+			if (!getter && !setter)
+			{
+				return method + " is neither a getter nor a setter";
+			}
+
+			TypeMirror valueType = getter ? method.getReturnType() : method.getParameters().get(0).asType();
+			if (valueType.getKind() == TypeKind.TYPEVAR)
+			{
+				return method + " has a type variable";
+			}
+		}
+
+		return null;
+	}
+
+	private List<ExecutableElement> methods(TypeElement type)
+	{
+		List<ExecutableElement> methods = new ArrayList<>();
+		for (Element member : processingEnv.getElementUtils().getAllMembers(type))
+		{
+			if (member.getKind() != ElementKind.METHOD
+				|| member.getModifiers().contains(Modifier.STATIC)
+				|| ((TypeElement) member.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object"))
+			{
+				continue;
+			}
+			methods.add((ExecutableElement) member);
+		}
+		return methods;
+	}
+
+	private static String getKeyName(Element element)
+	{
+		return (String) getAnnotationValue(element, CONFIG_ITEM, "keyName");
+	}
+
+	private static Object getAnnotationValue(Element element, String annotation, String name)
+	{
+		for (AnnotationMirror mirror : element.getAnnotationMirrors())
+		{
+			if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+			{
+				continue;
+			}
+
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet())
+			{
+				if (entry.getKey().getSimpleName().contentEquals(name))
+				{
+					return entry.getValue().getValue();
+				}
+			}
+		}
+		return null;
+	}
+
+	private void generate(TypeElement type) throws IOException
+	{
+		PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = pkg.getQualifiedName().toString();
+		String className = implementationName(type);
+		String interfaceName = type.getQualifiedName().toString();
+		String group = (String) getAnnotationValue(type, CONFIG_GROUP, "value");
+
+		StringBuilder fields = new StringBuilder();
+		StringBuilder methods = new StringBuilder();
+		Map<String, List<Integer>> keys = new LinkedHashMap<>();
+		int index = 0;
+
+		for (ExecutableElement method : methods(type))
+		{
+			String key = getKeyName(method);
+			if (key == null)
+			{
+				continue;
+			}
+
+			String name = method.getSimpleName().toString();
+			if (method.getParameters().isEmpty())
+			{
+				TypeMirror returnType = method.getReturnType();
+				String typeName = returnType.toString();
+				String defaultValue = method.getModifiers().contains(Modifier.DEFAULT)
+					? interfaceName + ".super." + name + "()"
+					: zeroValue(returnType);
+
+				fields.append("\tprivate volatile boolean valid").append(index).append(";\n")
+					.append("\tprivate ").append(typeName).append(" value").append(index).append(";\n");
+
+				methods.append("\t@Override\n")
+					.append("\tpublic ").append(typeName).append(' ').append(name).append("()\n")
+					.append("\t{\n")
+					.append("\t\tif (!valid").append(index).append(")\n")
+					.append("\t\t{\n")
+					.append("\t\t\tsynchronized (this)\n")
+					.append("\t\t\t{\n")
+					.append("\t\t\t\tif (!valid").append(index).append(")\n")
+					.append("\t\t\t\t{\n")
+					.append("\t\t\t\t\tfinal String value = getConfiguration(").append(literal(key)).append(");\n")
+					.append("\t\t\t\t\tfinal Object object = value == null ? INVALID : unmarshal(").append(literal(key))
+					.append(", value, ").append(classLiteral(returnType)).append(");\n")
+					.append("\t\t\t\t\tvalue").append(index).append(" = object == INVALID ? ").append(defaultValue)
+					.append(" : (").append(boxed(returnType)).append(") object;\n")
+					.append("\t\t\t\t\tvalid").append(index).append(" = true;\n")
+					.append("\t\t\t\t}\n")
+					.append("\t\t\t}\n")
+					.append("\t\t}\n")
+					.append("\t\treturn value").append(index).append(";\n")
+					.append("\t}\n\n");
+
+				keys.computeIfAbsent(key, k -> new ArrayList<>()).add(index);
+				++index;
+			}
+			else
+			{
+				TypeMirror parameterType = method.getParameters().get(0).asType();
+
+				methods.append("\t@Override\n")
+					.append("\tpublic void ").append(name).append('(').append(parameterType).append(" value)\n")
+					.append("\t{\n")
+					.append("\t\tset(").append(literal(key)).append(", value, ").append(classLiteral(parameterType)).append(");\n")
+					.append("\t}\n\n");
+			}
+		}
+
+		StringBuilder invalidate = new StringBuilder();
+		StringBuilder invalidateAll = new StringBuilder();
+		for (Map.Entry<String, List<Integer>> entry : keys.entrySet())
+		{
+			invalidate.append("\t\t\tcase ").append(literal(entry.getKey())).append(":\n");
+			for (int i : entry.getValue())
+			{
+				invalidate.append("\t\t\t\tvalid").append(i).append(" = false;\n");
+				invalidateAll.append("\t\tvalid").append(i).append(" = false;\n");
+			}
+			invalidate.append("\t\t\t\tbreak;\n");
+		}
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className, type).openWriter())
+		{
+			writer.write("package " + packageName + ";\n\n"
+				+ "@SuppressWarnings(\"unchecked\")\n"
+				+ "public final class " + className + " extends " + GENERATED_CONFIG + " implements " + interfaceName + "\n"
+				+ "{\n"
+				+ fields + "\n"
+				+ "\tpublic " + className + "(" + CONFIG_MANAGER + " configManager)\n"
+				+ "\t{\n"
+				+ "\t\tsuper(configManager, " + literal(group) + ");\n"
+				+ "\t}\n\n"
+				+ methods
+				+ "\t@Override\n"
+				+ "\tprotected synchronized void invalidate(String key)\n"
+				+ "\t{\n"
+				+ "\t\tswitch (key)\n"
+				+ "\t\t{\n"
+				+ invalidate
+				+ "\t\t}\n"
+				+ "\t}\n\n"
+				+ "\t@Override\n"
+				+ "\tprotected synchronized void invalidateAll()\n"
+				+ "\t{\n"
+				+ invalidateAll
+				+ "\t}\n"
+				+ "}\n");
+		}
+	}
+
+	/**
+	 * The generated class is a top level class named after the interface and the classes it is nested in
+	 */
+	private static String implementationName(TypeElement type)
+	{
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		for (Element e = type; e.getEnclosingElement().getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement())
+		{
+			name.insert(0, '_').insert(0, e.getEnclosingElement().getSimpleName());
+		}
+		return name.append(SUFFIX).toString();
+	}
+
+	private String classLiteral(TypeMirror type)
+	{
+		return processingEnv.getTypeUtils().erasure(type) + ".class";
+	}
+
+	private String boxed(TypeMirror type)
+	{
+		if (type.getKind().isPrimitive())
+		{
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+		}
+		return type.toString();
+	}
+
+	private static String zeroValue(TypeMirror type)
+	{
+		switch (type.getKind())
+		{
+			case BOOLEAN:
+				return "false";
+			case CHAR:
+				return "'\\0'";
+			case BYTE:
+			case SHORT:
+			case INT:
+			case LONG:
+			case FLOAT:
+			case DOUBLE:
+				return "(" + type + ") 0";
+			default:
+				return "null";
+		}
+	}
+
+	private static String literal(String value)
+	{
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c : value.toCharArray())
+		{
+			switch (c)
+			{
+				case '"':
+				case '\\':
+					sb.append('\\').append(c);
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				default:
+					sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes a manifest of the {@code @PluginDescriptor} classes being compiled, with their
+ * dependencies, so the plugin manager doesn't have to scan the classpath for them.
+ * <p>
+ * Incremental builds only compile the changed sources, so the manifest from the previous
+ * build is merged with the plugins found in this one.
+ */
+// runs for every compilation, so that removing the last plugin annotation from a
+// class drops it from the manifest
+@SupportedAnnotationTypes("*")
+public class PluginManifestProcessor extends AbstractProcessor
+{
+	/**
+	 * Location of the manifest, must match PluginManifest
+	 */
+	private static final String MANIFEST = "META-INF/runelite/plugins.json";
+
+	static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	static final String PLUGIN_DEPENDENCIES = "net.runelite.client.plugins.PluginDependencies";
+	private static final String PLUGIN = "net.runelite.client.plugins.Plugin";
+	private static final String CLASS_NAME = "{\"className\":\"";
+
+	// plugins found in all rounds, sorted so the manifest is reproducible
+	private final Map<String, String> plugins = new TreeMap<>();
+	// every class compiled in this build, plugin or not
+	private final Set<String> compiled = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (Element element : roundEnv.getRootElements())
+		{
+			if (element instanceof TypeElement)
+			{
+				compiled.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+			}
+		}
+
+		TypeElement descriptor = processingEnv.getElementUtils().getTypeElement(PLUGIN_DESCRIPTOR);
+		if (descriptor != null)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(descriptor))
+			{
+				if (element.getKind() != ElementKind.CLASS)
+				{
+					continue;
+				}
+
+				TypeElement type = (TypeElement) element;
+				TypeMirror superclass = type.getSuperclass();
+				if (superclass.getKind() != TypeKind.DECLARED
+					|| !((TypeElement) ((DeclaredType) superclass).asElement()).getQualifiedName().contentEquals(PLUGIN))
+				{
+					// the plugin manager warns about these when scanning
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+						"Class has plugin descriptor, but is not a plugin", type);
+					continue;
+				}
+
+				String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+				plugins.put(name, entry(type, name));
+			}
+		}
+
+		if (roundEnv.processingOver())
+		{
+			try
+			{
+				boolean merged = mergePrevious();
+				if (merged || !plugins.isEmpty())
+				{
+					write();
+				}
+			}
+			catch (IOException ex)
+			{
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unable to write plugin manifest: " + ex.getMessage());
+			}
+		}
+
+		return false;
+	}
+
+	private String entry(TypeElement type, String name)
+	{
+		List<String> dependencies = new ArrayList<>();
+		boolean developerPlugin = false;
+		boolean loadWhenOutdated = false;
+
+		for (AnnotationMirror mirror : type.getAnnotationMirrors())
+		{
+			String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+			switch (annotation)
+			{
+				case PLUGIN_DESCRIPTOR:
+					developerPlugin = Boolean.TRUE.equals(getValue(mirror, "developerPlugin"));
+					loadWhenOutdated = Boolean.TRUE.equals(getValue(mirror, "loadWhenOutdated"));
+					break;
+				case PLUGIN_DEPENDENCY:
+					dependencies.add(className((TypeMirror) getValue(mirror, "value")));
+					break;
+				case PLUGIN_DEPENDENCIES:
+					for (Object value : (List<?>) getValue(mirror, "value"))
+					{
+						AnnotationMirror dependency = (AnnotationMirror) ((AnnotationValue) value).getValue();
+						dependencies.add(className((TypeMirror) getValue(dependency, "value")));
+					}
+					break;
+			}
+		}
+
+		return "{\"className\":" + literal(name)
+			+ ",\"developerPlugin\":" + developerPlugin
+			+ ",\"loadWhenOutdated\":" + loadWhenOutdated
+			+ ",\"dependencies\":" + array(dependencies)
+			+ "}";
+	}
+
+	/**
+	 * Carry over the entries of the manifest from the previous build for plugins which
+	 * weren't compiled in this one and still exist.
+	 *
+	 * @return true if there was a previous manifest
+	 */
+	private boolean mergePrevious()
+	{
+		String previous;
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", MANIFEST);
+			previous = file.getCharContent(true).toString();
+		}
+		catch (IOException ex)
+		{
+			// clean build
+			return false;
+		}
+
+		// the manifest is written with one entry per line
+		for (String line : previous.split("\n"))
+		{
+			if (!line.startsWith(CLASS_NAME))
+			{
+				continue;
+			}
+
+			String name = line.substring(CLASS_NAME.length(), line.indexOf('"', CLASS_NAME.length()));
+			if (compiled.contains(name) || plugins.containsKey(name)
+				|| processingEnv.getElementUtils().getTypeElement(name.replace('$', '.')) == null)
+			{
+				continue;
+			}
+
+			plugins.put(name, line.endsWith(",") ? line.substring(0, line.length() - 1) : line);
+		}
+		return true;
+	}
+
+	private void write() throws IOException
+	{
+		FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", MANIFEST);
+		try (Writer writer = file.openWriter())
+		{
+			writer.write("{\"plugins\":[\n");
+			int i = 0;
+			for (String entry : plugins.values())
+			{
+				writer.write(entry);
+				writer.write(++i < plugins.size() ? ",\n" : "\n");
+			}
+			writer.write("]}\n");
+		}
+	}
+
+	private String className(TypeMirror type)
+	{
+		return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+	}
+
+	private static Object getValue(AnnotationMirror mirror, String name)
+	{
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet())
+		{
+			if (entry.getKey().getSimpleName().contentEquals(name))
+			{
+				return entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	private static String array(List<String> values)
+	{
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < values.size(); ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+			sb.append(literal(values.get(i)));
+		}
+		return sb.append(']').toString();
+	}
+
+	private static String literal(String value)
+	{
+		// class names need no escaping other than '$', which is valid in json strings
+		return '"' + value + '"';
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.awt.Shape;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * A cache of {@link Perspective#getClickbox(Client, Model, int, LocalPoint)}
+ * for overlays which draw or hit test the clickboxes of many objects each
+ * frame. Clickboxes are keyed by model, orientation and location, and are
+ * forgotten each game cycle, so that animated models are recalculated, and
+ * whenever the camera, viewport or plane changes.
+ * <p>
+ * The returned shapes are shared between callers, and must not be modified.
+ */
+public class ClickboxCache
+{
+	// cached for clickboxes which are not on screen, as null is an empty slot
+	private static final Shape OFFSCREEN = new Polygon();
+
+	private final int mask;
+	private final int limit;
+	private final Model[] models;
+	private final int[] orientations;
+	private final int[] xs;
+	private final int[] ys;
+	private final Shape[] shapes;
+	private int size;
+
+	private int gameCycle;
+	private int cameraX;
+	private int cameraY;
+	private int cameraZ;
+	private int cameraPitch;
+	private int cameraYaw;
+	private int scale;
+	private int viewportWidth;
+	private int viewportHeight;
+	private int viewportXOffset;
+	private int viewportYOffset;
+	private int plane = -1;
+
+	/**
+	 * @param capacity the number of clickboxes to cache in one frame, past
+	 *                 which the cache is emptied
+	 */
+	public ClickboxCache(int capacity)
+	{
+		int length = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) * 2;
+		mask = length - 1;
+		limit = capacity;
+		models = new Model[length];
+		orientations = new int[length];
+		xs = new int[length];
+		ys = new int[length];
+		shapes = new Shape[length];
+	}
+
+	/**
+	 * Get the on-screen clickable area of {@code model}, as with
+	 * {@link Perspective#getClickbox(Client, Model, int, LocalPoint)},
+	 * calculating it only if it isn't cached.
+	 *
+	 * @param client      the game client
+	 * @param model       the model to calculate a clickbox for
+	 * @param orientation the orientation of the model (0-2048, where 0 is north)
+	 * @param point       the coordinate of the tile
+	 * @return the clickable area of the model
+	 */
+	@Nullable
+	public Shape getClickbox(@Nonnull Client client, Model model, int orientation, LocalPoint point)
+	{
+		if (model == null)
+		{
+			return null;
+		}
+
+		validate(client);
+
+		final int x = point.getX();
+		final int y = point.getY();
+		int slot = hash(model, orientation, x, y) & mask;
+		for (Model m; (m = models[slot]) != null; slot = (slot + 1) & mask)
+		{
+			if (m == model && orientations[slot] == orientation && xs[slot] == x && ys[slot] == y)
+			{
+				final Shape shape = shapes[slot];
+				return shape == OFFSCREEN ? null : shape;
+			}
+		}
+
+		final Shape shape = Perspective.getClickbox(client, model, orientation, point);
+
+		if (size >= limit)
+		{
+			clear();
+			slot = hash(model, orientation, x, y) & mask;
+		}
+
+		models[slot] = model;
+		orientations[slot] = orientation;
+		xs[slot] = x;
+		ys[slot] = y;
+		shapes[slot] = shape == null ? OFFSCREEN : shape;
+		size++;
+
+		return shape;
+	}
+
+	/**
+	 * Get the on-screen clickable area of {@code object}, as with
+	 * {@link TileObject#getClickbox()}. Only the clickboxes of
+	 * {@link GameObject}s whose renderable is a {@link Model} are cached,
+	 * as other renderables build a new model each call.
+	 *
+	 * @param client the game client
+	 * @param object the object to calculate a clickbox for
+	 * @return the clickable area of the object
+	 */
+	@Nullable
+	public Shape getClickbox(@Nonnull Client client, @Nonnull TileObject object)
+	{
+		if (object instanceof GameObject)
+		{
+			final GameObject gameObject = (GameObject) object;
+			final Renderable renderable = gameObject.getRenderable();
+			if (renderable instanceof Model)
+			{
+				return getClickbox(client, (Model) renderable, gameObject.getOrientation().getAngle(), gameObject.getLocalLocation());
+			}
+		}
+
+		return object.getClickbox();
+	}
+
+	/**
+	 * Forget all cached clickboxes
+	 */
+	public void clear()
+	{
+		if (size > 0)
+		{
+			for (int i = 0; i < models.length; i++)
+			{
+				models[i] = null;
+				shapes[i] = null;
+			}
+			size = 0;
+		}
+	}
+
+	private void validate(Client client)
+	{
+		final int gameCycle = client.getGameCycle();
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		final int scale = client.getScale();
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+		final int viewportXOffset = client.getViewportXOffset();
+		final int viewportYOffset = client.getViewportYOffset();
+		final int plane = client.getPlane();
+
+		if (gameCycle != this.gameCycle
+			|| cameraX != this.cameraX
+			|| cameraY != this.cameraY
+			|| cameraZ != this.cameraZ
+			|| cameraPitch != this.cameraPitch
+			|| cameraYaw != this.cameraYaw
+			|| scale != this.scale
+			|| viewportWidth != this.viewportWidth
+			|| viewportHeight != this.viewportHeight
+			|| viewportXOffset != this.viewportXOffset
+			|| viewportYOffset != this.viewportYOffset
+			|| plane != this.plane)
+		{
+			clear();
+
+			this.gameCycle = gameCycle;
+			this.cameraX = cameraX;
+			this.cameraY = cameraY;
+			this.cameraZ = cameraZ;
+			this.cameraPitch = cameraPitch;
+			this.cameraYaw = cameraYaw;
+			this.scale = scale;
+			this.viewportWidth = viewportWidth;
+			this.viewportHeight = viewportHeight;
+			this.viewportXOffset = viewportXOffset;
+			this.viewportYOffset = viewportYOffset;
+			this.plane = plane;
+		}
+	}
+
+	private static int hash(Model model, int orientation, int x, int y)
+	{
+		int h = System.identityHashCode(model);
+		h = h * 31 + orientation;
+		h = h * 31 + x;
+		h = h * 31 + y;
+		return h ^ (h >>> 16);
+	}
+}
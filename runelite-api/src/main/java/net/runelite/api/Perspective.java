@@ -60,6 +60,28 @@ public class Perspective
 	public static final int[] SINE = new int[2048]; // sine angles for each of the 2048 units, * 65536 and stored as an int
 	public static final int[] COSINE = new int[2048]; // cosine
 
+	/**
+	 * Scratch buffers for projecting clickboxes and tiles, per thread so that projecting
+	 * doesn't allocate
+	 */
+	private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+	private static final class Buffers
+	{
+		private final int[] boxX = new int[8];
+		private final int[] boxY = new int[8];
+		private final int[] boxZ = new int[8];
+		private final int[] boxX2d = new int[8];
+		private final int[] boxY2d = new int[8];
+
+		private final int[] tileX = new int[4];
+		private final int[] tileY = new int[4];
+
+		private int[] heights = new int[0];
+		private int[] modelX2d = new int[0];
+		private int[] modelY2d = new int[0];
+	}
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -149,6 +171,77 @@ public class Perspective
 		return null;
 	}
 
+	/**
+	 * Translates many three-dimensional local coordinates within the 3D world
+	 * to their corresponding coordinates on the game screen at once, into
+	 * caller provided buffers. Points which are not on screen are set to
+	 * {@link Integer#MIN_VALUE}, as with {@link #modelToCanvas}.
+	 *
+	 * @param client the game client
+	 * @param count the number of points
+	 * @param x ground coordinates on the x axis
+	 * @param y ground coordinates on the y axis
+	 * @param z heights
+	 * @param x2d buffer for the screen x coordinates, which may be {@code x}
+	 * @param y2d buffer for the screen y coordinates, which may be {@code y}
+	 * @return the number of points which are on screen
+	 */
+	public static int localToCanvas(@Nonnull Client client, int count, int[] x, int[] y, int[] z, int[] x2d, int[] y2d)
+	{
+		final int
+			cameraX = client.getCameraX(),
+			cameraY = client.getCameraY(),
+			cameraZ = client.getCameraZ(),
+
+			cameraPitch = client.getCameraPitch(),
+			cameraYaw = client.getCameraYaw(),
+			pitchSin = SINE[cameraPitch],
+			pitchCos = COSINE[cameraPitch],
+			yawSin = SINE[cameraYaw],
+			yawCos = COSINE[cameraYaw],
+
+			viewportXMiddle = client.getViewportWidth() / 2,
+			viewportYMiddle = client.getViewportHeight() / 2,
+			viewportXOffset = client.getViewportXOffset(),
+			viewportYOffset = client.getViewportYOffset(),
+
+			scale = client.getScale();
+
+		int visible = 0;
+		for (int i = 0; i < count; i++)
+		{
+			int px = x[i];
+			int py = y[i];
+			int pz = z[i];
+
+			if (px >= 128 && py >= 128 && px <= 13056 && py <= 13056)
+			{
+				px -= cameraX;
+				py -= cameraY;
+				pz -= cameraZ;
+
+				final int
+					x1 = yawCos * px + py * yawSin >> 16,
+					y1 = yawCos * py - yawSin * px >> 16,
+					y2 = pitchCos * pz - y1 * pitchSin >> 16,
+					z1 = pz * pitchSin + y1 * pitchCos >> 16;
+
+				if (z1 >= 50)
+				{
+					x2d[i] = (viewportXMiddle + x1 * scale / z1) + viewportXOffset;
+					y2d[i] = (viewportYMiddle + y2 * scale / z1) + viewportYOffset;
+					visible++;
+					continue;
+				}
+			}
+
+			x2d[i] = Integer.MIN_VALUE;
+			y2d[i] = Integer.MIN_VALUE;
+		}
+
+		return visible;
+	}
+
 	/**
 	 * Translates a model's vertices into 2d space
 	 */
@@ -374,58 +467,117 @@ public class Perspective
 	 */
 	public static Polygon getCanvasTileAreaPoly(@Nonnull Client client, @Nonnull LocalPoint localLocation, int size)
 	{
-		final int plane = client.getPlane();
+		final Buffers buffers = BUFFERS.get();
+		final int[] xs = buffers.tileX;
+		final int[] ys = buffers.tileY;
 
-		final int swX = localLocation.getX() - (size * LOCAL_TILE_SIZE / 2);
-		final int swY = localLocation.getY() - (size * LOCAL_TILE_SIZE / 2);
+		xs[0] = localLocation.getX();
+		ys[0] = localLocation.getY();
 
-		final int neX = localLocation.getX() + (size * LOCAL_TILE_SIZE / 2);
-		final int neY = localLocation.getY() + (size * LOCAL_TILE_SIZE / 2);
-
-		final int seX = swX;
-		final int seY = neY;
+		if (getCanvasTileAreaPolys(client, 1, xs, ys, size, xs, ys) == 0)
+		{
+			return null;
+		}
 
-		final int nwX = neX;
-		final int nwY = swY;
+		return new Polygon(xs, ys, 4);
+	}
 
+	/**
+	 * Calculates the polygons of many areas at once, into caller provided
+	 * buffers. The corners of the {@code i}th area are written to indexes
+	 * {@code 4 * i} through {@code 4 * i + 3} of {@code xs} and {@code ys},
+	 * in the same order as the points of
+	 * {@link #getCanvasTileAreaPoly(Client, LocalPoint, int)}. All of the
+	 * corners of areas which are not on screen are set to
+	 * {@link Integer#MIN_VALUE}.
+	 *
+	 * @param client the game client
+	 * @param count the number of areas
+	 * @param localX the x coordinates of the centers of the areas
+	 * @param localY the y coordinates of the centers of the areas
+	 * @param size the size of the areas (ie. 3x3 AoE evaluates to size 3)
+	 * @param xs buffer of at least {@code 4 * count} for the screen x
+	 * coordinates, which may be {@code localX}
+	 * @param ys buffer of at least {@code 4 * count} for the screen y
+	 * coordinates, which may be {@code localY}
+	 * @return the number of areas which are on screen
+	 */
+	public static int getCanvasTileAreaPolys(@Nonnull Client client, int count, int[] localX, int[] localY, int size, int[] xs, int[] ys)
+	{
+		final int plane = client.getPlane();
 		final byte[][][] tileSettings = client.getTileSettings();
+		final int halfSize = size * LOCAL_TILE_SIZE / 2;
 
-		final int sceneX = localLocation.getSceneX();
-		final int sceneY = localLocation.getSceneY();
-
-		if (sceneX < 0 || sceneY < 0 || sceneX >= SCENE_SIZE || sceneY >= SCENE_SIZE)
+		final Buffers buffers = BUFFERS.get();
+		if (buffers.heights.length < count * 4)
 		{
-			return null;
+			buffers.heights = new int[count * 4];
 		}
+		final int[] heights = buffers.heights;
 
-		int tilePlane = plane;
-		if (plane < Constants.MAX_Z - 1 && (tileSettings[1][sceneX][sceneY] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+		// expand the centers into corners, from the last so the centers
+		// aren't overwritten when the buffers are the same
+		for (int i = count - 1; i >= 0; i--)
 		{
-			tilePlane = plane + 1;
-		}
+			final int x = localX[i];
+			final int y = localY[i];
+			final int sceneX = x >> LOCAL_COORD_BITS;
+			final int sceneY = y >> LOCAL_COORD_BITS;
+			final int swX = x - halfSize;
+			final int swY = y - halfSize;
+			final int neX = x + halfSize;
+			final int neY = y + halfSize;
+			final int j = i * 4;
+
+			// sw, nw, ne, se
+			xs[j] = swX;
+			ys[j] = swY;
+			xs[j + 1] = neX;
+			ys[j + 1] = swY;
+			xs[j + 2] = neX;
+			ys[j + 2] = neY;
+			xs[j + 3] = swX;
+			ys[j + 3] = neY;
+
+			if (x < 0 || y < 0 || sceneX >= SCENE_SIZE || sceneY >= SCENE_SIZE)
+			{
+				// fails the bounds check when projected
+				xs[j] = -1;
+				continue;
+			}
 
-		final int swHeight = getHeight(client, swX, swY, tilePlane);
-		final int nwHeight = getHeight(client, nwX, nwY, tilePlane);
-		final int neHeight = getHeight(client, neX, neY, tilePlane);
-		final int seHeight = getHeight(client, seX, seY, tilePlane);
+			int tilePlane = plane;
+			if (plane < Constants.MAX_Z - 1 && (tileSettings[1][sceneX][sceneY] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+			{
+				tilePlane = plane + 1;
+			}
 
-		Point p1 = localToCanvas(client, swX, swY, swHeight);
-		Point p2 = localToCanvas(client, nwX, nwY, nwHeight);
-		Point p3 = localToCanvas(client, neX, neY, neHeight);
-		Point p4 = localToCanvas(client, seX, seY, seHeight);
+			for (int k = j; k < j + 4; k++)
+			{
+				heights[k] = getHeight(client, xs[k], ys[k], tilePlane);
+			}
+		}
 
-		if (p1 == null || p2 == null || p3 == null || p4 == null)
+		localToCanvas(client, count * 4, xs, ys, heights, xs, ys);
+
+		int visible = 0;
+		for (int j = 0; j < count * 4; j += 4)
 		{
-			return null;
-		}
+			if (xs[j] == Integer.MIN_VALUE || xs[j + 1] == Integer.MIN_VALUE
+				|| xs[j + 2] == Integer.MIN_VALUE || xs[j + 3] == Integer.MIN_VALUE)
+			{
+				for (int k = j; k < j + 4; k++)
+				{
+					xs[k] = Integer.MIN_VALUE;
+					ys[k] = Integer.MIN_VALUE;
+				}
+				continue;
+			}
 
-		Polygon poly = new Polygon();
-		poly.addPoint(p1.getX(), p1.getY());
-		poly.addPoint(p2.getX(), p2.getY());
-		poly.addPoint(p3.getX(), p3.getY());
-		poly.addPoint(p4.getX(), p4.getY());
+			visible++;
+		}
 
-		return poly;
+		return visible;
 	}
 
 	/**
@@ -631,21 +783,19 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		int[] xa = new int[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		int[] ya = new int[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		int[] za = new int[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
+		final Buffers buffers = BUFFERS.get();
+		final int[] xa = buffers.boxX;
+		final int[] ya = buffers.boxY;
+		final int[] za = buffers.boxZ;
+		final int[] x2d = buffers.boxX2d;
+		final int[] y2d = buffers.boxY2d;
 
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
 
 		modelToCanvas(client, 8, x, y, z, jauOrient, xa, ya, za, x2d, y2d);
 
@@ -654,8 +804,14 @@ public class Perspective
 
 	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		final Buffers buffers = BUFFERS.get();
+		if (buffers.modelX2d.length < m.getVerticesCount())
+		{
+			buffers.modelX2d = new int[m.getVerticesCount()];
+			buffers.modelY2d = new int[m.getVerticesCount()];
+		}
+		final int[] x2d = buffers.modelX2d;
+		final int[] y2d = buffers.modelY2d;
 
 		Perspective.modelToCanvas(client,
 			m.getVerticesCount(),
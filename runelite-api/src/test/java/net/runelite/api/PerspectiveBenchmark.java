@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.awt.Shape;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.LocalPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks a frame of a highlight heavy scene: the tiles and clickboxes of 200 objects
+ * with synthetic models, projected one at a time, in a batch, and from a {@link ClickboxCache}.
+ * The client and models are proxies returning fixed values, which cost a map lookup per call.
+ * Run with {@link #main(String[])} and {@code -prof gc} to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerspectiveBenchmark
+{
+	private static final int OBJECTS = 200;
+
+	private Client client;
+	private LocalPoint[] points;
+	private Model[] models;
+	private int[] orientations;
+	private int[] localX;
+	private int[] localY;
+	private int[] xs;
+	private int[] ys;
+	private ClickboxCache clickboxCache;
+
+	@Setup
+	public void setup()
+	{
+		Map<String, Object> clientValues = new HashMap<>();
+		clientValues.put("getCameraX", 6464);
+		clientValues.put("getCameraY", 5000);
+		clientValues.put("getCameraZ", -1200);
+		clientValues.put("getCameraPitch", 300);
+		clientValues.put("getCameraYaw", 0);
+		clientValues.put("getScale", 512);
+		clientValues.put("getViewportWidth", 765);
+		clientValues.put("getViewportHeight", 503);
+		clientValues.put("getTileSettings", new byte[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE]);
+		clientValues.put("getTileHeights", new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1]);
+		client = stub(Client.class, clientValues);
+
+		Random random = new Random(42);
+		points = new LocalPoint[OBJECTS];
+		models = new Model[OBJECTS];
+		orientations = new int[OBJECTS];
+		localX = new int[OBJECTS];
+		localY = new int[OBJECTS];
+		for (int i = 0; i < OBJECTS; i++)
+		{
+			points[i] = new LocalPoint(4800 + random.nextInt(24) * 128 + 64, 5600 + random.nextInt(24) * 128 + 64);
+			models[i] = model(random, i % 4 == 0);
+			orientations[i] = random.nextInt(4) * 512;
+		}
+		xs = new int[OBJECTS * 4];
+		ys = new int[OBJECTS * 4];
+		clickboxCache = new ClickboxCache(OBJECTS * 2);
+	}
+
+	/**
+	 * A box shaped model with jittered vertices, like a small scenery object
+	 */
+	private static Model model(Random random, boolean clickable)
+	{
+		final int faces = 64;
+		int[] x = new int[faces * 3];
+		int[] y = new int[faces * 3];
+		int[] z = new int[faces * 3];
+		int[] a = new int[faces];
+		int[] b = new int[faces];
+		int[] c = new int[faces];
+		for (int i = 0; i < faces * 3; i++)
+		{
+			x[i] = random.nextInt(128) - 64;
+			y[i] = -random.nextInt(200);
+			z[i] = random.nextInt(128) - 64;
+		}
+		for (int i = 0; i < faces; i++)
+		{
+			a[i] = i * 3;
+			b[i] = i * 3 + 1;
+			c[i] = i * 3 + 2;
+		}
+
+		Map<String, Object> modelValues = new HashMap<>();
+		modelValues.put("getExtremeX", 64);
+		modelValues.put("getExtremeY", 100);
+		modelValues.put("getExtremeZ", 64);
+		modelValues.put("getCenterY", -100);
+		modelValues.put("isClickable", clickable);
+		modelValues.put("getVerticesCount", faces * 3);
+		modelValues.put("getVerticesX", x);
+		modelValues.put("getVerticesY", y);
+		modelValues.put("getVerticesZ", z);
+		modelValues.put("getTrianglesCount", faces);
+		modelValues.put("getTrianglesX", a);
+		modelValues.put("getTrianglesY", b);
+		modelValues.put("getTrianglesZ", c);
+		return stub(Model.class, modelValues);
+	}
+
+	/**
+	 * An implementation of {@code clazz} which returns the value named by each method,
+	 * or the default value of its return type
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> clazz, Map<String, Object> values)
+	{
+		return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) ->
+		{
+			Object value = values.get(method.getName());
+			if (value != null || !method.getReturnType().isPrimitive())
+			{
+				return value;
+			}
+			if (method.getReturnType() == boolean.class)
+			{
+				return false;
+			}
+			if (method.getReturnType() == void.class)
+			{
+				return null;
+			}
+			return 0;
+		});
+	}
+
+	@Benchmark
+	public void tilePolys(Blackhole blackhole)
+	{
+		for (LocalPoint point : points)
+		{
+			Polygon poly = Perspective.getCanvasTilePoly(client, point);
+			blackhole.consume(poly);
+		}
+	}
+
+	@Benchmark
+	public int tilePolysBatch()
+	{
+		for (int i = 0; i < OBJECTS; i++)
+		{
+			localX[i] = points[i].getX();
+			localY[i] = points[i].getY();
+		}
+		return Perspective.getCanvasTileAreaPolys(client, OBJECTS, localX, localY, 1, xs, ys);
+	}
+
+	@Benchmark
+	public void clickboxes(Blackhole blackhole)
+	{
+		for (int i = 0; i < OBJECTS; i++)
+		{
+			Shape clickbox = Perspective.getClickbox(client, models[i], orientations[i], points[i]);
+			blackhole.consume(clickbox);
+		}
+	}
+
+	@Benchmark
+	public void clickboxesCached(Blackhole blackhole)
+	{
+		for (int i = 0; i < OBJECTS; i++)
+		{
+			Shape clickbox = clickboxCache.getClickbox(client, models[i], orientations[i], points[i]);
+			blackhole.consume(clickbox);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(PerspectiveBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.awt.Shape;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.api.coords.Angle;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PerspectiveTest
+{
+	private final Map<String, Object> clientValues = new HashMap<>();
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		clientValues.put("getCameraX", 6400);
+		clientValues.put("getCameraY", 5000);
+		clientValues.put("getCameraZ", -1000);
+		clientValues.put("getCameraPitch", 300);
+		clientValues.put("getCameraYaw", 0);
+		clientValues.put("getScale", 512);
+		clientValues.put("getViewportWidth", 512);
+		clientValues.put("getViewportHeight", 334);
+		clientValues.put("getViewportXOffset", 4);
+		clientValues.put("getViewportYOffset", 4);
+		clientValues.put("getTileSettings", new byte[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE]);
+		clientValues.put("getTileHeights", new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1]);
+		client = stub(Client.class, clientValues);
+	}
+
+	@Test
+	public void testLocalToCanvas()
+	{
+		int count = 0;
+		int[] x = new int[400];
+		int[] y = new int[400];
+		int[] z = new int[400];
+		for (int i = 0; i < 20; i++)
+		{
+			for (int j = 0; j < 20; j++)
+			{
+				x[count] = 4000 + i * 300;
+				y[count] = 3000 + j * 300;
+				z[count] = -i * 10;
+				count++;
+			}
+		}
+
+		int[] x2d = new int[count];
+		int[] y2d = new int[count];
+		int visible = Perspective.localToCanvas(client, count, x, y, z, x2d, y2d);
+
+		int expectedVisible = 0;
+		for (int i = 0; i < count; i++)
+		{
+			Point point = Perspective.localToCanvas(client, x[i], y[i], z[i]);
+			if (point == null)
+			{
+				assertEquals(Integer.MIN_VALUE, x2d[i]);
+				assertEquals(Integer.MIN_VALUE, y2d[i]);
+			}
+			else
+			{
+				assertEquals(point.getX(), x2d[i]);
+				assertEquals(point.getY(), y2d[i]);
+				expectedVisible++;
+			}
+		}
+		assertEquals(expectedVisible, visible);
+	}
+
+	@Test
+	public void testGetCanvasTileAreaPolys()
+	{
+		int[] localX = {6464, 6464, 100, 6464, 13300};
+		int[] localY = {6464, 4000, 6464, 9000, 6464};
+		int[] xs = new int[localX.length * 4];
+		int[] ys = new int[localY.length * 4];
+		int visible = Perspective.getCanvasTileAreaPolys(client, localX.length, localX, localY, 3, xs, ys);
+
+		int expectedVisible = 0;
+		for (int i = 0; i < localX.length; i++)
+		{
+			Polygon poly = Perspective.getCanvasTileAreaPoly(client, new LocalPoint(localX[i], localY[i]), 3);
+			int[] x = new int[4];
+			int[] y = new int[4];
+			System.arraycopy(xs, i * 4, x, 0, 4);
+			System.arraycopy(ys, i * 4, y, 0, 4);
+			if (poly == null)
+			{
+				assertArrayEquals(new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE}, x);
+			}
+			else
+			{
+				assertArrayEquals(poly.xpoints, x);
+				assertArrayEquals(poly.ypoints, y);
+				expectedVisible++;
+			}
+		}
+		assertEquals(expectedVisible, visible);
+		assertEquals(3, visible);
+	}
+
+	@Test
+	public void testClickboxCache()
+	{
+		Map<String, Object> modelValues = new HashMap<>();
+		modelValues.put("getExtremeX", 64);
+		modelValues.put("getExtremeY", 120);
+		modelValues.put("getExtremeZ", 64);
+		modelValues.put("isClickable", true);
+		Model model = stub(Model.class, modelValues);
+
+		LocalPoint point = new LocalPoint(6464, 6464);
+		ClickboxCache cache = new ClickboxCache(16);
+
+		Shape clickbox = cache.getClickbox(client, model, 0, point);
+		assertNotNull(clickbox);
+		assertSame(clickbox, cache.getClickbox(client, model, 0, point));
+		assertNotSame(clickbox, cache.getClickbox(client, model, 512, point));
+
+		clientValues.put("getCameraYaw", 16);
+		assertNotSame(clickbox, cache.getClickbox(client, model, 0, point));
+
+		LocalPoint behind = new LocalPoint(6464, 1000);
+		assertNull(cache.getClickbox(client, model, 0, behind));
+		assertNull(cache.getClickbox(client, model, 0, behind));
+	}
+
+	@Test
+	public void testClickboxCacheGameObject()
+	{
+		Map<String, Object> modelValues = new HashMap<>();
+		modelValues.put("getExtremeX", 64);
+		modelValues.put("getExtremeY", 120);
+		modelValues.put("getExtremeZ", 64);
+		modelValues.put("isClickable", true);
+		Model model = stub(Model.class, modelValues);
+
+		Map<String, Object> objectValues = new HashMap<>();
+		objectValues.put("getRenderable", model);
+		objectValues.put("getOrientation", new Angle(512));
+		objectValues.put("getLocalLocation", new LocalPoint(6464, 6464));
+		GameObject object = stub(GameObject.class, objectValues);
+
+		ClickboxCache cache = new ClickboxCache(16);
+		Shape clickbox = cache.getClickbox(client, object);
+		assertNotNull(clickbox);
+		assertSame(clickbox, cache.getClickbox(client, object));
+		assertSame(clickbox, cache.getClickbox(client, model, 512, new LocalPoint(6464, 6464)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> clazz, Map<String, Object> values)
+	{
+		return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) ->
+		{
+			Object value = values.get(method.getName());
+			if (value != null || !method.getReturnType().isPrimitive())
+			{
+				return value;
+			}
+			if (method.getReturnType() == boolean.class)
+			{
+				return false;
+			}
+			if (method.getReturnType() == void.class)
+			{
+				return null;
+			}
+			return 0;
+		});
+	}
+}
@@ -27,6 +27,7 @@ package net.runelite.client;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -58,6 +59,7 @@ import net.runelite.client.game.LootManager;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.profiler.PluginProfiler;
 import net.runelite.client.rs.ClientLoader;
 import net.runelite.client.rs.ClientUpdateCheckMode;
 import net.runelite.client.ui.ClientUI;
@@ -167,6 +169,7 @@ public class RuneLite
 		final OptionParser parser = new OptionParser();
 		parser.accepts("developer-mode", "Enable developer tools");
 		parser.accepts("debug", "Show extra debugging output");
+		parser.accepts("profile", "Periodically log the frame time of each plugin");
 
 		final ArgumentAcceptingOptionSpec<ClientUpdateCheckMode> updateMode = parser
 			.accepts("rs", "Select client type")
@@ -243,6 +246,11 @@ public class RuneLite
 				clientLoader,
 				developerMode));
 
+			if (options.has("profile"))
+			{
+				injector.getInstance(PluginProfiler.class).setEnabled(true);
+			}
+
 			injector.getInstance(RuneLite.class).start();
 
 			final long end = System.currentTimeMillis();
@@ -307,27 +315,25 @@ public class RuneLite
 		discordService.init();
 
 		// Register event listeners
-		eventBus.register(clientUI);
-		eventBus.register(pluginManager);
-		eventBus.register(overlayManager);
-		eventBus.register(drawManager);
-		eventBus.register(infoBoxManager);
+		eventBus.registerAll(ImmutableList.of(clientUI, pluginManager, overlayManager, drawManager, infoBoxManager));
 
 		if (!isOutdated)
 		{
 			// Initialize chat colors
 			chatMessageManager.get().loadColors();
 
-			eventBus.register(partyService.get());
-			eventBus.register(overlayRenderer.get());
-			eventBus.register(clanManager.get());
-			eventBus.register(itemManager.get());
-			eventBus.register(menuManager.get());
-			eventBus.register(chatMessageManager.get());
-			eventBus.register(commandManager.get());
-			eventBus.register(lootManager.get());
-			eventBus.register(chatboxPanelManager.get());
-			eventBus.register(hooks.get());
+			eventBus.registerAll(ImmutableList.of(
+				partyService.get(),
+				overlayRenderer.get(),
+				clanManager.get(),
+				itemManager.get(),
+				menuManager.get(),
+				chatMessageManager.get(),
+				commandManager.get(),
+				lootManager.get(),
+				chatboxPanelManager.get(),
+				hooks.get()
+			));
 
 			// Add core overlays
 			WidgetOverlay.createOverlays(client).forEach(overlayManager::add);
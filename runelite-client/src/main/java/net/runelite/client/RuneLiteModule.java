@@ -46,6 +46,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.profiler.PluginProfiler;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.util.DeferredEventBus;
 import net.runelite.client.util.ExecutorServiceExceptionLogger;
@@ -85,8 +86,11 @@ public class RuneLiteModule extends AbstractModule
 
 		bind(Callbacks.class).to(Hooks.class);
 
+		final PluginProfiler profiler = new PluginProfiler();
+		bind(PluginProfiler.class).toInstance(profiler);
+
 		bind(EventBus.class)
-			.toInstance(new EventBus());
+			.toInstance(new EventBus(profiler));
 
 		bind(EventBus.class)
 			.annotatedWith(Names.named("Deferred EventBus"))
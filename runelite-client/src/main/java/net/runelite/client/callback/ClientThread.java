@@ -26,28 +26,70 @@ package net.runelite.client.callback;
 
 import com.google.inject.Inject;
 import java.util.Iterator;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.profiler.PluginProfiler;
+import net.runelite.client.profiler.ProfileSource;
 
 @Singleton
 @Slf4j
 public class ClientThread
 {
-	private ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
+	private static final InvokePriority[] PRIORITIES = InvokePriority.values();
+
+	@SuppressWarnings("unchecked")
+	private final Queue<Invocation>[] invokes = new Queue[PRIORITIES.length];
+
+	private final AtomicInteger queueDepth = new AtomicInteger();
 
 	@Inject
 	private Client client;
 
-	public void invoke(Runnable r)
+	@Inject
+	private PluginProfiler profiler;
+
+	/**
+	 * The time, in nanoseconds, normal and low priority invocations may take each frame before
+	 * the rest are deferred to the next frame. 0 for no limit. The budget starts after the high
+	 * priority invocations have run, and at least one normal and one low priority invocation
+	 * is run each frame regardless of it.
+	 */
+	@Getter
+	@Setter
+	private volatile long frameBudget;
+
+	/**
+	 * The time, in nanoseconds, spent running invocations in the last frame
+	 */
+	@Getter
+	private volatile long lastFrameTime;
+
+	/**
+	 * The number of frames in which invocations were deferred because the frame budget was spent
+	 */
+	@Getter
+	private volatile int deferredFrames;
+
+	public ClientThread()
 	{
-		invoke(() ->
+		for (int i = 0; i < invokes.length; ++i)
 		{
-			r.run();
-			return true;
-		});
+			invokes[i] = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+	public void invoke(Runnable r)
+	{
+		invoke(new RunnableInvoke(r));
 	}
 
 	/**
@@ -60,7 +102,7 @@ public class ClientThread
 		{
 			if (!r.getAsBoolean())
 			{
-				invokes.add(r);
+				invokeLater(r);
 			}
 			return;
 		}
@@ -72,44 +114,156 @@ public class ClientThread
 	 * Will run r on the game thread after this method returns
 	 * If r returns false, r will be ran again, at a later point
 	 */
-	public void invokeLater(Runnable r)
+	public Invocation invokeLater(Runnable r)
 	{
-		invokeLater(() ->
-		{
-			r.run();
-			return true;
-		});
+		return invokeLater(new RunnableInvoke(r));
 	}
 
-	public void invokeLater(BooleanSupplier r)
+	public Invocation invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		return invokeLater(r, InvokePriority.NORMAL);
+	}
+
+	/**
+	 * Will run r on the game thread after this method returns, ordered by priority.
+	 * If r returns false, r will be ran again, at a later point
+	 *
+	 * @param r
+	 * @param priority
+	 * @return a handle to cancel the invocation with
+	 */
+	public Invocation invokeLater(BooleanSupplier r, InvokePriority priority)
+	{
+		return enqueue(new Invocation(r, priority, false, 0L));
+	}
+
+	/**
+	 * Will run r on the game thread after this method returns, ordered by priority.
+	 * If r returns false, r will be ran again, at a later point, unless the timeout
+	 * has passed in which case it is abandoned.
+	 *
+	 * @param r
+	 * @param priority
+	 * @param timeout how long after this call r may still be run
+	 * @param unit
+	 * @return a handle to cancel the invocation with
+	 */
+	public Invocation invokeLater(BooleanSupplier r, InvokePriority priority, long timeout, TimeUnit unit)
+	{
+		return enqueue(new Invocation(r, priority, true, System.nanoTime() + unit.toNanos(timeout)));
+	}
+
+	private Invocation enqueue(Invocation invocation)
+	{
+		invokes[invocation.getPriority().ordinal()].add(invocation);
+		queueDepth.incrementAndGet();
+		return invocation;
+	}
+
+	/**
+	 * @return the number of queued invocations, including cancelled invocations which have not been removed yet
+	 */
+	public int getQueueDepth()
+	{
+		return queueDepth.get();
 	}
 
 	void invoke()
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
-		for (; ir.hasNext(); )
+		final boolean profile = profiler != null && profiler.isEnabled();
+		final long budget = frameBudget;
+		final long start = System.nanoTime();
+		long budgetStart = start;
+		boolean deferred = false;
+
+		for (InvokePriority priority : PRIORITIES)
 		{
-			BooleanSupplier r = ir.next();
-			boolean remove = true;
-			try
-			{
-				remove = r.getAsBoolean();
-			}
-			catch (ThreadDeath d)
-			{
-				throw d;
-			}
-			catch (Throwable e)
+			final boolean budgeted = budget > 0 && priority != InvokePriority.HIGH;
+			if (priority == InvokePriority.NORMAL)
 			{
-				log.warn("Exception in invoke", e);
+				// high priority work doesn't count against the budget
+				budgetStart = System.nanoTime();
 			}
-			if (remove)
+
+			// run at least one invocation of each priority so that slow work of a
+			// higher priority can't starve it
+			boolean ran = false;
+			Iterator<Invocation> ir = invokes[priority.ordinal()].iterator();
+			for (; ir.hasNext(); )
 			{
-				ir.remove();
+				Invocation invocation = ir.next();
+				long now = System.nanoTime();
+
+				if (budgeted && ran && now - budgetStart >= budget)
+				{
+					deferred = true;
+					break;
+				}
+
+				if (invocation.isCancelled())
+				{
+					ir.remove();
+					queueDepth.decrementAndGet();
+					continue;
+				}
+
+				if (invocation.isPastDeadline(now))
+				{
+					log.debug("Invocation {} passed its deadline", invocation.getTask());
+					invocation.finish(true);
+					ir.remove();
+					queueDepth.decrementAndGet();
+					continue;
+				}
+
+				BooleanSupplier r = invocation.getTask();
+				boolean remove = true;
+				ran = true;
+				try
+				{
+					remove = r.getAsBoolean();
+				}
+				catch (ThreadDeath d)
+				{
+					throw d;
+				}
+				catch (Throwable e)
+				{
+					log.warn("Exception in invoke", e);
+				}
+				if (profile)
+				{
+					// attribute wrapped runnables to the runnable rather than the wrapper
+					Object owner = r instanceof RunnableInvoke ? ((RunnableInvoke) r).runnable : r;
+					profiler.record(owner, ProfileSource.INVOKE, System.nanoTime() - now);
+				}
+				if (remove)
+				{
+					invocation.finish(false);
+					ir.remove();
+					queueDepth.decrementAndGet();
+				}
 			}
 		}
+
+		lastFrameTime = System.nanoTime() - start;
+		if (deferred)
+		{
+			++deferredFrames;
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class RunnableInvoke implements BooleanSupplier
+	{
+		private final Runnable runnable;
+
+		@Override
+		public boolean getAsBoolean()
+		{
+			runnable.run();
+			return true;
+		}
 	}
 }
@@ -67,6 +67,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
+import net.runelite.client.profiler.PluginProfiler;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
@@ -128,6 +129,9 @@ public class Hooks implements Callbacks
 	@Inject
 	private ClientUI clientUi;
 
+	@Inject
+	private PluginProfiler profiler;
+
 	private Dimension lastStretchedDimensions;
 	private VolatileImage stretchedImage;
 	private Graphics2D stretchedGraphics;
@@ -176,6 +180,9 @@ public class Hooks implements Callbacks
 	@Override
 	public void clientMainLoop()
 	{
+		// each main loop starts a new frame
+		profiler.endFrame();
+
 		if (shouldProcessGameTick)
 		{
 			shouldProcessGameTick = false;
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import java.util.function.BooleanSupplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * A handle to an invocation queued on the {@link ClientThread}
+ */
+public class Invocation
+{
+	private static final int PENDING = 0;
+	private static final int DONE = 1;
+	private static final int CANCELLED = 2;
+	private static final int EXPIRED = 3;
+
+	@Getter(AccessLevel.PACKAGE)
+	private final BooleanSupplier task;
+	@Getter
+	private final InvokePriority priority;
+	private final boolean hasDeadline;
+	private final long deadline;
+
+	private volatile int state = PENDING;
+
+	Invocation(BooleanSupplier task, InvokePriority priority, boolean hasDeadline, long deadline)
+	{
+		this.task = task;
+		this.priority = priority;
+		this.hasDeadline = hasDeadline;
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Cancel the invocation, so that it is not run again. An invocation which is already
+	 * running will finish its current run.
+	 *
+	 * @return true if the invocation was pending
+	 */
+	public boolean cancel()
+	{
+		synchronized (this)
+		{
+			if (state != PENDING)
+			{
+				return false;
+			}
+			state = CANCELLED;
+			return true;
+		}
+	}
+
+	/**
+	 * @return true if the invocation completed, was cancelled, or passed its deadline
+	 */
+	public boolean isDone()
+	{
+		return state != PENDING;
+	}
+
+	public boolean isCancelled()
+	{
+		return state == CANCELLED;
+	}
+
+	/**
+	 * @return true if the invocation was abandoned because it had not completed by its deadline
+	 */
+	public boolean isExpired()
+	{
+		return state == EXPIRED;
+	}
+
+	boolean isPastDeadline(long now)
+	{
+		return hasDeadline && now - deadline > 0;
+	}
+
+	void finish(boolean expired)
+	{
+		synchronized (this)
+		{
+			if (state == PENDING)
+			{
+				state = expired ? EXPIRED : DONE;
+			}
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.util.Text;
+
+/**
+ * Matches chat messages against the patterns registered by plugins, scanning each message
+ * once for all of the patterns of its type and running only the patterns which might match.
+ * Handlers are called with the matcher of the match, in the order the patterns were registered,
+ * with the patterns matching the message as is before those matching it with its tags removed.
+ * Handlers run before other subscribers to the message, so plugins can act on what they matched.
+ */
+@Singleton
+@Slf4j
+public class ChatPatternManager
+{
+	private final List<ChatPattern> patterns = new ArrayList<>();
+	private volatile Map<ChatMessageType, ChatPatternMatcher> matchers = new EnumMap<>(ChatMessageType.class);
+	private volatile Map<ChatMessageType, ChatPatternMatcher> removeTagsMatchers = new EnumMap<>(ChatMessageType.class);
+
+	@Inject
+	ChatPatternManager(EventBus eventBus)
+	{
+		eventBus.register(this);
+	}
+
+	/**
+	 * Register a pattern to be found in chat messages of the given types
+	 *
+	 * @param pattern the pattern, found anywhere in the message
+	 * @param handler called with the message and the matcher of each match
+	 * @param types message types to match
+	 * @return the registered pattern, to unregister it with
+	 */
+	public ChatPattern registerPattern(Pattern pattern, BiConsumer<ChatMessage, Matcher> handler, ChatMessageType... types)
+	{
+		return registerPattern(pattern, false, handler, types);
+	}
+
+	/**
+	 * Register a pattern to be found in chat messages of the given types
+	 *
+	 * @param pattern the pattern, found anywhere in the message
+	 * @param removeTags whether to match against the message with its tags removed
+	 * @param handler called with the message and the matcher of each match
+	 * @param types message types to match
+	 * @return the registered pattern, to unregister it with
+	 */
+	public ChatPattern registerPattern(Pattern pattern, boolean removeTags, BiConsumer<ChatMessage, Matcher> handler, ChatMessageType... types)
+	{
+		Preconditions.checkArgument(types.length > 0, "no message types");
+
+		ChatPattern chatPattern = new ChatPattern(pattern, EnumSet.of(types[0], types), removeTags, handler);
+		synchronized (patterns)
+		{
+			patterns.add(chatPattern);
+			rebuild();
+		}
+		return chatPattern;
+	}
+
+	public void unregisterPattern(ChatPattern chatPattern)
+	{
+		synchronized (patterns)
+		{
+			patterns.remove(chatPattern);
+			rebuild();
+		}
+	}
+
+	private void rebuild()
+	{
+		matchers = build(false);
+		removeTagsMatchers = build(true);
+	}
+
+	private Map<ChatMessageType, ChatPatternMatcher> build(boolean removeTags)
+	{
+		Map<ChatMessageType, ChatPatternMatcher> matchers = new EnumMap<>(ChatMessageType.class);
+		for (ChatMessageType type : ChatMessageType.values())
+		{
+			List<ChatPattern> typePatterns = new ArrayList<>();
+			for (ChatPattern pattern : patterns)
+			{
+				if (pattern.isRemoveTags() == removeTags && pattern.getTypes().contains(type))
+				{
+					typePatterns.add(pattern);
+				}
+			}
+
+			if (!typePatterns.isEmpty())
+			{
+				matchers.put(type, new ChatPatternMatcher(typePatterns));
+			}
+		}
+		return matchers;
+	}
+
+	@Subscribe(priority = -1)
+	public void onChatMessage(ChatMessage chatMessage)
+	{
+		final ChatMessageType type = chatMessage.getType();
+		final String message = chatMessage.getMessage();
+		if (message == null)
+		{
+			return;
+		}
+
+		ChatPatternMatcher matcher = matchers.get(type);
+		if (matcher != null)
+		{
+			dispatch(matcher, chatMessage, message);
+		}
+
+		matcher = removeTagsMatchers.get(type);
+		if (matcher != null)
+		{
+			dispatch(matcher, chatMessage, Text.removeTags(message));
+		}
+	}
+
+	private static void dispatch(ChatPatternMatcher matcher, ChatMessage chatMessage, String text)
+	{
+		BitSet candidates = matcher.candidates(text);
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+		{
+			ChatPattern chatPattern = matcher.get(i);
+			Matcher m = chatPattern.getPattern().matcher(text);
+			if (!m.find())
+			{
+				continue;
+			}
+
+			try
+			{
+				chatPattern.getHandler().accept(chatMessage, m);
+			}
+			catch (Exception ex)
+			{
+				log.warn("Uncaught exception in chat pattern handler", ex);
+			}
+		}
+	}
+}
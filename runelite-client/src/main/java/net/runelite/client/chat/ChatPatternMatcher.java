@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Matches a set of chat patterns against messages. Each pattern is reduced to a literal
+ * string any message it matches has to contain, and the literals of all the patterns are
+ * found in a single scan of the message with an Aho-Corasick automaton. Only patterns whose
+ * literal was found, or which have no literal, are then run.
+ */
+class ChatPatternMatcher
+{
+	/**
+	 * Literals shorter than this are too common to be worth checking for
+	 */
+	private static final int MIN_LITERAL_LENGTH = 3;
+
+	private static final int ALPHABET = 128;
+
+	private final ChatPattern[] patterns;
+	// patterns without a literal, which are always run
+	private final BitSet unfiltered = new BitSet();
+
+	// character class of each ascii character, 0 for characters in no literal
+	private final int[] charClass = new int[ALPHABET];
+	private final int classes;
+	// transitions of the automaton, indexed by state * classes + character class
+	private final int[] transitions;
+	// patterns whose literals end at each state
+	private final int[][] output;
+
+	ChatPatternMatcher(List<ChatPattern> patterns)
+	{
+		this.patterns = patterns.toArray(new ChatPattern[0]);
+
+		String[] literals = new String[this.patterns.length];
+		int classCount = 1;
+		for (int i = 0; i < literals.length; ++i)
+		{
+			String literal = requiredLiteral(this.patterns[i].getPattern());
+			if (literal == null || literal.length() < MIN_LITERAL_LENGTH)
+			{
+				unfiltered.set(i);
+				continue;
+			}
+
+			literals[i] = literal;
+			for (int j = 0; j < literal.length(); ++j)
+			{
+				char c = literal.charAt(j);
+				if (charClass[c] == 0)
+				{
+					charClass[c] = classCount++;
+				}
+			}
+		}
+		classes = classCount;
+
+		// build the trie
+		List<int[]> trie = new ArrayList<>();
+		List<List<Integer>> outputs = new ArrayList<>();
+		trie.add(new int[classes]);
+		outputs.add(new ArrayList<>());
+		for (int i = 0; i < literals.length; ++i)
+		{
+			String literal = literals[i];
+			if (literal == null)
+			{
+				continue;
+			}
+
+			int state = 0;
+			for (int j = 0; j < literal.length(); ++j)
+			{
+				int cls = charClass[literal.charAt(j)];
+				if (trie.get(state)[cls] == 0)
+				{
+					trie.get(state)[cls] = trie.size();
+					trie.add(new int[classes]);
+					outputs.add(new ArrayList<>());
+				}
+				state = trie.get(state)[cls];
+			}
+			outputs.get(state).add(i);
+		}
+
+		// fill in the failure transitions breadth first, so the automaton never backtracks
+		int states = trie.size();
+		transitions = new int[states * classes];
+		int[] fail = new int[states];
+		int[] queue = new int[states];
+		int head = 0, tail = 0;
+		for (int cls = 0; cls < classes; ++cls)
+		{
+			int next = cls == 0 ? 0 : trie.get(0)[cls];
+			transitions[cls] = next;
+			if (next != 0)
+			{
+				queue[tail++] = next;
+			}
+		}
+
+		while (head < tail)
+		{
+			int state = queue[head++];
+			outputs.get(state).addAll(outputs.get(fail[state]));
+
+			for (int cls = 0; cls < classes; ++cls)
+			{
+				int next = cls == 0 ? 0 : trie.get(state)[cls];
+				if (next != 0)
+				{
+					fail[next] = transitions[fail[state] * classes + cls];
+					transitions[state * classes + cls] = next;
+					queue[tail++] = next;
+				}
+				else
+				{
+					transitions[state * classes + cls] = transitions[fail[state] * classes + cls];
+				}
+			}
+		}
+
+		output = new int[states][];
+		for (int state = 0; state < states; ++state)
+		{
+			List<Integer> out = outputs.get(state);
+			if (!out.isEmpty())
+			{
+				output[state] = out.stream().mapToInt(Integer::intValue).distinct().toArray();
+			}
+		}
+	}
+
+	int size()
+	{
+		return patterns.length;
+	}
+
+	ChatPattern get(int index)
+	{
+		return patterns[index];
+	}
+
+	/**
+	 * Find the patterns which might match a message
+	 *
+	 * @param text the message
+	 * @return indexes of the patterns to run against the message
+	 */
+	BitSet candidates(String text)
+	{
+		BitSet candidates = (BitSet) unfiltered.clone();
+		int state = 0;
+		for (int i = 0; i < text.length(); ++i)
+		{
+			char c = text.charAt(i);
+			state = transitions[state * classes + (c < ALPHABET ? charClass[c] : 0)];
+
+			int[] out = output[state];
+			if (out != null)
+			{
+				for (int pattern : out)
+				{
+					candidates.set(pattern);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Find the longest string any match of the pattern has to contain. This is
+	 * conservative, and returns null for anything it does not understand.
+	 *
+	 * @param pattern
+	 * @return the literal, or null
+	 */
+	static String requiredLiteral(Pattern pattern)
+	{
+		if ((pattern.flags() & (Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.LITERAL)) != 0)
+		{
+			return null;
+		}
+
+		final String p = pattern.pattern();
+		final StringBuilder run = new StringBuilder();
+		String best = null;
+		// whether the last atom was a literal character at the end of the current run
+		boolean lastLiteral = false;
+
+		int i = 0;
+		while (i < p.length())
+		{
+			char c = p.charAt(i);
+			switch (c)
+			{
+				case '\\':
+				{
+					if (i + 1 >= p.length())
+					{
+						return null;
+					}
+
+					char n = p.charAt(i + 1);
+					i += 2;
+					if (n >= ALPHABET || Character.isLetterOrDigit(n))
+					{
+						// only predefined classes and boundaries are understood, others such as
+						// \Q, \x and \p consume the following characters
+						if ("dDsSwWbBhHvVRAzZG".indexOf(n) == -1)
+						{
+							return null;
+						}
+
+						best = longest(best, run);
+						lastLiteral = false;
+					}
+					else
+					{
+						run.append(n);
+						lastLiteral = true;
+					}
+					continue;
+				}
+				case '(':
+					if (p.startsWith("(?", i) && i + 2 < p.length()
+						&& (Character.isLetter(p.charAt(i + 2)) || p.charAt(i + 2) == '-'))
+					{
+						// inline flags
+						return null;
+					}
+					i = skipGroup(p, i);
+					break;
+				case '[':
+					i = skipClass(p, i);
+					break;
+				case '|':
+					return null;
+				case '*':
+				case '?':
+				case '{':
+				case '+':
+					if (lastLiteral && c != '+')
+					{
+						// the character is optional
+						run.setLength(run.length() - 1);
+					}
+					i = c == '{' ? p.indexOf('}', i) + 1 : i + 1;
+					if (i == 0)
+					{
+						return null;
+					}
+					// lazy and possessive quantifiers
+					if (i < p.length() && (p.charAt(i) == '?' || p.charAt(i) == '+'))
+					{
+						++i;
+					}
+					break;
+				case '.':
+				case '^':
+				case '$':
+					++i;
+					break;
+				default:
+					if (c >= ALPHABET)
+					{
+						++i;
+						break;
+					}
+
+					run.append(c);
+					lastLiteral = true;
+					++i;
+					continue;
+			}
+
+			if (i < 0)
+			{
+				return null;
+			}
+
+			best = longest(best, run);
+			lastLiteral = false;
+		}
+
+		return longest(best, run);
+	}
+
+	private static String longest(String best, StringBuilder run)
+	{
+		String result = best;
+		if (best == null || run.length() > best.length())
+		{
+			result = run.length() > 0 ? run.toString() : best;
+		}
+		run.setLength(0);
+		return result;
+	}
+
+	/**
+	 * Skip over a group
+	 *
+	 * @return the index after the closing parenthesis, or -1 if it is not closed
+	 */
+	private static int skipGroup(String p, int i)
+	{
+		int depth = 0;
+		for (; i < p.length(); ++i)
+		{
+			char c = p.charAt(i);
+			if (c == '\\')
+			{
+				++i;
+			}
+			else if (c == '[')
+			{
+				// parentheses in character classes don't count
+				i = skipClass(p, i) - 1;
+				if (i < 0)
+				{
+					return -1;
+				}
+			}
+			else if (c == '(')
+			{
+				++depth;
+			}
+			else if (c == ')' && --depth == 0)
+			{
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Skip over a character class, including any classes nested in it
+	 *
+	 * @return the index after the closing bracket, or -1 if it is not closed
+	 */
+	private static int skipClass(String p, int i)
+	{
+		int depth = 0;
+		for (; i < p.length(); ++i)
+		{
+			char c = p.charAt(i);
+			if (c == '\\')
+			{
+				++i;
+			}
+			else if (c == '[')
+			{
+				++depth;
+				// a ] at the start of a class, after any negation, is a literal
+				if (i + 1 < p.length() && p.charAt(i + 1) == '^')
+				{
+					++i;
+				}
+				if (i + 1 < p.length() && p.charAt(i + 1) == ']')
+				{
+					++i;
+				}
+			}
+			else if (c == ']' && --depth == 0)
+			{
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+}
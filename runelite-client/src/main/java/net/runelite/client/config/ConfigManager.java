@@ -24,6 +24,7 @@
  */
 package net.runelite.client.config;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableMap;
@@ -38,29 +39,42 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
-import java.nio.channels.FileLock;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.events.ConfigBatchChanged;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
@@ -76,6 +90,7 @@ public class ConfigManager
 {
 	private static final String SETTINGS_FILE_NAME = "settings.properties";
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+	private static final long SAVE_DELAY_MS = 500;
 
 	@Inject
 	EventBus eventBus;
@@ -84,17 +99,24 @@ public class ConfigManager
 
 	private AccountSession session;
 	private ConfigClient client;
-	private File propertiesFile;
+	// written with saveLock held, so a save writes the properties of the profile whose file it writes to
+	private volatile File propertiesFile;
 
 	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
+	private final Map<Class<?>, Optional<Constructor<?>>> generatedConstructors = new ConcurrentHashMap<>();
+	private final Set<GeneratedConfig> generatedConfigs = Collections.newSetFromMap(new WeakHashMap<>());
 	private final Properties properties = new Properties();
 	private final Map<String, String> pendingChanges = new HashMap<>();
+	private final Object saveLock = new Object();
+
+	// guarded by pendingChanges
+	private ScheduledFuture<?> pendingSave;
 
 	@Inject
 	public ConfigManager(ScheduledExecutorService scheduledExecutorService)
 	{
 		this.executor = scheduledExecutorService;
-		this.propertiesFile = getPropertiesFile();
+		this.propertiesFile = getPropertiesFile(null);
 
 		executor.scheduleWithFixedDelay(this::sendConfig, 30, 30, TimeUnit.SECONDS);
 	}
@@ -104,20 +126,32 @@ public class ConfigManager
 		// Ensure existing config is saved
 		sendConfig();
 
-		if (session == null)
-		{
-			this.session = null;
-			this.client = null;
-		}
-		else
+		final ConfigClient client = session == null ? null : new ConfigClient(session.getUuid());
+		final File propertiesFile = getPropertiesFile(session);
+
+		// fetch the profile before taking the lock, so saves aren't held up behind the request
+		final Properties remote = fetchProperties(client);
+		final Properties loaded = remote != null ? remote : readProperties(propertiesFile);
+
+		// Wait for a save in progress, and swap the file and properties together so a save never mixes profiles
+		synchronized (saveLock)
 		{
 			this.session = session;
-			this.client = new ConfigClient(session.getUuid());
+			this.client = client;
+			this.propertiesFile = propertiesFile;
+			replaceProperties(loaded);
 		}
 
-		this.propertiesFile = getPropertiesFile();
+		postLoaded(loaded, remote != null);
+	}
 
-		load(); // load profile specific config
+	@VisibleForTesting
+	void setPropertiesFile(File propertiesFile)
+	{
+		synchronized (saveLock)
+		{
+			this.propertiesFile = propertiesFile;
+		}
 	}
 
 	private File getLocalPropertiesFile()
@@ -125,7 +159,7 @@ public class ConfigManager
 		return new File(RuneLite.RUNELITE_DIR, SETTINGS_FILE_NAME);
 	}
 
-	private File getPropertiesFile()
+	private File getPropertiesFile(AccountSession session)
 	{
 		// Sessions that aren't logged in have no username
 		if (session == null || session.getUsername() == null)
@@ -140,11 +174,30 @@ public class ConfigManager
 	}
 
 	public void load()
+	{
+		final Properties remote = fetchProperties(client);
+		final Properties loaded = remote != null ? remote : readProperties(propertiesFile);
+
+		synchronized (saveLock)
+		{
+			replaceProperties(loaded);
+		}
+
+		postLoaded(loaded, remote != null);
+	}
+
+	/**
+	 * Fetch the configuration from the config service
+	 *
+	 * @param client
+	 * @return the configuration, or null if there is no client or it has no configuration
+	 */
+	@Nullable
+	private static Properties fetchProperties(@Nullable ConfigClient client)
 	{
 		if (client == null)
 		{
-			loadFromFile();
-			return;
+			return null;
 		}
 
 		Configuration configuration;
@@ -156,52 +209,101 @@ public class ConfigManager
 		catch (IOException ex)
 		{
 			log.debug("Unable to load configuration from client, using saved configuration from disk", ex);
-			loadFromFile();
-			return;
+			return null;
 		}
 
 		if (configuration.getConfig() == null || configuration.getConfig().isEmpty())
 		{
 			log.debug("No configuration from client, using saved configuration on disk");
-			loadFromFile();
-			return;
+			return null;
 		}
 
-		handler.invalidate();
-		properties.clear();
+		final Properties properties = new Properties();
 
 		for (ConfigEntry entry : configuration.getConfig())
 		{
 			log.debug("Loading configuration value from client {}: {}", entry.getKey(), entry.getValue());
-			final String[] split = entry.getKey().split("\\.", 2);
 
-			if (split.length != 2)
+			if (entry.getKey().split("\\.", 2).length != 2)
 			{
 				continue;
 			}
 
-			final String groupName = split[0];
-			final String key = split[1];
-			final String value = entry.getValue();
-			final String oldValue = (String) properties.setProperty(entry.getKey(), value);
+			properties.setProperty(entry.getKey(), entry.getValue());
+		}
 
-			ConfigChanged configChanged = new ConfigChanged();
-			configChanged.setGroup(groupName);
-			configChanged.setKey(key);
-			configChanged.setOldValue(oldValue);
-			configChanged.setNewValue(value);
-			eventBus.post(configChanged);
+		return properties;
+	}
+
+	private static Properties readProperties(File propertiesFile)
+	{
+		final Properties properties = new Properties();
+
+		try (FileInputStream in = new FileInputStream(propertiesFile))
+		{
+			properties.load(new InputStreamReader(in, Charset.forName("UTF-8")));
 		}
+		catch (FileNotFoundException ex)
+		{
+			log.debug("Unable to load settings - no such file");
+		}
+		catch (IllegalArgumentException | IOException ex)
+		{
+			log.warn("Unable to load settings", ex);
+		}
+
+		for (String groupAndKey : properties.stringPropertyNames())
+		{
+			if (groupAndKey.split("\\.", 2).length != 2)
+			{
+				log.debug("Properties key malformed!: {}", groupAndKey);
+				properties.remove(groupAndKey);
+			}
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Replace the properties with those of a loaded profile. Must be called with saveLock held.
+	 */
+	private void replaceProperties(Properties loaded)
+	{
+		invalidateAll();
+		properties.clear();
+		properties.putAll(loaded);
+	}
+
+	/**
+	 * Post the values of a loaded profile, and write it to disk if it came from the config service
+	 */
+	private void postLoaded(Properties loaded, boolean save)
+	{
+		// values may have been read and cached while the properties were replaced
+		invalidateAll();
 
 		try
 		{
-			saveToFile(propertiesFile);
+			for (String groupAndKey : loaded.stringPropertyNames())
+			{
+				final String[] split = groupAndKey.split("\\.", 2);
 
-			log.debug("Updated configuration on disk with the latest version");
+				ConfigChanged configChanged = new ConfigChanged();
+				configChanged.setGroup(split[0]);
+				configChanged.setKey(split[1]);
+				configChanged.setOldValue(null);
+				configChanged.setNewValue(loaded.getProperty(groupAndKey));
+				eventBus.post(configChanged);
+			}
 		}
-		catch (IOException ex)
+		catch (Exception ex)
 		{
-			log.warn("Unable to update configuration on disk", ex);
+			log.warn("Error posting config events", ex);
+		}
+
+		if (save)
+		{
+			saveNow();
 		}
 	}
 
@@ -274,69 +376,82 @@ public class ConfigManager
 		syncPropertiesFromFile(getLocalPropertiesFile());
 	}
 
-	private synchronized void loadFromFile()
+	/**
+	 * Save the configuration to a file. The configuration is written to a temporary file which then
+	 * replaces the file, so the file is never left partially written.
+	 */
+	private void saveToFile(final File propertiesFile) throws IOException
 	{
-		handler.invalidate();
-		properties.clear();
-
-		try (FileInputStream in = new FileInputStream(propertiesFile))
-		{
-			properties.load(new InputStreamReader(in, Charset.forName("UTF-8")));
-		}
-		catch (FileNotFoundException ex)
+		synchronized (saveLock)
 		{
-			log.debug("Unable to load settings - no such file");
-		}
-		catch (IllegalArgumentException | IOException ex)
-		{
-			log.warn("Unable to load settings", ex);
-		}
+			// copy so that sets made during the write aren't half included
+			final Properties properties = (Properties) this.properties.clone();
 
-		try
-		{
-			Map<String, String> copy = (Map) ImmutableMap.copyOf(properties);
-			copy.forEach((groupAndKey, value) ->
+			final File dir = propertiesFile.getParentFile();
+			dir.mkdirs();
+
+			final File tempFile = File.createTempFile(propertiesFile.getName(), ".tmp", dir);
+
+			try
 			{
-				final String[] split = groupAndKey.split("\\.", 2);
-				if (split.length != 2)
+				try (FileOutputStream out = new FileOutputStream(tempFile))
 				{
-					log.debug("Properties key malformed!: {}", groupAndKey);
-					properties.remove(groupAndKey);
-					return;
+					properties.store(new OutputStreamWriter(out, Charset.forName("UTF-8")), "RuneLite configuration");
+					out.getFD().sync();
 				}
 
-				final String groupName = split[0];
-				final String key = split[1];
-
-				ConfigChanged configChanged = new ConfigChanged();
-				configChanged.setGroup(groupName);
-				configChanged.setKey(key);
-				configChanged.setOldValue(null);
-				configChanged.setNewValue(value);
-				eventBus.post(configChanged);
-			});
+				try
+				{
+					Files.move(tempFile.toPath(), propertiesFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex)
+				{
+					log.debug("Atomic move not supported, falling back to replacing the file", ex);
+					Files.move(tempFile.toPath(), propertiesFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			finally
+			{
+				// only exists if the save failed
+				Files.deleteIfExists(tempFile.toPath());
+			}
 		}
-		catch (Exception ex)
+	}
+
+	/**
+	 * Save the configuration to disk shortly, coalescing changes made in the meantime into one save.
+	 * Must be called with pendingChanges held.
+	 */
+	private void scheduleSave()
+	{
+		if (pendingSave == null)
 		{
-			log.warn("Error posting config events", ex);
+			pendingSave = executor.schedule(this::saveChanges, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
 		}
 	}
 
-	private void saveToFile(final File propertiesFile) throws IOException
+	private void saveChanges()
 	{
-		propertiesFile.getParentFile().mkdirs();
-
-		try (FileOutputStream out = new FileOutputStream(propertiesFile))
+		synchronized (pendingChanges)
 		{
-			final FileLock lock = out.getChannel().lock();
+			pendingSave = null;
+		}
 
+		saveNow();
+	}
+
+	private void saveNow()
+	{
+		// the file is read with the lock held, so a session switch can't change it mid save
+		synchronized (saveLock)
+		{
 			try
 			{
-				properties.store(new OutputStreamWriter(out, Charset.forName("UTF-8")), "RuneLite configuration");
+				saveToFile(propertiesFile);
 			}
-			finally
+			catch (IOException ex)
 			{
-				lock.release();
+				log.warn("unable to save configuration file", ex);
 			}
 		}
 	}
@@ -348,6 +463,13 @@ public class ConfigManager
 			throw new RuntimeException("Non-public configuration classes can't have default methods invoked");
 		}
 
+		GeneratedConfig generated = createGeneratedConfig(clazz);
+		if (generated != null)
+		{
+			return (T) generated;
+		}
+
+		// Fall back to a proxy for interfaces the annotation processor didn't generate an implementation of
 		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
 			{
 				clazz
@@ -356,6 +478,97 @@ public class ConfigManager
 		return t;
 	}
 
+	private GeneratedConfig createGeneratedConfig(Class<?> clazz)
+	{
+		Optional<Constructor<?>> constructor = generatedConstructors.computeIfAbsent(clazz, c ->
+		{
+			try
+			{
+				Class<?> generatedClass = Class.forName(GeneratedConfig.implementationName(c), true, c.getClassLoader());
+				if (!c.isAssignableFrom(generatedClass) || !GeneratedConfig.class.isAssignableFrom(generatedClass))
+				{
+					return Optional.empty();
+				}
+				return Optional.of(generatedClass.getConstructor(ConfigManager.class));
+			}
+			catch (ClassNotFoundException | NoSuchMethodException ex)
+			{
+				log.debug("No generated implementation of {}", c.getName());
+				return Optional.empty();
+			}
+		});
+
+		if (!constructor.isPresent())
+		{
+			return null;
+		}
+
+		GeneratedConfig config;
+		try
+		{
+			config = (GeneratedConfig) constructor.get().newInstance(this);
+		}
+		catch (ReflectiveOperationException ex)
+		{
+			log.warn("Unable to create generated implementation of {}", clazz.getName(), ex);
+			return null;
+		}
+
+		synchronized (generatedConfigs)
+		{
+			generatedConfigs.add(config);
+		}
+		return config;
+	}
+
+	private void invalidate(String groupName, String key)
+	{
+		handler.invalidate();
+
+		synchronized (generatedConfigs)
+		{
+			for (GeneratedConfig config : generatedConfigs)
+			{
+				if (config.getGroup().equals(groupName))
+				{
+					config.invalidate(key);
+				}
+			}
+		}
+	}
+
+	private void invalidate(String groupName, List<ConfigChanged> changes)
+	{
+		handler.invalidate();
+
+		synchronized (generatedConfigs)
+		{
+			for (GeneratedConfig config : generatedConfigs)
+			{
+				if (config.getGroup().equals(groupName))
+				{
+					for (ConfigChanged change : changes)
+					{
+						config.invalidate(change.getKey());
+					}
+				}
+			}
+		}
+	}
+
+	private void invalidateAll()
+	{
+		handler.invalidate();
+
+		synchronized (generatedConfigs)
+		{
+			for (GeneratedConfig config : generatedConfigs)
+			{
+				config.invalidateAll();
+			}
+		}
+	}
+
 	public List<String> getConfigurationKeys(String prefix)
 	{
 		return properties.keySet().stream().filter(v -> ((String) v).startsWith(prefix)).map(String.class::cast).collect(Collectors.toList());
@@ -393,11 +606,12 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {}.{} to {}", groupName, key, value);
-		handler.invalidate();
+		invalidate(groupName, key);
 
 		synchronized (pendingChanges)
 		{
 			pendingChanges.put(groupName + "." + key, value);
+			scheduleSave();
 		}
 
 		ConfigChanged configChanged = new ConfigChanged();
@@ -414,6 +628,62 @@ public class ConfigManager
 		setConfiguration(groupName, key, objectToString(value));
 	}
 
+	/**
+	 * Set several configuration values of a group at once, saving them together. A single
+	 * {@link ConfigBatchChanged} listing the changed values is posted instead of a
+	 * {@link ConfigChanged} for each of them.
+	 *
+	 * @param groupName
+	 * @param values values keyed by key name, null values unset the key
+	 */
+	public void setConfiguration(String groupName, Map<String, String> values)
+	{
+		final List<ConfigChanged> changes = new ArrayList<>(values.size());
+
+		for (Map.Entry<String, String> entry : values.entrySet())
+		{
+			final String key = entry.getKey();
+			final String value = entry.getValue();
+			final String oldValue = value == null
+				? (String) properties.remove(groupName + "." + key)
+				: (String) properties.setProperty(groupName + "." + key, value);
+
+			if (Objects.equals(oldValue, value))
+			{
+				continue;
+			}
+
+			ConfigChanged configChanged = new ConfigChanged();
+			configChanged.setGroup(groupName);
+			configChanged.setKey(key);
+			configChanged.setOldValue(oldValue);
+			configChanged.setNewValue(value);
+			changes.add(configChanged);
+		}
+
+		if (changes.isEmpty())
+		{
+			return;
+		}
+
+		log.debug("Setting {} configuration values for {}", changes.size(), groupName);
+		invalidate(groupName, changes);
+
+		synchronized (pendingChanges)
+		{
+			for (ConfigChanged change : changes)
+			{
+				pendingChanges.put(groupName + "." + change.getKey(), change.getNewValue());
+			}
+			scheduleSave();
+		}
+
+		ConfigBatchChanged batchChanged = new ConfigBatchChanged();
+		batchChanged.setGroup(groupName);
+		batchChanged.setChanges(changes);
+		eventBus.post(batchChanged);
+	}
+
 	public void unsetConfiguration(String groupName, String key)
 	{
 		String oldValue = (String) properties.remove(groupName + "." + key);
@@ -424,11 +694,12 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}.{}", groupName, key);
-		handler.invalidate();
+		invalidate(groupName, key);
 
 		synchronized (pendingChanges)
 		{
 			pendingChanges.put(groupName + "." + key, null);
+			scheduleSave();
 		}
 
 		ConfigChanged configChanged = new ConfigChanged();
@@ -467,7 +738,8 @@ public class ConfigManager
 	}
 
 	/**
-	 * Initialize the configuration from the default settings
+	 * Initialize the configuration from the default settings. The values are set together, posting
+	 * a single {@link ConfigBatchChanged}.
 	 *
 	 * @param proxy
 	 */
@@ -481,6 +753,8 @@ public class ConfigManager
 			return;
 		}
 
+		final Map<String, String> values = new LinkedHashMap<>();
+
 		for (Method method : clazz.getDeclaredMethods())
 		{
 			ConfigItem item = method.getAnnotation(ConfigItem.class);
@@ -499,7 +773,7 @@ public class ConfigManager
 					// only unset if already set
 					if (current != null)
 					{
-						unsetConfiguration(group.value(), item.keyName());
+						values.put(item.keyName(), null);
 					}
 				}
 				continue;
@@ -539,8 +813,10 @@ public class ConfigManager
 
 			log.debug("Setting default configuration value for {}.{} to {}", group.value(), item.keyName(), defaultValue);
 
-			setConfiguration(group.value(), item.keyName(), valueString);
+			values.put(item.keyName(), valueString);
 		}
+
+		setConfiguration(group.value(), values);
 	}
 
 	static Object stringToObject(String str, Class<?> type)
@@ -682,20 +958,20 @@ public class ConfigManager
 					}
 				}
 			}
-			changed = !pendingChanges.isEmpty();
 			pendingChanges.clear();
+
+			// save now rather than waiting for the scheduled save
+			changed = pendingSave != null;
+			if (changed)
+			{
+				pendingSave.cancel(false);
+				pendingSave = null;
+			}
 		}
 
 		if (changed)
 		{
-			try
-			{
-				saveToFile(propertiesFile);
-			}
-			catch (IOException ex)
-			{
-				log.warn("unable to save configuration file", ex);
-			}
+			saveNow();
 		}
 	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Base class of the config implementations generated by the config annotation processor. Each
+ * generated class caches its config items in fields, which the {@link ConfigManager} invalidates
+ * when the item changes.
+ */
+@Slf4j
+public abstract class GeneratedConfig
+{
+	/**
+	 * Suffix of the generated class names
+	 */
+	static final String SUFFIX = "Impl";
+
+	/**
+	 * Returned by {@link #unmarshal(String, String, Class)} when a value can't be unmarshalled
+	 */
+	protected static final Object INVALID = new Object();
+
+	private final ConfigManager configManager;
+	@Getter(AccessLevel.PACKAGE)
+	private final String group;
+
+	protected GeneratedConfig(ConfigManager configManager, String group)
+	{
+		this.configManager = configManager;
+		this.group = group;
+	}
+
+	protected String getConfiguration(String key)
+	{
+		return configManager.getConfiguration(group, key);
+	}
+
+	protected Object unmarshal(String key, String value, Class<?> type)
+	{
+		try
+		{
+			return ConfigManager.stringToObject(value, type);
+		}
+		catch (Exception e)
+		{
+			log.warn("Unable to unmarshal {}.{} ", group, key, e);
+			return INVALID;
+		}
+	}
+
+	protected void set(String key, Object newValue, Class<?> type)
+	{
+		Object oldValue = configManager.getConfiguration(group, key, type);
+
+		if (Objects.equals(oldValue, newValue))
+		{
+			// nothing to do
+			return;
+		}
+
+		if (newValue == null)
+		{
+			configManager.unsetConfiguration(group, key);
+		}
+		else
+		{
+			configManager.setConfiguration(group, key, ConfigManager.objectToString(newValue));
+		}
+	}
+
+	/**
+	 * Discard the cached value of the config items with the given key
+	 *
+	 * @param key
+	 */
+	protected abstract void invalidate(String key);
+
+	/**
+	 * Discard the cached value of all config items
+	 */
+	protected abstract void invalidateAll();
+
+	/**
+	 * @param clazz config interface
+	 * @return the name of the class generated for the config interface
+	 */
+	static String implementationName(Class<?> clazz)
+	{
+		String packageName = clazz.getPackage() != null ? clazz.getPackage().getName() : "";
+		String simpleName = packageName.isEmpty() ? clazz.getName() : clazz.getName().substring(packageName.length() + 1);
+		return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + SUFFIX;
+	}
+}
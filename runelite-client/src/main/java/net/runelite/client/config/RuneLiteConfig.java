@@ -273,4 +273,18 @@ public interface RuneLiteConfig extends Config
 	{
 		return 35;
 	}
+
+	@Range(
+		max = 512
+	)
+	@ConfigItem(
+		keyName = "offHeapImageCacheSize",
+		name = "Off-heap image cache (MB)",
+		description = "Keeps item and sprite images evicted from memory in native memory, so they don't need to be drawn again. Requires a restart, 0 to disable",
+		position = 50
+	)
+	default int offHeapImageCacheSize()
+	{
+		return 32;
+	}
 }
\ No newline at end of file
@@ -26,26 +26,33 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.PluginProfiler;
+import net.runelite.client.profiler.ProfileSource;
+import net.runelite.client.util.ReflectUtil;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -80,15 +87,48 @@ public class EventBus
 		}
 	}
 
+	private static final Subscriber[] EMPTY_SUBSCRIBERS = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparing(Subscriber::getPriority)
+		.thenComparing(s -> s.object.getClass().getName());
+
 	private final Consumer<Throwable> exceptionHandler;
-	private ImmutableMultimap<Class, Subscriber> subscribers = ImmutableMultimap.of();
+	@Nullable
+	private final PluginProfiler profiler;
+
+	/**
+	 * Subscribers for each event class, in the order they are invoked. The arrays are never
+	 * modified once published, registering and unregistering replaces the arrays of only the
+	 * event classes which change.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
 	 */
 	public EventBus()
 	{
-		this((e) -> log.warn("Uncaught exception in event subscriber", e));
+		this((PluginProfiler) null);
+	}
+
+	/**
+	 * Instantiates EventBus with default exception handler, reporting time spent in subscribers to
+	 * the profiler
+	 *
+	 * @param profiler profiler to report to
+	 */
+	public EventBus(@Nullable final PluginProfiler profiler)
+	{
+		this((e) -> log.warn("Uncaught exception in event subscriber", e), profiler);
+	}
+
+	/**
+	 * Instantiates EventBus with the given exception handler
+	 *
+	 * @param exceptionHandler handler for exceptions thrown by subscribers
+	 */
+	public EventBus(final Consumer<Throwable> exceptionHandler)
+	{
+		this(exceptionHandler, null);
 	}
 
 	/**
@@ -100,16 +140,139 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class, Subscriber> builder = ImmutableMultimap.builder();
+		final Map<Class<?>, List<Subscriber>> added = new HashMap<>();
+		findSubscribers(object, added);
+		add(added);
+	}
+
+	/**
+	 * Registers multiple subscribers to EventBus, rebuilding the subscriptions of each event class
+	 * only once.
+	 *
+	 * @param objects subscribers to register
+	 * @see #register(Object)
+	 */
+	public synchronized void registerAll(@Nonnull final Iterable<?> objects)
+	{
+		final Map<Class<?>, List<Subscriber>> added = new HashMap<>();
+		for (final Object object : objects)
+		{
+			findSubscribers(object, added);
+		}
+		add(added);
+	}
+
+	/**
+	 * Unregisters all subscribed methods from provided subscriber object.
+	 *
+	 * @param object object to unsubscribe from
+	 */
+	public synchronized void unregister(@Nonnull final Object object)
+	{
+		final Map<Class<?>, Set<Subscriber>> removed = new HashMap<>();
+		findRegistered(object, removed);
+		remove(removed);
+	}
+
+	/**
+	 * Unregisters multiple subscribers from EventBus, rebuilding the subscriptions of each event
+	 * class only once.
+	 *
+	 * @param objects objects to unsubscribe from
+	 * @see #unregister(Object)
+	 */
+	public synchronized void unregisterAll(@Nonnull final Iterable<?> objects)
+	{
+		final Map<Class<?>, Set<Subscriber>> removed = new HashMap<>();
+		for (final Object object : objects)
+		{
+			findRegistered(object, removed);
+		}
+		remove(removed);
+	}
+
+	/**
+	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately,
+	 * ordered by priority then their declaring class' name.
+	 *
+	 * @param event event to post
+	 */
+	public void post(@Nonnull final Object event)
+	{
+		final Subscriber[] eventSubscribers = subscribers.get(event.getClass());
+		if (eventSubscribers == null)
+		{
+			return;
+		}
+
+		final boolean profile = profiler != null && profiler.isEnabled();
+
+		for (final Subscriber subscriber : eventSubscribers)
+		{
+			final long start = profile ? System.nanoTime() : 0L;
+
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
 
-		if (subscribers != null)
+			if (profile)
+			{
+				profiler.record(subscriber.getObject(), ProfileSource.EVENT, System.nanoTime() - start);
+			}
+		}
+	}
+
+	private void add(final Map<Class<?>, List<Subscriber>> added)
+	{
+		for (final Map.Entry<Class<?>, List<Subscriber>> entry : added.entrySet())
 		{
-			builder.putAll(subscribers);
+			final Subscriber[] existing = subscribers.getOrDefault(entry.getKey(), EMPTY_SUBSCRIBERS);
+			final List<Subscriber> subs = entry.getValue();
+
+			final Subscriber[] merged = Arrays.copyOf(existing, existing.length + subs.size());
+			for (int i = 0; i < subs.size(); ++i)
+			{
+				merged[existing.length + i] = subs.get(i);
+			}
+			Arrays.sort(merged, SUBSCRIBER_ORDER);
+
+			subscribers.put(entry.getKey(), merged);
 		}
+	}
+
+	private void remove(final Map<Class<?>, Set<Subscriber>> removed)
+	{
+		for (final Map.Entry<Class<?>, Set<Subscriber>> entry : removed.entrySet())
+		{
+			final Subscriber[] existing = subscribers.get(entry.getKey());
+			if (existing == null)
+			{
+				continue;
+			}
 
-		builder.orderValuesBy(Comparator.comparing(Subscriber::getPriority)
-			.thenComparing(s -> s.object.getClass().getName()));
+			final Set<Subscriber> subs = entry.getValue();
+			final Subscriber[] remaining = Arrays.stream(existing)
+				.filter(s -> !subs.contains(s))
+				.toArray(Subscriber[]::new);
 
+			if (remaining.length == 0)
+			{
+				subscribers.remove(entry.getKey());
+			}
+			else if (remaining.length != existing.length)
+			{
+				subscribers.put(entry.getKey(), remaining);
+			}
+		}
+	}
+
+	private void findSubscribers(final Object object, final Map<Class<?>, List<Subscriber>> added)
+	{
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
 			for (final Method method : clazz.getDeclaredMethods())
@@ -132,7 +295,7 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					if (subscribers.containsKey(psc) || added.containsKey(psc))
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -146,7 +309,7 @@ public class EventBus
 
 				try
 				{
-					final MethodHandles.Lookup caller = privateLookupIn(clazz);
+					final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
 					final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
 					final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
 					final CallSite site = LambdaMetafactory.metafactory(
@@ -166,29 +329,14 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.computeIfAbsent(parameterClazz, k -> new ArrayList<>()).add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
-
-		subscribers = builder.build();
 	}
 
-	/**
-	 * Unregisters all subscribed methods from provided subscriber object.
-	 *
-	 * @param object object to unsubscribe from
-	 */
-	public synchronized void unregister(@Nonnull final Object object)
+	private static void findRegistered(final Object object, final Map<Class<?>, Set<Subscriber>> removed)
 	{
-		if (subscribers == null)
-		{
-			return;
-		}
-
-		final Multimap<Class, Subscriber> map = HashMultimap.create();
-		map.putAll(subscribers);
-
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
 			for (final Method method : clazz.getDeclaredMethods())
@@ -201,54 +349,8 @@ public class EventBus
 				}
 
 				final Class<?> parameterClazz = method.getParameterTypes()[0];
-				map.remove(parameterClazz, new Subscriber(object, method, sub.priority(), null));
-			}
-		}
-
-		subscribers = ImmutableMultimap.copyOf(map);
-	}
-
-	/**
-	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately,
-	 * ordered by priority then their declaring class' name.
-	 *
-	 * @param event event to post
-	 */
-	public void post(@Nonnull final Object event)
-	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
-		{
-			try
-			{
-				subscriber.invoke(event);
-			}
-			catch (Exception e)
-			{
-				exceptionHandler.accept(e);
+				removed.computeIfAbsent(parameterClazz, k -> new HashSet<>()).add(new Subscriber(object, method, sub.priority(), null));
 			}
 		}
 	}
-
-	private static MethodHandles.Lookup privateLookupIn(Class clazz) throws IllegalAccessException, NoSuchFieldException, InvocationTargetException
-	{
-		try
-		{
-			// Java 9+ has privateLookupIn method on MethodHandles, but since we are shipping and using Java 8
-			// we need to access it via reflection. This is preferred way because it's Java 9+ public api and is
-			// likely to not change
-			final Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
-			return (MethodHandles.Lookup) privateLookupIn.invoke(null, clazz, MethodHandles.lookup());
-		}
-		catch (NoSuchMethodException e)
-		{
-			// In Java 8 we first do standard lookupIn class
-			final MethodHandles.Lookup lookupIn = MethodHandles.lookup().in(clazz);
-
-			// and then we mark it as trusted for private lookup via reflection on private field
-			final Field modes = MethodHandles.Lookup.class.getDeclaredField("allowedModes");
-			modes.setAccessible(true);
-			modes.setInt(lookupIn, -1); // -1 == TRUSTED
-			return lookupIn;
-		}
-	}
 }
@@ -26,12 +26,12 @@ package net.runelite.client.game;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -81,12 +81,17 @@ public class ItemManager
 		private final Color outlineColor;
 	}
 
+	// Image caches are bounded by the number of pixels they hold, rather than by their number of images
+	private static final long ITEM_IMAGE_CACHE_PIXELS = 2048L * Constants.ITEM_SPRITE_WIDTH * Constants.ITEM_SPRITE_HEIGHT;
+	private static final long ITEM_OUTLINE_CACHE_PIXELS = 256L * Constants.ITEM_SPRITE_WIDTH * Constants.ITEM_SPRITE_HEIGHT;
+
 	private final Client client;
 	private final ScheduledExecutorService scheduledExecutorService;
 	private final ClientThread clientThread;
+	private final RasterCache rasterCache;
 
 	private final ItemClient itemClient;
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private volatile ItemPriceIndex itemPrices = ItemPriceIndex.EMPTY;
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
@@ -157,19 +162,30 @@ public class ItemManager
 
 	@Inject
 	public ItemManager(Client client, ScheduledExecutorService executor, ClientThread clientThread,
-		ItemClient itemClient)
+		ItemClient itemClient, RasterCache rasterCache)
 	{
 		this.client = client;
 		this.scheduledExecutorService = executor;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
+		this.rasterCache = rasterCache;
 
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(ITEM_IMAGE_CACHE_PIXELS)
+			.weigher((ImageKey key, AsyncBufferedImage image) -> image.getWidth() * image.getHeight())
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
+			.removalListener(notification ->
+			{
+				// Images which haven't been drawn yet would be restored blank
+				if (notification.wasEvicted() && notification.getValue().isLoaded())
+				{
+					rasterCache.put(notification.getKey(), notification.getValue());
+				}
+			})
 			.build(new CacheLoader<ImageKey, AsyncBufferedImage>()
 			{
 				@Override
@@ -182,6 +198,7 @@ public class ItemManager
 		itemCompositions = CacheBuilder.newBuilder()
 			.maximumSize(1024L)
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<Integer, ItemComposition>()
 			{
 				@Override
@@ -192,13 +209,28 @@ public class ItemManager
 			});
 
 		itemOutlines = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(ITEM_OUTLINE_CACHE_PIXELS)
+			.weigher((OutlineKey key, BufferedImage image) -> image.getWidth() * image.getHeight())
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
+			.removalListener(notification ->
+			{
+				if (notification.wasEvicted())
+				{
+					rasterCache.put(notification.getKey(), notification.getValue());
+				}
+			})
 			.build(new CacheLoader<OutlineKey, BufferedImage>()
 			{
 				@Override
 				public BufferedImage load(OutlineKey key) throws Exception
 				{
+					final BufferedImage outline = rasterCache.remove(key);
+					if (outline != null)
+					{
+						return outline;
+					}
+
 					return loadItemOutline(key.itemId, key.itemQuantity, key.outlineColor);
 				}
 			});
@@ -211,12 +243,7 @@ public class ItemManager
 			ItemPrice[] prices = itemClient.getPrices();
 			if (prices != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				itemPrices = new ItemPriceIndex(prices);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -270,6 +297,30 @@ public class ItemManager
 		itemCompositions.invalidateAll();
 	}
 
+	/**
+	 * Gets the hit, miss and eviction statistics of the item image cache
+	 */
+	public CacheStats getImageCacheStats()
+	{
+		return itemImages.stats();
+	}
+
+	/**
+	 * Gets the hit, miss and eviction statistics of the item outline cache
+	 */
+	public CacheStats getOutlineCacheStats()
+	{
+		return itemOutlines.stats();
+	}
+
+	/**
+	 * Gets the hit, miss and eviction statistics of the item composition cache
+	 */
+	public CacheStats getItemCompositionCacheStats()
+	{
+		return itemCompositions.stats();
+	}
+
 	/**
 	 * Look up an item's price
 	 *
@@ -308,14 +359,11 @@ public class ItemManager
 			}
 		}
 
+		final ItemPriceIndex itemPrices = this.itemPrices;
 		int price = 0;
 		for (int mappedID : ItemMapping.map(itemID))
 		{
-			ItemPrice ip = itemPrices.get(mappedID);
-			if (ip != null)
-			{
-				price += ip.getPrice();
-			}
+			price += itemPrices.getPrice(mappedID);
 		}
 
 		return price;
@@ -347,18 +395,18 @@ public class ItemManager
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		return itemPrices.search(itemName);
+	}
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+	/**
+	 * Search for tradeable items whose names start with a prefix
+	 *
+	 * @param prefix item name prefix
+	 * @return matching items, sorted by name
+	 */
+	public List<ItemPrice> searchPrefix(String prefix)
+	{
+		return itemPrices.searchPrefix(prefix);
 	}
 
 	/**
@@ -403,6 +451,14 @@ public class ItemManager
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+		// Images evicted from the cache can be restored without the client drawing them again
+		if (rasterCache.remove(new ImageKey(itemId, quantity, stackable), img))
+		{
+			img.loaded();
+			return img;
+		}
+
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An immutable snapshot of the item prices, with prices held in a table indexed by item id
+ * and the lower cased item names indexed for prefix and substring searches. A new index is
+ * built each time prices are loaded and swapped in whole.
+ */
+class ItemPriceIndex
+{
+	static final ItemPriceIndex EMPTY = new ItemPriceIndex(new ItemPrice[0]);
+
+	private final ItemPrice[] items;
+	private final String[] names;
+
+	// price by item id, 0 for items without a price
+	private final int[] prices;
+
+	// indexes into items, sorted by name
+	private final int[] sorted;
+
+	// sorted trigrams of the names, and for each the ascending indexes of the items containing it
+	private final long[] trigrams;
+	private final int[][] postings;
+
+	ItemPriceIndex(ItemPrice[] items)
+	{
+		this.items = items;
+		this.names = new String[items.length];
+
+		int maxId = -1;
+		for (int i = 0; i < items.length; ++i)
+		{
+			names[i] = normalize(items[i].getName());
+			maxId = Math.max(maxId, items[i].getId());
+		}
+
+		prices = new int[maxId + 1];
+		for (ItemPrice item : items)
+		{
+			if (item.getId() >= 0)
+			{
+				prices[item.getId()] = item.getPrice();
+			}
+		}
+
+		sorted = sortByName(names);
+
+		// gather every (trigram, item) pair, then sort to group the postings by trigram
+		int pairCount = 0;
+		for (String name : names)
+		{
+			pairCount += Math.max(0, name.length() - 2);
+		}
+
+		long[] pairs = new long[pairCount];
+		int[] pairItems = new int[pairCount];
+		int n = 0;
+		for (int i = 0; i < names.length; ++i)
+		{
+			String name = names[i];
+			for (int j = 0; j + 3 <= name.length(); ++j)
+			{
+				pairs[n] = trigram(name, j);
+				pairItems[n] = i;
+				++n;
+			}
+		}
+
+		Integer[] order = new Integer[pairCount];
+		for (int i = 0; i < pairCount; ++i)
+		{
+			order[i] = i;
+		}
+		// sort by trigram, then item, so each posting list is ascending
+		Arrays.sort(order, Comparator.<Integer>comparingLong(i -> pairs[i]).thenComparingInt(i -> pairItems[i]));
+
+		int trigramCount = 0;
+		for (int i = 0; i < pairCount; ++i)
+		{
+			if (i == 0 || pairs[order[i]] != pairs[order[i - 1]])
+			{
+				++trigramCount;
+			}
+		}
+
+		trigrams = new long[trigramCount];
+		postings = new int[trigramCount][];
+		int t = -1;
+		int[] posting = new int[16];
+		int postingLength = 0;
+		for (int i = 0; i < pairCount; ++i)
+		{
+			long trigram = pairs[order[i]];
+			int item = pairItems[order[i]];
+			if (i == 0 || trigram != trigrams[t])
+			{
+				if (t >= 0)
+				{
+					postings[t] = Arrays.copyOf(posting, postingLength);
+				}
+				trigrams[++t] = trigram;
+				postingLength = 0;
+			}
+			else if (posting[postingLength - 1] == item)
+			{
+				// the trigram occurs more than once in this name
+				continue;
+			}
+
+			if (postingLength == posting.length)
+			{
+				posting = Arrays.copyOf(posting, posting.length * 2);
+			}
+			posting[postingLength++] = item;
+		}
+		if (t >= 0)
+		{
+			postings[t] = Arrays.copyOf(posting, postingLength);
+		}
+	}
+
+	int size()
+	{
+		return items.length;
+	}
+
+	/**
+	 * Look up the price of an item
+	 *
+	 * @param itemId
+	 * @return the price, or 0 if the item has no price
+	 */
+	int getPrice(int itemId)
+	{
+		return itemId >= 0 && itemId < prices.length ? prices[itemId] : 0;
+	}
+
+	/**
+	 * Find the items whose names contain the query, ignoring case
+	 *
+	 * @param query
+	 * @return matching items, in the order the prices were loaded in
+	 */
+	List<ItemPrice> search(String query)
+	{
+		query = normalize(query);
+
+		if (query.length() < 3)
+		{
+			// too short to have a trigram, but the names are already normalized
+			List<ItemPrice> result = new ArrayList<>();
+			for (int i = 0; i < names.length; ++i)
+			{
+				if (names[i].contains(query))
+				{
+					result.add(items[i]);
+				}
+			}
+			return result;
+		}
+
+		// find the rarest trigram of the query, and check each item containing it
+		int[] candidates = null;
+		for (int j = 0; j + 3 <= query.length(); ++j)
+		{
+			int idx = Arrays.binarySearch(trigrams, trigram(query, j));
+			if (idx < 0)
+			{
+				return Collections.emptyList();
+			}
+
+			if (candidates == null || postings[idx].length < candidates.length)
+			{
+				candidates = postings[idx];
+			}
+		}
+
+		List<ItemPrice> result = new ArrayList<>();
+		for (int i : candidates)
+		{
+			if (names[i].contains(query))
+			{
+				result.add(items[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Find the items whose names start with the prefix, ignoring case
+	 *
+	 * @param prefix
+	 * @return matching items, sorted by name
+	 */
+	List<ItemPrice> searchPrefix(String prefix)
+	{
+		prefix = normalize(prefix);
+
+		// find the first name not before the prefix
+		int lo = 0, hi = sorted.length;
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (names[sorted[mid]].compareTo(prefix) < 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+
+		List<ItemPrice> result = new ArrayList<>();
+		for (int i = lo; i < sorted.length && names[sorted[i]].startsWith(prefix); ++i)
+		{
+			result.add(items[sorted[i]]);
+		}
+		return result;
+	}
+
+	private static int[] sortByName(String[] names)
+	{
+		Integer[] order = new Integer[names.length];
+		for (int i = 0; i < names.length; ++i)
+		{
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(i -> names[i]));
+
+		int[] sorted = new int[names.length];
+		for (int i = 0; i < names.length; ++i)
+		{
+			sorted[i] = order[i];
+		}
+		return sorted;
+	}
+
+	private static long trigram(String s, int offset)
+	{
+		return (long) s.charAt(offset) << 32 | (long) s.charAt(offset + 1) << 16 | s.charAt(offset + 2);
+	}
+
+	private static String normalize(String name)
+	{
+		return name == null ? "" : name.toLowerCase();
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.AllArgsConstructor;
+import net.runelite.client.config.RuneLiteConfig;
+
+/**
+ * A second tier for the image caches of {@link ItemManager} and {@link SpriteManager}. Images evicted
+ * from those caches have their ARGB pixels kept here in direct memory, so they can be restored without
+ * being drawn again by the client. An image is removed from this cache when it is restored.
+ * <p>
+ * The direct buffers of evicted and restored images are reused for the images put after them, so a
+ * full cache doesn't allocate direct memory for every image it takes in.
+ */
+@Singleton
+public class RasterCache
+{
+	// buffer capacities are rounded up to a multiple of this many pixels, so images of similar sizes share buffers
+	private static final int BUFFER_GRANULARITY = 64;
+
+	@AllArgsConstructor
+	private static class Raster
+	{
+		private final int width;
+		private final int height;
+		private final IntBuffer pixels;
+	}
+
+	@Nullable
+	private final Cache<Object, Raster> rasters;
+
+	// unused buffers by capacity, guarded by itself
+	private final Map<Integer, Deque<IntBuffer>> freeBuffers = new HashMap<>();
+	private final long maximumFreeBytes;
+	private long freeBytes;
+
+	@Inject
+	RasterCache(RuneLiteConfig config)
+	{
+		this(config.offHeapImageCacheSize() * 1024L * 1024L);
+	}
+
+	RasterCache(long maximumBytes)
+	{
+		maximumFreeBytes = maximumBytes / 8;
+		rasters = maximumBytes <= 0 ? null : CacheBuilder.newBuilder()
+			.maximumWeight(maximumBytes)
+			.weigher((Object key, Raster raster) -> raster.pixels.capacity() * Integer.BYTES)
+			.removalListener((RemovalNotification<Object, Raster> notification) ->
+			{
+				// rasters removed explicitly are being restored, and are released once they are drawn
+				if (notification.getCause() != RemovalCause.EXPLICIT)
+				{
+					release(notification.getValue().pixels);
+				}
+			})
+			.recordStats()
+			.build();
+	}
+
+	/**
+	 * Stores a copy of an image's pixels
+	 */
+	void put(Object key, BufferedImage image)
+	{
+		if (rasters == null)
+		{
+			return;
+		}
+
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int[] pixels = image.getType() == BufferedImage.TYPE_INT_ARGB
+			? (int[]) image.getRaster().getDataElements(0, 0, width, height, null)
+			: image.getRGB(0, 0, width, height, null, 0, width);
+
+		final IntBuffer buffer = acquire(pixels.length);
+		buffer.put(pixels);
+		buffer.flip();
+		rasters.put(key, new Raster(width, height, buffer));
+	}
+
+	/**
+	 * Removes an image from the cache, drawing its pixels into a new image
+	 *
+	 * @return the image, or null if it isn't cached
+	 */
+	@Nullable
+	BufferedImage remove(Object key)
+	{
+		final Raster raster = take(key, null);
+		if (raster == null)
+		{
+			return null;
+		}
+
+		final BufferedImage image = new BufferedImage(raster.width, raster.height, BufferedImage.TYPE_INT_ARGB);
+		draw(raster, image);
+		return image;
+	}
+
+	/**
+	 * Removes an image from the cache, drawing its pixels into an existing image of the same size.
+	 * An image of a different size is left in the cache.
+	 *
+	 * @return true if the image was cached and drawn
+	 */
+	boolean remove(Object key, BufferedImage image)
+	{
+		final Raster raster = take(key, image);
+		if (raster == null)
+		{
+			return false;
+		}
+
+		draw(raster, image);
+		return true;
+	}
+
+	/**
+	 * Gets the statistics of this cache, which are empty if it is disabled
+	 */
+	public CacheStats getStats()
+	{
+		return rasters == null ? new CacheStats(0, 0, 0, 0, 0, 0) : rasters.stats();
+	}
+
+	@Nullable
+	private Raster take(Object key, @Nullable BufferedImage image)
+	{
+		if (rasters == null)
+		{
+			return null;
+		}
+
+		final Raster raster = rasters.getIfPresent(key);
+		if (raster == null
+			|| image != null && (raster.width != image.getWidth() || raster.height != image.getHeight())
+			// only the caller which removes a raster may read it, as its buffer is reused once released
+			|| !rasters.asMap().remove(key, raster))
+		{
+			return null;
+		}
+		return raster;
+	}
+
+	private IntBuffer acquire(int length)
+	{
+		final int capacity = (length + BUFFER_GRANULARITY - 1) / BUFFER_GRANULARITY * BUFFER_GRANULARITY;
+		synchronized (freeBuffers)
+		{
+			final Deque<IntBuffer> buffers = freeBuffers.get(capacity);
+			if (buffers != null && !buffers.isEmpty())
+			{
+				freeBytes -= capacity * Integer.BYTES;
+				final IntBuffer buffer = buffers.pop();
+				buffer.clear();
+				return buffer;
+			}
+		}
+
+		return ByteBuffer.allocateDirect(capacity * Integer.BYTES)
+			.order(ByteOrder.nativeOrder())
+			.asIntBuffer();
+	}
+
+	private void release(IntBuffer buffer)
+	{
+		final int bytes = buffer.capacity() * Integer.BYTES;
+		synchronized (freeBuffers)
+		{
+			// past this the buffer is left for the garbage collector
+			if (freeBytes + bytes <= maximumFreeBytes)
+			{
+				freeBuffers.computeIfAbsent(buffer.capacity(), k -> new ArrayDeque<>()).push(buffer);
+				freeBytes += bytes;
+			}
+		}
+	}
+
+	private void draw(Raster raster, BufferedImage image)
+	{
+		final int[] pixels = new int[raster.width * raster.height];
+		raster.pixels.duplicate().get(pixels);
+		release(raster.pixels);
+		image.getRaster().setDataElements(0, 0, raster.width, raster.height, pixels);
+	}
+}
@@ -48,6 +48,9 @@ import net.runelite.client.util.ImageUtil;
 @Singleton
 public class SpriteManager
 {
+	// The sprite cache is bounded by the number of pixels it holds, as sprites vary greatly in size
+	private static final long SPRITE_CACHE_PIXELS = 2048L * 1024L;
+
 	@Inject
 	private Client client;
 
@@ -57,9 +60,21 @@ public class SpriteManager
 	@Inject
 	private InfoBoxManager infoBoxManager;
 
+	@Inject
+	private RasterCache rasterCache;
+
 	public Cache<Long, BufferedImage> cache = CacheBuilder.newBuilder()
-		.maximumSize(128L)
+		.maximumWeight(SPRITE_CACHE_PIXELS)
+		.weigher((Long key, BufferedImage image) -> image.getWidth() * image.getHeight())
 		.expireAfterAccess(1, TimeUnit.HOURS)
+		.recordStats()
+		.removalListener(notification ->
+		{
+			if (notification.wasEvicted())
+			{
+				rasterCache.put(notification.getKey(), notification.getValue());
+			}
+		})
 		.build();
 
 	@Nullable
@@ -71,8 +86,8 @@ public class SpriteManager
 			return null;
 		}
 
-		Long key = (long) archive << 32 | file;
-		BufferedImage cached = cache.getIfPresent(key);
+		long key = (long) archive << 32 | file;
+		BufferedImage cached = getCached(key);
 		if (cached != null)
 		{
 			return cached;
@@ -92,7 +107,7 @@ public class SpriteManager
 
 	public void getSpriteAsync(int archive, int file, Consumer<BufferedImage> user)
 	{
-		BufferedImage cached = cache.getIfPresent((long) archive << 32 | file);
+		BufferedImage cached = getCached((long) archive << 32 | file);
 		if (cached != null)
 		{
 			user.accept(cached);
@@ -112,6 +127,24 @@ public class SpriteManager
 		});
 	}
 
+	/**
+	 * Gets a sprite from the cache, restoring it from the raster cache if it has been evicted
+	 */
+	@Nullable
+	private BufferedImage getCached(long key)
+	{
+		BufferedImage cached = cache.getIfPresent(key);
+		if (cached == null)
+		{
+			cached = rasterCache.remove(key);
+			if (cached != null)
+			{
+				cache.put(key, cached);
+			}
+		}
+		return cached;
+	}
+
 	public void getSpriteAsync(int archive, int file, InfoBox infoBox)
 	{
 		getSpriteAsync(archive, file, img ->
@@ -26,11 +26,17 @@ package net.runelite.client.menus;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -40,6 +46,7 @@ import net.runelite.api.Client;
 import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.NPCComposition;
+import net.runelite.api.events.ClientTick;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.MenuOptionClicked;
 import net.runelite.api.events.NpcActionChanged;
@@ -49,6 +56,7 @@ import net.runelite.api.events.WidgetMenuOptionClicked;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
 
 @Singleton
@@ -61,6 +69,11 @@ public class MenuManager
 	private static final int IDX_LOWER = 4;
 	private static final int IDX_UPPER = 8;
 
+	/**
+	 * Maximum number of sanitized option and target strings to cache
+	 */
+	private static final int SANITIZED_CACHE_SIZE = 4096;
+
 	private final Client client;
 	private final EventBus eventBus;
 
@@ -70,6 +83,21 @@ public class MenuManager
 	private final Multimap<Integer, WidgetMenuOption> managedMenuOptions = HashMultimap.create();
 	private final Set<String> npcMenuOptions = new HashSet<>();
 
+	private final List<MenuRule> menuRules = new ArrayList<>();
+	// rules by option, and rules which match any option, rebuilt when the rules change
+	private volatile ListMultimap<String, MenuRule> optionRules = ImmutableListMultimap.of();
+	private volatile List<MenuRule> anyOptionRules = ImmutableList.of();
+	// set when an entry is added to the menu or the rules change, so the rules are only applied to new menus
+	private volatile boolean menuChanged;
+
+	// the following are only used from the client thread, and are reused between menu builds
+	private final Map<String, String> sanitized = new HashMap<>();
+	private String[] entryOptions = new String[0];
+	private String[] entryTargets = new String[0];
+	private boolean[] hidden = new boolean[0];
+	private final List<MenuEntry> inserted = new ArrayList<>();
+	private final List<Integer> insertedAt = new ArrayList<>();
+
 	@Inject
 	private MenuManager(Client client, EventBus eventBus)
 	{
@@ -114,9 +142,256 @@ public class MenuManager
 		return false;
 	}
 
+	/**
+	 * Adds a rule to be applied to the menu each time it is built
+	 *
+	 * @param rule the rule to add
+	 */
+	public void addMenuRule(MenuRule rule)
+	{
+		switch (rule.getType())
+		{
+			case SWAP:
+				Preconditions.checkArgument(rule.getSwapOption() != null, "swap rule without swap option");
+				break;
+			case RECOLOR:
+				Preconditions.checkArgument(rule.getColor() != null, "recolor rule without color");
+				break;
+			case INSERT:
+				Preconditions.checkArgument(rule.getInsertOption() != null, "insert rule without insert option");
+				break;
+		}
+
+		synchronized (menuRules)
+		{
+			menuRules.add(rule);
+			rebuildMenuRules();
+		}
+	}
+
+	/**
+	 * Removes a rule added with {@link #addMenuRule(MenuRule)}
+	 *
+	 * @param rule the rule to remove
+	 */
+	public void removeMenuRule(MenuRule rule)
+	{
+		synchronized (menuRules)
+		{
+			menuRules.remove(rule);
+			rebuildMenuRules();
+		}
+	}
+
+	private void rebuildMenuRules()
+	{
+		ImmutableListMultimap.Builder<String, MenuRule> byOption = ImmutableListMultimap.builder();
+		ImmutableList.Builder<MenuRule> anyOption = ImmutableList.builder();
+
+		// sort the rules by type, so an entry is recolored before it is copied by an insert or moved by a swap
+		List<MenuRule> sorted = new ArrayList<>(menuRules);
+		sorted.sort(Comparator.comparing(MenuRule::getType));
+		for (MenuRule rule : sorted)
+		{
+			if (rule.getOption() != null)
+			{
+				byOption.put(rule.getOption(), rule);
+			}
+			else
+			{
+				anyOption.add(rule);
+			}
+		}
+		optionRules = byOption.build();
+		anyOptionRules = anyOption.build();
+		menuChanged = true;
+	}
+
+	@Subscribe
+	public void onClientTick(ClientTick event)
+	{
+		// The menu is not rebuilt when it is open, so the rules have already been applied
+		if (!menuChanged || client.isMenuOpen())
+		{
+			return;
+		}
+
+		menuChanged = false;
+
+		final ListMultimap<String, MenuRule> optionRules = this.optionRules;
+		final List<MenuRule> anyOptionRules = this.anyOptionRules;
+		if (optionRules.isEmpty() && anyOptionRules.isEmpty())
+		{
+			return;
+		}
+
+		MenuEntry[] entries = applyMenuRules(client.getMenuEntries(), optionRules, anyOptionRules);
+		if (entries != null)
+		{
+			client.setMenuEntries(entries);
+		}
+	}
+
+	/**
+	 * Apply the menu rules to the menu entries in a single pass, sanitizing each option
+	 * and target once.
+	 *
+	 * @return the new menu entries, or null if the menu is unchanged
+	 */
+	private MenuEntry[] applyMenuRules(MenuEntry[] entries, ListMultimap<String, MenuRule> optionRules, List<MenuRule> anyOptionRules)
+	{
+		final int count = entries.length;
+		if (entryOptions.length < count)
+		{
+			entryOptions = new String[count];
+			entryTargets = new String[count];
+			hidden = new boolean[count];
+		}
+
+		for (int i = 0; i < count; ++i)
+		{
+			entryOptions[i] = sanitize(entries[i].getOption());
+			entryTargets[i] = sanitize(entries[i].getTarget());
+			hidden[i] = false;
+		}
+
+		boolean modified = false;
+		int hiddenCount = 0;
+		inserted.clear();
+		insertedAt.clear();
+
+		for (int i = 0; i < count; ++i)
+		{
+			List<MenuRule> rules = optionRules.get(entryOptions[i]);
+			int a = 0, b = 0;
+			// where the entry is, which moves down the menu as swaps move other options up into its place
+			int pos = i;
+			while ((a < rules.size() || b < anyOptionRules.size()) && !hidden[pos])
+			{
+				// merge the rules for this option with the rules for any option, keeping them in type order
+				MenuRule rule = b >= anyOptionRules.size()
+					|| (a < rules.size() && rules.get(a).getType().compareTo(anyOptionRules.get(b).getType()) <= 0)
+					? rules.get(a++) : anyOptionRules.get(b++);
+				MenuEntry entry = entries[pos];
+				if (!rule.matches(entryTargets[pos], entry))
+				{
+					continue;
+				}
+
+				switch (rule.getType())
+				{
+					case HIDE:
+						hidden[i] = true;
+						++hiddenCount;
+						modified = true;
+						break;
+					case RECOLOR:
+						entry.setTarget(ColorUtil.prependColorTag(Text.removeTags(entry.getTarget()), rule.getColor()));
+						modified = true;
+						break;
+					case INSERT:
+						MenuEntry insert = new MenuEntry();
+						insert.setOption(rule.getInsertOption());
+						insert.setTarget(entry.getTarget());
+						insert.setIdentifier(entry.getIdentifier());
+						insert.setType(rule.getInsertType());
+						insert.setParam0(entry.getParam0());
+						insert.setParam1(entry.getParam1());
+						inserted.add(insert);
+						insertedAt.add(i);
+						modified = true;
+						break;
+					case SWAP:
+						// entries lower in the menu have lower indexes
+						for (int j = pos - 1; j >= 0; --j)
+						{
+							if (!hidden[j] && rule.swapOptionMatches(entryOptions[j]) && entryTargets[pos].equals(entryTargets[j]))
+							{
+								swap(entries, pos, j);
+								modified = true;
+								// later swap rules move their options up into the entry's new place, so the
+								// first rule to match keeps the top of the menu
+								pos = j;
+								break;
+							}
+						}
+						break;
+				}
+			}
+		}
+
+		if (!modified)
+		{
+			return null;
+		}
+
+		if (hiddenCount > 0 || !inserted.isEmpty())
+		{
+			MenuEntry[] newEntries = new MenuEntry[count - hiddenCount + inserted.size()];
+			int n = 0, insertIdx = 0;
+			for (int i = 0; i < count; ++i)
+			{
+				if (!hidden[i])
+				{
+					newEntries[n++] = entries[i];
+				}
+
+				while (insertIdx < inserted.size() && insertedAt.get(insertIdx) == i)
+				{
+					newEntries[n++] = inserted.get(insertIdx++);
+				}
+			}
+			return newEntries;
+		}
+
+		return entries;
+	}
+
+	private void swap(MenuEntry[] entries, int i, int j)
+	{
+		MenuEntry entry = entries[i];
+		entries[i] = entries[j];
+		entries[j] = entry;
+
+		String option = entryOptions[i];
+		entryOptions[i] = entryOptions[j];
+		entryOptions[j] = option;
+
+		String target = entryTargets[i];
+		entryTargets[i] = entryTargets[j];
+		entryTargets[j] = target;
+	}
+
+	/**
+	 * Remove tags from and lower case a menu option or target, caching the result as
+	 * the same strings are seen each time the menu is built.
+	 */
+	private String sanitize(String str)
+	{
+		if (str == null)
+		{
+			return "";
+		}
+
+		String result = sanitized.get(str);
+		if (result == null)
+		{
+			if (sanitized.size() >= SANITIZED_CACHE_SIZE)
+			{
+				sanitized.clear();
+			}
+
+			result = Text.removeTags(str).toLowerCase();
+			sanitized.put(str, result);
+		}
+		return result;
+	}
+
 	@Subscribe
 	public void onMenuEntryAdded(MenuEntryAdded event)
 	{
+		menuChanged = true;
+
 		if (client.getSpellSelected())
 		{
 			return;
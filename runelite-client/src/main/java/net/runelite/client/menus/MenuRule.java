@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.menus;
+
+import java.awt.Color;
+import java.util.function.Predicate;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+
+/**
+ * A rule applied by the {@link MenuManager} to each menu entry as the menu is built.
+ * <p>
+ * Options and targets are matched against the entries with their tags removed and in
+ * lower case, so should be given in lower case.
+ */
+@Value
+@Builder
+public class MenuRule
+{
+	/**
+	 * The rule types, in the order rules are applied to each entry
+	 */
+	public enum Type
+	{
+		/**
+		 * Remove the entry from the menu
+		 */
+		HIDE,
+		/**
+		 * Recolor the entry's target with {@link #color}
+		 */
+		RECOLOR,
+		/**
+		 * Insert an entry with {@link #insertOption} above the entry, with the same target
+		 */
+		INSERT,
+		/**
+		 * Swap the entry with the entry below it with {@link #swapOption} and the same target,
+		 * moving that option up into the entry's place. Further swap rules for the entry then
+		 * apply from its new place, so the first swap rule to match decides the top option.
+		 */
+		SWAP
+	}
+
+	@NonNull
+	private final Type type;
+
+	/**
+	 * Option to match, or null to match any option
+	 */
+	private final String option;
+
+	/**
+	 * Target to match, or null to match any target
+	 */
+	private final String target;
+
+	/**
+	 * Further condition the entry has to satisfy, or null
+	 */
+	private final Predicate<MenuEntry> condition;
+
+	private final String swapOption;
+
+	/**
+	 * Whether {@link #swapOption} matches any option containing it, rather than only itself
+	 */
+	private final boolean swapOptionContains;
+
+	private final Color color;
+
+	private final String insertOption;
+
+	@Builder.Default
+	private final int insertType = MenuAction.RUNELITE.getId();
+
+	boolean matches(String target, MenuEntry entry)
+	{
+		return (this.target == null || this.target.equals(target))
+			&& (condition == null || condition.test(entry));
+	}
+
+	boolean swapOptionMatches(String option)
+	{
+		return swapOptionContains ? option.contains(swapOption) : swapOption.equals(option);
+	}
+}
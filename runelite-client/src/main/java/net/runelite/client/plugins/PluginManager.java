@@ -25,6 +25,7 @@
 package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.graph.Graph;
@@ -33,6 +34,7 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -43,12 +45,19 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -204,18 +213,23 @@ public class PluginManager
 		int loaded = 0;
 		for (Plugin plugin : scannedPlugins)
 		{
+			final String name = plugin.getClass().getSimpleName();
+			final long start = System.nanoTime();
 			try
 			{
 				startPlugin(plugin);
 			}
 			catch (PluginInstantiationException ex)
 			{
-				log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+				log.warn("Unable to start plugin {}", name, ex);
 				plugins.remove(plugin);
 			}
 
+			final long elapsed = (System.nanoTime() - start) / 1_000_000L;
+			log.debug("Started plugin {} in {}ms", name, elapsed);
+
 			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Started " + name + " (" + elapsed + "ms)", loaded, scannedPlugins.size(), false);
 		}
 	}
 
@@ -226,12 +240,112 @@ public class PluginManager
 			.directed()
 			.build();
 
-		List<Plugin> scannedPlugins = new ArrayList<>();
-		ClassPath classPath = ClassPath.from(classLoader);
+		PluginManifest manifest = PluginManifest.load(classLoader);
+		if (manifest == null)
+		{
+			log.debug("No plugin manifest, scanning class path for plugins");
+			scanPlugins(classLoader, packageName, graph);
+		}
+		else if (!loadManifest(manifest, classLoader, packageName, graph))
+		{
+			log.warn("Plugin manifest is out of date, scanning class path for plugins");
+			graph = GraphBuilder
+				.directed()
+				.build();
+			scanPlugins(classLoader, packageName, graph);
+		}
+
+		if (Graphs.hasCycle(graph))
+		{
+			throw new RuntimeException("Plugin dependency graph contains a cycle!");
+		}
+
+		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		sortedPlugins = Lists.reverse(sortedPlugins);
+
+		return instantiateAll(graph, sortedPlugins);
+	}
+
+	/**
+	 * Build the plugin graph from the plugin manifest written at build time. Plugins which
+	 * won't be loaded are skipped without loading their classes.
+	 *
+	 * @return false if the manifest doesn't match the classes on the class path
+	 */
+	private boolean loadManifest(PluginManifest manifest, ClassLoader classLoader, String packageName,
+		MutableGraph<Class<? extends Plugin>> graph)
+	{
+		for (PluginManifest.Entry entry : manifest.getPlugins())
+		{
+			if (packageName != null && !entry.getClassName().startsWith(packageName + "."))
+			{
+				continue;
+			}
+
+			if (!entry.isLoadWhenOutdated() && isOutdated)
+			{
+				continue;
+			}
+
+			if (entry.isDeveloperPlugin() && !developerMode)
+			{
+				continue;
+			}
+
+			Class<? extends Plugin> pluginClass = loadPluginClass(entry.getClassName(), classLoader);
+			if (pluginClass == null || pluginClass.getAnnotation(PluginDescriptor.class) == null)
+			{
+				return false;
+			}
+
+			graph.addNode(pluginClass);
+
+			for (String dependency : entry.getDependencies())
+			{
+				Class<? extends Plugin> dependencyClass = loadPluginClass(dependency, classLoader);
+				if (dependencyClass == null)
+				{
+					return false;
+				}
+
+				graph.putEdge(pluginClass, dependencyClass);
+			}
+		}
+
+		log.debug("Found {} plugins in plugin manifest", graph.nodes().size());
+		return true;
+	}
 
-		ImmutableSet<ClassInfo> classes = packageName == null ? classPath.getAllClasses()
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Plugin> loadPluginClass(String className, ClassLoader classLoader)
+	{
+		try
+		{
+			Class<?> clazz = Class.forName(className, false, classLoader);
+			if (clazz.getSuperclass() != Plugin.class)
+			{
+				log.debug("Plugin manifest lists {}, which is not a plugin", className);
+				return null;
+			}
+			return (Class<? extends Plugin>) clazz;
+		}
+		catch (ClassNotFoundException ex)
+		{
+			log.debug("Plugin manifest lists missing class {}", className);
+			return null;
+		}
+	}
+
+	/**
+	 * Build the plugin graph by scanning the class path for plugin descriptors
+	 */
+	private void scanPlugins(ClassLoader classLoader, String packageName, MutableGraph<Class<? extends Plugin>> graph) throws IOException
+	{
+		ClassPath classPath = ClassPath.from(classLoader);
+		ImmutableSet<ClassInfo> classInfos = packageName == null ? classPath.getAllClasses()
 			: classPath.getTopLevelClassesRecursive(packageName);
-		for (ClassInfo classInfo : classes)
+
+		for (ClassInfo classInfo : classInfos)
 		{
 			Class<?> clazz = classInfo.load();
 			PluginDescriptor pluginDescriptor = clazz.getAnnotation(PluginDescriptor.class);
@@ -277,33 +391,84 @@ public class PluginManager
 				graph.putEdge(pluginClazz, pluginDependency.value());
 			}
 		}
+	}
 
-		if (Graphs.hasCycle(graph))
+	/**
+	 * Instantiate plugins in parallel. Each plugin is instantiated once all of its
+	 * dependencies have been, so plugins which don't depend on each other have their
+	 * injectors built concurrently.
+	 *
+	 * @param graph plugin dependency graph
+	 * @param sortedPlugins plugins sorted so dependencies come before their dependents
+	 * @return the plugins which were instantiated, in sorted order
+	 */
+	private List<Plugin> instantiateAll(Graph<Class<? extends Plugin>> graph, List<Class<? extends Plugin>> sortedPlugins)
+	{
+		final Map<Class<? extends Plugin>, Plugin> instantiated = new ConcurrentHashMap<>();
+		final Map<Class<? extends Plugin>, CompletableFuture<Void>> futures = new HashMap<>();
+		final AtomicInteger loaded = new AtomicInteger();
+		final int total = sortedPlugins.size();
+		final long start = System.nanoTime();
+
+		final ExecutorService pluginExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+			new ThreadFactoryBuilder()
+				.setNameFormat("plugin-loader-%d")
+				.setDaemon(true)
+				.build());
+		try
 		{
-			throw new RuntimeException("Plugin dependency graph contains a cycle!");
+			for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+			{
+				// dependencies are earlier in the sort, so their futures already exist
+				CompletableFuture<?>[] dependencies = graph.successors(pluginClazz).stream()
+					.map(futures::get)
+					.toArray(CompletableFuture[]::new);
+
+				CompletableFuture<Void> future = CompletableFuture.allOf(dependencies).thenRunAsync(() ->
+				{
+					final long pluginStart = System.nanoTime();
+					try
+					{
+						Plugin plugin = instantiate(instantiated, (Class<Plugin>) pluginClazz);
+						instantiated.put(pluginClazz, plugin);
+					}
+					catch (PluginInstantiationException ex)
+					{
+						// plugins depending on this one will fail with an unmet dependency
+						log.warn("Error instantiating plugin!", ex);
+					}
+
+					final long elapsed = (System.nanoTime() - pluginStart) / 1_000_000L;
+					log.debug("Instantiated plugin {} in {}ms", pluginClazz.getSimpleName(), elapsed);
+					SplashScreen.stage(.60, .70, null, "Loaded " + pluginClazz.getSimpleName() + " (" + elapsed + "ms)",
+						loaded.incrementAndGet(), total, false);
+				}, pluginExecutor);
+				futures.put(pluginClazz, future);
+			}
+
+			CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new RuntimeException(ex.getCause());
+		}
+		finally
+		{
+			pluginExecutor.shutdown();
 		}
 
-		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
-		sortedPlugins = Lists.reverse(sortedPlugins);
+		log.info("Instantiated {} plugins in {}ms", instantiated.size(), (System.nanoTime() - start) / 1_000_000L);
 
-		int loaded = 0;
+		List<Plugin> scannedPlugins = new ArrayList<>(instantiated.size());
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 		{
-			Plugin plugin;
-			try
+			Plugin plugin = instantiated.get(pluginClazz);
+			if (plugin != null)
 			{
-				plugin = instantiate(scannedPlugins, (Class<Plugin>) pluginClazz);
 				scannedPlugins.add(plugin);
 			}
-			catch (PluginInstantiationException ex)
-			{
-				log.warn("Error instantiating plugin!", ex);
-			}
-
-			loaded++;
-			SplashScreen.stage(.60, .70, null, "Loading Plugins", loaded, sortedPlugins.size(), false);
 		}
-
 		return scannedPlugins;
 	}
 
@@ -412,18 +577,18 @@ public class PluginManager
 		return pluginDescriptor == null || pluginDescriptor.enabledByDefault();
 	}
 
-	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	private Plugin instantiate(Map<Class<? extends Plugin>, Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
 	{
 		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
 		for (PluginDependency pluginDependency : pluginDependencies)
 		{
-			Optional<Plugin> dependency = scannedPlugins.stream().filter(p -> p.getClass() == pluginDependency.value()).findFirst();
-			if (!dependency.isPresent())
+			Plugin dependency = scannedPlugins.get(pluginDependency.value());
+			if (dependency == null)
 			{
 				throw new PluginInstantiationException("Unmet dependency for " + clazz.getSimpleName() + ": " + pluginDependency.value().getSimpleName());
 			}
-			deps.add(dependency.get());
+			deps.add(dependency);
 		}
 
 		Plugin plugin;
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Index of the plugins in a jar, written at build time by the plugin manifest
+ * annotation processor
+ */
+@Data
+class PluginManifest
+{
+	static final String MANIFEST = "META-INF/runelite/plugins.json";
+
+	private List<Entry> plugins = new ArrayList<>();
+
+	@Data
+	static class Entry
+	{
+		private String className;
+		private boolean developerPlugin;
+		private boolean loadWhenOutdated;
+		private List<String> dependencies = new ArrayList<>();
+	}
+
+	/**
+	 * Load the plugin manifest from a class loader
+	 *
+	 * @param classLoader
+	 * @return the manifest, or null if there is none
+	 * @throws IOException
+	 */
+	static PluginManifest load(ClassLoader classLoader) throws IOException
+	{
+		try (InputStream in = classLoader.getResourceAsStream(MANIFEST))
+		{
+			if (in == null)
+			{
+				return null;
+			}
+
+			try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			{
+				return new Gson().fromJson(reader, PluginManifest.class);
+			}
+		}
+	}
+}
@@ -32,6 +32,7 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.util.List;
 import javax.inject.Inject;
+import net.runelite.api.ClickboxCache;
 import net.runelite.api.Client;
 import net.runelite.api.Point;
 import net.runelite.api.Tile;
@@ -50,6 +51,7 @@ class AgilityOverlay extends Overlay
 	private final Client client;
 	private final AgilityPlugin plugin;
 	private final AgilityConfig config;
+	private final ClickboxCache clickboxCache = new ClickboxCache(256);
 
 	@Inject
 	private AgilityOverlay(Client client, AgilityPlugin plugin, AgilityConfig config)
@@ -90,7 +92,7 @@ class AgilityOverlay extends Overlay
 					}
 					return;
 				}
-				Shape objectClickbox = object.getClickbox();
+				Shape objectClickbox = clickboxCache.getClickbox(client, object);
 				if (objectClickbox != null)
 				{
 					AgilityShortcut agilityShortcut = obstacle.getShortcut();
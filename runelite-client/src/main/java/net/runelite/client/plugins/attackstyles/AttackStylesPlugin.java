@@ -239,6 +239,7 @@ public class AttackStylesPlugin extends Plugin
 					break;
 			}
 			processWidgets();
+			overlay.invalidate();
 		}
 	}
 
@@ -27,9 +27,11 @@ package net.runelite.client.plugins.chatcommands;
 
 import com.google.inject.Provides;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -58,6 +60,8 @@ import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatCommandManager;
 import net.runelite.client.chat.ChatMessageBuilder;
 import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.ChatPattern;
+import net.runelite.client.chat.ChatPatternManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatInput;
@@ -113,6 +117,10 @@ public class ChatCommandsPlugin extends Plugin
 	private HiscoreEndpoint hiscoreEndpoint; // hiscore endpoint for current player
 	private String lastBossKill;
 	private int lastPb = -1;
+	// whether the current message was a boss kill count, which keeps lastBossKill for the following messages
+	private boolean bossKillMessage;
+
+	private final List<ChatPattern> chatPatterns = new ArrayList<>();
 
 	@Inject
 	private Client client;
@@ -132,6 +140,9 @@ public class ChatCommandsPlugin extends Plugin
 	@Inject
 	private ChatCommandManager chatCommandManager;
 
+	@Inject
+	private ChatPatternManager chatPatternManager;
+
 	@Inject
 	private ScheduledExecutorService executor;
 
@@ -156,6 +167,8 @@ public class ChatCommandsPlugin extends Plugin
 		chatCommandManager.registerCommandAsync(PB_COMMAND, this::personalBestLookup, this::personalBestSubmit);
 		chatCommandManager.registerCommandAsync(GC_COMMAND_STRING, this::gambleCountLookup, this::gambleCountSubmit);
 		chatCommandManager.registerCommandAsync(DUEL_ARENA_COMMAND, this::duelArenaLookup, this::duelArenaSubmit);
+
+		registerChatPatterns();
 	}
 
 	@Override
@@ -175,6 +188,9 @@ public class ChatCommandsPlugin extends Plugin
 		chatCommandManager.unregisterCommand(PB_COMMAND);
 		chatCommandManager.unregisterCommand(GC_COMMAND_STRING);
 		chatCommandManager.unregisterCommand(DUEL_ARENA_COMMAND);
+
+		chatPatterns.forEach(chatPatternManager::unregisterPattern);
+		chatPatterns.clear();
 	}
 
 	@Provides
@@ -209,19 +225,9 @@ public class ChatCommandsPlugin extends Plugin
 		return personalBest == null ? 0 : personalBest;
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage chatMessage)
+	private void registerChatPatterns()
 	{
-		if (chatMessage.getType() != ChatMessageType.TRADE
-			&& chatMessage.getType() != ChatMessageType.GAMEMESSAGE
-			&& chatMessage.getType() != ChatMessageType.SPAM)
-		{
-			return;
-		}
-
-		String message = chatMessage.getMessage();
-		Matcher matcher = KILLCOUNT_PATTERN.matcher(message);
-		if (matcher.find())
+		registerChatPattern(KILLCOUNT_PATTERN, (chatMessage, matcher) ->
 		{
 			String boss = matcher.group(1);
 			int kc = Integer.parseInt(matcher.group(2));
@@ -238,30 +244,27 @@ public class ChatCommandsPlugin extends Plugin
 			{
 				lastBossKill = boss;
 			}
-			return;
-		}
+			bossKillMessage = true;
+		});
 
-		matcher = WINTERTODT_PATTERN.matcher(message);
-		if (matcher.find())
+		registerChatPattern(WINTERTODT_PATTERN, (chatMessage, matcher) ->
 		{
 			int kc = Integer.parseInt(matcher.group(1));
 
 			setKc("Wintertodt", kc);
-		}
+		});
 
-		matcher = RAIDS_PATTERN.matcher(message);
-		if (matcher.find())
+		registerChatPattern(RAIDS_PATTERN, (chatMessage, matcher) ->
 		{
 			String boss = matcher.group(1);
 			int kc = Integer.parseInt(matcher.group(2));
 
 			setKc(boss, kc);
 			lastBossKill = boss;
-			return;
-		}
+			bossKillMessage = true;
+		});
 
-		matcher = DUEL_ARENA_WINS_PATTERN.matcher(message);
-		if (matcher.find())
+		registerChatPattern(DUEL_ARENA_WINS_PATTERN, (chatMessage, matcher) ->
 		{
 			final int oldWins = getKc("Duel Arena Wins");
 			final int wins = Integer.parseInt(matcher.group(2));
@@ -281,43 +284,54 @@ public class ChatCommandsPlugin extends Plugin
 			}
 			else
 			{
-				log.warn("unrecognized duel streak chat message: {}", message);
+				log.warn("unrecognized duel streak chat message: {}", chatMessage.getMessage());
 			}
 
 			setKc("Duel Arena Wins", wins);
 			setKc("Duel Arena Win Streak", winningStreak);
 			setKc("Duel Arena Lose Streak", losingStreak);
-		}
+		});
 
-		matcher = DUEL_ARENA_LOSSES_PATTERN.matcher(message);
-		if (matcher.find())
+		registerChatPattern(DUEL_ARENA_LOSSES_PATTERN, (chatMessage, matcher) ->
 		{
 			int losses = Integer.parseInt(matcher.group(1));
 
 			setKc("Duel Arena Losses", losses);
-		}
+		});
 
-		matcher = BARROWS_PATTERN.matcher(message);
-		if (matcher.find())
+		registerChatPattern(BARROWS_PATTERN, (chatMessage, matcher) ->
 		{
 			int kc = Integer.parseInt(matcher.group(1));
 
 			setKc("Barrows Chests", kc);
-		}
+		});
+
+		registerChatPattern(KILL_DURATION_PATTERN, (chatMessage, matcher) -> matchPb(matcher));
+		registerChatPattern(NEW_PB_PATTERN, (chatMessage, matcher) -> matchPb(matcher));
+	}
 
-		matcher = KILL_DURATION_PATTERN.matcher(message);
-		if (matcher.find())
+	private void registerChatPattern(Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatPatterns.add(chatPatternManager.registerPattern(pattern, handler, ChatMessageType.TRADE, ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM));
+	}
+
+	@Subscribe
+	public void onChatMessage(ChatMessage chatMessage)
+	{
+		if (chatMessage.getType() != ChatMessageType.TRADE
+			&& chatMessage.getType() != ChatMessageType.GAMEMESSAGE
+			&& chatMessage.getType() != ChatMessageType.SPAM)
 		{
-			matchPb(matcher);
+			return;
 		}
 
-		matcher = NEW_PB_PATTERN.matcher(message);
-		if (matcher.find())
+		// The chat patterns have already been matched against the message. Any message other
+		// than a boss kill count ends the kill the next personal best belongs to.
+		if (!bossKillMessage)
 		{
-			matchPb(matcher);
+			lastBossKill = null;
 		}
-
-		lastBossKill = null;
+		bossKillMessage = false;
 	}
 
 	private void matchPb(Matcher matcher)
@@ -39,15 +39,18 @@ class DevToolsPanel extends PluginPanel
 
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
+	private final ProfilerInspector profilerInspector;
 
 	@Inject
-	private DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, VarInspector varInspector)
+	private DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, VarInspector varInspector,
+		ProfilerInspector profilerInspector)
 	{
 		super();
 		this.client = client;
 		this.plugin = plugin;
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
+		this.profilerInspector = profilerInspector;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -121,6 +124,19 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getSoundEffects());
 
+		container.add(plugin.getProfiler());
+		plugin.getProfiler().addActionListener((ev) ->
+		{
+			if (plugin.getProfiler().isActive())
+			{
+				profilerInspector.close();
+			}
+			else
+			{
+				profilerInspector.open();
+			}
+		});
+
 		return container;
 	}
 }
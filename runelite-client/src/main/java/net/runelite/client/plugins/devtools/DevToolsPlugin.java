@@ -128,6 +128,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton detachedCamera;
 	private DevToolsButton widgetInspector;
 	private DevToolsButton varInspector;
+	private DevToolsButton profiler;
 	private DevToolsButton soundEffects;
 	private NavigationButton navButton;
 
@@ -169,6 +170,7 @@ public class DevToolsPlugin extends Plugin
 		detachedCamera = new DevToolsButton("Detached Camera");
 		widgetInspector = new DevToolsButton("Widget Inspector");
 		varInspector = new DevToolsButton("Var Inspector");
+		profiler = new DevToolsButton("Plugin Profiler");
 		soundEffects = new DevToolsButton("Sound Effects");
 
 		overlayManager.add(overlay);
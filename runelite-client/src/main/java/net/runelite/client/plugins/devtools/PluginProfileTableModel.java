@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.Collections;
+import java.util.List;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.profiler.PluginProfile;
+import net.runelite.client.profiler.ProfileSource;
+
+class PluginProfileTableModel extends AbstractTableModel
+{
+	private static final String[] COLUMNS = {"Plugin", "Mean", "p50", "p95", "p99", "Max"};
+	private static final ProfileSource[] SOURCES = ProfileSource.values();
+
+	private List<PluginProfile> profiles = Collections.emptyList();
+
+	void setProfiles(List<PluginProfile> profiles)
+	{
+		this.profiles = profiles;
+		fireTableDataChanged();
+	}
+
+	@Override
+	public String getColumnName(int col)
+	{
+		if (col < COLUMNS.length)
+		{
+			return COLUMNS[col];
+		}
+		return SOURCES[col - COLUMNS.length].getName();
+	}
+
+	@Override
+	public Class<?> getColumnClass(int col)
+	{
+		return col == 0 ? String.class : Double.class;
+	}
+
+	@Override
+	public int getColumnCount()
+	{
+		return COLUMNS.length + SOURCES.length;
+	}
+
+	@Override
+	public int getRowCount()
+	{
+		return profiles.size();
+	}
+
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex)
+	{
+		final PluginProfile profile = profiles.get(rowIndex);
+		switch (columnIndex)
+		{
+			case 0:
+				return profile.getName();
+			case 1:
+				return millis(profile.getMean());
+			case 2:
+				return millis(profile.getP50());
+			case 3:
+				return millis(profile.getP95());
+			case 4:
+				return millis(profile.getP99());
+			case 5:
+				return millis(profile.getMax());
+			default:
+				// total time per source, in ms per frame
+				final long total = profile.getTotal(SOURCES[columnIndex - COLUMNS.length]);
+				return profile.getFrames() > 0 ? millis(total / profile.getFrames()) : 0d;
+		}
+	}
+
+	private static double millis(long nanos)
+	{
+		return Math.round(nanos / 1e3) / 1e3;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import com.google.inject.Inject;
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import net.runelite.client.profiler.PluginProfile;
+import net.runelite.client.profiler.PluginProfiler;
+import net.runelite.client.ui.ClientUI;
+
+/**
+ * Shows the frame time of each plugin, in milliseconds, from the {@link PluginProfiler}
+ */
+class ProfilerInspector extends JFrame
+{
+	private static final int REFRESH_INTERVAL = 1000;
+
+	private final PluginProfiler profiler;
+	private final PluginProfileTableModel model = new PluginProfileTableModel();
+	private final Timer refreshTimer;
+	private final JLabel status = new JLabel();
+
+	private boolean wasEnabled;
+
+	@Inject
+	ProfilerInspector(PluginProfiler profiler, DevToolsPlugin plugin)
+	{
+		this.profiler = profiler;
+
+		setTitle("RuneLite Plugin Profiler");
+		setIconImage(ClientUI.ICON);
+
+		setLayout(new BorderLayout());
+
+		setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				close();
+				plugin.getProfiler().setActive(false);
+			}
+		});
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(700, 400));
+		add(scrollPane, BorderLayout.CENTER);
+		add(status, BorderLayout.SOUTH);
+
+		refreshTimer = new Timer(REFRESH_INTERVAL, e -> refresh());
+
+		pack();
+	}
+
+	private void refresh()
+	{
+		final List<PluginProfile> profiles = profiler.getProfiles();
+		model.setProfiles(profiles);
+
+		final int frames = profiles.stream().mapToInt(PluginProfile::getFrames).max().orElse(0);
+		status.setText("Milliseconds per frame, over the last " + frames + " frames");
+	}
+
+	public void open()
+	{
+		wasEnabled = profiler.isEnabled();
+		profiler.setEnabled(true);
+
+		refreshTimer.start();
+		setVisible(true);
+		toFront();
+		repaint();
+	}
+
+	public void close()
+	{
+		refreshTimer.stop();
+		profiler.setEnabled(wasEnabled);
+		setVisible(false);
+	}
+}
@@ -63,6 +63,9 @@ class FishingSpotOverlay extends Overlay
 	@Setter(AccessLevel.PACKAGE)
 	private boolean hidden;
 
+	// reused for the outlined fish icon, which is drawn as soon as it is made
+	private BufferedImage outlinedFishImage;
+
 	@Inject
 	private FishingSpotOverlay(FishingPlugin plugin, FishingConfig config, Client client, ItemManager itemManager)
 	{
@@ -161,7 +164,8 @@ class FishingSpotOverlay extends Overlay
 				if (spot == FishingSpot.COMMON_TENCH
 					&& npc.getWorldLocation().distanceTo2D(client.getLocalPlayer().getWorldLocation()) <= ONE_TICK_AERIAL_FISHING)
 				{
-					fishImage = ImageUtil.outlineImage(itemManager.getImage(spot.getFishSpriteId()), color);
+					outlinedFishImage = ImageUtil.outlineImage(itemManager.getImage(spot.getFishSpriteId()), color, outlinedFishImage);
+					fishImage = outlinedFishImage;
 				}
 
 				if (fishImage != null)
@@ -28,15 +28,15 @@ import com.google.common.base.Strings;
 import com.google.common.cache.CacheLoader;
 import java.util.List;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 class WildcardMatchLoader extends CacheLoader<String, Boolean>
 {
-	private final List<String> nameFilters;
+	private final WildcardMatcherSet nameFilters;
 
 	WildcardMatchLoader(List<String> nameFilters)
 	{
-		this.nameFilters = nameFilters;
+		this.nameFilters = new WildcardMatcherSet(nameFilters);
 	}
 
 	@Override
@@ -49,14 +49,6 @@ class WildcardMatchLoader extends CacheLoader<String, Boolean>
 
 		final String filteredName = key.trim();
 
-		for (final String filter : nameFilters)
-		{
-			if (WildcardMatcher.matches(filter, filteredName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return nameFilters.matches(filteredName);
 	}
 }
@@ -29,6 +29,7 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
+import java.util.Arrays;
 import java.util.Collection;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -48,6 +49,14 @@ public class GroundMarkerOverlay extends Overlay
 	private final Client client;
 	private final GroundMarkerConfig config;
 	private final GroundMarkerPlugin plugin;
+	private final Polygon poly = new Polygon();
+
+	// reused between frames for the tiles to draw and their projected corners
+	private int[] localX = new int[16];
+	private int[] localY = new int[16];
+	private Color[] colors = new Color[16];
+	private int[] xs = new int[64];
+	private int[] ys = new int[64];
 
 	@Inject
 	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin)
@@ -64,10 +73,19 @@ public class GroundMarkerOverlay extends Overlay
 	public Dimension render(Graphics2D graphics)
 	{
 		final Collection<ColorTileMarker> points = plugin.getPoints();
+		final WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+		int count = 0;
 		for (final ColorTileMarker point : points)
 		{
 			WorldPoint worldPoint = point.getWorldPoint();
-			if (worldPoint.getPlane() != client.getPlane())
+			if (worldPoint.getPlane() != client.getPlane()
+				|| worldPoint.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
+			{
+				continue;
+			}
+
+			LocalPoint lp = LocalPoint.fromWorld(client, worldPoint);
+			if (lp == null)
 			{
 				continue;
 			}
@@ -79,33 +97,52 @@ public class GroundMarkerOverlay extends Overlay
 				tileColor = config.markerColor();
 			}
 
-			drawTile(graphics, worldPoint, tileColor);
+			ensureCapacity(count + 1);
+			localX[count] = lp.getX();
+			localY[count] = lp.getY();
+			colors[count] = tileColor;
+			count++;
 		}
 
-		return null;
-	}
-
-	private void drawTile(Graphics2D graphics, WorldPoint point, Color color)
-	{
-		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-
-		if (point.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
+		if (count == 0)
 		{
-			return;
+			return null;
 		}
 
-		LocalPoint lp = LocalPoint.fromWorld(client, point);
-		if (lp == null)
+		// project every marked tile in one pass, rather than a polygon per tile
+		Perspective.getCanvasTileAreaPolys(client, count, localX, localY, 1, xs, ys);
+		for (int i = 0; i < count; i++)
 		{
-			return;
+			final Color color = colors[i];
+			colors[i] = null;
+
+			final int corner = i * 4;
+			if (xs[corner] == Integer.MIN_VALUE)
+			{
+				continue;
+			}
+
+			poly.reset();
+			for (int j = corner; j < corner + 4; j++)
+			{
+				poly.addPoint(xs[j], ys[j]);
+			}
+			OverlayUtil.renderPolygon(graphics, poly, color);
 		}
 
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
-		if (poly == null)
+		return null;
+	}
+
+	private void ensureCapacity(int count)
+	{
+		if (count > localX.length)
 		{
-			return;
+			final int length = Math.max(count, localX.length * 2);
+			localX = Arrays.copyOf(localX, length);
+			localY = Arrays.copyOf(localY, length);
+			colors = Arrays.copyOf(colors, length);
+			xs = new int[length * 4];
+			ys = new int[length * 4];
 		}
-
-		OverlayUtil.renderPolygon(graphics, poly, color);
 	}
 }
@@ -30,6 +30,9 @@ import com.google.common.primitives.Ints;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -49,6 +52,8 @@ import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.Notifier;
+import net.runelite.client.chat.ChatPattern;
+import net.runelite.client.chat.ChatPatternManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
@@ -109,6 +114,11 @@ public class ItemChargePlugin extends Plugin
 	@Inject
 	private ItemChargeConfig config;
 
+	@Inject
+	private ChatPatternManager chatPatternManager;
+
+	private final List<ChatPattern> chatPatterns = new ArrayList<>();
+
 	// Limits destroy callback to once per tick
 	private int lastCheckTick;
 
@@ -122,12 +132,15 @@ public class ItemChargePlugin extends Plugin
 	protected void startUp()
 	{
 		overlayManager.add(overlay);
+		registerChatPatterns();
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
 		overlayManager.remove(overlay);
+		chatPatterns.forEach(chatPatternManager::unregisterPattern);
+		chatPatterns.clear();
 		infoBoxManager.removeIf(ItemChargeInfobox.class::isInstance);
 		lastCheckTick = -1;
 	}
@@ -181,12 +194,6 @@ public class ItemChargePlugin extends Plugin
 	public void onChatMessage(ChatMessage event)
 	{
 		String message = event.getMessage();
-		Matcher dodgyCheckMatcher = DODGY_CHECK_PATTERN.matcher(message);
-		Matcher dodgyProtectMatcher = DODGY_PROTECT_PATTERN.matcher(message);
-		Matcher dodgyBreakMatcher = DODGY_BREAK_PATTERN.matcher(message);
-		Matcher bindingNecklaceCheckMatcher = BINDING_CHECK_PATTERN.matcher(event.getMessage());
-		Matcher bindingNecklaceUsedMatcher = BINDING_USED_PATTERN.matcher(event.getMessage());
-		Matcher ringOfForgingCheckMatcher = RING_OF_FORGING_CHECK_PATTERN.matcher(message);
 
 		if (event.getType() == ChatMessageType.GAMEMESSAGE || event.getType() == ChatMessageType.SPAM)
 		{
@@ -194,23 +201,6 @@ public class ItemChargePlugin extends Plugin
 			{
 				notifier.notify("Your Ring of Recoil has shattered");
 			}
-			else if (dodgyBreakMatcher.find())
-			{
-				if (config.dodgyNotification())
-				{
-					notifier.notify("Your dodgy necklace has crumbled to dust.");
-				}
-
-				updateDodgyNecklaceCharges(MAX_DODGY_CHARGES);
-			}
-			else if (dodgyCheckMatcher.find())
-			{
-				updateDodgyNecklaceCharges(Integer.parseInt(dodgyCheckMatcher.group(1)));
-			}
-			else if (dodgyProtectMatcher.find())
-			{
-				updateDodgyNecklaceCharges(Integer.parseInt(dodgyProtectMatcher.group(1)));
-			}
 			else if (message.contains(BINDING_BREAK_TEXT))
 			{
 				if (config.bindingNotification())
@@ -221,33 +211,6 @@ public class ItemChargePlugin extends Plugin
 				// This chat message triggers before the used message so add 1 to the max charges to ensure proper sync
 				updateBindingNecklaceCharges(MAX_BINDING_CHARGES + 1);
 			}
-			else if (bindingNecklaceUsedMatcher.find())
-			{
-				updateBindingNecklaceCharges(config.bindingNecklace() - 1);
-			}
-			else if (bindingNecklaceCheckMatcher.find())
-			{
-				final String match = bindingNecklaceCheckMatcher.group(1);
-
-				int charges = 1;
-				if (!match.equals("one"))
-				{
-					charges = Integer.parseInt(match);
-				}
-
-				updateBindingNecklaceCharges(charges);
-			}
-			else if (ringOfForgingCheckMatcher.find())
-			{
-				final String match = ringOfForgingCheckMatcher.group(1);
-
-				int charges = 1;
-				if (!match.equals("one"))
-				{
-					charges = Integer.parseInt(match);
-				}
-				updateRingOfForgingCharges(charges);
-			}
 			else if (message.equals(RING_OF_FORGING_USED_TEXT))
 			{
 				final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
@@ -278,6 +241,53 @@ public class ItemChargePlugin extends Plugin
 		}
 	}
 
+	private void registerChatPatterns()
+	{
+		registerChatPattern(DODGY_BREAK_PATTERN, (event, matcher) ->
+		{
+			if (config.dodgyNotification())
+			{
+				notifier.notify("Your dodgy necklace has crumbled to dust.");
+			}
+
+			updateDodgyNecklaceCharges(MAX_DODGY_CHARGES);
+		});
+		registerChatPattern(DODGY_CHECK_PATTERN, (event, matcher) ->
+			updateDodgyNecklaceCharges(Integer.parseInt(matcher.group(1))));
+		registerChatPattern(DODGY_PROTECT_PATTERN, (event, matcher) ->
+			updateDodgyNecklaceCharges(Integer.parseInt(matcher.group(1))));
+		registerChatPattern(BINDING_USED_PATTERN, (event, matcher) ->
+			updateBindingNecklaceCharges(config.bindingNecklace() - 1));
+		registerChatPattern(BINDING_CHECK_PATTERN, (event, matcher) ->
+		{
+			final String match = matcher.group(1);
+
+			int charges = 1;
+			if (!match.equals("one"))
+			{
+				charges = Integer.parseInt(match);
+			}
+
+			updateBindingNecklaceCharges(charges);
+		});
+		registerChatPattern(RING_OF_FORGING_CHECK_PATTERN, (event, matcher) ->
+		{
+			final String match = matcher.group(1);
+
+			int charges = 1;
+			if (!match.equals("one"))
+			{
+				charges = Integer.parseInt(match);
+			}
+			updateRingOfForgingCharges(charges);
+		});
+	}
+
+	private void registerChatPattern(Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatPatterns.add(chatPatternManager.registerPattern(pattern, handler, ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM));
+	}
+
 	@Subscribe
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
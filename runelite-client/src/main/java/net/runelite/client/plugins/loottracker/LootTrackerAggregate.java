@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import lombok.Getter;
+
+/**
+ * Running kill count and price totals over a set of loot records, kept both with and without
+ * ignored items so that toggling item hiding does not require walking the records again.
+ */
+class LootTrackerAggregate
+{
+	/**
+	 * Number of records, including records without any items
+	 */
+	@Getter
+	private long records;
+	/**
+	 * Number of records with at least one item
+	 */
+	private long kills;
+	/**
+	 * Number of records with at least one item which is not ignored
+	 */
+	private long visibleKills;
+	private long gePrice;
+	private long haPrice;
+	private long visibleGePrice;
+	private long visibleHaPrice;
+
+	void add(final LootTrackerRecord record)
+	{
+		final LootTrackerItem[] items = record.getItems();
+		boolean visible = false;
+
+		for (LootTrackerItem item : items)
+		{
+			gePrice += item.getGePrice();
+			haPrice += item.getHaPrice();
+
+			if (!item.isIgnored())
+			{
+				visibleGePrice += item.getGePrice();
+				visibleHaPrice += item.getHaPrice();
+				visible = true;
+			}
+		}
+
+		records++;
+
+		if (items.length > 0)
+		{
+			kills++;
+		}
+
+		if (visible)
+		{
+			visibleKills++;
+		}
+	}
+
+	void remove(final LootTrackerAggregate other)
+	{
+		records -= other.records;
+		kills -= other.kills;
+		visibleKills -= other.visibleKills;
+		gePrice -= other.gePrice;
+		haPrice -= other.haPrice;
+		visibleGePrice -= other.visibleGePrice;
+		visibleHaPrice -= other.visibleHaPrice;
+	}
+
+	void clear()
+	{
+		records = kills = visibleKills = 0;
+		gePrice = haPrice = visibleGePrice = visibleHaPrice = 0;
+	}
+
+	long getKills(final boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems ? visibleKills : kills;
+	}
+
+	long getGePrice(final boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems ? visibleGePrice : gePrice;
+	}
+
+	long getHaPrice(final boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems ? visibleHaPrice : haPrice;
+	}
+}
@@ -31,12 +31,10 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.GridLayout;
+import java.awt.Insets;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
-import javax.annotation.Nullable;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
@@ -58,7 +56,8 @@ import net.runelite.client.util.Text;
 
 class LootTrackerBox extends JPanel
 {
-	private static final int ITEMS_PER_ROW = 5;
+	static final int ITEMS_PER_ROW = 5;
+	static final int ITEM_GAP = 1;
 	private static final int TITLE_PADDING = 5;
 
 	private final JPanel itemContainer = new JPanel();
@@ -68,27 +67,22 @@ class LootTrackerBox extends JPanel
 	private final JLabel titleLabel = new JLabel();
 	private final ItemManager itemManager;
 	@Getter(AccessLevel.PACKAGE)
-	private final String id;
+	private final LootTrackerEntry entry;
 	private final LootTrackerPriceType priceType;
 	private final boolean showPriceType;
 
-	@Getter
-	private final List<LootTrackerRecord> records = new ArrayList<>();
-
-	private long totalPrice;
 	private boolean hideIgnoredItems;
 	private BiConsumer<String, Boolean> onItemToggle;
 
 	LootTrackerBox(
 		final ItemManager itemManager,
-		final String id,
-		@Nullable final String subtitle,
+		final LootTrackerEntry entry,
 		final boolean hideIgnoredItems,
 		final LootTrackerPriceType priceType,
 		final boolean showPriceType,
 		final BiConsumer<String, Boolean> onItemToggle)
 	{
-		this.id = id;
+		this.entry = entry;
 		this.itemManager = itemManager;
 		this.onItemToggle = onItemToggle;
 		this.hideIgnoredItems = hideIgnoredItems;
@@ -102,7 +96,7 @@ class LootTrackerBox extends JPanel
 		logTitle.setBorder(new EmptyBorder(7, 7, 7, 7));
 		logTitle.setBackground(ColorScheme.DARKER_GRAY_COLOR.darker());
 
-		titleLabel.setText(Text.removeTags(id));
+		titleLabel.setText(Text.removeTags(entry.getId()));
 		titleLabel.setFont(FontManager.getRunescapeSmallFont());
 		titleLabel.setForeground(Color.WHITE);
 		// Set a size to make BoxLayout truncate the name
@@ -112,9 +106,9 @@ class LootTrackerBox extends JPanel
 		subTitleLabel.setFont(FontManager.getRunescapeSmallFont());
 		subTitleLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
 
-		if (!Strings.isNullOrEmpty(subtitle))
+		if (!Strings.isNullOrEmpty(entry.getSubTitle()))
 		{
-			subTitleLabel.setText(subtitle);
+			subTitleLabel.setText(entry.getSubTitle());
 		}
 
 		logTitle.add(Box.createRigidArea(new Dimension(TITLE_PADDING, 0)));
@@ -128,65 +122,22 @@ class LootTrackerBox extends JPanel
 
 		add(logTitle, BorderLayout.NORTH);
 		add(itemContainer, BorderLayout.CENTER);
-	}
-
-	/**
-	 * Returns total amount of kills, removing ignored kills when necessary
-	 *
-	 * @return total amount of kills
-	 */
-	private long getTotalKills()
-	{
-		return hideIgnoredItems
-			? records.stream().filter(r -> !Arrays.stream(r.getItems()).allMatch(LootTrackerItem::isIgnored)).count()
-			: records.size();
-	}
-
-	/**
-	 * Checks if this box matches specified record
-	 *
-	 * @param record loot record
-	 * @return true if match is made
-	 */
-	boolean matches(final LootTrackerRecord record)
-	{
-		return record.getTitle().equals(id);
-	}
 
-	/**
-	 * Checks if this box matches specified id
-	 *
-	 * @param id other record id
-	 * @return true if match is made
-	 */
-	boolean matches(final String id)
-	{
-		if (id == null)
+		if (entry.isCollapsed())
 		{
-			return true;
+			collapse();
 		}
-
-		return this.id.equals(id);
-	}
-
-	/**
-	 * Adds an record's data into a loot box.
-	 * This will add new items to the list, re-calculating price and kill count.
-	 */
-	void combine(final LootTrackerRecord record)
-	{
-		if (!matches(record))
-		{
-			throw new IllegalArgumentException(record.toString());
-		}
-
-		records.add(record);
 	}
 
 	void rebuild()
 	{
 		buildItems();
 
+		final LootTrackerAggregate aggregate = entry.getAggregate();
+		final long totalPrice = priceType == LootTrackerPriceType.HIGH_ALCHEMY
+			? aggregate.getHaPrice(hideIgnoredItems)
+			: aggregate.getGePrice(hideIgnoredItems);
+
 		String priceTypeString = " ";
 		if (showPriceType)
 		{
@@ -196,7 +147,7 @@ class LootTrackerBox extends JPanel
 		priceLabel.setText(priceTypeString + QuantityFormatter.quantityToStackSize(totalPrice) + " gp");
 		priceLabel.setToolTipText(QuantityFormatter.formatNumber(totalPrice) + " gp");
 
-		final long kills = getTotalKills();
+		final long kills = hideIgnoredItems ? aggregate.getKills(true) : aggregate.getRecords();
 		if (kills > 1)
 		{
 			subTitleLabel.setText("x " + kills);
@@ -212,6 +163,7 @@ class LootTrackerBox extends JPanel
 		{
 			itemContainer.setVisible(false);
 			applyDimmer(false, logTitle);
+			entry.setCollapsed(true);
 		}
 	}
 
@@ -221,6 +173,7 @@ class LootTrackerBox extends JPanel
 		{
 			itemContainer.setVisible(true);
 			applyDimmer(true, logTitle);
+			entry.setCollapsed(false);
 		}
 	}
 
@@ -240,80 +193,39 @@ class LootTrackerBox extends JPanel
 	}
 
 	/**
-	 * This method creates stacked items from the item list, calculates total price and then
-	 * displays all the items in the UI.
+	 * Height of this box while collapsed
 	 */
-	private void buildItems()
+	int getCollapsedHeight()
 	{
-		final List<LootTrackerItem> allItems = new ArrayList<>();
-		final List<LootTrackerItem> items = new ArrayList<>();
-		totalPrice = 0;
-
-		for (LootTrackerRecord record : records)
-		{
-			allItems.addAll(Arrays.asList(record.getItems()));
-		}
+		final Insets insets = getInsets();
+		return insets.top + insets.bottom + logTitle.getPreferredSize().height + ((BorderLayout) getLayout()).getVgap();
+	}
 
-		if (hideIgnoredItems)
+	/**
+	 * Height of a row of items, or -1 if this box has no items
+	 */
+	int getRowHeight()
+	{
+		if (itemContainer.getComponentCount() == 0)
 		{
-			/* If all the items in this box are ignored */
-			boolean hideBox = allItems.stream().allMatch(LootTrackerItem::isIgnored);
-			setVisible(!hideBox);
-
-			if (hideBox)
-			{
-				return;
-			}
+			return -1;
 		}
 
-		for (final LootTrackerItem entry : allItems)
-		{
-			if (entry.isIgnored() && hideIgnoredItems)
-			{
-				continue;
-			}
-
-			totalPrice += priceType == LootTrackerPriceType.HIGH_ALCHEMY ? entry.getHaPrice() : entry.getGePrice();
-
-			int quantity = 0;
-			for (final LootTrackerItem i : items)
-			{
-				if (i.getId() == entry.getId())
-				{
-					quantity = i.getQuantity();
-					items.remove(i);
-					break;
-				}
-			}
-
-			if (quantity > 0)
-			{
-				int newQuantity = entry.getQuantity() + quantity;
-				long gePricePerItem = entry.getGePrice() == 0 ? 0 : (entry.getGePrice() / entry.getQuantity());
-				long haPricePerItem = entry.getHaPrice() == 0 ? 0 : (entry.getHaPrice() / entry.getQuantity());
-
-				items.add(new LootTrackerItem(entry.getId(), entry.getName(), newQuantity, gePricePerItem * newQuantity, haPricePerItem * newQuantity, entry.isIgnored()));
-			}
-			else
-			{
-				items.add(entry);
-			}
-		}
+		return itemContainer.getComponent(0).getPreferredSize().height;
+	}
 
-		if (priceType == LootTrackerPriceType.HIGH_ALCHEMY)
-		{
-			items.sort((i1, i2) -> Long.compare(i2.getHaPrice(), i1.getHaPrice()));
-		}
-		else
-		{
-			items.sort((i1, i2) -> Long.compare(i2.getGePrice(), i1.getGePrice()));
-		}
+	/**
+	 * This method displays the entry's stacked items in the UI.
+	 */
+	private void buildItems()
+	{
+		final List<LootTrackerItem> items = entry.getItems(hideIgnoredItems, priceType);
 
 		// Calculates how many rows need to be display to fit all items
 		final int rowSize = ((items.size() % ITEMS_PER_ROW == 0) ? 0 : 1) + items.size() / ITEMS_PER_ROW;
 
 		itemContainer.removeAll();
-		itemContainer.setLayout(new GridLayout(rowSize, ITEMS_PER_ROW, 1, 1));
+		itemContainer.setLayout(new GridLayout(rowSize, ITEMS_PER_ROW, ITEM_GAP, ITEM_GAP));
 
 		for (int i = 0; i < rowSize * ITEMS_PER_ROW; i++)
 		{
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.swing.JPanel;
+import javax.swing.JViewport;
+import javax.swing.event.ChangeListener;
+import lombok.AccessLevel;
+import lombok.Setter;
+
+/**
+ * A list of loot entries, newest first, which only creates {@link LootTrackerBox} components for the
+ * entries scrolled into view. Entries which have not been displayed yet are sized from the header and
+ * row heights of a box which has, so the scrollbar stays accurate without building every box.
+ */
+class LootTrackerBoxList extends JPanel
+{
+	// Distance outside of the viewport to keep boxes for, so short scrolls don't rebuild them
+	private static final int OVERSCAN = 200;
+
+	// Box geometry used to estimate entry heights until a box has been measured
+	private static final int DEFAULT_COLLAPSED_HEIGHT = 30;
+	private static final int DEFAULT_ROW_HEIGHT = 42;
+
+	private final Function<LootTrackerEntry, LootTrackerBox> boxFactory;
+	private final ChangeListener viewportListener = e -> updateBoxes();
+
+	// Oldest first, so new entries are appended and displayed on top
+	private final List<LootTrackerEntry> entries = new ArrayList<>();
+	private List<LootTrackerBox> boxes = new ArrayList<>();
+
+	private JViewport viewport;
+	private int totalHeight;
+	private int collapsedCount;
+
+	private boolean geometryMeasured;
+	private int collapsedHeight = DEFAULT_COLLAPSED_HEIGHT;
+	private int rowHeight = DEFAULT_ROW_HEIGHT;
+
+	@Setter(AccessLevel.PACKAGE)
+	private boolean hideIgnoredItems;
+
+	LootTrackerBoxList(final Function<LootTrackerEntry, LootTrackerBox> boxFactory)
+	{
+		this.boxFactory = boxFactory;
+		setLayout(null);
+	}
+
+	/**
+	 * Sets the viewport this list is scrolled in, so boxes can be created as they come into view
+	 */
+	void setViewport(@Nullable final JViewport viewport)
+	{
+		if (this.viewport != null)
+		{
+			this.viewport.removeChangeListener(viewportListener);
+		}
+
+		this.viewport = viewport;
+
+		if (viewport != null)
+		{
+			viewport.addChangeListener(viewportListener);
+		}
+	}
+
+	/**
+	 * Adds an entry to the top of the list
+	 */
+	void addEntry(final LootTrackerEntry entry)
+	{
+		entries.add(entry);
+		entry.setHeight(0);
+		resize(entry);
+
+		if (entry.isCollapsed())
+		{
+			collapsedCount++;
+		}
+
+		revalidate();
+	}
+
+	/**
+	 * Updates an entry after records were added to it
+	 */
+	void updateEntry(final LootTrackerEntry entry)
+	{
+		final LootTrackerBox box = entry.getBox();
+		if (box != null)
+		{
+			box.rebuild();
+		}
+
+		resize(entry);
+		revalidate();
+		repaint();
+	}
+
+	void removeEntry(final LootTrackerEntry entry)
+	{
+		entries.remove(entry);
+		totalHeight -= entry.getHeight();
+
+		if (entry.isCollapsed())
+		{
+			collapsedCount--;
+		}
+
+		final LootTrackerBox box = entry.getBox();
+		if (box != null)
+		{
+			remove(box);
+			boxes.remove(box);
+			entry.setBox(null);
+		}
+
+		revalidate();
+		repaint();
+	}
+
+	void clear()
+	{
+		for (LootTrackerBox box : boxes)
+		{
+			box.getEntry().setBox(null);
+		}
+
+		entries.clear();
+		boxes.clear();
+		removeAll();
+		totalHeight = 0;
+		collapsedCount = 0;
+		revalidate();
+		repaint();
+	}
+
+	boolean isAllCollapsed()
+	{
+		return collapsedCount == entries.size();
+	}
+
+	void setCollapsed(final LootTrackerEntry entry, final boolean collapsed)
+	{
+		applyCollapsed(entry, collapsed);
+		revalidate();
+		repaint();
+	}
+
+	void setAllCollapsed(final boolean collapsed)
+	{
+		for (LootTrackerEntry entry : entries)
+		{
+			applyCollapsed(entry, collapsed);
+		}
+
+		revalidate();
+		repaint();
+	}
+
+	@Override
+	public Dimension getPreferredSize()
+	{
+		return new Dimension(0, totalHeight);
+	}
+
+	@Override
+	public void doLayout()
+	{
+		updateBoxes();
+	}
+
+	private void applyCollapsed(final LootTrackerEntry entry, final boolean collapsed)
+	{
+		if (entry.isCollapsed() == collapsed)
+		{
+			return;
+		}
+
+		final LootTrackerBox box = entry.getBox();
+		if (box == null)
+		{
+			entry.setCollapsed(collapsed);
+		}
+		else if (collapsed)
+		{
+			box.collapse();
+		}
+		else
+		{
+			box.expand();
+		}
+
+		collapsedCount += collapsed ? 1 : -1;
+		resize(entry);
+	}
+
+	/**
+	 * Creates boxes for the entries within the viewport, positions them, and drops the boxes
+	 * of entries which have been scrolled out of view.
+	 */
+	private void updateBoxes()
+	{
+		final Rectangle visible = getVisibleRect();
+		final int top = visible.y - OVERSCAN;
+		final int bottom = visible.y + visible.height + OVERSCAN;
+		final int width = getWidth();
+		final List<LootTrackerBox> shown = new ArrayList<>();
+		boolean resized = false;
+		int y = 0;
+
+		for (int i = entries.size() - 1; i >= 0 && y < bottom && !visible.isEmpty(); i--)
+		{
+			final LootTrackerEntry entry = entries.get(i);
+
+			if (entry.getHeight() > 0 && y + entry.getHeight() > top)
+			{
+				LootTrackerBox box = entry.getBox();
+				if (box == null)
+				{
+					box = boxFactory.apply(entry);
+					box.rebuild();
+					entry.setBox(box);
+					add(box);
+
+					final int height = entry.getHeight();
+					resized |= measureGeometry(box);
+					resize(entry);
+					resized |= entry.getHeight() != height;
+				}
+
+				box.setBounds(0, y, width, entry.getHeight());
+				box.validate();
+				shown.add(box);
+			}
+
+			y += entry.getHeight();
+		}
+
+		for (LootTrackerBox box : boxes)
+		{
+			if (box.getEntry().getBox() == box && !shown.contains(box))
+			{
+				remove(box);
+				box.getEntry().setBox(null);
+			}
+		}
+
+		boxes = shown;
+
+		if (resized)
+		{
+			revalidate();
+		}
+
+		repaint();
+	}
+
+	/**
+	 * Updates the estimated geometry from the first box with items, re-estimating the entries sized before it
+	 *
+	 * @return true if any entry changed height
+	 */
+	private boolean measureGeometry(final LootTrackerBox box)
+	{
+		if (geometryMeasured || box.getRowHeight() < 0)
+		{
+			return false;
+		}
+
+		geometryMeasured = true;
+		collapsedHeight = box.getCollapsedHeight();
+		rowHeight = box.getRowHeight();
+
+		final int height = totalHeight;
+		for (LootTrackerEntry entry : entries)
+		{
+			if (!entry.isMeasured())
+			{
+				resize(entry);
+			}
+		}
+
+		return totalHeight != height;
+	}
+
+	/**
+	 * Updates the height of an entry, measuring its box if it has one
+	 */
+	private void resize(final LootTrackerEntry entry)
+	{
+		final LootTrackerBox box = entry.getBox();
+		final int height;
+
+		if (entry.isHidden(hideIgnoredItems))
+		{
+			height = 0;
+		}
+		else if (box != null)
+		{
+			height = box.getPreferredSize().height;
+		}
+		else if (entry.isCollapsed())
+		{
+			height = collapsedHeight;
+		}
+		else
+		{
+			final int itemCount = entry.getItemCount(hideIgnoredItems);
+			final int rows = (itemCount + LootTrackerBox.ITEMS_PER_ROW - 1) / LootTrackerBox.ITEMS_PER_ROW;
+			height = collapsedHeight + Math.max(0, rows * (rowHeight + LootTrackerBox.ITEM_GAP) - LootTrackerBox.ITEM_GAP);
+		}
+
+		entry.setMeasured(box != null);
+		totalHeight += height - entry.getHeight();
+		entry.setHeight(height);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The contents of a single loot box: its records, their running totals and the items stacked by id.
+ * Entries outlive the {@link LootTrackerBox} displaying them, which is only created while the entry
+ * is scrolled into view.
+ */
+@Getter(AccessLevel.PACKAGE)
+class LootTrackerEntry
+{
+	private final String id;
+	@Nullable
+	private final String subTitle;
+	private final List<LootTrackerRecord> records = new ArrayList<>();
+	private final LootTrackerAggregate aggregate = new LootTrackerAggregate();
+	@Getter(AccessLevel.NONE)
+	private final Map<Integer, LootTrackerItem> stacks = new LinkedHashMap<>();
+
+	@Setter(AccessLevel.PACKAGE)
+	private boolean collapsed;
+
+	/**
+	 * Height this entry takes up in the list, either measured from its box or estimated
+	 */
+	@Setter(AccessLevel.PACKAGE)
+	private int height;
+
+	/**
+	 * Whether {@link #height} was measured from a box rather than estimated
+	 */
+	@Setter(AccessLevel.PACKAGE)
+	private boolean measured;
+
+	@Nullable
+	@Setter(AccessLevel.PACKAGE)
+	private LootTrackerBox box;
+
+	LootTrackerEntry(final String id, @Nullable final String subTitle)
+	{
+		this.id = id;
+		this.subTitle = subTitle;
+	}
+
+	/**
+	 * Adds a record's items to this entry, stacking them onto items of the same id.
+	 * The stacked price is the unit price of the latest drop multiplied by the total quantity.
+	 */
+	void add(final LootTrackerRecord record)
+	{
+		records.add(record);
+		aggregate.add(record);
+
+		for (final LootTrackerItem entry : record.getItems())
+		{
+			// Re-insert stacks so they keep the order their item was last dropped in
+			final LootTrackerItem stack = stacks.remove(entry.getId());
+			final int quantity = entry.getQuantity() + (stack == null ? 0 : stack.getQuantity());
+			final long gePricePerItem = entry.getGePrice() == 0 ? 0 : (entry.getGePrice() / entry.getQuantity());
+			final long haPricePerItem = entry.getHaPrice() == 0 ? 0 : (entry.getHaPrice() / entry.getQuantity());
+
+			stacks.put(entry.getId(), stack == null
+				? new LootTrackerItem(entry.getId(), entry.getName(), quantity, entry.getGePrice(), entry.getHaPrice(), entry.isIgnored())
+				: new LootTrackerItem(entry.getId(), entry.getName(), quantity, gePricePerItem * quantity, haPricePerItem * quantity, entry.isIgnored()));
+		}
+	}
+
+	/**
+	 * Checks if this entry has nothing to show, because all of its items are ignored and hidden
+	 */
+	boolean isHidden(final boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems && aggregate.getKills(true) == 0;
+	}
+
+	/**
+	 * Counts the stacked items which would be displayed
+	 */
+	int getItemCount(final boolean hideIgnoredItems)
+	{
+		if (!hideIgnoredItems)
+		{
+			return stacks.size();
+		}
+
+		int count = 0;
+		for (LootTrackerItem item : stacks.values())
+		{
+			if (!item.isIgnored())
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the stacked items which would be displayed, most valuable first
+	 */
+	List<LootTrackerItem> getItems(final boolean hideIgnoredItems, final LootTrackerPriceType priceType)
+	{
+		final List<LootTrackerItem> items = new ArrayList<>(stacks.size());
+		for (LootTrackerItem item : stacks.values())
+		{
+			if (!hideIgnoredItems || !item.isIgnored())
+			{
+				items.add(item);
+			}
+		}
+
+		items.sort(priceType == LootTrackerPriceType.HIGH_ALCHEMY
+			? Comparator.comparingLong(LootTrackerItem::getHaPrice).reversed()
+			: Comparator.comparingLong(LootTrackerItem::getGePrice).reversed());
+		return items;
+	}
+}
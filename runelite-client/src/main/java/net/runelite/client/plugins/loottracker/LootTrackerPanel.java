@@ -25,6 +25,7 @@
  */
 package net.runelite.client.plugins.loottracker;
 
+import com.google.common.collect.Sets;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -34,7 +35,10 @@ import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
@@ -56,8 +60,6 @@ import net.runelite.http.api.loottracker.LootTrackerClient;
 
 class LootTrackerPanel extends PluginPanel
 {
-	private static final int MAX_LOOT_BOXES = 500;
-
 	private static final ImageIcon SINGLE_LOOT_VIEW;
 	private static final ImageIcon SINGLE_LOOT_VIEW_FADED;
 	private static final ImageIcon SINGLE_LOOT_VIEW_HOVER;
@@ -84,7 +86,7 @@ class LootTrackerPanel extends PluginPanel
 	private final PluginErrorPanel errorPanel = new PluginErrorPanel();
 
 	// Handle loot boxes
-	private final JPanel logsContainer = new JPanel();
+	private final LootTrackerBoxList logsContainer = new LootTrackerBoxList(this::buildBox);
 
 	// Handle overall session data
 	private final JPanel overallPanel = new JPanel();
@@ -103,7 +105,13 @@ class LootTrackerPanel extends PluginPanel
 
 	// Log collection
 	private final List<LootTrackerRecord> records = new ArrayList<>();
-	private final List<LootTrackerBox> boxes = new ArrayList<>();
+
+	// Running totals of all records, and of the records of each title
+	private final LootTrackerAggregate overallAggregate = new LootTrackerAggregate();
+	private final Map<String, LootTrackerAggregate> aggregates = new HashMap<>();
+
+	// Entries of the current view by title, when loot is grouped
+	private final Map<String, LootTrackerEntry> groups = new HashMap<>();
 
 	private final ItemManager itemManager;
 	private final LootTrackerPlugin plugin;
@@ -331,10 +339,24 @@ class LootTrackerPanel extends PluginPanel
 
 			// If not in detailed view, remove all, otherwise only remove for the currently detailed title
 			records.removeIf(r -> r.matches(currentView));
-			boxes.removeIf(b -> b.matches(currentView));
+
+			if (currentView == null)
+			{
+				overallAggregate.clear();
+				aggregates.clear();
+			}
+			else
+			{
+				final LootTrackerAggregate aggregate = aggregates.remove(currentView);
+				if (aggregate != null)
+				{
+					overallAggregate.remove(aggregate);
+				}
+			}
+
+			groups.clear();
+			logsContainer.clear();
 			updateOverall();
-			logsContainer.removeAll();
-			logsContainer.repaint();
 
 			// Delete all loot, or loot matching the current view
 			if (syncLoot)
@@ -350,7 +372,7 @@ class LootTrackerPanel extends PluginPanel
 		overallPanel.setComponentPopupMenu(popupMenu);
 
 		// Create loot boxes wrapper
-		logsContainer.setLayout(new BoxLayout(logsContainer, BoxLayout.Y_AXIS));
+		logsContainer.setViewport(getScrollPane().getViewport());
 		layoutPanel.add(actionsContainer);
 		layoutPanel.add(overallPanel);
 		layoutPanel.add(logsContainer);
@@ -376,9 +398,7 @@ class LootTrackerPanel extends PluginPanel
 
 	private boolean isAllCollapsed()
 	{
-		return boxes.stream()
-			.filter(i -> i.isCollapsed())
-			.count() == boxes.size();
+		return logsContainer.isAllCollapsed();
 	}
 
 	void loadHeaderIcon(BufferedImage img)
@@ -396,10 +416,9 @@ class LootTrackerPanel extends PluginPanel
 		final String subTitle = actorLevel > -1 ? "(lvl-" + actorLevel + ")" : "";
 		final LootTrackerRecord record = new LootTrackerRecord(eventName, subTitle, items);
 		records.add(record);
-		LootTrackerBox box = buildBox(record);
-		if (box != null)
+		addToAggregates(record);
+		if (addEntry(record))
 		{
-			box.rebuild();
 			updateOverall();
 		}
 	}
@@ -410,6 +429,7 @@ class LootTrackerPanel extends PluginPanel
 	void addRecords(Collection<LootTrackerRecord> recs)
 	{
 		records.addAll(recs);
+		recs.forEach(this::addToAggregates);
 		rebuild();
 	}
 
@@ -434,6 +454,7 @@ class LootTrackerPanel extends PluginPanel
 	private void changeItemHiding(boolean hide)
 	{
 		hideIgnoredItems = hide;
+		logsContainer.setHideIgnoredItems(hide);
 		rebuild();
 		viewHiddenBtn.setIcon(hideIgnoredItems ? VISIBLE_ICON : INVISIBLE_ICON);
 	}
@@ -443,20 +464,7 @@ class LootTrackerPanel extends PluginPanel
 	 */
 	private void changeCollapse()
 	{
-		boolean isAllCollapsed = isAllCollapsed();
-
-		for (LootTrackerBox box : boxes)
-		{
-			if (isAllCollapsed)
-			{
-				box.expand();
-			}
-			else if (!box.isCollapsed())
-			{
-				box.collapse();
-			}
-		}
-
+		logsContainer.setAllCollapsed(!isAllCollapsed());
 		updateCollapseText();
 	}
 
@@ -477,54 +485,60 @@ class LootTrackerPanel extends PluginPanel
 			}
 		}
 
+		overallAggregate.clear();
+		aggregates.clear();
+		records.forEach(this::addToAggregates);
 		rebuild();
 	}
 
 	/**
-	 * Rebuilds all the boxes from scratch using existing listed records, depending on the grouping mode.
+	 * Rebuilds all the entries from scratch using existing listed records, depending on the grouping mode.
+	 * Boxes are only created for the entries which are scrolled into view.
 	 */
 	private void rebuild()
 	{
-		logsContainer.removeAll();
-		boxes.clear();
-		int start = 0;
-		if (!groupLoot && records.size() > MAX_LOOT_BOXES)
-		{
-			start = records.size() - MAX_LOOT_BOXES;
-		}
-		for (int i = start; i < records.size(); i++)
+		logsContainer.clear();
+		groups.clear();
+		for (LootTrackerRecord record : records)
 		{
-			buildBox(records.get(i));
+			addEntry(record);
 		}
-		boxes.forEach(LootTrackerBox::rebuild);
 		updateOverall();
-		logsContainer.revalidate();
-		logsContainer.repaint();
 	}
 
 	/**
-	 * This method decides what to do with a new record, if a similar log exists, it will
-	 * add its items to it, updating the log's overall price and kills. If not, a new log will be created
-	 * to hold this entry's information.
+	 * Adds a record's totals to the overall totals, and the totals of its title
 	 */
-	private LootTrackerBox buildBox(LootTrackerRecord record)
+	private void addToAggregates(LootTrackerRecord record)
+	{
+		overallAggregate.add(record);
+		aggregates.computeIfAbsent(record.getTitle(), k -> new LootTrackerAggregate()).add(record);
+	}
+
+	/**
+	 * This method decides what to do with a new record, if a similar entry exists, it will
+	 * add its items to it, updating the entry's overall price and kills. If not, a new entry will be created
+	 * to hold this record's information.
+	 *
+	 * @return true if the record is part of the current view
+	 */
+	private boolean addEntry(LootTrackerRecord record)
 	{
 		// If this record is not part of current view, return
 		if (!record.matches(currentView))
 		{
-			return null;
+			return false;
 		}
 
 		// Group all similar loot together
 		if (groupLoot)
 		{
-			for (LootTrackerBox box : boxes)
+			final LootTrackerEntry group = groups.get(record.getTitle());
+			if (group != null)
 			{
-				if (box.matches(record))
-				{
-					box.combine(record);
-					return box;
-				}
+				group.add(record);
+				logsContainer.updateEntry(group);
+				return true;
 			}
 		}
 
@@ -533,10 +547,26 @@ class LootTrackerPanel extends PluginPanel
 		actionsContainer.setVisible(true);
 		overallPanel.setVisible(true);
 
+		final LootTrackerEntry entry = new LootTrackerEntry(record.getTitle(), record.getSubTitle());
+		entry.add(record);
+
+		if (groupLoot)
+		{
+			groups.put(entry.getId(), entry);
+		}
+
+		logsContainer.addEntry(entry);
+		return true;
+	}
+
+	/**
+	 * Creates the box displaying an entry, once the entry is scrolled into view.
+	 */
+	private LootTrackerBox buildBox(LootTrackerEntry entry)
+	{
 		// Create box
-		final LootTrackerBox box = new LootTrackerBox(itemManager, record.getTitle(), record.getSubTitle(),
+		final LootTrackerBox box = new LootTrackerBox(itemManager, entry,
 			hideIgnoredItems, config.priceType(), config.showPriceType(), plugin::toggleItem);
-		box.combine(record);
 
 		// Create popup menu
 		final JPopupMenu popupMenu = new JPopupMenu();
@@ -551,14 +581,7 @@ class LootTrackerPanel extends PluginPanel
 			{
 				if (e.getButton() == MouseEvent.BUTTON1)
 				{
-					if (box.isCollapsed())
-					{
-						box.expand();
-					}
-					else
-					{
-						box.collapse();
-					}
+					logsContainer.setCollapsed(entry, !entry.isCollapsed());
 					updateCollapseText();
 				}
 			}
@@ -568,17 +591,20 @@ class LootTrackerPanel extends PluginPanel
 		final JMenuItem reset = new JMenuItem("Reset");
 		reset.addActionListener(e ->
 		{
-			records.removeAll(box.getRecords());
-			boxes.remove(box);
+			final Set<LootTrackerRecord> removed = Sets.newIdentityHashSet();
+			removed.addAll(entry.getRecords());
+			records.removeIf(removed::contains);
+			overallAggregate.remove(entry.getAggregate());
+			aggregates.get(entry.getId()).remove(entry.getAggregate());
+			groups.remove(entry.getId(), entry);
+			logsContainer.removeEntry(entry);
 			updateOverall();
-			logsContainer.remove(box);
-			logsContainer.repaint();
 
 			LootTrackerClient client = plugin.getLootTrackerClient();
 			// Without loot being grouped we have no way to identify single kills to be deleted
 			if (client != null && groupLoot && config.syncPanel())
 			{
-				client.delete(box.getId());
+				client.delete(entry.getId());
 			}
 		});
 
@@ -588,7 +614,7 @@ class LootTrackerPanel extends PluginPanel
 		final JMenuItem details = new JMenuItem("View details");
 		details.addActionListener(e ->
 		{
-			currentView = record.getTitle();
+			currentView = entry.getId();
 			detailsTitle.setText(currentView);
 			backBtn.setVisible(true);
 			rebuild();
@@ -596,51 +622,21 @@ class LootTrackerPanel extends PluginPanel
 
 		popupMenu.add(details);
 
-		// Add box to panel
-		boxes.add(box);
-		logsContainer.add(box, 0);
-
-		if (!groupLoot && boxes.size() > MAX_LOOT_BOXES)
-		{
-			logsContainer.remove(boxes.remove(0));
-		}
-
 		return box;
 	}
 
 	private void updateOverall()
 	{
-		long overallKills = 0;
-		long overallGe = 0;
-		long overallHa = 0;
-
-		for (LootTrackerRecord record : records)
+		LootTrackerAggregate aggregate = currentView == null ? overallAggregate : aggregates.get(currentView);
+		if (aggregate == null)
 		{
-			if (!record.matches(currentView))
-			{
-				continue;
-			}
-
-			int present = record.getItems().length;
-
-			for (LootTrackerItem item : record.getItems())
-			{
-				if (hideIgnoredItems && item.isIgnored())
-				{
-					present--;
-					continue;
-				}
-
-				overallGe += item.getGePrice();
-				overallHa += item.getHaPrice();
-			}
-
-			if (present > 0)
-			{
-				overallKills++;
-			}
+			aggregate = new LootTrackerAggregate();
 		}
 
+		final long overallKills = aggregate.getKills(hideIgnoredItems);
+		final long overallGe = aggregate.getGePrice(hideIgnoredItems);
+		final long overallHa = aggregate.getHaPrice(hideIgnoredItems);
+
 		String priceType = "";
 		if (config.showPriceType())
 		{
@@ -25,21 +25,20 @@
  */
 package net.runelite.client.plugins.menuentryswapper;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import javax.inject.Inject;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.Client;
-import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
-import net.runelite.api.events.ClientTick;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.api.events.FocusChanged;
 import net.runelite.api.events.MenuOpened;
@@ -54,6 +53,7 @@ import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.menus.MenuManager;
+import net.runelite.client.menus.MenuRule;
 import net.runelite.client.menus.WidgetMenuOption;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -73,6 +73,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private static final String RESET = "Reset";
 	private static final String MENU_TARGET = "Shift-click";
 
+	private static final String MENU_SWAPPER_GROUP = "menuentryswapper";
 	private static final String CONFIG_GROUP = "shiftclick";
 	private static final String ITEM_KEY_PREFIX = "item_";
 
@@ -132,7 +133,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Setter
 	private boolean shiftModifier = false;
 
-	private final ArrayListMultimap<String, Integer> optionIndexes = ArrayListMultimap.create();
+	private final List<MenuRule> menuRules = new ArrayList<>();
 
 	@Provides
 	MenuEntrySwapperConfig provideConfig(ConfigManager configManager)
@@ -143,6 +144,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Override
 	public void startUp()
 	{
+		registerMenuRules();
+
 		if (config.shiftClickCustomization())
 		{
 			enableCustomization();
@@ -152,12 +155,19 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Override
 	public void shutDown()
 	{
+		unregisterMenuRules();
 		disableCustomization();
 	}
 
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		if (MENU_SWAPPER_GROUP.equals(event.getGroup()))
+		{
+			registerMenuRules();
+			return;
+		}
+
 		if (!CONFIG_GROUP.equals(event.getGroup()))
 		{
 			return;
@@ -355,422 +365,343 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 	}
 
-	private void swapMenuEntry(int index, MenuEntry menuEntry)
+	/**
+	 * Register the menu rules for the swaps enabled in the config, replacing any registered before
+	 */
+	private void registerMenuRules()
 	{
-		final int eventId = menuEntry.getIdentifier();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
-		final NPC hintArrowNpc = client.getHintArrowNpc();
+		unregisterMenuRules();
 
-		if (hintArrowNpc != null
-			&& hintArrowNpc.getIndex() == eventId
-			&& NPC_MENU_TYPES.contains(MenuAction.of(menuEntry.getType())))
+		if (config.swapAbyssTeleport())
 		{
-			return;
+			swap("talk-to", "teleport", targetContains("mage of zamorak"));
 		}
 
-		if (option.equals("talk-to"))
-		{
-			if (config.swapAbyssTeleport() && target.contains("mage of zamorak"))
-			{
-				swap("teleport", option, target, index);
-			}
-
-			if (config.swapHardWoodGrove() && target.contains("rionasta"))
-			{
-				swap("send-parcel", option, target, index);
-			}
-
-			if (config.swapBank())
-			{
-				swap("bank", option, target, index);
-			}
-
-			if (config.swapContract())
-			{
-				swap("contract", option, target, index);
-			}
-
-			if (config.swapExchange())
-			{
-				swap("exchange", option, target, index);
-			}
-
-			if (config.swapDarkMage())
-			{
-				swap("repairs", option, target, index);
-			}
-
-			// make sure assignment swap is higher priority than trade swap for slayer masters
-			if (config.swapAssignment())
-			{
-				swap("assignment", option, target, index);
-			}
-
-			if (config.swapTrade())
-			{
-				swap("trade", option, target, index);
-				swap("trade-with", option, target, index);
-				swap("shop", option, target, index);
-			}
-
-			if (config.claimSlime() && target.equals("robin"))
-			{
-				swap("claim-slime", option, target, index);
-			}
-
-			if (config.swapTravel())
-			{
-				swap("travel", option, target, index);
-				swap("pay-fare", option, target, index);
-				swap("charter", option, target, index);
-				swap("take-boat", option, target, index);
-				swap("fly", option, target, index);
-				swap("jatizso", option, target, index);
-				swap("neitiznot", option, target, index);
-				swap("rellekka", option, target, index);
-				swap("follow", option, target, index);
-				swap("transport", option, target, index);
-			}
-
-			if (config.swapPay())
-			{
-				swap("pay", option, target, index);
-				swapContains("pay (", option, target, index);
-			}
-
-			if (config.swapDecant())
-			{
-				swap("decant", option, target, index);
-			}
-
-			if (config.swapQuick())
-			{
-				swap("quick-travel", option, target, index);
-			}
-
-			if (config.swapEnchant())
-			{
-				swap("enchant", option, target, index);
-			}
-
-			if (config.swapStartMinigame())
-			{
-				swap("start-minigame", option, target, index);
-			}
-		}
-		else if (config.swapQuickLeave() && option.equals("leave tomb") && target.equals("tomb door"))
+		if (config.swapHardWoodGrove())
 		{
-			swap("quick-leave", option, target, index);
+			swap("talk-to", "send-parcel", targetContains("rionasta"));
 		}
-		else if (config.swapTravel() && option.equals("pass") && target.equals("energy barrier"))
+
+		if (config.swapBank())
 		{
-			swap("pay-toll(2-ecto)", option, target, index);
+			swap("talk-to", "bank");
 		}
-		else if (config.swapTravel() && option.equals("open") && target.equals("gate"))
+
+		if (config.swapContract())
 		{
-			swap("pay-toll(10gp)", option, target, index);
+			swap("talk-to", "contract");
 		}
-		else if (config.swapHardWoodGrove() && option.equals("open") && target.equals("hardwood grove doors"))
+
+		if (config.swapExchange())
 		{
-			swap("quick-pay(100)", option, target, index);
+			swap("talk-to", "exchange");
 		}
-		else if (config.swapTravel() && option.equals("inspect") && target.equals("trapdoor"))
+
+		if (config.swapDarkMage())
 		{
-			swap("travel", option, target, index);
+			swap("talk-to", "repairs");
 		}
-		else if (config.swapHarpoon() && option.equals("cage"))
+
+		// make sure assignment swap is higher priority than trade swap for slayer masters
+		if (config.swapAssignment())
 		{
-			swap("harpoon", option, target, index);
+			swap("talk-to", "assignment");
 		}
-		else if (config.swapHarpoon() && (option.equals("big net") || option.equals("net")))
+
+		if (config.swapTrade())
 		{
-			swap("harpoon", option, target, index);
+			swap("talk-to", "trade");
+			swap("talk-to", "trade-with");
+			swap("talk-to", "shop");
 		}
-		else if (config.swapHomePortal() != HouseMode.ENTER && option.equals("enter"))
+
+		if (config.claimSlime())
 		{
-			switch (config.swapHomePortal())
-			{
-				case HOME:
-					swap("home", option, target, index);
-					break;
-				case BUILD_MODE:
-					swap("build mode", option, target, index);
-					break;
-				case FRIENDS_HOUSE:
-					swap("friend's house", option, target, index);
-					break;
-			}
+			swap("talk-to", "robin", "claim-slime");
 		}
-		else if (config.swapHouseAdvertisement() != HouseAdvertisementMode.VIEW && option.equals("view"))
+
+		if (config.swapTravel())
 		{
-			switch (config.swapHouseAdvertisement())
-			{
-				case ADD_HOUSE:
-					swap("add-house", option, target, index);
-					break;
-				case VISIT_LAST:
-					swap("visit-last", option, target, index);
-					break;
-			}
+			swap("talk-to", "travel");
+			swap("talk-to", "pay-fare");
+			swap("talk-to", "charter");
+			swap("talk-to", "take-boat");
+			swap("talk-to", "fly");
+			swap("talk-to", "jatizso");
+			swap("talk-to", "neitiznot");
+			swap("talk-to", "rellekka");
+			swap("talk-to", "follow");
+			swap("talk-to", "transport");
 		}
-		else if (config.swapFairyRing() != FairyRingMode.OFF && config.swapFairyRing() != FairyRingMode.ZANARIS
-			&& (option.equals("zanaris") || option.equals("configure") || option.equals("tree")))
+
+		if (config.swapPay())
 		{
-			if (config.swapFairyRing() == FairyRingMode.LAST_DESTINATION)
-			{
-				swapContains("last-destination", option, target, index);
-			}
-			else if (config.swapFairyRing() == FairyRingMode.CONFIGURE)
-			{
-				swapContains("configure", option, target, index);
-			}
+			swap("talk-to", "pay");
+			swapContains("talk-to", "pay (");
 		}
-		else if (config.swapFairyRing() == FairyRingMode.ZANARIS && option.equals("tree"))
+
+		if (config.swapDecant())
 		{
-			swapContains("zanaris", option, target, index);
+			swap("talk-to", "decant");
 		}
-		else if (config.swapBoxTrap() && (option.equals("check") || option.equals("dismantle")))
+
+		if (config.swapQuick())
 		{
-			swap("reset", option, target, index);
+			swap("talk-to", "quick-travel");
 		}
-		else if (config.swapBoxTrap() && option.equals("take"))
+
+		if (config.swapEnchant())
 		{
-			swap("lay", option, target, index);
+			swap("talk-to", "enchant");
 		}
-		else if (config.swapChase() && option.equals("pick-up"))
+
+		if (config.swapStartMinigame())
 		{
-			swap("chase", option, target, index);
+			swap("talk-to", "start-minigame");
 		}
-		else if (config.swapBirdhouseEmpty() && option.equals("interact") && target.contains("birdhouse"))
+
+		if (config.swapQuickLeave())
 		{
-			swap("empty", option, target, index);
+			swap("leave tomb", "tomb door", "quick-leave");
 		}
-		else if (config.swapQuick() && option.equals("enter"))
+
+		if (config.swapTravel())
 		{
-			swap("quick-enter", option, target, index);
+			swap("pass", "energy barrier", "pay-toll(2-ecto)");
+			swap("open", "gate", "pay-toll(10gp)");
+			swap("inspect", "trapdoor", "travel");
 		}
-		else if (config.swapQuick() && option.equals("ring"))
+
+		if (config.swapHardWoodGrove())
 		{
-			swap("quick-start", option, target, index);
+			swap("open", "hardwood grove doors", "quick-pay(100)");
 		}
-		else if (config.swapQuick() && option.equals("pass"))
+
+		if (config.swapHarpoon())
 		{
-			swap("quick-pass", option, target, index);
-			swap("quick pass", option, target, index);
+			swap("cage", "harpoon");
+			swap("big net", "harpoon");
+			swap("net", "harpoon");
 		}
-		else if (config.swapQuick() && option.equals("open"))
+
+		switch (config.swapHomePortal())
 		{
-			swap("quick-open", option, target, index);
+			case HOME:
+				swap("enter", "home");
+				break;
+			case BUILD_MODE:
+				swap("enter", "build mode");
+				break;
+			case FRIENDS_HOUSE:
+				swap("enter", "friend's house");
+				break;
 		}
-		else if (config.swapQuick() && option.equals("climb-down"))
+
+		switch (config.swapHouseAdvertisement())
 		{
-			swap("quick-start", option, target, index);
-			swap("pay", option, target, index);
+			case ADD_HOUSE:
+				swap("view", "add-house");
+				break;
+			case VISIT_LAST:
+				swap("view", "visit-last");
+				break;
 		}
-		else if (config.swapAdmire() && option.equals("admire"))
+
+		switch (config.swapFairyRing())
 		{
-			swap("teleport", option, target, index);
-			swap("spellbook", option, target, index);
-			swap("perks", option, target, index);
+			case LAST_DESTINATION:
+				swapContains("zanaris", "last-destination");
+				swapContains("configure", "last-destination");
+				swapContains("tree", "last-destination");
+				break;
+			case CONFIGURE:
+				swapContains("zanaris", "configure");
+				swapContains("tree", "configure");
+				break;
+			case ZANARIS:
+				swapContains("tree", "zanaris");
+				break;
 		}
-		else if (config.swapPrivate() && option.equals("shared"))
+
+		if (config.swapBoxTrap())
 		{
-			swap("private", option, target, index);
+			swap("check", "reset");
+			swap("dismantle", "reset");
+			swap("take", "lay");
 		}
-		else if (config.swapPick() && option.equals("pick"))
+
+		if (config.swapChase())
 		{
-			swap("pick-lots", option, target, index);
+			swap("pick-up", "chase");
 		}
-		else if (config.shiftClickCustomization() && shiftModifier && !option.equals("use"))
-		{
-			Integer customOption = getSwapConfig(eventId);
 
-			if (customOption != null && customOption == -1)
-			{
-				swap("use", option, target, index);
-			}
-		}
-		// Put all item-related swapping after shift-click
-		else if (config.swapTeleportItem() && option.equals("wear"))
+		if (config.swapBirdhouseEmpty())
 		{
-			swap("rub", option, target, index);
-			swap("teleport", option, target, index);
+			swap("interact", "empty", targetContains("birdhouse"));
 		}
-		else if (option.equals("wield"))
+
+		if (config.swapQuick())
 		{
-			if (config.swapTeleportItem())
+			// the house portal swap takes precedence over quick-enter
+			if (config.swapHomePortal() == HouseMode.ENTER)
 			{
-				swap("teleport", option, target, index);
+				swap("enter", "quick-enter");
 			}
+			swap("ring", "quick-start");
+			swap("pass", "quick-pass");
+			swap("pass", "quick pass");
+			swap("open", "quick-open");
+			swap("climb-down", "quick-start");
+			swap("climb-down", "pay");
 		}
-		else if (config.swapBones() && option.equals("bury"))
+
+		if (config.swapAdmire())
 		{
-			swap("use", option, target, index);
+			swap("admire", "teleport");
+			swap("admire", "spellbook");
+			swap("admire", "perks");
 		}
 
-		if (shiftModifier && config.swapTeleportSpell())
+		if (config.swapPrivate())
 		{
-			if (target.equals("varrock teleport"))
-			{
-				swapTeleport(target, option, "grand exchange", index);
-			}
-			else if (target.equals("camelot teleport"))
-			{
-				swapTeleport(target, option, "seers'", index);
-			}
-			else if (target.equals("watchtower teleport"))
-			{
-				swapTeleport(target, option, "yanille", index);
-			}
-			else if (target.equals("teleport to house"))
-			{
-				swapTeleport(target, option, "outside", index);
-			}
+			swap("shared", "private");
 		}
-	}
 
-	private void swapTeleport(String target, String option, String optionA, int index)
-	{
-		if (option.equals("cast"))
+		if (config.swapPick())
 		{
-			swap(optionA, option, target, index);
+			swap("pick", "pick-lots");
 		}
-		else if (option.equals(optionA))
+
+		// Put all item-related swapping after shift-click, which they give way to while shift is held
+		Predicate<MenuEntry> itemCondition = null;
+		if (config.shiftClickCustomization())
 		{
-			swap("cast", option, target, index);
+			addSwapRule(null, null, "use", false, this::isShiftClickUse);
+			itemCondition = entry -> !shiftModifier;
 		}
-	}
 
-	@Subscribe
-	public void onClientTick(ClientTick clientTick)
-	{
-		// The menu is not rebuilt when it is open, so don't swap or else it will
-		// repeatedly swap entries
-		if (client.getGameState() != GameState.LOGGED_IN || client.isMenuOpen())
+		if (config.swapTeleportItem())
 		{
-			return;
+			swap("wear", "rub", itemCondition);
+			swap("wear", "teleport", itemCondition);
+			swap("wield", "teleport", itemCondition);
 		}
 
-		MenuEntry[] menuEntries = client.getMenuEntries();
-
-		// Build option map for quick lookup in findIndex
-		int idx = 0;
-		optionIndexes.clear();
-		for (MenuEntry entry : menuEntries)
+		if (config.swapBones())
 		{
-			String option = Text.removeTags(entry.getOption()).toLowerCase();
-			optionIndexes.put(option, idx++);
+			swap("bury", "use", itemCondition);
 		}
 
-		// Perform swaps
-		idx = 0;
-		for (MenuEntry entry : menuEntries)
+		if (config.swapTeleportSpell())
 		{
-			swapMenuEntry(idx++, entry);
+			swapTeleport("varrock teleport", "grand exchange");
+			swapTeleport("camelot teleport", "seers'");
+			swapTeleport("watchtower teleport", "yanille");
+			swapTeleport("teleport to house", "outside");
 		}
 	}
 
-	@Subscribe
-	public void onPostItemComposition(PostItemComposition event)
+	private void unregisterMenuRules()
 	{
-		ItemComposition itemComposition = event.getItemComposition();
-		Integer option = getSwapConfig(itemComposition.getId());
-
-		if (option != null)
+		for (MenuRule rule : menuRules)
 		{
-			itemComposition.setShiftClickActionIndex(option);
+			menuManager.removeMenuRule(rule);
 		}
+		menuRules.clear();
 	}
 
-	@Subscribe
-	public void onFocusChanged(FocusChanged event)
+	private void swapTeleport(String target, String option)
 	{
-		if (!event.isFocused())
-		{
-			shiftModifier = false;
-		}
+		// while shift is held, swap whichever of cast and the other option is on top
+		Predicate<MenuEntry> shift = entry -> shiftModifier;
+		addSwapRule("cast", target, option, false, shift);
+		addSwapRule(option, target, "cast", false, shift);
 	}
 
-	private void swap(String optionA, String optionB, String target, int index)
+	private void swap(String option, String swapOption)
 	{
-		swap(optionA, optionB, target, index, true);
+		addSwapRule(option, null, swapOption, false, null);
 	}
 
-	private void swapContains(String optionA, String optionB, String target, int index)
+	private void swap(String option, String target, String swapOption)
 	{
-		swap(optionA, optionB, target, index, false);
+		addSwapRule(option, target, swapOption, false, null);
 	}
 
-	private void swap(String optionA, String optionB, String target, int index, boolean strict)
+	private void swap(String option, String swapOption, Predicate<MenuEntry> condition)
 	{
-		MenuEntry[] menuEntries = client.getMenuEntries();
-
-		int thisIndex = findIndex(menuEntries, index, optionB, target, strict);
-		int optionIdx = findIndex(menuEntries, thisIndex, optionA, target, strict);
+		addSwapRule(option, null, swapOption, false, condition);
+	}
 
-		if (thisIndex >= 0 && optionIdx >= 0)
-		{
-			swap(optionIndexes, menuEntries, optionIdx, thisIndex);
-		}
+	private void swapContains(String option, String swapOption)
+	{
+		addSwapRule(option, null, swapOption, true, null);
 	}
 
-	private int findIndex(MenuEntry[] entries, int limit, String option, String target, boolean strict)
+	private void addSwapRule(String option, String target, String swapOption, boolean contains, Predicate<MenuEntry> condition)
 	{
-		if (strict)
-		{
-			List<Integer> indexes = optionIndexes.get(option);
+		Predicate<MenuEntry> notHintArrow = this::isNotHintArrowNpc;
+		MenuRule rule = MenuRule.builder()
+			.type(MenuRule.Type.SWAP)
+			.option(option)
+			.target(target)
+			.swapOption(swapOption)
+			.swapOptionContains(contains)
+			.condition(condition == null ? notHintArrow : notHintArrow.and(condition))
+			.build();
+		menuManager.addMenuRule(rule);
+		menuRules.add(rule);
+	}
 
-			// We want the last index which matches the target, as that is what is top-most
-			// on the menu
-			for (int i = indexes.size() - 1; i >= 0; --i)
-			{
-				int idx = indexes.get(i);
-				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+	private static Predicate<MenuEntry> targetContains(String target)
+	{
+		return entry -> Text.removeTags(entry.getTarget()).toLowerCase().contains(target);
+	}
 
-				// Limit to the last index which is prior to the current entry
-				if (idx <= limit && entryTarget.equals(target))
-				{
-					return idx;
-				}
-			}
-		}
-		else
+	private boolean isNotHintArrowNpc(MenuEntry entry)
+	{
+		if (!NPC_MENU_TYPES.contains(MenuAction.of(entry.getType())))
 		{
-			// Without strict matching we have to iterate all entries up to the current limit...
-			for (int i = limit; i >= 0; i--)
-			{
-				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+			return true;
+		}
 
-				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
-				{
-					return i;
-				}
-			}
+		final NPC hintArrowNpc = client.getHintArrowNpc();
+		return hintArrowNpc == null || hintArrowNpc.getIndex() != entry.getIdentifier();
+	}
 
+	/**
+	 * Whether shift is held over an inventory item whose shift-click option has been set to use
+	 */
+	private boolean isShiftClickUse(MenuEntry entry)
+	{
+		if (!shiftModifier || entry.getParam1() != WidgetInfo.INVENTORY.getId()
+			|| Text.removeTags(entry.getOption()).equalsIgnoreCase("use"))
+		{
+			return false;
 		}
 
-		return -1;
+		Integer customOption = getSwapConfig(entry.getIdentifier());
+		return customOption != null && customOption == -1;
 	}
 
-	private void swap(ArrayListMultimap<String, Integer> optionIndexes, MenuEntry[] entries, int index1, int index2)
+	@Subscribe
+	public void onPostItemComposition(PostItemComposition event)
 	{
-		MenuEntry entry = entries[index1];
-		entries[index1] = entries[index2];
-		entries[index2] = entry;
+		ItemComposition itemComposition = event.getItemComposition();
+		Integer option = getSwapConfig(itemComposition.getId());
 
-		client.setMenuEntries(entries);
+		if (option != null)
+		{
+			itemComposition.setShiftClickActionIndex(option);
+		}
+	}
 
-		// Rebuild option indexes
-		optionIndexes.clear();
-		int idx = 0;
-		for (MenuEntry menuEntry : entries)
+	@Subscribe
+	public void onFocusChanged(FocusChanged event)
+	{
+		if (!event.isFocused())
 		{
-			String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-			optionIndexes.put(option, idx++);
+			shiftModifier = false;
 		}
 	}
 
@@ -34,7 +34,9 @@ import java.awt.Shape;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Set;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
@@ -66,6 +68,14 @@ public class NpcSceneOverlay extends Overlay
 	private final Client client;
 	private final NpcIndicatorsConfig config;
 	private final NpcIndicatorsPlugin plugin;
+	private final Polygon poly = new Polygon();
+
+	// reused between frames for the tiles to draw and their projected corners
+	private int[] localX = new int[16];
+	private int[] localY = new int[16];
+	private int[] sizes = new int[16];
+	private int[] xs = new int[64];
+	private int[] ys = new int[64];
 
 	@Inject
 	NpcSceneOverlay(Client client, NpcIndicatorsConfig config, NpcIndicatorsPlugin plugin)
@@ -85,9 +95,28 @@ public class NpcSceneOverlay extends Overlay
 			plugin.getDeadNpcsToDisplay().forEach((id, npc) -> renderNpcRespawn(npc, graphics));
 		}
 
-		for (NPC npc : plugin.getHighlightedNpcs())
+		final Set<NPC> npcs = plugin.getHighlightedNpcs();
+		final Color color = config.getHighlightColor();
+		switch (config.renderStyle())
+		{
+			case SOUTH_WEST_TILE:
+			case TILE:
+				renderNpcTiles(graphics, npcs, color);
+				break;
+			case HULL:
+				for (NPC npc : npcs)
+				{
+					renderPoly(graphics, color, npc.getConvexHull());
+				}
+				break;
+		}
+
+		if (config.drawNames())
 		{
-			renderNpcOverlay(graphics, npc, config.getHighlightColor());
+			for (NPC npc : npcs)
+			{
+				renderNpcName(graphics, npc, color);
+			}
 		}
 
 		return null;
@@ -143,50 +172,93 @@ public class NpcSceneOverlay extends Overlay
 		}
 	}
 
-	private void renderNpcOverlay(Graphics2D graphics, NPC actor, Color color)
+	/**
+	 * Draws the tiles of all of the npcs, projecting the tiles of each npc size in one pass
+	 */
+	private void renderNpcTiles(Graphics2D graphics, Set<NPC> npcs, Color color)
 	{
-		switch (config.renderStyle())
+		final boolean southWestTile = config.renderStyle() == RenderStyle.SOUTH_WEST_TILE;
+		int count = 0;
+		for (NPC npc : npcs)
 		{
-			case SOUTH_WEST_TILE:
+			int size = 1;
+			NPCComposition composition = npc.getTransformedComposition();
+			if (composition != null)
 			{
-				int size = 1;
-				NPCComposition composition = actor.getTransformedComposition();
-				if (composition != null)
-				{
-					size = composition.getSize();
-				}
-
-				LocalPoint localPoint = actor.getLocalLocation();
-
-				int x = localPoint.getX() - ((size - 1) * Perspective.LOCAL_TILE_SIZE / 2);
-				int y = localPoint.getY() - ((size - 1) * Perspective.LOCAL_TILE_SIZE / 2);
+				size = composition.getSize();
+			}
 
-				Polygon tilePoly = Perspective.getCanvasTilePoly(client, new LocalPoint(x, y));
+			LocalPoint localPoint = npc.getLocalLocation();
 
-				renderPoly(graphics, color, tilePoly);
-				break;
+			ensureCapacity(count + 1);
+			if (southWestTile)
+			{
+				localX[count] = localPoint.getX() - ((size - 1) * Perspective.LOCAL_TILE_SIZE / 2);
+				localY[count] = localPoint.getY() - ((size - 1) * Perspective.LOCAL_TILE_SIZE / 2);
+				sizes[count] = 1;
 			}
-			case TILE:
-				int size = 1;
-				NPCComposition composition = actor.getTransformedComposition();
-				if (composition != null)
+			else
+			{
+				localX[count] = localPoint.getX();
+				localY[count] = localPoint.getY();
+				// a size of 0 marks a tile as drawn below
+				sizes[count] = Math.max(size, 1);
+			}
+			count++;
+		}
+
+		for (int remaining = count; remaining > 0; )
+		{
+			// gather the tiles of the next size not yet drawn
+			int size = 0;
+			int n = 0;
+			for (int i = 0; i < count; i++)
+			{
+				if (sizes[i] != 0 && (size == 0 || sizes[i] == size))
 				{
-					size = composition.getSize();
+					size = sizes[i];
+					xs[n] = localX[i];
+					ys[n] = localY[i];
+					sizes[i] = 0;
+					n++;
 				}
-				LocalPoint lp = actor.getLocalLocation();
-				Polygon tilePoly = Perspective.getCanvasTileAreaPoly(client, lp, size);
+			}
+			remaining -= n;
 
-				renderPoly(graphics, color, tilePoly);
-				break;
+			Perspective.getCanvasTileAreaPolys(client, n, xs, ys, size, xs, ys);
+			for (int corner = 0; corner < n * 4; corner += 4)
+			{
+				if (xs[corner] == Integer.MIN_VALUE)
+				{
+					continue;
+				}
 
-			case HULL:
-				Shape objectClickbox = actor.getConvexHull();
+				poly.reset();
+				for (int j = corner; j < corner + 4; j++)
+				{
+					poly.addPoint(xs[j], ys[j]);
+				}
+				renderPoly(graphics, color, poly);
+			}
+		}
+	}
 
-				renderPoly(graphics, color, objectClickbox);
-				break;
+	private void ensureCapacity(int count)
+	{
+		if (count > localX.length)
+		{
+			final int length = Math.max(count, localX.length * 2);
+			localX = Arrays.copyOf(localX, length);
+			localY = Arrays.copyOf(localY, length);
+			sizes = Arrays.copyOf(sizes, length);
+			xs = new int[length * 4];
+			ys = new int[length * 4];
 		}
+	}
 
-		if (config.drawNames() && actor.getName() != null)
+	private void renderNpcName(Graphics2D graphics, NPC actor, Color color)
+	{
+		if (actor.getName() != null)
 		{
 			String npcName = Text.removeTags(actor.getName());
 			Point textLocation = actor.getCanvasTextLocation(graphics, npcName, actor.getLogicalHeight() + 40);
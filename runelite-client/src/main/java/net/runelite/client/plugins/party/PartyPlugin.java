@@ -67,7 +67,9 @@ import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.party.data.PartyData;
 import net.runelite.client.plugins.party.data.PartyTilePingData;
 import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdateCodec;
 import net.runelite.client.plugins.party.messages.SkillUpdate;
+import net.runelite.client.plugins.party.messages.SkillUpdateCodec;
 import net.runelite.client.plugins.party.messages.TilePing;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -145,9 +147,9 @@ public class PartyPlugin extends Plugin implements KeyListener
 	{
 		overlayManager.add(partyStatsOverlay);
 		overlayManager.add(partyPingOverlay);
-		wsClient.registerMessage(SkillUpdate.class);
+		wsClient.registerMessage(SkillUpdate.class, 1, new SkillUpdateCodec());
 		wsClient.registerMessage(TilePing.class);
-		wsClient.registerMessage(LocationUpdate.class);
+		wsClient.registerMessage(LocationUpdate.class, 2, new LocationUpdateCodec());
 		keyManager.registerKeyListener(this);
 		doSync = true; // Delay sync so eventbus can process correctly.
 	}
@@ -51,6 +51,12 @@ public class PuzzleSolver implements Runnable
 		this.startState = startState;
 	}
 
+	public PuzzleSolver(Pathfinder pathfinder, PuzzleState startState, Duration timeBudget)
+	{
+		this(pathfinder, startState);
+		pathfinder.setTimeBudget(timeBudget);
+	}
+
 	public PuzzleState getStep(int stepIdx)
 	{
 		return solution.get(stepIdx);
@@ -25,22 +25,15 @@
  */
 package net.runelite.client.plugins.puzzlesolver.solver;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import net.runelite.client.plugins.puzzlesolver.solver.heuristics.Heuristic;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
 
 public class PuzzleState
 {
-	private PuzzleState parent;
-
 	private int[] pieces;
 	private int emptyPiece = -1;
 
-	private int h = -1;
-
 	public PuzzleState(int[] pieces)
 	{
 		if (pieces == null)
@@ -76,85 +69,6 @@ public class PuzzleState
 		throw new IllegalStateException("Incorrect empty piece passed in!");
 	}
 
-	public List<PuzzleState> computeMoves()
-	{
-		List<PuzzleState> moves = new ArrayList<>();
-
-		int emptyPieceX = emptyPiece % DIMENSION;
-		int emptyPieceY = emptyPiece / DIMENSION;
-
-		// Move left if there is space to the left
-		if (emptyPieceX > 0)
-		{
-			if (parent == null || parent.emptyPiece != emptyPiece - 1)
-			{
-				PuzzleState state = new PuzzleState(this);
-				state.parent = this;
-
-				state.pieces[emptyPiece - 1] = BLANK_TILE_VALUE;
-				state.pieces[emptyPiece] = pieces[emptyPiece - 1];
-				state.emptyPiece--;
-
-				moves.add(state);
-			}
-		}
-
-		// Move right if there is space to the right
-		if (emptyPieceX < DIMENSION - 1)
-		{
-			if (parent == null || parent.emptyPiece != emptyPiece + 1)
-			{
-				PuzzleState state = new PuzzleState(this);
-				state.parent = this;
-
-				state.pieces[emptyPiece + 1] = BLANK_TILE_VALUE;
-				state.pieces[emptyPiece] = pieces[emptyPiece + 1];
-				state.emptyPiece++;
-
-				moves.add(state);
-			}
-		}
-
-		// Move up if there is space upwards
-		if (emptyPieceY > 0)
-		{
-			if (parent == null || parent.emptyPiece != emptyPiece - DIMENSION)
-			{
-				PuzzleState state = new PuzzleState(this);
-				state.parent = this;
-
-				state.pieces[emptyPiece - DIMENSION] = BLANK_TILE_VALUE;
-				state.pieces[emptyPiece] = pieces[emptyPiece - DIMENSION];
-				state.emptyPiece -= DIMENSION;
-
-				moves.add(state);
-			}
-		}
-
-		// Move down if there is space downwards
-		if (emptyPieceY < DIMENSION - 1)
-		{
-			if (parent == null || parent.emptyPiece != emptyPiece + DIMENSION)
-			{
-				PuzzleState state = new PuzzleState(this);
-				state.parent = this;
-
-				state.pieces[emptyPiece + DIMENSION] = BLANK_TILE_VALUE;
-				state.pieces[emptyPiece] = pieces[emptyPiece + DIMENSION];
-				state.emptyPiece += DIMENSION;
-
-				moves.add(state);
-			}
-		}
-
-		return moves;
-	}
-
-	public PuzzleState getParent()
-	{
-		return parent;
-	}
-
 	public boolean hasPieces(int[] pieces)
 	{
 		return Arrays.equals(pieces, this.pieces);
@@ -170,17 +84,6 @@ public class PuzzleState
 		return emptyPiece;
 	}
 
-	public int getHeuristicValue(Heuristic heuristic)
-	{
-		if (h == -1)
-		{
-			// cache the value
-			h = heuristic.computeValue(this);
-		}
-
-		return h;
-	}
-
 	public PuzzleState swap(int x1, int y1, int x2, int y2)
 	{
 		int val1 = getPiece(x1, y1);
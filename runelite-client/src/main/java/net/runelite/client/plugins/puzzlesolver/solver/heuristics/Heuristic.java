@@ -25,9 +25,18 @@
  */
 package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
 
-import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
-
+/**
+ * An admissible estimate of the number of moves left to solve a board. Boards are
+ * row major piece arrays, with BLANK_TILE_VALUE for the empty square.
+ */
 public interface Heuristic
 {
-	int computeValue(PuzzleState state);
+	int computeValue(int[] pieces);
+
+	/**
+	 * Compute the change in value when the piece at {@code from} slides into the
+	 * empty square at {@code to}. The board is passed as it is before the move,
+	 * and must be left as it was.
+	 */
+	int computeDelta(int[] pieces, int from, int to);
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * Manhattan distance plus linear conflicts. Two pieces are in linear conflict when
+ * both are in their goal row (or column) but in the wrong order, so one has to leave
+ * the line and come back, costing two moves more than their manhattan distance.
+ * <p>
+ * Each line adds two moves for each piece that has to leave it, which is the number
+ * of its goal pieces minus the longest run of them that is already in order. That is
+ * looked up from a table indexed by the goal positions of the pieces in the line.
+ */
+public class LinearConflict implements Heuristic
+{
+	// a piece which is not in its goal line
+	private static final int NOT_IN_LINE = DIMENSION;
+	private static final int BASE = DIMENSION + 1;
+
+	private static final byte[] CONFLICTS = buildConflicts();
+
+	/*
+		A line's key is the sum of the digits of the squares in it, where ROW_DIGITS[square][piece + 1]
+		is the goal column of the piece if its goal is in the square's row, or NOT_IN_LINE, scaled by
+		the square's place in the row. COLUMN_DIGITS is the same for columns.
+	 */
+	private static final int[][] ROW_DIGITS = buildDigits(false);
+	private static final int[][] COLUMN_DIGITS = buildDigits(true);
+
+	private final ManhattanDistance manhattanDistance = new ManhattanDistance();
+
+	@Override
+	public int computeValue(int[] pieces)
+	{
+		int value = manhattanDistance.computeValue(pieces);
+
+		for (int i = 0; i < DIMENSION; i++)
+		{
+			value += CONFLICTS[rowKey(pieces, i)] + CONFLICTS[columnKey(pieces, i)];
+		}
+
+		return value;
+	}
+
+	@Override
+	public int computeDelta(int[] pieces, int from, int to)
+	{
+		int delta = manhattanDistance.computeDelta(pieces, from, to);
+
+		/*
+			Sliding a piece along its row keeps the order of the pieces in that row,
+			so only the two columns it moves between change, and the other way around.
+			In those the piece and the empty square swap digits.
+		 */
+		int piece = pieces[from];
+		int[][] digits;
+		int keyFrom;
+		int keyTo;
+
+		if (from / DIMENSION == to / DIMENSION)
+		{
+			digits = COLUMN_DIGITS;
+			keyFrom = columnKey(pieces, from % DIMENSION);
+			keyTo = columnKey(pieces, to % DIMENSION);
+		}
+		else
+		{
+			digits = ROW_DIGITS;
+			keyFrom = rowKey(pieces, from / DIMENSION);
+			keyTo = rowKey(pieces, to / DIMENSION);
+		}
+
+		int newKeyFrom = keyFrom - digits[from][piece + 1] + digits[from][0];
+		int newKeyTo = keyTo - digits[to][0] + digits[to][piece + 1];
+
+		return delta + CONFLICTS[newKeyFrom] + CONFLICTS[newKeyTo] - CONFLICTS[keyFrom] - CONFLICTS[keyTo];
+	}
+
+	private static int rowKey(int[] pieces, int row)
+	{
+		int key = 0;
+
+		for (int i = row * DIMENSION, end = i + DIMENSION; i < end; i++)
+		{
+			key += ROW_DIGITS[i][pieces[i] + 1];
+		}
+
+		return key;
+	}
+
+	private static int columnKey(int[] pieces, int column)
+	{
+		int key = 0;
+
+		for (int i = column; i < DIMENSION * DIMENSION; i += DIMENSION)
+		{
+			key += COLUMN_DIGITS[i][pieces[i] + 1];
+		}
+
+		return key;
+	}
+
+	private static int[][] buildDigits(boolean column)
+	{
+		int[][] digits = new int[DIMENSION * DIMENSION][DIMENSION * DIMENSION + 1];
+
+		for (int square = 0; square < digits.length; square++)
+		{
+			int line = column ? square % DIMENSION : square / DIMENSION;
+			int place = column ? square / DIMENSION : square % DIMENSION;
+			int scale = 1;
+			for (int i = 0; i < place; i++)
+			{
+				scale *= BASE;
+			}
+
+			// pieces are offset by one so that the empty square, BLANK_TILE_VALUE, is index 0
+			digits[square][0] = NOT_IN_LINE * scale;
+
+			for (int piece = 0; piece < DIMENSION * DIMENSION; piece++)
+			{
+				int goalLine = column ? piece % DIMENSION : piece / DIMENSION;
+				int goalPlace = column ? piece / DIMENSION : piece % DIMENSION;
+				digits[square][piece + 1] = (goalLine == line ? goalPlace : NOT_IN_LINE) * scale;
+			}
+		}
+
+		return digits;
+	}
+
+	private static byte[] buildConflicts()
+	{
+		int size = 1;
+		for (int i = 0; i < DIMENSION; i++)
+		{
+			size *= BASE;
+		}
+
+		byte[] conflicts = new byte[size];
+		int[] goals = new int[DIMENSION];
+		int[] longest = new int[DIMENSION];
+
+		for (int key = 0; key < size; key++)
+		{
+			int count = 0;
+
+			for (int i = 0, k = key; i < DIMENSION; i++, k /= BASE)
+			{
+				if (k % BASE != NOT_IN_LINE)
+				{
+					goals[count++] = k % BASE;
+				}
+			}
+
+			// longest increasing subsequence of the goal positions
+			int best = 0;
+			for (int i = 0; i < count; i++)
+			{
+				longest[i] = 1;
+
+				for (int j = 0; j < i; j++)
+				{
+					if (goals[j] < goals[i] && longest[j] + 1 > longest[i])
+					{
+						longest[i] = longest[j] + 1;
+					}
+				}
+
+				best = Math.max(best, longest[i]);
+			}
+
+			conflicts[key] = (byte) (2 * (count - best));
+		}
+
+		return conflicts;
+	}
+}
@@ -25,82 +25,219 @@
  */
 package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.Heuristic;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
 
 /**
  * An implementation of the IDA* algorithm.
  *
  * https://en.wikipedia.org/wiki/Iterative_deepening_A*
+ *
+ * The search works on a single board which is modified in place as moves are made
+ * and unmade, and the heuristic is updated incrementally, so it does not allocate.
  */
 public class IDAStar extends Pathfinder
 {
+	private static final int FOUND = -1;
+	private static final int CANCELLED = -2;
+	private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+	private static final int MAX_DEPTH = 256;
+
+	// the time budget and interrupt flag are checked every this many nodes, plus one
+	private static final int CHECK_INTERVAL_MASK = 0xfff;
+
+	private static final int[][] NEIGHBOURS = new int[DIMENSION * DIMENSION][];
+
+	static
+	{
+		for (int i = 0; i < NEIGHBOURS.length; i++)
+		{
+			int x = i % DIMENSION;
+			int y = i / DIMENSION;
+			List<Integer> neighbours = new ArrayList<>(4);
+
+			if (x > 0)
+			{
+				neighbours.add(i - 1);
+			}
+			if (x < DIMENSION - 1)
+			{
+				neighbours.add(i + 1);
+			}
+			if (y > 0)
+			{
+				neighbours.add(i - DIMENSION);
+			}
+			if (y < DIMENSION - 1)
+			{
+				neighbours.add(i + DIMENSION);
+			}
+
+			NEIGHBOURS[i] = neighbours.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	private final int[] pieces = new int[DIMENSION * DIMENSION];
+	// position of the empty piece after each move
+	private final int[] path = new int[MAX_DEPTH];
+	private int solutionLength;
+
+	private Heuristic heuristic;
+	private long startTime;
+	private long timeBudget;
+	private long expandedNodes;
+
 	public IDAStar(Heuristic heuristic)
 	{
 		super(heuristic);
 	}
 
+	/**
+	 * Get the number of nodes expanded by the last call to computePath.
+	 */
+	public long getExpandedNodes()
+	{
+		return expandedNodes;
+	}
+
 	@Override
 	public List<PuzzleState> computePath(PuzzleState root)
 	{
-		PuzzleState goalNode = path(root);
+		for (int y = 0; y < DIMENSION; y++)
+		{
+			for (int x = 0; x < DIMENSION; x++)
+			{
+				pieces[y * DIMENSION + x] = root.getPiece(x, y);
+			}
+		}
+
+		Duration budget = getTimeBudget();
+		heuristic = getHeuristic();
+		startTime = System.nanoTime();
+		timeBudget = budget == null ? -1 : budget.toNanos();
+		expandedNodes = 0;
 
-		List<PuzzleState> path = new ArrayList<>();
+		if (!path(root.getEmptyPiece()))
+		{
+			return null;
+		}
+
+		List<PuzzleState> states = new ArrayList<>(solutionLength + 1);
+		PuzzleState state = root;
+		int empty = root.getEmptyPiece();
+		states.add(state);
 
-		PuzzleState parent = goalNode;
-		while (parent != null)
+		for (int i = 0; i < solutionLength; i++)
 		{
-			path.add(0, parent);
-			parent = parent.getParent();
+			int next = path[i];
+			state = state.swap(next % DIMENSION, next / DIMENSION, empty % DIMENSION, empty / DIMENSION);
+			empty = next;
+			states.add(state);
 		}
 
-		return path;
+		return states;
 	}
 
-	private PuzzleState path(PuzzleState root)
+	private boolean path(int emptyPiece)
 	{
-		int bound = root.getHeuristicValue(getHeuristic());
+		int h = heuristic.computeValue(pieces);
+		int bound = h;
 
 		while (true)
 		{
-			PuzzleState t = search(root, 0, bound);
+			int t = search(emptyPiece, -1, 0, h, bound);
 
-			if (t != null)
+			if (t == FOUND)
 			{
-				return t;
+				return true;
 			}
 
-			bound += 1;
+			if (t == CANCELLED || t == NOT_FOUND)
+			{
+				return false;
+			}
+
+			bound = t;
 		}
 	}
 
-	private PuzzleState search(PuzzleState node, int g, int bound)
+	/**
+	 * @return FOUND, CANCELLED, or the smallest f over the bound if it was not found
+	 */
+	private int search(int emptyPiece, int previous, int g, int h, int bound)
 	{
-		int h = node.getHeuristicValue(getHeuristic());
 		int f = g + h;
 
 		if (f > bound)
 		{
-			return null;
+			return f;
 		}
 
 		if (h == 0)
 		{
-			return node;
+			solutionLength = g;
+			return FOUND;
 		}
 
-		for (PuzzleState successor : node.computeMoves())
+		if ((++expandedNodes & CHECK_INTERVAL_MASK) == 0 && isCancelled())
+		{
+			return CANCELLED;
+		}
+
+		if (g == MAX_DEPTH)
+		{
+			return NOT_FOUND;
+		}
+
+		int min = NOT_FOUND;
+
+		for (int next : NEIGHBOURS[emptyPiece])
 		{
-			PuzzleState t = search(successor, g + 1, bound);
+			// Don't undo the last move
+			if (next == previous)
+			{
+				continue;
+			}
+
+			int delta = heuristic.computeDelta(pieces, next, emptyPiece);
+
+			pieces[emptyPiece] = pieces[next];
+			pieces[next] = BLANK_TILE_VALUE;
+			path[g] = next;
 
-			if (t != null)
+			int t = search(next, emptyPiece, g + 1, h + delta, bound);
+
+			if (t == FOUND)
 			{
-				return t;
+				return FOUND;
+			}
+
+			pieces[next] = pieces[emptyPiece];
+			pieces[emptyPiece] = BLANK_TILE_VALUE;
+
+			if (t == CANCELLED)
+			{
+				return CANCELLED;
+			}
+
+			if (t < min)
+			{
+				min = t;
 			}
 		}
 
-		return null;
+		return min;
+	}
+
+	private boolean isCancelled()
+	{
+		return Thread.currentThread().isInterrupted()
+			|| (timeBudget >= 0 && System.nanoTime() - startTime > timeBudget);
 	}
 }
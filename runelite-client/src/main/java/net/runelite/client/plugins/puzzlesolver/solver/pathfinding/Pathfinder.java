@@ -25,13 +25,16 @@
  */
 package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
 
+import java.time.Duration;
 import java.util.List;
+import javax.annotation.Nullable;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.Heuristic;
 
 public abstract class Pathfinder
 {
 	private Heuristic heuristic;
+	private Duration timeBudget;
 
 	Pathfinder(Heuristic heuristic)
 	{
@@ -43,5 +46,27 @@ public abstract class Pathfinder
 		return heuristic;
 	}
 
+	Duration getTimeBudget()
+	{
+		return timeBudget;
+	}
+
+	/**
+	 * Set how long computePath may search for before giving up.
+	 *
+	 * @param timeBudget the time budget, or null for no limit
+	 */
+	public void setTimeBudget(@Nullable Duration timeBudget)
+	{
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Compute the moves from a state to the solved state.
+	 *
+	 * @param start the state to start from
+	 * @return every state from start to the solved state, or null if there is no solution,
+	 * the time budget ran out or the thread was interrupted
+	 */
 	public abstract List<PuzzleState> computePath(PuzzleState start);
 }
@@ -27,22 +27,23 @@ package net.runelite.client.plugins.randomevents;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
-import java.util.Arrays;
 import java.util.Set;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Actor;
 import net.runelite.api.Client;
 import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.Player;
 import net.runelite.api.events.InteractingChanged;
-import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.menus.MenuManager;
+import net.runelite.client.menus.MenuRule;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 
@@ -79,8 +80,8 @@ public class RandomEventPlugin extends Plugin
 		NpcID.FROG_5429
 	);
 	private static final Set<String> EVENT_OPTIONS = ImmutableSet.of(
-		"Talk-to",
-		"Dismiss"
+		"talk-to",
+		"dismiss"
 	);
 	private static final int RANDOM_EVENT_TIMEOUT = 150;
 
@@ -96,15 +97,40 @@ public class RandomEventPlugin extends Plugin
 	@Inject
 	private RandomEventConfig config;
 
+	@Inject
+	private MenuManager menuManager;
+
+	private final MenuRule[] menuRules = EVENT_OPTIONS.stream()
+		.map(option -> MenuRule.builder()
+			.type(MenuRule.Type.HIDE)
+			.option(option)
+			.condition(this::isOtherPlayersEvent)
+			.build())
+		.toArray(MenuRule[]::new);
+
 	@Provides
 	RandomEventConfig getConfig(ConfigManager configManager)
 	{
 		return configManager.getConfig(RandomEventConfig.class);
 	}
 
+	@Override
+	protected void startUp() throws Exception
+	{
+		for (MenuRule rule : menuRules)
+		{
+			menuManager.addMenuRule(rule);
+		}
+	}
+
 	@Override
 	protected void shutDown() throws Exception
 	{
+		for (MenuRule rule : menuRules)
+		{
+			menuManager.removeMenuRule(rule);
+		}
+
 		lastNotificationTick = 0;
 		currentRandomEvent = null;
 	}
@@ -153,19 +179,17 @@ public class RandomEventPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onMenuEntryAdded(MenuEntryAdded event)
+	private boolean isOtherPlayersEvent(MenuEntry entry)
 	{
-		if (event.getType() >= MenuAction.NPC_FIRST_OPTION.getId()
-			&& event.getType() <= MenuAction.NPC_FIFTH_OPTION.getId()
-			&& EVENT_OPTIONS.contains(event.getOption()))
+		if (!config.removeMenuOptions()
+			|| entry.getType() < MenuAction.NPC_FIRST_OPTION.getId()
+			|| entry.getType() > MenuAction.NPC_FIFTH_OPTION.getId())
 		{
-			NPC npc = client.getCachedNPCs()[event.getIdentifier()];
-			if (npc != null && EVENT_NPCS.contains(npc.getId()) && npc != currentRandomEvent && config.removeMenuOptions())
-			{
-				client.setMenuEntries(Arrays.copyOf(client.getMenuEntries(), client.getMenuEntries().length - 1));
-			}
+			return false;
 		}
+
+		NPC npc = client.getCachedNPCs()[entry.getIdentifier()];
+		return npc != null && EVENT_NPCS.contains(npc.getId()) && npc != currentRandomEvent;
 	}
 
 	private boolean shouldNotify(int id)
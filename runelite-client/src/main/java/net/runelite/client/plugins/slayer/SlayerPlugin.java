@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -69,6 +70,8 @@ import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatCommandManager;
 import net.runelite.client.chat.ChatMessageBuilder;
 import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.ChatPattern;
+import net.runelite.client.chat.ChatPatternManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatInput;
@@ -164,6 +167,9 @@ public class SlayerPlugin extends Plugin
 	@Inject
 	private ChatCommandManager chatCommandManager;
 
+	@Inject
+	private ChatPatternManager chatPatternManager;
+
 	@Inject
 	private ScheduledExecutorService executor;
 
@@ -208,6 +214,7 @@ public class SlayerPlugin extends Plugin
 	private Instant infoTimer;
 	private boolean loginFlag;
 	private List<String> targetNames = new ArrayList<>();
+	private final List<ChatPattern> chatPatterns = new ArrayList<>();
 
 	@Override
 	protected void startUp() throws Exception
@@ -233,6 +240,7 @@ public class SlayerPlugin extends Plugin
 		}
 
 		chatCommandManager.registerCommandAsync(TASK_COMMAND_STRING, this::taskLookup, this::taskSubmit);
+		registerChatPatterns();
 	}
 
 	@Override
@@ -247,6 +255,8 @@ public class SlayerPlugin extends Plugin
 		cachedXp = -1;
 
 		chatCommandManager.unregisterCommand(TASK_COMMAND_STRING);
+		chatPatterns.forEach(chatPatternManager::unregisterPattern);
+		chatPatterns.clear();
 	}
 
 	@Provides
@@ -492,30 +502,34 @@ public class SlayerPlugin extends Plugin
 		if (config.showSuperiorNotification() && chatMsg.equals(CHAT_SUPERIOR_MESSAGE))
 		{
 			notifier.notify(CHAT_SUPERIOR_MESSAGE);
-			return;
 		}
+	}
 
-		Matcher mProgress = CHAT_GEM_PROGRESS_MESSAGE.matcher(chatMsg);
-
-		if (mProgress.find())
+	private void registerChatPatterns()
+	{
+		// Messages matching these match none of the messages checked in onChatMessage
+		registerChatPattern(CHAT_GEM_PROGRESS_MESSAGE, (event, mProgress) ->
 		{
 			String name = mProgress.group("name");
 			int gemAmount = Integer.parseInt(mProgress.group("amount"));
 			String location = mProgress.group("location");
 			setTask(name, gemAmount, initialAmount, location);
-			return;
-		}
-
-		final Matcher bracerProgress = COMBAT_BRACELET_TASK_UPDATE_MESSAGE.matcher(chatMsg);
+		});
 
-		if (bracerProgress.find())
+		registerChatPattern(COMBAT_BRACELET_TASK_UPDATE_MESSAGE, (event, bracerProgress) ->
 		{
 			final int taskAmount = Integer.parseInt(bracerProgress.group(1));
 			setTask(taskName, taskAmount, initialAmount);
 
 			// Avoid race condition (combat brace message goes through first before XP drop)
 			amount++;
-		}
+		});
+	}
+
+	private void registerChatPattern(Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		// remove color and linebreaks
+		chatPatterns.add(chatPatternManager.registerPattern(pattern, true, handler, ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM));
 	}
 
 	@Subscribe
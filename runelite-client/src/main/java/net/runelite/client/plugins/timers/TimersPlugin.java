@@ -26,6 +26,9 @@
 package net.runelite.client.plugins.timers;
 
 import com.google.inject.Provides;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -62,6 +65,8 @@ import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetID;
 import net.runelite.api.widgets.WidgetInfo;
 import static net.runelite.api.widgets.WidgetInfo.PVP_WORLD_SAFE_ZONE;
+import net.runelite.client.chat.ChatPattern;
+import net.runelite.client.chat.ChatPatternManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
@@ -125,6 +130,8 @@ public class TimersPlugin extends Plugin
 	private boolean loggedInRace;
 	private boolean widgetHiddenChangedOnPvpWorld;
 
+	private final List<ChatPattern> chatPatterns = new ArrayList<>();
+
 	@Inject
 	private ItemManager itemManager;
 
@@ -140,15 +147,26 @@ public class TimersPlugin extends Plugin
 	@Inject
 	private InfoBoxManager infoBoxManager;
 
+	@Inject
+	private ChatPatternManager chatPatternManager;
+
 	@Provides
 	TimersConfig getConfig(ConfigManager configManager)
 	{
 		return configManager.getConfig(TimersConfig.class);
 	}
 
+	@Override
+	protected void startUp() throws Exception
+	{
+		registerChatPatterns();
+	}
+
 	@Override
 	protected void shutDown() throws Exception
 	{
+		chatPatterns.forEach(chatPatternManager::unregisterPattern);
+		chatPatterns.clear();
 		infoBoxManager.removeIf(t -> t instanceof TimerTimer);
 		lastRaidVarb = -1;
 		lastPoint = null;
@@ -533,31 +551,9 @@ public class TimersPlugin extends Plugin
 			removeGameTimer(MAGICIMBUE);
 		}
 
-		if (config.showTeleblock())
+		if (config.showTeleblock() && event.getMessage().startsWith(KILLED_TELEBLOCK_OPPONENT_TEXT))
 		{
-			if (FULL_TELEBLOCK_PATTERN.matcher(event.getMessage()).find())
-			{
-				createGameTimer(FULLTB);
-			}
-			else if (HALF_TELEBLOCK_PATTERN.matcher(event.getMessage()).find())
-			{
-				if (client.getWorldType().contains(WorldType.DEADMAN))
-				{
-					createGameTimer(DMM_FULLTB);
-				}
-				else
-				{
-					createGameTimer(HALFTB);
-				}
-			}
-			else if (DEADMAN_HALF_TELEBLOCK_PATTERN.matcher(event.getMessage()).find())
-			{
-				createGameTimer(DMM_HALFTB);
-			}
-			else if (event.getMessage().startsWith(KILLED_TELEBLOCK_OPPONENT_TEXT))
-			{
-				removeTbTimers();
-			}
+			removeTbTimers();
 		}
 
 		if (config.showAntiFire() && event.getMessage().contains(SUPER_ANTIFIRE_DRINK_MESSAGE))
@@ -621,40 +617,82 @@ public class TimersPlugin extends Plugin
 			freezeTimer = createGameTimer(ICEBARRAGE);
 			freezeTime = client.getTickCount();
 		}
+	}
 
-		if (config.showDivine())
+	private void registerChatPatterns()
+	{
+		registerChatPattern(FULL_TELEBLOCK_PATTERN, (event, matcher) ->
 		{
-			Matcher mDivine = DIVINE_POTION_PATTERN.matcher(event.getMessage());
-			if (mDivine.find())
+			if (config.showTeleblock())
 			{
-				switch (mDivine.group(1))
-				{
-					case "super attack":
-						createGameTimer(DIVINE_SUPER_ATTACK);
-						break;
+				createGameTimer(FULLTB);
+			}
+		});
+
+		registerChatPattern(HALF_TELEBLOCK_PATTERN, (event, matcher) ->
+		{
+			if (!config.showTeleblock())
+			{
+				return;
+			}
 
-					case "super strength":
-						createGameTimer(DIVINE_SUPER_STRENGTH);
-						break;
+			if (client.getWorldType().contains(WorldType.DEADMAN))
+			{
+				createGameTimer(DMM_FULLTB);
+			}
+			else
+			{
+				createGameTimer(HALFTB);
+			}
+		});
 
-					case "super defence":
-						createGameTimer(DIVINE_SUPER_DEFENCE);
-						break;
+		registerChatPattern(DEADMAN_HALF_TELEBLOCK_PATTERN, (event, matcher) ->
+		{
+			if (config.showTeleblock())
+			{
+				createGameTimer(DMM_HALFTB);
+			}
+		});
 
-					case "combat":
-						createGameTimer(DIVINE_SUPER_COMBAT);
-						break;
+		registerChatPattern(DIVINE_POTION_PATTERN, (event, mDivine) ->
+		{
+			if (!config.showDivine())
+			{
+				return;
+			}
 
-					case "ranging":
-						createGameTimer(DIVINE_RANGING);
-						break;
+			switch (mDivine.group(1))
+			{
+				case "super attack":
+					createGameTimer(DIVINE_SUPER_ATTACK);
+					break;
 
-					case "magic":
-						createGameTimer(DIVINE_MAGIC);
-						break;
-				}
+				case "super strength":
+					createGameTimer(DIVINE_SUPER_STRENGTH);
+					break;
+
+				case "super defence":
+					createGameTimer(DIVINE_SUPER_DEFENCE);
+					break;
+
+				case "combat":
+					createGameTimer(DIVINE_SUPER_COMBAT);
+					break;
+
+				case "ranging":
+					createGameTimer(DIVINE_RANGING);
+					break;
+
+				case "magic":
+					createGameTimer(DIVINE_MAGIC);
+					break;
 			}
-		}
+		});
+	}
+
+	private void registerChatPattern(Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatPatterns.add(chatPatternManager.registerPattern(pattern, handler, ChatMessageType.SPAM, ChatMessageType.GAMEMESSAGE));
 	}
 
 	@Subscribe
@@ -49,6 +49,7 @@ class WintertodtOverlay extends Overlay
 		super(plugin);
 		this.plugin = plugin;
 		setPosition(OverlayPosition.BOTTOM_LEFT);
+		setTickStatic(true);
 		getMenuEntries().add(new OverlayMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "Wintertodt overlay"));
 	}
 
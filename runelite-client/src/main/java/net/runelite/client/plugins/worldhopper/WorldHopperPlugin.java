@@ -78,6 +78,7 @@ import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.worldhopper.ping.Ping;
+import net.runelite.client.plugins.worldhopper.ping.WorldPinger;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -105,6 +106,9 @@ public class WorldHopperPlugin extends Plugin
 
 	private static final int DISPLAY_SWITCHER_MAX_ATTEMPTS = 3;
 
+	private static final int PING_CONCURRENCY = 128;
+	private static final int PING_TIMEOUT = 2000; // ms
+
 	private static final String HOP_TO = "Hop-to";
 	private static final String KICK_OPTION = "Kick";
 	private static final ImmutableList<String> BEFORE_OPTIONS = ImmutableList.of("Add friend", "Remove friend", KICK_OPTION);
@@ -144,6 +148,8 @@ public class WorldHopperPlugin extends Plugin
 	private WorldClient worldClient;
 
 	private ScheduledExecutorService hopperExecutorService;
+	// the connect times of the first sweep only seed the smoothed pings if later pings are also connect times
+	private final WorldPinger worldPinger = new WorldPinger(PING_CONCURRENCY, PING_TIMEOUT, Ping.isTcp());
 
 	private NavigationButton navButton;
 	private WorldSwitcherPanel panel;
@@ -786,7 +792,7 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
+	 * Ping all worlds at once. This is only run on first run.
 	 */
 	private void pingInitialWorlds()
 	{
@@ -797,11 +803,7 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
-		{
-			int ping = Ping.ping(world);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
+		worldPinger.ping(worldResult.getWorlds(), (world, ping) -> SwingUtilities.invokeLater(() -> panel.updatePing(world, ping)));
 
 		stopwatch.stop();
 
@@ -839,7 +841,7 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		int ping = Ping.ping(world);
+		int ping = worldPinger.record(world.getId(), Ping.ping(world));
 		log.trace("Ping for world {} is: {}", world.getId(), ping);
 		SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
 	}
@@ -62,6 +62,14 @@ public class Ping
 		}
 	}
 
+	/**
+	 * Whether {@link #ping(World)} times a TCP connect, as {@link WorldPinger} does, rather than an ICMP echo
+	 */
+	public static boolean isTcp()
+	{
+		return OSType.getOSType() != OSType.Windows;
+	}
+
 	private static int windowsPing(World world) throws UnknownHostException
 	{
 		IPHlpAPI ipHlpAPI = IPHlpAPI.INSTANCE;
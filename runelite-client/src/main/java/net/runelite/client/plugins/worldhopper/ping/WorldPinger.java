@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings many worlds at once by timing non-blocking TCP connects on a single selector,
+ * and keeps a smoothed round trip time for each world. Hostnames are looked up on a
+ * small pool of threads, and each world's connect starts as soon as its lookup completes.
+ */
+@Slf4j
+public class WorldPinger
+{
+	private static final int PORT = 43594;
+	private static final int RESOLVER_THREADS = 8;
+	// how often completed lookups are checked for while waiting on connects
+	private static final long RESOLVE_POLL_MILLIS = 10;
+
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called from the pinging thread as each ping completes.
+		 *
+		 * @param worldId world id
+		 * @param ping    smoothed round trip time in milliseconds, or the connect time if connect times
+		 *                aren't recorded, or -1 if the world could not be reached
+		 */
+		void pingResult(int worldId, int ping);
+	}
+
+	private static class Probe
+	{
+		private final int worldId;
+		private InetSocketAddress address;
+		private SocketChannel channel;
+		private long start;
+		private boolean done;
+
+		private Probe(int worldId, InetSocketAddress address)
+		{
+			this.worldId = worldId;
+			this.address = address;
+		}
+	}
+
+	private final int concurrency;
+	private final long timeoutNanos;
+	private final boolean recordConnects;
+	private final Map<Integer, Integer> smoothedPings = new ConcurrentHashMap<>();
+
+	/**
+	 * @param concurrency maximum number of connects in flight
+	 * @param timeout     connect timeout in milliseconds
+	 */
+	public WorldPinger(int concurrency, int timeout)
+	{
+		this(concurrency, timeout, true);
+	}
+
+	/**
+	 * @param concurrency    maximum number of connects in flight
+	 * @param timeout        connect timeout in milliseconds
+	 * @param recordConnects whether connect times are added to the smoothed round trip times. This should
+	 *                       be false if {@link #record(int, int)} is given pings measured another way, as
+	 *                       the two can differ by more than the smoothing hides.
+	 */
+	public WorldPinger(int concurrency, int timeout, boolean recordConnects)
+	{
+		if (concurrency < 1)
+		{
+			throw new IllegalArgumentException("concurrency must be at least 1");
+		}
+
+		this.concurrency = concurrency;
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+		this.recordConnects = recordConnects;
+	}
+
+	/**
+	 * Ping each world, blocking until every ping has completed or timed out.
+	 *
+	 * @param worlds   worlds to ping
+	 * @param listener receives each result as it completes
+	 */
+	public void ping(Collection<World> worlds, Listener listener)
+	{
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (World world : worlds)
+		{
+			targets.put(world.getId(), InetSocketAddress.createUnresolved(world.getAddress(), PORT));
+		}
+		ping(targets, listener);
+	}
+
+	void ping(Map<Integer, InetSocketAddress> targets, Listener listener)
+	{
+		final ArrayDeque<Probe> pending = new ArrayDeque<>(targets.size());
+		// probes whose lookups have completed, successfully or not, handed over by the resolver threads
+		final Queue<Probe> resolved = new ConcurrentLinkedQueue<>();
+		int resolving = 0;
+		ExecutorService resolver = null;
+
+		// probes in the order they were started, which is also the order they time out in
+		final ArrayDeque<Probe> inFlight = new ArrayDeque<>(concurrency);
+		int inFlightCount = 0;
+
+		try (Selector selector = Selector.open())
+		{
+			for (Map.Entry<Integer, InetSocketAddress> entry : targets.entrySet())
+			{
+				final Probe probe = new Probe(entry.getKey(), entry.getValue());
+				if (!probe.address.isUnresolved())
+				{
+					pending.add(probe);
+					continue;
+				}
+
+				if (resolver == null)
+				{
+					resolver = Executors.newFixedThreadPool(Math.min(RESOLVER_THREADS, targets.size()),
+						new ThreadFactoryBuilder()
+							.setNameFormat("world-resolver-%d")
+							.setDaemon(true)
+							.build());
+				}
+
+				resolver.execute(() ->
+				{
+					probe.address = new InetSocketAddress(probe.address.getHostString(), probe.address.getPort());
+					// the selector isn't woken, as it may be closed by the time a slow lookup completes
+					resolved.add(probe);
+				});
+				++resolving;
+			}
+
+			while (resolving > 0 || !pending.isEmpty() || inFlightCount > 0)
+			{
+				if (Thread.currentThread().isInterrupted())
+				{
+					inFlight.forEach(WorldPinger::close);
+					return;
+				}
+
+				for (Probe probe; (probe = resolved.poll()) != null; --resolving)
+				{
+					if (probe.address.isUnresolved())
+					{
+						log.debug("unable to resolve {}", probe.address.getHostString());
+						listener.pingResult(probe.worldId, -1);
+					}
+					else
+					{
+						pending.add(probe);
+					}
+				}
+
+				while (inFlightCount < concurrency && !pending.isEmpty())
+				{
+					final Probe probe = pending.poll();
+					if (start(probe, selector, listener))
+					{
+						inFlight.add(probe);
+						++inFlightCount;
+					}
+				}
+
+				while (!inFlight.isEmpty() && inFlight.peek().done)
+				{
+					inFlight.poll();
+				}
+
+				if (inFlight.isEmpty())
+				{
+					if (pending.isEmpty() && resolving > 0)
+					{
+						// nothing is registered, so this waits for the lookups, and returns early if interrupted
+						selector.select(RESOLVE_POLL_MILLIS);
+					}
+					continue;
+				}
+
+				final long wait = inFlight.peek().start + timeoutNanos - System.nanoTime();
+				if (wait > 0)
+				{
+					long waitMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait));
+					if (resolving > 0)
+					{
+						waitMillis = Math.min(waitMillis, RESOLVE_POLL_MILLIS);
+					}
+					selector.select(waitMillis);
+				}
+				else
+				{
+					selector.selectNow();
+				}
+
+				final long now = System.nanoTime();
+				final Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+				while (it.hasNext())
+				{
+					final SelectionKey key = it.next();
+					it.remove();
+
+					final Probe probe = (Probe) key.attachment();
+					int ping;
+					try
+					{
+						probe.channel.finishConnect();
+						ping = (int) TimeUnit.NANOSECONDS.toMillis(now - probe.start);
+					}
+					catch (IOException ex)
+					{
+						log.trace("unable to connect to world {}", probe.worldId, ex);
+						ping = -1;
+					}
+
+					finish(probe, ping, listener);
+					--inFlightCount;
+				}
+
+				for (Probe probe : inFlight)
+				{
+					if (probe.start + timeoutNanos - now > 0)
+					{
+						break;
+					}
+
+					if (!probe.done)
+					{
+						finish(probe, -1, listener);
+						--inFlightCount;
+					}
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("error pinging", ex);
+		}
+		finally
+		{
+			if (resolver != null)
+			{
+				resolver.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Record a ping taken some other way.
+	 *
+	 * @param worldId world id
+	 * @param ping    round trip time in milliseconds, or -1 if the world could not be reached
+	 * @return the smoothed round trip time, or -1 if the world could not be reached
+	 */
+	public int record(int worldId, int ping)
+	{
+		if (ping < 0)
+		{
+			return -1;
+		}
+
+		// exponentially weighted moving average with a gain of 1/8, as for TCP's SRTT
+		return smoothedPings.merge(worldId, ping, (srtt, rtt) -> srtt + (rtt - srtt) / 8);
+	}
+
+	/**
+	 * Get the smoothed round trip time of a world.
+	 *
+	 * @param worldId world id
+	 * @return the smoothed round trip time in milliseconds, or -1 if the world has not been reached
+	 */
+	public int getPing(int worldId)
+	{
+		return smoothedPings.getOrDefault(worldId, -1);
+	}
+
+	/**
+	 * Start a connect.
+	 *
+	 * @return true if the connect is in flight, false if it has already finished
+	 */
+	private boolean start(Probe probe, Selector selector, Listener listener)
+	{
+		try
+		{
+			probe.channel = SocketChannel.open();
+			probe.channel.configureBlocking(false);
+			probe.start = System.nanoTime();
+			if (probe.channel.connect(probe.address))
+			{
+				finish(probe, (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - probe.start), listener);
+				return false;
+			}
+			probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.trace("unable to connect to world {}", probe.worldId, ex);
+			finish(probe, -1, listener);
+			return false;
+		}
+	}
+
+	private void finish(Probe probe, int ping, Listener listener)
+	{
+		close(probe);
+		listener.pingResult(probe.worldId, recordConnects ? record(probe.worldId, ping) : ping);
+	}
+
+	private static void close(Probe probe)
+	{
+		probe.done = true;
+
+		if (probe.channel != null)
+		{
+			try
+			{
+				probe.channel.close();
+			}
+			catch (IOException ex)
+			{
+				log.trace("error closing channel", ex);
+			}
+		}
+	}
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Attributes the time spent in event subscribers, overlays, scheduled tasks and
+ * client thread invokes to the plugin which owns them, and keeps each plugin's
+ * time per frame so percentiles can be computed. Callers check {@link #isEnabled()}
+ * before timing anything, so the profiler costs a single read while disabled.
+ * <p>
+ * Time is attributed by package, so anything declared in a plugin's package counts
+ * towards that plugin and everything else counts towards {@link #CORE}.
+ */
+@Singleton
+@Slf4j
+public class PluginProfiler
+{
+	public static final String CORE = "RuneLite";
+
+	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins.";
+	private static final ProfileSource[] SOURCES = ProfileSource.values();
+	private static final int FRAMES = 1000;
+	private static final long LOG_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+
+	private static final ClassValue<String> OWNERS = new ClassValue<String>()
+	{
+		@Override
+		protected String computeValue(Class<?> type)
+		{
+			return ownerName(type.getName());
+		}
+	};
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile boolean enabled;
+	private long lastLog;
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Enable or disable profiling. Enabling discards anything previously recorded.
+	 *
+	 * @param enabled
+	 */
+	public synchronized void setEnabled(boolean enabled)
+	{
+		if (enabled && !this.enabled)
+		{
+			entries.clear();
+			lastLog = System.nanoTime();
+		}
+
+		this.enabled = enabled;
+		log.debug("Plugin profiler {}", enabled ? "enabled" : "disabled");
+	}
+
+	/**
+	 * Record time spent on behalf of an object
+	 *
+	 * @param owner the object the time was spent in, such as an event subscriber or a plugin
+	 * @param source
+	 * @param nanos
+	 */
+	public void record(Object owner, ProfileSource source, long nanos)
+	{
+		final String name = OWNERS.get(owner.getClass());
+
+		Entry entry = entries.get(name);
+		if (entry == null)
+		{
+			entry = entries.computeIfAbsent(name, Entry::new);
+		}
+
+		entry.frame[source.ordinal()].add(nanos);
+	}
+
+	/**
+	 * Close the current frame, adding the time recorded since the previous frame
+	 * to each plugin's history. Called from the client thread once per frame.
+	 */
+	public void endFrame()
+	{
+		if (!enabled)
+		{
+			return;
+		}
+
+		for (Entry entry : entries.values())
+		{
+			entry.endFrame();
+		}
+
+		final long now = System.nanoTime();
+		if (now - lastLog >= LOG_INTERVAL)
+		{
+			lastLog = now;
+			logProfile();
+		}
+	}
+
+	/**
+	 * @return the profile of each plugin, ordered by mean time per frame
+	 */
+	public List<PluginProfile> getProfiles()
+	{
+		final List<PluginProfile> profiles = new ArrayList<>(entries.size());
+		for (Entry entry : entries.values())
+		{
+			profiles.add(entry.snapshot());
+		}
+		profiles.sort(Comparator.comparingLong(PluginProfile::getMean).reversed());
+		return profiles;
+	}
+
+	private void logProfile()
+	{
+		final List<PluginProfile> profiles = getProfiles();
+		if (profiles.isEmpty())
+		{
+			return;
+		}
+
+		final StringBuilder sb = new StringBuilder("Plugin frame time (ms)");
+		sb.append(String.format("%n%-24s %8s %8s %8s %8s %8s", "", "mean", "p50", "p95", "p99", "max"));
+		for (PluginProfile profile : profiles)
+		{
+			sb.append(String.format("%n%-24s %8.3f %8.3f %8.3f %8.3f %8.3f",
+				profile.getName(),
+				profile.getMean() / 1e6, profile.getP50() / 1e6, profile.getP95() / 1e6,
+				profile.getP99() / 1e6, profile.getMax() / 1e6));
+		}
+		log.info(sb.toString());
+	}
+
+	static String ownerName(String className)
+	{
+		if (!className.startsWith(PLUGIN_PACKAGE))
+		{
+			return CORE;
+		}
+
+		final int end = className.indexOf('.', PLUGIN_PACKAGE.length());
+		if (end == -1)
+		{
+			// a class in the plugins package itself, such as PluginManager
+			return CORE;
+		}
+
+		return className.substring(PLUGIN_PACKAGE.length(), end);
+	}
+
+	private static class Entry
+	{
+		private final String name;
+		private final LongAdder[] frame = new LongAdder[SOURCES.length];
+		private final long[] totals = new long[SOURCES.length];
+		private final long[] frames = new long[FRAMES];
+		private int frameCount;
+
+		Entry(String name)
+		{
+			this.name = name;
+			for (int i = 0; i < frame.length; ++i)
+			{
+				frame[i] = new LongAdder();
+			}
+		}
+
+		synchronized void endFrame()
+		{
+			long sum = 0;
+			for (int i = 0; i < frame.length; ++i)
+			{
+				final long t = frame[i].sumThenReset();
+				totals[i] += t;
+				sum += t;
+			}
+
+			frames[frameCount++ % FRAMES] = sum;
+		}
+
+		synchronized PluginProfile snapshot()
+		{
+			final int n = Math.min(frameCount, FRAMES);
+			final long[] sorted = Arrays.copyOf(frames, n);
+			Arrays.sort(sorted);
+
+			long sum = 0;
+			for (long t : sorted)
+			{
+				sum += t;
+			}
+
+			return new PluginProfile(name, n,
+				n > 0 ? sum / n : 0,
+				percentile(sorted, .5),
+				percentile(sorted, .95),
+				percentile(sorted, .99),
+				n > 0 ? sorted[n - 1] : 0,
+				totals.clone());
+		}
+
+		private static long percentile(long[] sorted, double p)
+		{
+			if (sorted.length == 0)
+			{
+				return 0;
+			}
+
+			final int idx = (int) Math.ceil(p * sorted.length) - 1;
+			return sorted[Math.max(idx, 0)];
+		}
+	}
+}
@@ -25,7 +25,9 @@
 package net.runelite.client.task;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ScheduledMethod
 {
@@ -34,11 +36,18 @@ public class ScheduledMethod
 	private final Object object;
 	private Instant last = Instant.now();
 
+	// maintained by the Scheduler
+	private final long period;
+	private long deadline;
+	private Runnable invoker;
+	private final AtomicBoolean running = new AtomicBoolean();
+
 	public ScheduledMethod(Schedule schedule, Method method, Object object)
 	{
 		this.schedule = schedule;
 		this.method = method;
 		this.object = object;
+		this.period = Duration.of(schedule.period(), schedule.unit()).toNanos();
 	}
 
 	@Override
@@ -71,4 +80,43 @@ public class ScheduledMethod
 	{
 		this.last = last;
 	}
+
+	/**
+	 * @return the period of the schedule, in nanoseconds
+	 */
+	long getPeriod()
+	{
+		return period;
+	}
+
+	/**
+	 * @return the {@link System#nanoTime()} after which the method is next due
+	 */
+	long getDeadline()
+	{
+		return deadline;
+	}
+
+	void setDeadline(long deadline)
+	{
+		this.deadline = deadline;
+	}
+
+	Runnable getInvoker()
+	{
+		return invoker;
+	}
+
+	void setInvoker(Runnable invoker)
+	{
+		this.invoker = invoker;
+	}
+
+	/**
+	 * @return whether an asynchronous run of the method is queued or in progress
+	 */
+	AtomicBoolean getRunning()
+	{
+		return running;
+	}
 }
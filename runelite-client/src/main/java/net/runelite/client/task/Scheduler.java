@@ -24,17 +24,27 @@
  */
 package net.runelite.client.task;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.PluginProfiler;
+import net.runelite.client.profiler.ProfileSource;
+import net.runelite.client.util.ReflectUtil;
 
 @Singleton
 @Slf4j
@@ -42,17 +52,43 @@ public class Scheduler
 {
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
 
+	/**
+	 * Scheduled methods ordered by when they are next due, so a tick only looks at methods which are due
+	 */
+	private final PriorityQueue<ScheduledMethod> queue = new PriorityQueue<>(Comparator.comparingLong(ScheduledMethod::getDeadline));
+
+	/**
+	 * Executor for asynchronous methods, shared with the plugins so asynchronous methods run one at a
+	 * time alongside their other work. Each method is only queued once at a time, so a slow method
+	 * skips runs rather than backing up.
+	 */
 	@Inject
 	ScheduledExecutorService executor;
 
+	@Inject
+	PluginProfiler profiler;
+
 	public void addScheduledMethod(ScheduledMethod method)
 	{
+		method.setInvoker(createInvoker(method));
+
+		synchronized (queue)
+		{
+			method.setDeadline(System.nanoTime() + method.getPeriod());
+			queue.add(method);
+		}
+
 		scheduledMethods.add(method);
 	}
 
 	public void removeScheduledMethod(ScheduledMethod method)
 	{
 		scheduledMethods.remove(method);
+
+		synchronized (queue)
+		{
+			queue.remove(method);
+		}
 	}
 
 	public List<ScheduledMethod> getScheduledMethods()
@@ -62,50 +98,125 @@ public class Scheduler
 
 	public void tick()
 	{
-		Instant now = Instant.now();
+		final long now = System.nanoTime();
 
-		for (ScheduledMethod scheduledMethod : scheduledMethods)
+		for (;;)
 		{
-			Instant last = scheduledMethod.getLast();
+			final ScheduledMethod scheduledMethod;
 
-			Duration difference = Duration.between(last, now);
+			synchronized (queue)
+			{
+				final ScheduledMethod next = queue.peek();
+				if (next == null || now - next.getDeadline() <= 0)
+				{
+					return;
+				}
 
-			Schedule schedule = scheduledMethod.getSchedule();
-			Duration timeSinceRun = Duration.of(schedule.period(), schedule.unit());
+				queue.poll();
+				next.setDeadline(now + next.getPeriod());
+				queue.add(next);
+				scheduledMethod = next;
+			}
 
-			if (difference.compareTo(timeSinceRun) > 0)
+			log.trace("Scheduled task triggered: {}", scheduledMethod);
+
+			scheduledMethod.setLast(Instant.now());
+
+			if (scheduledMethod.getSchedule().asynchronous())
+			{
+				submit(scheduledMethod);
+			}
+			else
 			{
-				log.trace("Scheduled task triggered: {}", scheduledMethod);
+				run(scheduledMethod);
+			}
+		}
+	}
 
-				scheduledMethod.setLast(now);
+	private void submit(ScheduledMethod scheduledMethod)
+	{
+		if (!scheduledMethod.getRunning().compareAndSet(false, true))
+		{
+			log.debug("Skipping scheduled task which is still running: {}", scheduledMethod);
+			return;
+		}
 
-				if (schedule.asynchronous())
+		try
+		{
+			executor.execute(() ->
+			{
+				try
 				{
-					executor.submit(() -> run(scheduledMethod));
+					run(scheduledMethod);
 				}
-				else
+				finally
 				{
-					run(scheduledMethod);
+					scheduledMethod.getRunning().set(false);
 				}
-			}
+			});
+		}
+		catch (RejectedExecutionException ex)
+		{
+			scheduledMethod.getRunning().set(false);
+			log.warn("Unable to run scheduled task, the executor is not accepting tasks: {}", scheduledMethod, ex);
 		}
 	}
 
 	private void run(ScheduledMethod scheduledMethod)
 	{
-		Method method = scheduledMethod.getMethod();
+		final boolean profile = profiler != null && profiler.isEnabled();
+		final long start = profile ? System.nanoTime() : 0L;
 
 		try
 		{
-			method.invoke(scheduledMethod.getObject());
-		}
-		catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex)
-		{
-			log.warn("error invoking scheduled task", ex);
+			scheduledMethod.getInvoker().run();
 		}
 		catch (Exception ex)
 		{
 			log.warn("error during scheduled task", ex);
 		}
+
+		if (profile)
+		{
+			profiler.record(scheduledMethod.getObject(), ProfileSource.TASK, System.nanoTime() - start);
+		}
+	}
+
+	private static Runnable createInvoker(ScheduledMethod scheduledMethod)
+	{
+		final Method method = scheduledMethod.getMethod();
+		final Object object = scheduledMethod.getObject();
+
+		try
+		{
+			final Class<?> clazz = method.getDeclaringClass();
+			final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
+			final MethodHandle target = caller.unreflect(method);
+			final CallSite site = LambdaMetafactory.metafactory(
+				caller,
+				"run",
+				MethodType.methodType(Runnable.class, clazz),
+				MethodType.methodType(void.class),
+				target,
+				MethodType.methodType(void.class));
+
+			return (Runnable) site.getTarget().bindTo(object).invokeExact();
+		}
+		catch (Throwable e)
+		{
+			log.warn("Unable to create lambda for method {}", method, e);
+		}
+
+		return () ->
+		{
+			try
+			{
+				method.invoke(object);
+			}
+			catch (IllegalAccessException | InvocationTargetException ex)
+			{
+				throw new RuntimeException("error invoking scheduled task", ex);
+			}
+		};
 	}
 }
@@ -30,6 +30,7 @@ import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.Plugin;
@@ -50,6 +51,17 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	private OverlayLayer layer = OverlayLayer.UNDER_WIDGETS;
 	private final List<OverlayMenuEntry> menuEntries = new ArrayList<>();
 
+	/**
+	 * Whether the overlay changes at most once per game tick. Tick-static overlays are rendered
+	 * to an image which is drawn each frame until the next game tick, or until {@link #invalidate()}
+	 * is called.
+	 */
+	private boolean tickStatic;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	volatile boolean invalidated;
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -68,4 +80,12 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 		return this.getClass().getSimpleName();
 	}
+
+	/**
+	 * Discard the cached image of a tick-static overlay, so it is rendered again on the next frame
+	 */
+	public void invalidate()
+	{
+		invalidated = true;
+	}
 }
@@ -26,9 +26,11 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Ints;
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Point;
@@ -38,10 +40,16 @@ import java.awt.Stroke;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -50,6 +58,7 @@ import net.runelite.api.MenuEntry;
 import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.ClientTick;
 import net.runelite.api.events.FocusChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.config.RuneLiteConfig;
@@ -58,6 +67,8 @@ import net.runelite.client.input.KeyListener;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
+import net.runelite.client.profiler.PluginProfiler;
+import net.runelite.client.profiler.ProfileSource;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.ColorUtil;
 
@@ -76,6 +87,7 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	private final Client client;
 	private final OverlayManager overlayManager;
 	private final RuneLiteConfig runeLiteConfig;
+	private final PluginProfiler profiler;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -93,17 +105,24 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	private boolean isResizeable;
 	private OverlayBounds snapCorners;
 
+	// Render caches
+	private final Map<OverlayLayer, OverlayLayout> layouts = new EnumMap<>(OverlayLayer.class);
+	private final Map<Overlay, CachedOverlay> overlayCache = new WeakHashMap<>();
+	private int tickCount;
+
 	@Inject
 	private OverlayRenderer(
 		final Client client,
 		final OverlayManager overlayManager,
 		final RuneLiteConfig runeLiteConfig,
 		final MouseManager mouseManager,
-		final KeyManager keyManager)
+		final KeyManager keyManager,
+		final PluginProfiler profiler)
 	{
 		this.client = client;
 		this.overlayManager = overlayManager;
 		this.runeLiteConfig = runeLiteConfig;
+		this.profiler = profiler;
 		keyManager.registerKeyListener(this);
 		mouseManager.registerMouseListener(this);
 	}
@@ -146,6 +165,12 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		client.setMenuEntries(newEntries);
 	}
 
+	@Subscribe
+	public void onGameTick(GameTick event)
+	{
+		++tickCount;
+	}
+
 	@Subscribe
 	public void onBeforeRender(BeforeRender event)
 	{
@@ -177,8 +202,6 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			snapCorners = buildSnapCorners();
 		}
 
-		// Create copy of snap corners because overlays will modify them
-		OverlayBounds snapCorners = new OverlayBounds(this.snapCorners);
 		OverlayUtil.setGraphicProperties(graphics);
 
 		// Draw snap corners
@@ -211,33 +234,14 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		final RenderingHints renderingHints = graphics.getRenderingHints();
 		final Color background = graphics.getBackground();
 
-		for (Overlay overlay : overlays)
-		{
-			OverlayPosition overlayPosition = overlay.getPosition();
-
-			if (overlay.getPreferredPosition() != null)
-			{
-				overlayPosition = overlay.getPreferredPosition();
-			}
+		final OverlayLayout layout = layout(layer, overlays);
 
-			if (!isResizeable)
-			{
-				// On fixed mode, ABOVE_CHATBOX_RIGHT is in the same location as
-				// BOTTOM_RIGHT and CANVAST_TOP_RIGHT is same as TOP_RIGHT.
-				// Just use BOTTOM_RIGHT and TOP_RIGHT to prevent overlays from
-				// drawing over each other.
-				switch (overlayPosition)
-				{
-					case CANVAS_TOP_RIGHT:
-						overlayPosition = OverlayPosition.TOP_RIGHT;
-						break;
-					case ABOVE_CHATBOX_RIGHT:
-						overlayPosition = OverlayPosition.BOTTOM_RIGHT;
-						break;
-				}
-			}
+		for (int i = 0; i < overlays.size(); ++i)
+		{
+			final Overlay overlay = overlays.get(i);
+			final Point location = layout.locations[i];
 
-			if (overlayPosition == OverlayPosition.DYNAMIC || overlayPosition == OverlayPosition.TOOLTIP)
+			if (location == null)
 			{
 				safeRender(client, overlay, layer, graphics, new Point());
 
@@ -251,46 +255,24 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			}
 			else
 			{
-				final Point location = overlay.getBounds().getLocation();
-				final Dimension dimension = overlay.getBounds().getSize();
-
-				// If the final position is not modified, layout it
-				if (overlayPosition != OverlayPosition.DETACHED && (overlay.getPreferredLocation() == null || overlay.getPreferredPosition() != null))
-				{
-					final Rectangle snapCorner = snapCorners.forPosition(overlayPosition);
-					final Point translation = OverlayUtil.transformPosition(overlayPosition, dimension);
-					location.setLocation(snapCorner.getX() + translation.x, snapCorner.getY() + translation.y);
-					final Point padding = OverlayUtil.padPosition(overlayPosition, dimension, PADDING);
-					snapCorner.translate(padding.x, padding.y);
-				}
-				else
-				{
-					final Point preferredLocation = overlay.getPreferredLocation();
-
-					if (preferredLocation != null)
-					{
-						location.setLocation(preferredLocation);
-					}
-
-					final Dimension realDimensions = client.getRealDimensions();
-					location.x = Ints.constrainToRange(location.x, 0, Math.max(0, realDimensions.width - dimension.width));
-					location.y = Ints.constrainToRange(location.y, 0, Math.max(0, realDimensions.height - dimension.height));
-				}
-
 				if (overlay.getPreferredSize() != null)
 				{
 					overlay.getBounds().setSize(overlay.getPreferredSize());
 				}
 
-				safeRender(client, overlay, layer, graphics, location);
-
-				// Restore graphics2d properties prior to drawing bounds
-				graphics.setTransform(transform);
-				graphics.setStroke(stroke);
-				graphics.setComposite(composite);
-				graphics.setPaint(paint);
-				graphics.setRenderingHints(renderingHints);
-				graphics.setBackground(background);
+				// Cached overlays are drawn with a single drawImage, which leaves the graphics state as it was
+				if (!overlay.isTickStatic() || !cachedRender(client, overlay, layer, graphics, location))
+				{
+					safeRender(client, overlay, layer, graphics, location);
+
+					// Restore graphics2d properties prior to drawing bounds
+					graphics.setTransform(transform);
+					graphics.setStroke(stroke);
+					graphics.setComposite(composite);
+					graphics.setPaint(paint);
+					graphics.setRenderingHints(renderingHints);
+					graphics.setBackground(background);
+				}
 
 				final Rectangle bounds = overlay.getBounds();
 
@@ -313,6 +295,89 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		}
 	}
 
+	/**
+	 * Get the locations of the overlays in a layer, laying them out again only if the overlays,
+	 * their sizes or positions, or the snap corners have changed since the last frame
+	 */
+	private OverlayLayout layout(final OverlayLayer layer, final List<Overlay> overlays)
+	{
+		final Dimension realDimensions = client.getRealDimensions();
+		OverlayLayout layout = layouts.get(layer);
+
+		if (layout != null && layout.isValid(overlays, this.snapCorners, realDimensions))
+		{
+			return layout;
+		}
+
+		layout = new OverlayLayout(overlays, this.snapCorners, realDimensions);
+
+		// Create copy of snap corners because overlays will modify them
+		final OverlayBounds snapCorners = new OverlayBounds(this.snapCorners);
+
+		for (int i = 0; i < overlays.size(); ++i)
+		{
+			final Overlay overlay = overlays.get(i);
+			OverlayPosition overlayPosition = overlay.getPosition();
+
+			if (overlay.getPreferredPosition() != null)
+			{
+				overlayPosition = overlay.getPreferredPosition();
+			}
+
+			if (!isResizeable)
+			{
+				// On fixed mode, ABOVE_CHATBOX_RIGHT is in the same location as
+				// BOTTOM_RIGHT and CANVAST_TOP_RIGHT is same as TOP_RIGHT.
+				// Just use BOTTOM_RIGHT and TOP_RIGHT to prevent overlays from
+				// drawing over each other.
+				switch (overlayPosition)
+				{
+					case CANVAS_TOP_RIGHT:
+						overlayPosition = OverlayPosition.TOP_RIGHT;
+						break;
+					case ABOVE_CHATBOX_RIGHT:
+						overlayPosition = OverlayPosition.BOTTOM_RIGHT;
+						break;
+				}
+			}
+
+			if (overlayPosition == OverlayPosition.DYNAMIC || overlayPosition == OverlayPosition.TOOLTIP)
+			{
+				continue;
+			}
+
+			final Point location = overlay.getBounds().getLocation();
+			final Dimension dimension = overlay.getBounds().getSize();
+
+			// If the final position is not modified, layout it
+			if (overlayPosition != OverlayPosition.DETACHED && (overlay.getPreferredLocation() == null || overlay.getPreferredPosition() != null))
+			{
+				final Rectangle snapCorner = snapCorners.forPosition(overlayPosition);
+				final Point translation = OverlayUtil.transformPosition(overlayPosition, dimension);
+				location.setLocation(snapCorner.getX() + translation.x, snapCorner.getY() + translation.y);
+				final Point padding = OverlayUtil.padPosition(overlayPosition, dimension, PADDING);
+				snapCorner.translate(padding.x, padding.y);
+			}
+			else
+			{
+				final Point preferredLocation = overlay.getPreferredLocation();
+
+				if (preferredLocation != null)
+				{
+					location.setLocation(preferredLocation);
+				}
+
+				location.x = Ints.constrainToRange(location.x, 0, Math.max(0, realDimensions.width - dimension.width));
+				location.y = Ints.constrainToRange(location.y, 0, Math.max(0, realDimensions.height - dimension.height));
+			}
+
+			layout.locations[i] = location;
+		}
+
+		layouts.put(layer, layout);
+		return layout;
+	}
+
 	@Override
 	public MouseEvent mousePressed(MouseEvent mouseEvent)
 	{
@@ -460,6 +525,106 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	}
 
 	private void safeRender(Client client, Overlay overlay, OverlayLayer layer, Graphics2D graphics, Point point)
+	{
+		setClip(client, layer, graphics);
+		graphics.setFont(getFont(overlay));
+		graphics.translate(point.x, point.y);
+		overlay.getBounds().setLocation(point);
+
+		render(overlay, graphics);
+	}
+
+	/**
+	 * Draw a tick-static overlay from its cached image, rendering it to the image first if it
+	 * was invalidated, a game tick has passed or its size or font has changed
+	 *
+	 * @return false if the overlay has no size yet or has outgrown its image, and so must be
+	 * rendered directly
+	 */
+	private boolean cachedRender(Client client, Overlay overlay, OverlayLayer layer, Graphics2D graphics, Point point)
+	{
+		final Dimension size = overlay.getBounds().getSize();
+		if (size.width <= 0 || size.height <= 0)
+		{
+			overlayCache.remove(overlay);
+			return false;
+		}
+
+		final Font font = getFont(overlay);
+		CachedOverlay cached = overlayCache.get(overlay);
+
+		if (cached == null || cached.tick != tickCount || overlay.invalidated || cached.font != font
+			|| cached.image.getWidth() != size.width || cached.image.getHeight() != size.height)
+		{
+			overlay.invalidated = false;
+
+			final BufferedImage image = cached != null && cached.image.getWidth() == size.width && cached.image.getHeight() == size.height
+				? cached.image
+				: new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+
+			final Graphics2D imageGraphics = image.createGraphics();
+			try
+			{
+				imageGraphics.setComposite(AlphaComposite.Clear);
+				imageGraphics.fillRect(0, 0, size.width, size.height);
+				imageGraphics.setComposite(AlphaComposite.SrcOver);
+				imageGraphics.setRenderingHints(graphics.getRenderingHints());
+				imageGraphics.setFont(font);
+
+				render(overlay, imageGraphics);
+			}
+			finally
+			{
+				imageGraphics.dispose();
+			}
+
+			final Dimension rendered = overlay.getBounds().getSize();
+			if (rendered.width > image.getWidth() || rendered.height > image.getHeight())
+			{
+				// the overlay grew and was clipped to the image, so draw it directly this frame
+				// and cache it at its new size on the next
+				overlayCache.remove(overlay);
+				return false;
+			}
+
+			cached = new CachedOverlay(image, font, tickCount);
+			overlayCache.put(overlay, cached);
+		}
+
+		setClip(client, layer, graphics);
+		graphics.drawImage(cached.image, point.x, point.y, null);
+		overlay.getBounds().setLocation(point);
+		return true;
+	}
+
+	private void render(Overlay overlay, Graphics2D graphics)
+	{
+		final boolean profile = profiler.isEnabled();
+		final long start = profile ? System.nanoTime() : 0L;
+
+		final Dimension overlayDimension;
+		try
+		{
+			overlayDimension = overlay.render(graphics);
+		}
+		catch (Exception ex)
+		{
+			log.warn("Error during overlay rendering", ex);
+			return;
+		}
+		finally
+		{
+			if (profile)
+			{
+				profiler.record(overlay.getPlugin() != null ? overlay.getPlugin() : overlay, ProfileSource.OVERLAY, System.nanoTime() - start);
+			}
+		}
+
+		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
+		overlay.getBounds().setSize(dimension);
+	}
+
+	private void setClip(Client client, OverlayLayer layer, Graphics2D graphics)
 	{
 		if (!isResizeable && (layer == OverlayLayer.ABOVE_SCENE || layer == OverlayLayer.UNDER_WIDGETS))
 		{
@@ -472,39 +637,25 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		{
 			graphics.setClip(0, 0, client.getCanvasWidth(), client.getCanvasHeight());
 		}
+	}
 
+	private Font getFont(Overlay overlay)
+	{
 		final OverlayPosition position = overlay.getPosition();
 
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			graphics.setFont(runeLiteConfig.fontType().getFont());
+			return runeLiteConfig.fontType().getFont();
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			graphics.setFont(runeLiteConfig.tooltipFontType().getFont());
+			return runeLiteConfig.tooltipFontType().getFont();
 		}
 		else
 		{
-			graphics.setFont(runeLiteConfig.interfaceFontType().getFont());
-		}
-
-		graphics.translate(point.x, point.y);
-		overlay.getBounds().setLocation(point);
-
-		final Dimension overlayDimension;
-		try
-		{
-			overlayDimension = overlay.render(graphics);
-		}
-		catch (Exception ex)
-		{
-			log.warn("Error during overlay rendering", ex);
-			return;
+			return runeLiteConfig.interfaceFontType().getFont();
 		}
-
-		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
-		overlay.getBounds().setSize(dimension);
 	}
 
 	private boolean shouldInvalidateBounds()
@@ -622,4 +773,71 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 
 		return entries;
 	}
+
+	@RequiredArgsConstructor
+	private static class CachedOverlay
+	{
+		private final BufferedImage image;
+		private final Font font;
+		private final int tick;
+	}
+
+	/**
+	 * The locations of the overlays in a layer, and the state they were computed from
+	 */
+	private static class OverlayLayout
+	{
+		private final List<Overlay> overlays;
+		private final OverlayBounds snapCorners;
+		private final Dimension realDimensions;
+		private final Dimension[] sizes;
+		private final OverlayPosition[] preferredPositions;
+		private final Point[] preferredLocations;
+		private final Point[] locations;
+
+		OverlayLayout(List<Overlay> overlays, OverlayBounds snapCorners, Dimension realDimensions)
+		{
+			final int count = overlays.size();
+			this.overlays = overlays;
+			this.snapCorners = snapCorners;
+			this.realDimensions = realDimensions;
+			this.sizes = new Dimension[count];
+			this.preferredPositions = new OverlayPosition[count];
+			this.preferredLocations = new Point[count];
+			this.locations = new Point[count];
+
+			for (int i = 0; i < count; ++i)
+			{
+				final Overlay overlay = overlays.get(i);
+				sizes[i] = overlay.getBounds().getSize();
+				preferredPositions[i] = overlay.getPreferredPosition();
+				preferredLocations[i] = overlay.getPreferredLocation() != null ? new Point(overlay.getPreferredLocation()) : null;
+			}
+		}
+
+		boolean isValid(List<Overlay> overlays, OverlayBounds snapCorners, Dimension realDimensions)
+		{
+			// the overlay manager replaces the layer lists when overlays change, and the snap
+			// corners are rebuilt when the viewport changes
+			if (overlays != this.overlays || snapCorners != this.snapCorners || !realDimensions.equals(this.realDimensions))
+			{
+				return false;
+			}
+
+			for (int i = 0; i < sizes.length; ++i)
+			{
+				final Overlay overlay = overlays.get(i);
+				final Rectangle bounds = overlay.getBounds();
+
+				if (bounds.width != sizes[i].width || bounds.height != sizes[i].height
+					|| overlay.getPreferredPosition() != preferredPositions[i]
+					|| !Objects.equals(overlay.getPreferredLocation(), preferredLocations[i]))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
 }
@@ -56,6 +56,14 @@ public class AsyncBufferedImage extends BufferedImage
 		listeners.clear();
 	}
 
+	/**
+	 * Checks if the image has been loaded
+	 */
+	public synchronized boolean isLoaded()
+	{
+		return loaded;
+	}
+
 	/**
 	 * Register a function to be ran when the image has been loaded.
 	 * If the image is already loaded, the function will not be ran.
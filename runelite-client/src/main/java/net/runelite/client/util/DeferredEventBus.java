@@ -48,12 +48,24 @@ public class DeferredEventBus extends EventBus
 		eventBus.register(object);
 	}
 
+	@Override
+	public void registerAll(Iterable<?> objects)
+	{
+		eventBus.registerAll(objects);
+	}
+
 	@Override
 	public void unregister(Object object)
 	{
 		eventBus.unregister(object);
 	}
 
+	@Override
+	public void unregisterAll(Iterable<?> objects)
+	{
+		eventBus.unregisterAll(objects);
+	}
+
 	@Override
 	public void post(Object object)
 	{
@@ -31,6 +31,7 @@ import java.awt.Image;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.awt.image.DirectColorModel;
 import java.awt.image.PixelGrabber;
 import java.awt.image.RescaleOp;
@@ -38,6 +39,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.swing.GrayFilter;
 import java.util.function.Predicate;
@@ -52,6 +54,9 @@ import net.runelite.api.SpritePixels;
 @Slf4j
 public class ImageUtil
 {
+	// a constant so fillImage and outlineImage can recognize it and test the alpha directly
+	private static final Predicate<Color> NOT_FULLY_TRANSPARENT = ColorUtil::isNotFullyTransparent;
+
 	static
 	{
 		ImageIO.setUseCache(false);
@@ -87,6 +92,11 @@ public class ImageUtil
 	 */
 	public static BufferedImage grayscaleOffset(final BufferedImage image, final int offset)
 	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return rescale(image, 1f, offset, 1f, 0f);
+		}
+
 		final float offsetFloat = (float) offset;
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
@@ -113,6 +123,11 @@ public class ImageUtil
 	 */
 	public static BufferedImage grayscaleOffset(final BufferedImage image, final float percentage)
 	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return rescale(image, percentage, 0f, 1f, 0f);
+		}
+
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
 		final float[] offsets = new float[numComponents];
@@ -139,6 +154,11 @@ public class ImageUtil
 	 */
 	public static BufferedImage alphaOffset(final BufferedImage image, final int offset)
 	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return rescale(image, 1f, 0f, 1f, offset);
+		}
+
 		final float offsetFloat = (float) offset;
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
@@ -161,6 +181,11 @@ public class ImageUtil
 	 */
 	public static BufferedImage alphaOffset(final BufferedImage image, final float percentage)
 	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return rescale(image, 1f, 0f, percentage, 0f);
+		}
+
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
 		final float[] offsets = new float[numComponents];
@@ -277,7 +302,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color)
 	{
-		return outlineImage(image, color, ColorUtil::isNotFullyTransparent, false);
+		return outlineImage(image, color, NOT_FULLY_TRANSPARENT, false);
 	}
 
 	/**
@@ -306,7 +331,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color, final Boolean outlineCorners)
 	{
-		return outlineImage(image, color, ColorUtil::isNotFullyTransparent, outlineCorners);
+		return outlineImage(image, color, NOT_FULLY_TRANSPARENT, outlineCorners);
 	}
 
 	/**
@@ -322,25 +347,97 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition, final Boolean outlineCorners)
 	{
-		final BufferedImage filledImage = fillImage(image, color, fillCondition);
-		final BufferedImage outlinedImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		return outlineImage(image, color, fillCondition, outlineCorners, null);
+	}
 
-		final Graphics2D g2d = outlinedImage.createGraphics();
-		for (int x = -1; x <= 1; x++)
+	/**
+	 * Outlines non-transparent pixels of a BufferedImage with the given color, into an image from
+	 * a previous call if it is the right size, so callers outlining images every frame don't
+	 * allocate a new image each time.
+	 *
+	 * @param image The image to be outlined.
+	 * @param color The color to use for the outline.
+	 * @param dest  An image previously returned by this method to be overwritten, or null.
+	 * @return      The BufferedImage with its edges outlined with the given color, which is
+	 *              {@code dest} if it could be reused.
+	 */
+	public static BufferedImage outlineImage(final BufferedImage image, final Color color, @Nullable final BufferedImage dest)
+	{
+		return outlineImage(image, color, NOT_FULLY_TRANSPARENT, false, dest);
+	}
+
+	/**
+	 * Outlines the pixels of an image matching the fill condition in a single pass over its pixels.
+	 * This gives the same result as drawing the filled image offset to each neighbour, and the image
+	 * over that.
+	 */
+	private static BufferedImage outlineImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition, final boolean outlineCorners, @Nullable final BufferedImage dest)
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int[] src = getPixels(image);
+		final boolean[] fill = fillMask(src, fillCondition);
+
+		// the outline color drawn over itself once for each filled neighbour
+		final int rgb = color.getRGB();
+		final int[] outline = new int[9];
+		for (int i = 1; i < outline.length; i++)
 		{
-			for (int y = -1; y <= 1; y++)
+			outline[i] = srcOver(rgb, outline[i - 1]);
+		}
+
+		final BufferedImage outlinedImage = reuse(dest, width, height);
+		final int[] dst = getData(outlinedImage);
+
+		for (int y = 0, i = 0; y < height; y++)
+		{
+			final boolean up = y > 0;
+			final boolean down = y < height - 1;
+			for (int x = 0; x < width; x++, i++)
 			{
-				if ((x == 0 && y == 0)
-					|| (!outlineCorners && Math.abs(x) + Math.abs(y) != 1))
+				final boolean left = x > 0;
+				final boolean right = x < width - 1;
+
+				int neighbours = 0;
+				if (left && fill[i - 1])
 				{
-					continue;
+					neighbours++;
+				}
+				if (right && fill[i + 1])
+				{
+					neighbours++;
+				}
+				if (up && fill[i - width])
+				{
+					neighbours++;
+				}
+				if (down && fill[i + width])
+				{
+					neighbours++;
+				}
+				if (outlineCorners)
+				{
+					if (up && left && fill[i - width - 1])
+					{
+						neighbours++;
+					}
+					if (up && right && fill[i - width + 1])
+					{
+						neighbours++;
+					}
+					if (down && left && fill[i + width - 1])
+					{
+						neighbours++;
+					}
+					if (down && right && fill[i + width + 1])
+					{
+						neighbours++;
+					}
 				}
 
-				g2d.drawImage(filledImage, x, y, null);
+				dst[i] = srcOver(src[i], outline[neighbours]);
 			}
 		}
-		g2d.drawImage(image, 0, 0, null);
-		g2d.dispose();
 
 		return outlinedImage;
 	}
@@ -378,7 +475,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage fillImage(final BufferedImage image, final Color color)
 	{
-		return fillImage(image, color, ColorUtil::isNotFullyTransparent);
+		return fillImage(image, color, NOT_FULLY_TRANSPARENT);
 	}
 
 	/**
@@ -393,18 +490,15 @@ public class ImageUtil
 	 */
 	static BufferedImage fillImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition)
 	{
+		final boolean[] fill = fillMask(getPixels(image), fillCondition);
 		final BufferedImage filledImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-		for (int x = 0; x < filledImage.getWidth(); x++)
+		final int[] dst = getData(filledImage);
+		final int rgb = color.getRGB();
+		for (int i = 0; i < dst.length; i++)
 		{
-			for (int y = 0; y < filledImage.getHeight(); y++)
+			if (fill[i])
 			{
-				final Color pixelColor = new Color(image.getRGB(x, y), true);
-				if (!fillCondition.test(pixelColor))
-				{
-					continue;
-				}
-
-				filledImage.setRGB(x, y, color.getRGB());
+				dst[i] = rgb;
 			}
 		}
 		return filledImage;
@@ -423,6 +517,137 @@ public class ImageUtil
 		return new RescaleOp(scales, offsets, null).filter(image, null);
 	}
 
+	/**
+	 * Performs the same rescale operation as {@link RescaleOp} on a {@link BufferedImage#TYPE_INT_ARGB}
+	 * image, with one scale and offset for the color components and one for the alpha component.
+	 */
+	private static BufferedImage rescale(final BufferedImage image, final float colorScale, final float colorOffset,
+		final float alphaScale, final float alphaOffset)
+	{
+		final int[] colors = new int[256];
+		final int[] alphas = new int[256];
+		for (int i = 0; i < 256; i++)
+		{
+			colors[i] = clamp((int) (i * colorScale + colorOffset));
+			alphas[i] = clamp((int) (i * alphaScale + alphaOffset)) << 24;
+		}
+
+		final int[] src = getPixels(image);
+		final BufferedImage out = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		final int[] dst = getData(out);
+		for (int i = 0; i < dst.length; i++)
+		{
+			final int argb = src[i];
+			dst[i] = alphas[argb >>> 24]
+				| colors[(argb >> 16) & 0xff] << 16
+				| colors[(argb >> 8) & 0xff] << 8
+				| colors[argb & 0xff];
+		}
+		return out;
+	}
+
+	private static int clamp(final int component)
+	{
+		return component < 0 ? 0 : component > 255 ? 255 : component;
+	}
+
+	/**
+	 * Tests the fill condition against each pixel, only creating a {@link Color} when the pixel
+	 * differs from the previous one as sprites are mostly runs of the same color.
+	 */
+	private static boolean[] fillMask(final int[] pixels, final Predicate<Color> fillCondition)
+	{
+		final boolean[] fill = new boolean[pixels.length];
+		if (fillCondition == NOT_FULLY_TRANSPARENT)
+		{
+			for (int i = 0; i < pixels.length; i++)
+			{
+				fill[i] = (pixels[i] >>> 24) != 0;
+			}
+			return fill;
+		}
+
+		int last = 0;
+		boolean lastFill = false;
+		for (int i = 0; i < pixels.length; i++)
+		{
+			final int argb = pixels[i];
+			if (i == 0 || argb != last)
+			{
+				last = argb;
+				lastFill = fillCondition.test(new Color(argb, true));
+			}
+			fill[i] = lastFill;
+		}
+		return fill;
+	}
+
+	/**
+	 * Composites a non-premultiplied ARGB color over another, as drawing with the default
+	 * {@link java.awt.AlphaComposite#SrcOver} does.
+	 */
+	private static int srcOver(final int src, final int dst)
+	{
+		final int srcAlpha = src >>> 24;
+		if (srcAlpha == 0)
+		{
+			return dst;
+		}
+
+		final int dstAlpha = dst >>> 24;
+		if (srcAlpha == 255 || dstAlpha == 0)
+		{
+			return src;
+		}
+
+		final int dstWeight = dstAlpha * (255 - srcAlpha) / 255;
+		final int alpha = srcAlpha + dstWeight;
+		int out = alpha << 24;
+		for (int shift = 0; shift < 24; shift += 8)
+		{
+			final int c = (((src >> shift) & 0xff) * srcAlpha + ((dst >> shift) & 0xff) * dstWeight) / alpha;
+			out |= c << shift;
+		}
+		return out;
+	}
+
+	/**
+	 * Gets the pixels of an image as non-premultiplied ARGB. {@link BufferedImage#TYPE_INT_ARGB}
+	 * images are copied straight out of their raster, which unlike {@link #getData(BufferedImage)}
+	 * leaves the image able to be accelerated.
+	 */
+	private static int[] getPixels(final BufferedImage image)
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return (int[]) image.getRaster().getDataElements(0, 0, width, height, null);
+		}
+		return image.getRGB(0, 0, width, height, null, 0, width);
+	}
+
+	/**
+	 * Gets the backing pixels of a {@link BufferedImage#TYPE_INT_ARGB} image created here
+	 */
+	private static int[] getData(final BufferedImage image)
+	{
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	private static BufferedImage reuse(@Nullable final BufferedImage image, final int width, final int height)
+	{
+		if (image != null
+			&& image.getType() == BufferedImage.TYPE_INT_ARGB
+			&& image.getWidth() == width
+			&& image.getHeight() == height
+			&& image.getRaster().getDataBuffer() instanceof DataBufferInt
+			&& getData(image).length == width * height)
+		{
+			return image;
+		}
+		return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+	}
 
 	/**
 	 * Converts the buffered image into a sprite image and returns it
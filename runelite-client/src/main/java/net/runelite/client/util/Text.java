@@ -30,7 +30,6 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
 import org.apache.commons.text.WordUtils;
 
 /**
@@ -38,7 +37,6 @@ import org.apache.commons.text.WordUtils;
  */
 public class Text
 {
-	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
 	private static final Splitter COMMA_SPLITTER = Splitter
 		.on(",")
 		.omitEmptyStrings()
@@ -74,22 +72,123 @@ public class Text
 	 * Removes all tags from the given string.
 	 *
 	 * @param str The string to remove tags from.
-	 * @return The given string with all tags removed from it.
+	 * @return The given string with all tags removed from it, or the same
+	 * instance if it has no tags.
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		int open = str.indexOf('<');
+		if (open == -1 || str.indexOf('>', open) == -1)
+		{
+			return str;
+		}
+
+		return removeTags(str, new StringBuilder(str.length())).toString();
+	}
+
+	/**
+	 * Appends the given text with all tags removed to a builder, so that
+	 * hot loops can reuse one builder.
+	 *
+	 * @param str The text to remove tags from.
+	 * @param out The builder to append to.
+	 * @return {@code out}
+	 */
+	public static StringBuilder removeTags(CharSequence str, StringBuilder out)
+	{
+		final int len = str.length();
+		int start = 0;
+		for (int i = 0; i < len; ++i)
+		{
+			if (str.charAt(i) != '<')
+			{
+				continue;
+			}
+
+			int close = indexOf(str, '>', i + 1);
+			if (close == -1)
+			{
+				// no tag can be closed past this point
+				break;
+			}
+
+			out.append(str, start, i);
+			start = close + 1;
+			i = close;
+		}
+		return out.append(str, start, len);
 	}
 
 	/**
 	 * In addition to removing all tags, replaces nbsp with space, trims string and lowercases it
 	 * @param str The string to standardize
 	 *
-	 * @return The given `str` that is standardized
+	 * @return The given `str` that is standardized, or the same instance if it
+	 * is already standardized
 	 */
 	public static String standardize(String str)
 	{
-		return removeTags(str).replace('\u00A0', ' ').trim().toLowerCase();
+		final int len = str.length();
+		boolean standard = len == 0 || (str.charAt(0) > ' ' && str.charAt(len - 1) > ' ');
+		for (int i = 0; standard && i < len; ++i)
+		{
+			char c = str.charAt(i);
+			standard = c != '<' && c != '\u00A0' && Character.toLowerCase(c) == c;
+		}
+
+		if (standard)
+		{
+			return str;
+		}
+
+		return standardize(str, new StringBuilder(len)).toString();
+	}
+
+	/**
+	 * Appends the given text standardized as by {@link #standardize(String)}
+	 * to a builder, so that hot loops can reuse one builder.
+	 *
+	 * @param str The text to standardize.
+	 * @param out The builder to append to.
+	 * @return {@code out}
+	 */
+	public static StringBuilder standardize(CharSequence str, StringBuilder out)
+	{
+		final int len = str.length();
+		final int begin = out.length();
+		for (int i = 0; i < len; ++i)
+		{
+			char c = str.charAt(i);
+			if (c == '<')
+			{
+				int close = indexOf(str, '>', i + 1);
+				if (close != -1)
+				{
+					i = close;
+					continue;
+				}
+			}
+			else if (c == '\u00A0')
+			{
+				c = ' ';
+			}
+
+			if (c <= ' ' && out.length() == begin)
+			{
+				// leading whitespace
+				continue;
+			}
+
+			out.append(Character.toLowerCase(c));
+		}
+
+		int end = out.length();
+		while (end > begin && out.charAt(end - 1) <= ' ')
+		{
+			--end;
+		}
+		out.setLength(end);
+		return out;
 	}
 
 	/**
@@ -97,11 +196,83 @@ public class Text
 	 * Remove all non-ascii characters, replace nbsp with space, replace _- with spaces, and trim
 	 *
 	 * @param str The string to standardize
-	 * @return The given `str` that is in Jagex name format
+	 * @return The given `str` that is in Jagex name format, or the same instance
+	 * if it already is
 	 */
 	public static String toJagexName(String str)
 	{
-		return CharMatcher.ascii().retainFrom(str.replace('\u00A0', ' ')).replaceAll("[_-]+", " ").trim();
+		final int len = str.length();
+		boolean jagexName = len == 0 || (str.charAt(0) > ' ' && str.charAt(len - 1) > ' ');
+		for (int i = 0; jagexName && i < len; ++i)
+		{
+			char c = str.charAt(i);
+			jagexName = c < 0x80 && c != '_' && c != '-';
+		}
+
+		if (jagexName)
+		{
+			return str;
+		}
+
+		return toJagexName(str, new StringBuilder(len)).toString();
+	}
+
+	/**
+	 * Appends the given text in Jagex username format as by {@link #toJagexName(String)}
+	 * to a builder, so that hot loops can reuse one builder.
+	 *
+	 * @param str The text to convert.
+	 * @param out The builder to append to.
+	 * @return {@code out}
+	 */
+	public static StringBuilder toJagexName(CharSequence str, StringBuilder out)
+	{
+		final int len = str.length();
+		final int begin = out.length();
+		boolean separator = false;
+		for (int i = 0; i < len; ++i)
+		{
+			char c = str.charAt(i);
+			if (c == '\u00A0')
+			{
+				c = ' ';
+			}
+			else if (c >= 0x80)
+			{
+				continue;
+			}
+
+			if (c == '_' || c == '-')
+			{
+				// a run of separators becomes one space
+				if (separator)
+				{
+					continue;
+				}
+				separator = true;
+				c = ' ';
+			}
+			else
+			{
+				separator = false;
+			}
+
+			if (c <= ' ' && out.length() == begin)
+			{
+				// leading whitespace
+				continue;
+			}
+
+			out.append(c);
+		}
+
+		int end = out.length();
+		while (end > begin && out.charAt(end - 1) <= ' ')
+		{
+			--end;
+		}
+		out.setLength(end);
+		return out;
 	}
 
 	/**
@@ -159,8 +330,23 @@ public class Text
 	 */
 	public static String sanitize(String name)
 	{
-		String cleaned = name.contains("<img") ? name.substring(name.lastIndexOf('>') + 1) : name;
-		return cleaned.replace('\u00A0', ' ');
+		int start = name.contains("<img") ? name.lastIndexOf('>') + 1 : 0;
+		int nbsp = name.indexOf('\u00A0', start);
+		if (nbsp == -1)
+		{
+			return start == 0 ? name : name.substring(start);
+		}
+
+		char[] chars = new char[name.length() - start];
+		name.getChars(start, name.length(), chars, 0);
+		for (int i = nbsp - start; i < chars.length; ++i)
+		{
+			if (chars[i] == '\u00A0')
+			{
+				chars[i] = ' ';
+			}
+		}
+		return new String(chars);
 	}
 
 	/**
@@ -186,4 +372,16 @@ public class Text
 
 		return toString;
 	}
+
+	private static int indexOf(CharSequence str, char c, int from)
+	{
+		for (int i = from, len = str.length(); i < len; ++i)
+		{
+			if (str.charAt(i) == c)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
 }
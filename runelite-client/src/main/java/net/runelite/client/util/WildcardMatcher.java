@@ -24,34 +24,62 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
-
+	/**
+	 * Match text against a pattern where {@code *} matches any sequence of characters,
+	 * ignoring case
+	 *
+	 * @param pattern
+	 * @param text
+	 * @return
+	 */
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
-
-		buffer.append("(?i)");
-		while (matcher.find())
+		// on a mismatch, backtrack to the last wildcard and have it match one more character.
+		// This is sufficient when * is the only wildcard, and doesn't allocate.
+		int p = 0, t = 0;
+		int star = -1, mark = 0;
+		while (t < text.length())
 		{
-			if (matcher.group(1) != null)
+			if (p < pattern.length() && pattern.charAt(p) == '*')
+			{
+				star = p++;
+				mark = t;
+			}
+			else if (p < pattern.length() && equalsIgnoreCase(pattern.charAt(p), text.charAt(t)))
+			{
+				++p;
+				++t;
+			}
+			else if (star != -1)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				p = star + 1;
+				t = ++mark;
 			}
 			else
 			{
-				matcher.appendReplacement(buffer, "\\\\Q" + matcher.group(0) + "\\\\E");
+				return false;
 			}
 		}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+		while (p < pattern.length() && pattern.charAt(p) == '*')
+		{
+			++p;
+		}
+		return p == pattern.length();
+	}
 
-		return text.matches(replaced);
+	static boolean equalsIgnoreCase(char c1, char c2)
+	{
+		return c1 == c2 || fold(c1) == fold(c2);
+	}
+
+	/**
+	 * Fold the case of a character the same as {@link String#equalsIgnoreCase(String)}
+	 */
+	static char fold(char c)
+	{
+		return Character.toLowerCase(Character.toUpperCase(c));
 	}
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A set of {@link WildcardMatcher} patterns, compiled once so that finding the pattern
+ * matching a name does not allocate. Patterns without a wildcard are found with a hash
+ * lookup, and patterns with one are only tried against names starting with the same
+ * character as the pattern, unless the pattern starts with a wildcard.
+ */
+public class WildcardMatcherSet
+{
+	public static final WildcardMatcherSet EMPTY = new WildcardMatcherSet(new ArrayList<>());
+
+	private static final int ALPHABET = 128;
+	private static final int[] NONE = new int[0];
+
+	private final String[] patterns;
+
+	// open addressing table of the patterns without wildcards, holding pattern index + 1
+	private final int[] exact;
+	private final int exactMask;
+
+	// patterns with wildcards, by the folded first character of the pattern
+	private final int[][] byFirstChar = new int[ALPHABET][];
+	// patterns with wildcards starting with a wildcard or a non-ascii character
+	private final int[] unindexed;
+
+	public WildcardMatcherSet(Collection<String> patterns)
+	{
+		this.patterns = patterns.toArray(new String[0]);
+
+		int exactCount = 0;
+		for (String pattern : this.patterns)
+		{
+			if (pattern.indexOf('*') == -1)
+			{
+				++exactCount;
+			}
+		}
+
+		int size = Integer.highestOneBit(Math.max(exactCount, 1) * 2) * 2;
+		exact = new int[size];
+		exactMask = size - 1;
+
+		List<List<Integer>> buckets = new ArrayList<>(ALPHABET);
+		for (int i = 0; i < ALPHABET; ++i)
+		{
+			buckets.add(null);
+		}
+		List<Integer> unindexed = new ArrayList<>();
+
+		for (int i = 0; i < this.patterns.length; ++i)
+		{
+			String pattern = this.patterns[i];
+			if (pattern.indexOf('*') == -1)
+			{
+				int slot = hash(pattern) & exactMask;
+				while (exact[slot] != 0)
+				{
+					if (this.patterns[exact[slot] - 1].equalsIgnoreCase(pattern))
+					{
+						// keep the first of equal patterns
+						break;
+					}
+					slot = (slot + 1) & exactMask;
+				}
+				if (exact[slot] == 0)
+				{
+					exact[slot] = i + 1;
+				}
+				continue;
+			}
+
+			char first = WildcardMatcher.fold(pattern.charAt(0));
+			if (first == '*' || first >= ALPHABET)
+			{
+				unindexed.add(i);
+			}
+			else
+			{
+				if (buckets.get(first) == null)
+				{
+					buckets.set(first, new ArrayList<>());
+				}
+				buckets.get(first).add(i);
+			}
+		}
+
+		for (int i = 0; i < ALPHABET; ++i)
+		{
+			List<Integer> bucket = buckets.get(i);
+			byFirstChar[i] = bucket == null ? NONE : bucket.stream().mapToInt(Integer::intValue).toArray();
+		}
+		this.unindexed = unindexed.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	public boolean isEmpty()
+	{
+		return patterns.length == 0;
+	}
+
+	/**
+	 * Test if any pattern matches the text
+	 *
+	 * @param text
+	 * @return
+	 */
+	public boolean matches(String text)
+	{
+		return indexOf(text) != -1;
+	}
+
+	/**
+	 * Find the first pattern matching the text
+	 *
+	 * @param text
+	 * @return the pattern, or null if none match
+	 */
+	public String match(String text)
+	{
+		int index = indexOf(text);
+		return index == -1 ? null : patterns[index];
+	}
+
+	/**
+	 * Find the first pattern matching the text
+	 *
+	 * @param text
+	 * @return the index of the pattern, or -1 if none match
+	 */
+	public int indexOf(String text)
+	{
+		if (text == null || patterns.length == 0)
+		{
+			return -1;
+		}
+
+		int best = Integer.MAX_VALUE;
+
+		int slot = hash(text) & exactMask;
+		for (int entry; (entry = exact[slot]) != 0; slot = (slot + 1) & exactMask)
+		{
+			if (patterns[entry - 1].equalsIgnoreCase(text))
+			{
+				best = entry - 1;
+				break;
+			}
+		}
+
+		if (!text.isEmpty())
+		{
+			char first = WildcardMatcher.fold(text.charAt(0));
+			if (first < ALPHABET)
+			{
+				best = first(byFirstChar[first], text, best);
+			}
+		}
+		best = first(unindexed, text, best);
+
+		return best == Integer.MAX_VALUE ? -1 : best;
+	}
+
+	/**
+	 * Find the first of the patterns, which are in ascending order, matching the text
+	 * before the current best
+	 */
+	private int first(int[] indexes, String text, int best)
+	{
+		for (int index : indexes)
+		{
+			if (index >= best)
+			{
+				break;
+			}
+
+			if (WildcardMatcher.matches(patterns[index], text))
+			{
+				return index;
+			}
+		}
+		return best;
+	}
+
+	private static int hash(String s)
+	{
+		int h = 0;
+		for (int i = 0; i < s.length(); ++i)
+		{
+			h = 31 * h + WildcardMatcher.fold(s.charAt(i));
+		}
+		return h ^ (h >>> 16);
+	}
+}
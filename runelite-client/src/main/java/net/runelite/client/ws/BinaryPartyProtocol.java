@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ws;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.ws.messages.party.PartyMemberMessage;
+import okio.Buffer;
+import okio.ByteString;
+
+/**
+ * Binary framing for party member messages with a registered {@link PartyMessageCodec}.
+ * <p>
+ * A frame is laid out as
+ * <pre>
+ * byte    version
+ * varint  type id
+ * long    member id (most significant bits)
+ * long    member id (least significant bits)
+ * varint  key
+ * byte    flags
+ * varint  changed field mask
+ * varint  zigzag delta of each changed field, in field order
+ * </pre>
+ * Deltas are taken against the last frame sent for the same type and key, and a
+ * message whose fields have not changed is not sent at all. Keyframes are deltas
+ * against zero with every field present, and are sent for the first frame of a
+ * stream, periodically after that, and after {@link #resetSent()}. Receivers
+ * drop deltas for streams they have no keyframe for.
+ */
+@Slf4j
+class BinaryPartyProtocol
+{
+	static final int VERSION = 1;
+
+	private static final int FLAG_KEYFRAME = 1;
+	private static final int KEYFRAME_INTERVAL = 32;
+	private static final int MAX_FIELDS = 32;
+
+	private static class Type
+	{
+		private final int id;
+		private final Class<? extends PartyMemberMessage> messageClass;
+		private final PartyMessageCodec<PartyMemberMessage> codec;
+
+		@SuppressWarnings("unchecked")
+		private <T extends PartyMemberMessage> Type(int id, Class<T> messageClass, PartyMessageCodec<T> codec)
+		{
+			this.id = id;
+			this.messageClass = messageClass;
+			this.codec = (PartyMessageCodec<PartyMemberMessage>) codec;
+		}
+	}
+
+	private static class SentStream
+	{
+		private int[] fields;
+		private int framesSinceKeyframe;
+	}
+
+	private final Map<Class<?>, Type> typesByClass = new HashMap<>();
+	private final Map<Integer, Type> typesById = new HashMap<>();
+	private final Map<Long, SentStream> sent = new HashMap<>();
+	private final Map<UUID, Map<Long, int[]>> received = new HashMap<>();
+
+	synchronized <T extends PartyMemberMessage> void register(int id, Class<T> messageClass, PartyMessageCodec<T> codec)
+	{
+		if (id < 0)
+		{
+			throw new IllegalArgumentException("type id must not be negative");
+		}
+
+		final Type existing = typesById.get(id);
+		if (existing != null && existing.messageClass != messageClass)
+		{
+			throw new IllegalArgumentException("type id " + id + " is already registered to " + existing.messageClass.getSimpleName());
+		}
+
+		final Type type = new Type(id, messageClass, codec);
+		typesByClass.put(messageClass, type);
+		typesById.put(id, type);
+	}
+
+	synchronized void unregister(Class<? extends PartyMemberMessage> messageClass)
+	{
+		final Type type = typesByClass.remove(messageClass);
+		if (type != null)
+		{
+			typesById.remove(type.id);
+			sent.keySet().removeIf(k -> (int) (k >>> 32) == type.id);
+			for (Map<Long, int[]> streams : received.values())
+			{
+				streams.keySet().removeIf(k -> (int) (k >>> 32) == type.id);
+			}
+		}
+	}
+
+	/**
+	 * Encode a message as a binary frame.
+	 *
+	 * @param message message
+	 * @return the frame, {@link ByteString#EMPTY} if nothing has changed since the
+	 * last frame for the same stream, or null if the message type has no codec
+	 */
+	@Nullable
+	synchronized ByteString encode(PartyMemberMessage message)
+	{
+		final Type type = typesByClass.get(message.getClass());
+		if (type == null || message.getMemberId() == null)
+		{
+			return null;
+		}
+
+		final int key = type.codec.getKey(message);
+		final int[] fields = type.codec.encode(message);
+		if (key < 0 || fields.length > MAX_FIELDS)
+		{
+			throw new IllegalArgumentException("invalid key or field count for " + type.messageClass.getSimpleName());
+		}
+
+		final SentStream stream = sent.computeIfAbsent(streamKey(type.id, key), k -> new SentStream());
+		final int[] previous = stream.fields;
+		final boolean keyframe = previous == null
+			|| previous.length != fields.length
+			|| stream.framesSinceKeyframe >= KEYFRAME_INTERVAL;
+
+		int mask = 0;
+		for (int i = 0; i < fields.length; ++i)
+		{
+			if (keyframe || fields[i] != previous[i])
+			{
+				mask |= 1 << i;
+			}
+		}
+
+		if (mask == 0)
+		{
+			return ByteString.EMPTY;
+		}
+
+		final Buffer buffer = new Buffer();
+		buffer.writeByte(VERSION);
+		writeVarint(buffer, type.id);
+		buffer.writeLong(message.getMemberId().getMostSignificantBits());
+		buffer.writeLong(message.getMemberId().getLeastSignificantBits());
+		writeVarint(buffer, key);
+		buffer.writeByte(keyframe ? FLAG_KEYFRAME : 0);
+		writeVarint(buffer, mask);
+
+		for (int i = 0; i < fields.length; ++i)
+		{
+			if ((mask & (1 << i)) != 0)
+			{
+				final int delta = keyframe ? fields[i] : fields[i] - previous[i];
+				writeVarint(buffer, (delta << 1) ^ (delta >> 31));
+			}
+		}
+
+		stream.fields = fields.clone();
+		stream.framesSinceKeyframe = keyframe ? 0 : stream.framesSinceKeyframe + 1;
+		return buffer.readByteString();
+	}
+
+	/**
+	 * Decode a binary frame.
+	 *
+	 * @param frame frame
+	 * @return the message, or null if the frame is malformed, of an unknown type,
+	 * or a delta for a stream with no keyframe
+	 */
+	@Nullable
+	synchronized PartyMemberMessage decode(ByteString frame)
+	{
+		final Buffer buffer = new Buffer().write(frame);
+
+		try
+		{
+			final int version = buffer.readByte() & 0xff;
+			if (version != VERSION)
+			{
+				log.debug("Unsupported party frame version {}", version);
+				return null;
+			}
+
+			final Type type = typesById.get(readVarint(buffer));
+			if (type == null)
+			{
+				return null;
+			}
+
+			final UUID memberId = new UUID(buffer.readLong(), buffer.readLong());
+			final int key = readVarint(buffer);
+			final boolean keyframe = (buffer.readByte() & FLAG_KEYFRAME) != 0;
+			final int mask = readVarint(buffer);
+
+			final Map<Long, int[]> streams = received.computeIfAbsent(memberId, k -> new HashMap<>());
+			final long streamKey = streamKey(type.id, key);
+			final int[] previous = streams.get(streamKey);
+			final int length = 32 - Integer.numberOfLeadingZeros(mask);
+
+			if (!keyframe && (previous == null || length > previous.length))
+			{
+				return null;
+			}
+
+			final int[] fields = keyframe ? new int[length] : previous.clone();
+			for (int i = 0; i < length; ++i)
+			{
+				if ((mask & (1 << i)) != 0)
+				{
+					final int zigzag = readVarint(buffer);
+					fields[i] += (zigzag >>> 1) ^ -(zigzag & 1);
+				}
+			}
+
+			final PartyMemberMessage message = type.codec.decode(key, fields);
+			if (message == null)
+			{
+				return null;
+			}
+
+			streams.put(streamKey, fields);
+			message.setMemberId(memberId);
+			return message;
+		}
+		catch (IllegalStateException | IllegalArgumentException e) // Buffer throws IllegalStateException on underflow
+		{
+			log.debug("Malformed party frame", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Forget what has been sent, so the next frame of every stream is a keyframe.
+	 */
+	synchronized void resetSent()
+	{
+		sent.clear();
+	}
+
+	/**
+	 * Forget the streams received from a member.
+	 */
+	synchronized void forget(UUID memberId)
+	{
+		received.remove(memberId);
+	}
+
+	synchronized void reset()
+	{
+		sent.clear();
+		received.clear();
+	}
+
+	private static long streamKey(int typeId, int key)
+	{
+		return ((long) typeId << 32) | (key & 0xffffffffL);
+	}
+
+	private static void writeVarint(Buffer buffer, int value)
+	{
+		while ((value & ~0x7f) != 0)
+		{
+			buffer.writeByte((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		buffer.writeByte(value);
+	}
+
+	private static int readVarint(Buffer buffer)
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			final byte b = buffer.readByte();
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("varint too long");
+	}
+}
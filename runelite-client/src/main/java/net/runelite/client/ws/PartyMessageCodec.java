@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ws;
+
+import net.runelite.http.api.ws.messages.party.PartyMemberMessage;
+
+/**
+ * Maps a party message onto a fixed number of integer fields so that it can be
+ * sent as a compact binary frame. Fields are delta encoded against the last
+ * frame sent for the same key, so a message type which carries several
+ * independent streams (such as one per skill) should give each its own key.
+ *
+ * @param <T> message type
+ */
+public interface PartyMessageCodec<T extends PartyMemberMessage>
+{
+	/**
+	 * Get the stream the message belongs to. Must not be negative.
+	 *
+	 * @param message message
+	 * @return stream key
+	 */
+	int getKey(T message);
+
+	/**
+	 * Get the fields of the message. Every message of the same key must return
+	 * the same number of fields, and at most 32.
+	 *
+	 * @param message message
+	 * @return fields
+	 */
+	int[] encode(T message);
+
+	/**
+	 * Build a message from its key and fields. The member id is filled in by
+	 * the caller.
+	 *
+	 * @param key    stream key
+	 * @param fields fields, as returned by {@link #encode(PartyMemberMessage)}
+	 * @return message, or null if the fields are not valid
+	 */
+	T decode(int key, int[] fields);
+}
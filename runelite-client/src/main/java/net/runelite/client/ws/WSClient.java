@@ -28,8 +28,10 @@ import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.Getter;
@@ -39,11 +41,18 @@ import net.runelite.http.api.RuneLiteAPI;
 import net.runelite.http.api.ws.WebsocketGsonFactory;
 import net.runelite.http.api.ws.WebsocketMessage;
 import net.runelite.http.api.ws.messages.Handshake;
+import net.runelite.http.api.ws.messages.party.Join;
+import net.runelite.http.api.ws.messages.party.Part;
+import net.runelite.http.api.ws.messages.party.PartyMemberMessage;
 import net.runelite.http.api.ws.messages.party.PartyMessage;
+import net.runelite.http.api.ws.messages.party.UserJoin;
+import net.runelite.http.api.ws.messages.party.UserPart;
+import net.runelite.http.api.ws.messages.party.UserSync;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.ByteString;
 
 @Slf4j
 @Singleton
@@ -51,6 +60,10 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 {
 	private final EventBus eventBus;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final BinaryPartyProtocol binaryProtocol = new BinaryPartyProtocol();
+	// members of the current party, and whether the server announced them as able to receive binary frames
+	private final Map<UUID, Boolean> binaryMembers = new ConcurrentHashMap<>();
+	private volatile boolean binaryFrames;
 
 	private volatile Gson gson;
 	@Getter
@@ -101,10 +114,12 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			.url(RuneLiteAPI.getWsEndpoint())
 			.build();
 
+		binaryProtocol.reset();
 		webSocket = RuneLiteAPI.CLIENT.newWebSocket(request, this);
 
 		Handshake handshake = new Handshake();
 		handshake.setSession(sessionId);
+		handshake.setBinaryFrames(true);
 		send(handshake);
 	}
 
@@ -116,8 +131,30 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		}
 	}
 
+	/**
+	 * Register a party message which can be sent as a compact binary frame, delta encoded
+	 * against the last frame sent, instead of as json. Messages whose fields are
+	 * unchanged since the last frame are not sent. Binary frames are only used once the
+	 * server has announced every member of the party as able to receive them, and json
+	 * is used otherwise.
+	 *
+	 * @param message message class
+	 * @param typeId  type id, unique among binary party messages
+	 * @param codec   codec
+	 */
+	public <T extends PartyMemberMessage> void registerMessage(final Class<T> message, final int typeId, final PartyMessageCodec<T> codec)
+	{
+		binaryProtocol.register(typeId, message, codec);
+		registerMessage(message);
+	}
+
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
+		if (PartyMemberMessage.class.isAssignableFrom(message))
+		{
+			binaryProtocol.unregister(message.asSubclass(PartyMemberMessage.class));
+		}
+
 		if (messages.remove(message))
 		{
 			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
@@ -132,11 +169,57 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			connect();
 		}
 
+		if (message instanceof Join || message instanceof Part)
+		{
+			// the server announces the members of the new party with UserJoin
+			binaryMembers.clear();
+			updateBinaryFrames();
+		}
+
+		if (binaryFrames && message instanceof PartyMemberMessage)
+		{
+			final ByteString frame = binaryProtocol.encode((PartyMemberMessage) message);
+			if (frame != null)
+			{
+				if (frame.size() > 0)
+				{
+					webSocket.send(frame);
+					log.debug("Sent: {} ({} bytes)", message.getClass().getSimpleName(), frame.size());
+				}
+				return;
+			}
+		}
+
 		final String json = gson.toJson(message, WebsocketMessage.class);
 		webSocket.send(json);
 		log.debug("Sent: {}", json);
 	}
 
+	/**
+	 * Use binary frames only if every member of the party can receive them. A member running
+	 * an older client, or a server which doesn't relay binary frames, keeps the party on json.
+	 */
+	private synchronized void updateBinaryFrames()
+	{
+		final boolean binary = !binaryMembers.isEmpty() && !binaryMembers.containsValue(false);
+		if (binary && !binaryFrames)
+		{
+			// nobody has keyframes for anything sent as json
+			binaryProtocol.resetSent();
+		}
+
+		if (binary != binaryFrames)
+		{
+			log.debug("Sending party messages as {}", binary ? "binary frames" : "json");
+		}
+		binaryFrames = binary;
+	}
+
+	boolean isBinaryFrames()
+	{
+		return binaryFrames;
+	}
+
 	@Override
 	public void close()
 	{
@@ -173,10 +256,44 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			return;
 		}
 
+		if (message instanceof UserJoin || message instanceof UserSync)
+		{
+			// Someone needs our state, so send keyframes for everything from here on
+			binaryProtocol.resetSent();
+		}
+
+		if (message instanceof UserJoin)
+		{
+			final UserJoin userJoin = (UserJoin) message;
+			binaryMembers.put(userJoin.getMemberId(), userJoin.isBinaryFrames());
+			updateBinaryFrames();
+		}
+		else if (message instanceof UserPart)
+		{
+			final UUID memberId = ((UserPart) message).getMemberId();
+			binaryProtocol.forget(memberId);
+			binaryMembers.remove(memberId);
+			updateBinaryFrames();
+		}
+
 		log.debug("Got: {}", text);
 		eventBus.post(message);
 	}
 
+	@Override
+	public void onMessage(WebSocket webSocket, ByteString bytes)
+	{
+		final PartyMemberMessage message = binaryProtocol.decode(bytes);
+
+		if (message == null)
+		{
+			return;
+		}
+
+		log.debug("Got: {} ({} bytes)", message.getClass().getSimpleName(), bytes.size());
+		eventBus.post(message);
+	}
+
 	@Override
 	public void onClosed(WebSocket webSocket, int code, String reason)
 	{
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Inject
+	private ClientThread clientThread;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testPriority()
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		List<String> order = new ArrayList<>();
+		clientThread.invokeLater(() -> order.add("low"), InvokePriority.LOW);
+		clientThread.invokeLater(() -> order.add("normal"));
+		clientThread.invokeLater(() -> order.add("high"), InvokePriority.HIGH);
+		assertEquals(3, clientThread.getQueueDepth());
+
+		clientThread.invoke();
+
+		assertEquals(Arrays.asList("high", "normal", "low"), order);
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testRepeat()
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		int[] runs = new int[1];
+		Invocation invocation = clientThread.invokeLater(() -> ++runs[0] == 2);
+
+		clientThread.invoke();
+		assertFalse(invocation.isDone());
+
+		clientThread.invoke();
+		assertTrue(invocation.isDone());
+		assertEquals(2, runs[0]);
+	}
+
+	@Test
+	public void testCancel()
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		int[] runs = new int[1];
+		Invocation invocation = clientThread.invokeLater(() -> ++runs[0]);
+		assertTrue(invocation.cancel());
+		assertFalse(invocation.cancel());
+
+		clientThread.invoke();
+
+		assertEquals(0, runs[0]);
+		assertTrue(invocation.isCancelled());
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testDeadline() throws InterruptedException
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		int[] runs = new int[1];
+		Invocation invocation = clientThread.invokeLater(() ->
+		{
+			++runs[0];
+			return false;
+		}, InvokePriority.NORMAL, 50, TimeUnit.MILLISECONDS);
+
+		clientThread.invoke();
+		assertEquals(1, runs[0]);
+
+		Thread.sleep(100);
+		clientThread.invoke();
+
+		assertEquals(1, runs[0]);
+		assertTrue(invocation.isExpired());
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testFrameBudget()
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		clientThread.setFrameBudget(TimeUnit.MILLISECONDS.toNanos(1));
+
+		Invocation high = clientThread.invokeLater(() -> spin(2), InvokePriority.HIGH);
+		Invocation slow = clientThread.invokeLater(() -> spin(2), InvokePriority.NORMAL);
+		Invocation normal = clientThread.invokeLater(() -> true, InvokePriority.NORMAL);
+		Invocation low1 = clientThread.invokeLater(() -> true, InvokePriority.LOW);
+		Invocation low2 = clientThread.invokeLater(() -> true, InvokePriority.LOW);
+
+		clientThread.invoke();
+
+		// high priority work doesn't spend the budget, so the slow invocation runs. It spends
+		// the budget, deferring the rest except for one low priority invocation.
+		assertTrue(high.isDone());
+		assertTrue(slow.isDone());
+		assertFalse(normal.isDone());
+		assertTrue(low1.isDone());
+		assertFalse(low2.isDone());
+		assertEquals(1, clientThread.getDeferredFrames());
+		assertTrue(clientThread.getLastFrameTime() >= TimeUnit.MILLISECONDS.toNanos(4));
+
+		clientThread.invoke();
+
+		assertTrue(normal.isDone());
+		assertTrue(low2.isDone());
+		assertEquals(1, clientThread.getDeferredFrames());
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testFrameBudgetStarvation()
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		clientThread.setFrameBudget(TimeUnit.MILLISECONDS.toNanos(1));
+
+		// a slow high priority invocation and a continuously slow normal priority invocation
+		clientThread.invokeLater(() ->
+		{
+			spin(2);
+			return false;
+		}, InvokePriority.HIGH);
+		clientThread.invokeLater(() ->
+		{
+			spin(2);
+			return false;
+		}, InvokePriority.NORMAL);
+
+		int[] lowRuns = new int[1];
+		for (int i = 0; i < 4; ++i)
+		{
+			clientThread.invokeLater(() -> ++lowRuns[0] > 0, InvokePriority.LOW);
+		}
+
+		for (int frame = 1; frame <= 3; ++frame)
+		{
+			clientThread.invoke();
+			assertEquals(frame, lowRuns[0]);
+			assertEquals(frame, clientThread.getDeferredFrames());
+		}
+	}
+
+	private static boolean spin(long millis)
+	{
+		long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+		while (System.nanoTime() - end < 0)
+		{
+			// busy wait, so the time is spent on this thread
+		}
+		return true;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks matching a chat log against the patterns of the chat driven plugins, running
+ * every pattern on every message as the plugins did against the {@link ChatPatternManager}.
+ * Run with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatPatternBenchmark
+{
+	private static final String[] PATTERNS = {
+		"Your dodgy necklace has (\\d+) charges? left\\.",
+		"Your dodgy necklace protects you\\..*It has (\\d+) charges? left\\.",
+		"Your dodgy necklace protects you\\..*It then crumbles to dust\\.",
+		"You have ([0-9]+|one) charges? left before your Binding necklace disintegrates\\.",
+		"You bind the temple's power into (mud|lava|steam|dust|smoke|mist) runes\\.",
+		"You can smelt ([0-9+]+|one) more pieces? of iron ore before a ring melts\\.",
+		"Your (.+) kill count is: <col=ff0000>(\\d+)</col>",
+		"Your Barrows chest count is: <col=ff0000>(\\d+)</col>",
+		"Your subdued Wintertodt count is: <col=ff0000>(\\d+)</col>",
+		"You have completed [0-9]+ ([a-z]+) Treasure Trails.",
+		"You drink some of your divine (.+) potion\\.",
+		"<col=4f006f>A Tele Block spell has been cast on you by (.+)\\. It will expire in 5 minutes\\.</col>",
+		"Your bracelet of slaughter has (\\d{1,2}) charge[s]? left.",
+		"Your expeditious bracelet has (\\d{1,2}) charge[s]? left.",
+		"^You still need to kill (\\d+) monsters to complete your current Slayer assignment",
+		"Reward points: ((?:\\d+,)*\\d+)",
+		".*Valuable drop: ([^<>]+)(?:</col>)?",
+		".*Untradeable drop: ([^<>]+)(?:</col>)?",
+		"You have now (won|lost) ([0-9]+) duels?\\.",
+		"<col=ff0000>You've been assigned a target: (.*)</col>",
+	};
+
+	// messages seen in a busy clan chat, with the occasional game message mixed in
+	private static final String[] CHAT = {
+		"anyone selling dragon bones?",
+		"wts 10k coal 150ea pm me",
+		"lol",
+		"gz on 99 cooking!!",
+		"who's up for a raid in 10 mins",
+		"world 330 fire at the bank, come watch",
+		"buying gf, selling bonds cheap",
+		"brb",
+		"does anyone know where the dodgy necklace drops",
+		"ty for the trade",
+	};
+	private static final String[] GAME = {
+		"Your dodgy necklace has 7 charges left.",
+		"Your Zulrah kill count is: <col=ff0000>431</col>.",
+		"You drink some of your divine super combat potion.",
+		"<col=ef1020>Valuable drop: Dragon bones (2,930 coins)</col>",
+		"You have completed 12 hard Treasure Trails.",
+		"Welcome to Old School RuneScape.",
+	};
+
+	private Pattern[] patterns;
+	private List<ChatMessage> log;
+	private ChatPatternManager chatPatternManager;
+	private int matches;
+
+	@Setup
+	public void setup()
+	{
+		patterns = new Pattern[PATTERNS.length];
+		for (int i = 0; i < PATTERNS.length; ++i)
+		{
+			patterns[i] = Pattern.compile(PATTERNS[i]);
+		}
+
+		Random random = new Random(42);
+		log = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i)
+		{
+			log.add(random.nextInt(10) == 0
+				? new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", GAME[random.nextInt(GAME.length)], "", 0)
+				: new ChatMessage(null, ChatMessageType.FRIENDSCHAT, "Player" + i, CHAT[random.nextInt(CHAT.length)], "Clan", 0));
+		}
+
+		chatPatternManager = new ChatPatternManager(new EventBus());
+		for (Pattern pattern : patterns)
+		{
+			chatPatternManager.registerPattern(pattern, (message, matcher) -> ++matches,
+				ChatMessageType.GAMEMESSAGE, ChatMessageType.FRIENDSCHAT);
+		}
+	}
+
+	@Benchmark
+	public void eachPattern(Blackhole blackhole)
+	{
+		for (ChatMessage message : log)
+		{
+			for (Pattern pattern : patterns)
+			{
+				Matcher matcher = pattern.matcher(message.getMessage());
+				if (matcher.find())
+				{
+					blackhole.consume(matcher);
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public int patternManager()
+	{
+		for (ChatMessage message : log)
+		{
+			chatPatternManager.onChatMessage(message);
+		}
+		return matches;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ChatPatternBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
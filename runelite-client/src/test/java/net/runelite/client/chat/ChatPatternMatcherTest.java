@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ChatPatternMatcherTest
+{
+	@Test
+	public void testRequiredLiteral()
+	{
+		assertEquals("Your dodgy necklace has ", literal("Your dodgy necklace has (\\d+) charges? left\\."));
+		assertEquals(" of iron ore before a ring melts.", literal("You can smelt ([0-9+]+|one) more pieces? of iron ore before a ring melts\\."));
+		assertEquals("You have", literal("You have(?: now)? lost (\\d+) duels?"));
+		assertEquals(" You're now assigned to kill ", literal("^Excellent. You're now assigned to kill (?:the )?(.*) (\\d+) times.*"));
+		assertEquals("Level: ", literal("^Level: (\\d+)$"));
+		assertEquals("ab", literal("ab+c"));
+
+		assertNull(literal("(?i)^duration: <col=ff0000>([0-9:]+)</col>"));
+		assertNull(literal("Bank|Trade"));
+		assertNull(literal("\\Qliteral\\E"));
+		assertNull(literal("([0-9]+)"));
+		assertNull(ChatPatternMatcher.requiredLiteral(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)));
+	}
+
+	@Test
+	public void testRequiredLiteralClosingBracketInClass()
+	{
+		// a leading ] is part of the class rather than closing it
+		assertEquals("yz", literal("x[]a]yz"));
+		assertEquals("yz", literal("x[^]a]yz"));
+		assertEquals("before", literal("before([]a)]+)"));
+		assertEquals("after", literal("[[]a]b]after"));
+
+		ChatPatternMatcher matcher = new ChatPatternMatcher(ImmutableList.of(pattern("x[]a]yzw")));
+		assertTrue(matcher.candidates("x]yzw").get(0));
+	}
+
+	@Test
+	public void testCandidates()
+	{
+		List<ChatPattern> patterns = ImmutableList.of(
+			pattern("Your dodgy necklace has (\\d+) charges? left\\."),
+			pattern("Your dodgy necklace protects you\\..*It has (\\d+) charges? left\\."),
+			pattern("([0-9]+)"),
+			pattern("necklace has"));
+		ChatPatternMatcher matcher = new ChatPatternMatcher(patterns);
+
+		BitSet candidates = matcher.candidates("Your dodgy necklace has 10 charges left.");
+		assertEquals(bits(0, 2, 3), candidates);
+
+		candidates = matcher.candidates("Your dodgy necklace protects you. It has 9 charges left.");
+		assertEquals(bits(1, 2), candidates);
+
+		// patterns without a literal are always run
+		candidates = matcher.candidates("Welcome to Old School RuneScape.");
+		assertEquals(bits(2), candidates);
+		assertTrue(matcher.candidates("").get(2));
+	}
+
+	private static String literal(String regex)
+	{
+		return ChatPatternMatcher.requiredLiteral(Pattern.compile(regex));
+	}
+
+	private static ChatPattern pattern(String regex)
+	{
+		return new ChatPattern(Pattern.compile(regex), null, false, null);
+	}
+
+	private static BitSet bits(int... indexes)
+	{
+		BitSet bits = new BitSet();
+		for (int index : indexes)
+		{
+			bits.set(index);
+		}
+		return bits;
+	}
+}
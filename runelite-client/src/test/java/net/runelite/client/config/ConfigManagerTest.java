@@ -27,18 +27,38 @@ package net.runelite.client.config;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 import net.runelite.client.account.AccountSession;
+import net.runelite.client.events.ConfigBatchChanged;
 import net.runelite.client.eventbus.EventBus;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,6 +79,9 @@ public class ConfigManagerTest
 	@Inject
 	ConfigManager manager;
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Before
 	public void before()
 	{
@@ -109,4 +132,164 @@ public class ConfigManagerTest
 		ConfigDescriptor descriptor = manager.getConfigDescriptor(conf);
 		Assert.assertEquals(1, descriptor.getItems().size());
 	}
+
+	@Test
+	public void testGeneratedConfig()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertTrue(conf instanceof GeneratedConfig);
+		Assert.assertEquals("default", conf.key());
+
+		// the cached value is replaced when the key changes
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+	}
+
+	@Test
+	public void testSetConfigurationBatch()
+	{
+		manager.setConfiguration("test", "unchanged", "value");
+		manager.setConfiguration("test", "removed", "value");
+
+		Map<String, String> values = new HashMap<>();
+		values.put("key", "moo");
+		values.put("unchanged", "value");
+		values.put("removed", null);
+		manager.setConfiguration("test", values);
+
+		// one event for each of the first two sets, and one for the batch
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus, times(3)).post(captor.capture());
+		List<Object> events = captor.getAllValues();
+		ConfigBatchChanged event = (ConfigBatchChanged) events.get(2);
+		Assert.assertEquals("test", event.getGroup());
+		Assert.assertEquals(2, event.getChanges().size());
+
+		Assert.assertEquals("moo", manager.getConfiguration("test", "key"));
+		Assert.assertEquals("value", manager.getConfiguration("test", "unchanged"));
+		Assert.assertNull(manager.getConfiguration("test", "removed"));
+	}
+
+	@Test
+	public void testSetDefaultConfiguration()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+
+		manager.setDefaultConfiguration(conf, false);
+		Assert.assertEquals("moo", conf.key());
+
+		manager.setDefaultConfiguration(conf, true);
+		Assert.assertEquals("default", manager.getConfiguration("test", "key"));
+		Assert.assertEquals("default", conf.key());
+
+		// one event for the set, and one for the reset
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus, times(2)).post(captor.capture());
+		ConfigBatchChanged event = (ConfigBatchChanged) captor.getAllValues().get(1);
+		Assert.assertEquals(1, event.getChanges().size());
+		Assert.assertEquals("moo", event.getChanges().get(0).getOldValue());
+	}
+
+	@Test
+	public void testSaveDebounce() throws Exception
+	{
+		AtomicInteger saves = new AtomicInteger();
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1)
+		{
+			@Override
+			public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit)
+			{
+				saves.incrementAndGet();
+				return super.schedule(command, delay, unit);
+			}
+		};
+
+		File file = new File(folder.getRoot(), "settings.properties");
+		ConfigManager manager = new ConfigManager(scheduler);
+		manager.eventBus = eventBus;
+		manager.setPropertiesFile(file);
+
+		for (int i = 0; i < 100; i++)
+		{
+			manager.setConfiguration("test", "key" + i, "value" + i);
+		}
+		Assert.assertEquals(1, saves.get());
+
+		// delayed tasks still run after shutdown, so this waits for the save
+		scheduler.shutdown();
+		Assert.assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+
+		Properties saved = load(file);
+		Assert.assertEquals(100, saved.size());
+		Assert.assertEquals("value99", saved.getProperty("test.key99"));
+	}
+
+	@Test
+	public void testSaveAtomic() throws Exception
+	{
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		File file = new File(folder.getRoot(), "settings.properties");
+		ConfigManager manager = new ConfigManager(scheduler);
+		manager.eventBus = eventBus;
+		manager.setPropertiesFile(file);
+
+		for (int i = 0; i < 200; i++)
+		{
+			manager.setConfiguration("test", "key" + i, "value" + i);
+		}
+		manager.setConfiguration("test", "counter", "0");
+		manager.sendConfig();
+
+		// a reader never sees a partially written file while it is repeatedly replaced
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicInteger torn = new AtomicInteger();
+		Thread reader = new Thread(() ->
+		{
+			while (!done.get())
+			{
+				try
+				{
+					if (load(file).size() != 201)
+					{
+						torn.incrementAndGet();
+					}
+				}
+				catch (IOException ex)
+				{
+					// the file is briefly missing where the move isn't atomic
+				}
+			}
+		});
+		reader.start();
+
+		for (int i = 1; i <= 100; i++)
+		{
+			manager.setConfiguration("test", "counter", Integer.toString(i));
+			manager.sendConfig();
+		}
+
+		done.set(true);
+		reader.join();
+		scheduler.shutdownNow();
+
+		Assert.assertEquals(0, torn.get());
+		Assert.assertEquals("100", load(file).getProperty("test.counter"));
+		// the temporary files were all moved over the settings file
+		Assert.assertArrayEquals(new String[]{"settings.properties"}, folder.getRoot().list());
+	}
+
+	private static Properties load(File file) throws IOException
+	{
+		Properties properties = new Properties();
+		try (FileInputStream in = new FileInputStream(file))
+		{
+			properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+		}
+		return properties;
+	}
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameTick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks posting the per-frame and per-tick events, and registering and unregistering
+ * subscribers as happens when plugins are toggled. Run with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark
+{
+	private static final GameTick GAME_TICK = new GameTick();
+	private static final ClientTick CLIENT_TICK = new ClientTick();
+	private static final BeforeRender BEFORE_RENDER = new BeforeRender();
+
+	public static class TickSubscriber
+	{
+		int count;
+
+		@Subscribe
+		public void onGameTick(GameTick event)
+		{
+			++count;
+		}
+
+		@Subscribe
+		public void onClientTick(ClientTick event)
+		{
+			++count;
+		}
+	}
+
+	public static class RenderSubscriber
+	{
+		int count;
+
+		@Subscribe
+		public void onBeforeRender(BeforeRender event)
+		{
+			++count;
+		}
+
+		@Subscribe
+		public void onGameTick(GameTick event)
+		{
+			++count;
+		}
+	}
+
+	@Param({"50", "200"})
+	private int subscriberCount;
+
+	private EventBus eventBus;
+	private List<Object> subscribers;
+
+	@Setup
+	public void setup()
+	{
+		subscribers = new ArrayList<>(subscriberCount);
+		for (int i = 0; i < subscriberCount; ++i)
+		{
+			subscribers.add(i % 2 == 0 ? new TickSubscriber() : new RenderSubscriber());
+		}
+
+		eventBus = new EventBus();
+		eventBus.registerAll(subscribers);
+	}
+
+	@Benchmark
+	public void postGameTick()
+	{
+		eventBus.post(GAME_TICK);
+	}
+
+	@Benchmark
+	public void postClientTick()
+	{
+		eventBus.post(CLIENT_TICK);
+	}
+
+	@Benchmark
+	public void postBeforeRender()
+	{
+		eventBus.post(BEFORE_RENDER);
+	}
+
+	@Benchmark
+	public void registerUnregister()
+	{
+		Object subscriber = subscribers.get(0);
+		eventBus.unregister(subscriber);
+		eventBus.register(subscriber);
+	}
+
+	@Benchmark
+	public EventBus registerEach()
+	{
+		EventBus bus = new EventBus();
+		for (Object subscriber : subscribers)
+		{
+			bus.register(subscriber);
+		}
+		return bus;
+	}
+
+	@Benchmark
+	public EventBus registerAll()
+	{
+		EventBus bus = new EventBus();
+		bus.registerAll(subscribers);
+		return bus;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
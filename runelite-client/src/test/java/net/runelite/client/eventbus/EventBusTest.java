@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static final List<String> calls = new ArrayList<>();
+
+	private static class A
+	{
+		@Subscribe(priority = 1)
+		void onString(String event)
+		{
+			calls.add("A:" + event);
+		}
+
+		@Subscribe
+		void onInteger(Integer event)
+		{
+			calls.add("A:" + event);
+		}
+	}
+
+	private static class B
+	{
+		@Subscribe
+		void onString(String event)
+		{
+			calls.add("B:" + event);
+		}
+	}
+
+	private static class C
+	{
+		@Subscribe
+		void onString(String event)
+		{
+			throw new IllegalStateException(event);
+		}
+	}
+
+	@Test
+	public void testPostOrder()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		eventBus.register(new A());
+		eventBus.register(new B());
+
+		eventBus.post("x");
+		eventBus.post(1);
+		eventBus.post(1L);
+
+		assertEquals(ImmutableList.of("B:x", "A:x", "A:1"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		calls.clear();
+
+		A a = new A();
+		B b = new B();
+		EventBus eventBus = new EventBus();
+		eventBus.registerAll(ImmutableList.of(a, b));
+		eventBus.unregister(a);
+
+		eventBus.post("x");
+		eventBus.post(1);
+
+		assertEquals(ImmutableList.of("B:x"), calls);
+
+		eventBus.unregisterAll(ImmutableList.of(a, b));
+		eventBus.post("y");
+
+		assertEquals(ImmutableList.of("B:x"), calls);
+	}
+
+	@Test
+	public void testRegisterAll()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		eventBus.registerAll(ImmutableList.of(new B(), new A(), new B()));
+
+		eventBus.post("x");
+
+		assertEquals(ImmutableList.of("B:x", "B:x", "A:x"), calls);
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		calls.clear();
+
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		eventBus.registerAll(ImmutableList.of(new A(), new C()));
+
+		eventBus.post("x");
+
+		assertEquals(ImmutableList.of("A:x"), calls);
+		assertEquals(1, exceptions.size());
+		assertTrue(exceptions.get(0) instanceof IllegalStateException);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.SpritePixels;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.util.AsyncBufferedImage;
+import net.runelite.http.api.item.ItemClient;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ItemManagerTest
+{
+	// twice as many images as the item image cache holds
+	private static final int ITEMS = 4096;
+
+	@Mock
+	Client client;
+
+	@Mock
+	ScheduledExecutorService executor;
+
+	@Mock
+	ClientThread clientThread;
+
+	@Mock
+	ItemClient itemClient;
+
+	@Mock
+	SpritePixels sprite;
+
+	private RasterCache rasterCache;
+	private ItemManager itemManager;
+
+	@Before
+	public void before()
+	{
+		rasterCache = new RasterCache(64L * 1024L * 1024L);
+		itemManager = new ItemManager(client, executor, clientThread, itemClient, rasterCache);
+	}
+
+	@Test
+	public void testRestoreEvicted()
+	{
+		// run client thread work immediately, drawing each item in its own color
+		doAnswer(invocation ->
+		{
+			((BooleanSupplier) invocation.getArgument(0)).getAsBoolean();
+			return null;
+		}).when(clientThread).invoke(any(BooleanSupplier.class));
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		AtomicInteger drawing = new AtomicInteger();
+		when(client.createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt())).thenAnswer(invocation ->
+		{
+			drawing.set(invocation.getArgument(0));
+			return sprite;
+		});
+		doAnswer(invocation ->
+		{
+			BufferedImage image = invocation.getArgument(0);
+			image.setRGB(0, 0, color(drawing.get()));
+			return null;
+		}).when(sprite).toBufferedImage(any(BufferedImage.class));
+
+		for (int itemId = 0; itemId < ITEMS; itemId++)
+		{
+			assertTrue(itemManager.getImage(itemId).isLoaded());
+		}
+
+		// evicted images are restored from the raster cache instead of being drawn again
+		for (int itemId = 0; itemId < ITEMS; itemId++)
+		{
+			AsyncBufferedImage image = itemManager.getImage(itemId);
+			assertTrue(image.isLoaded());
+			assertEquals(color(itemId), image.getRGB(0, 0));
+		}
+		verify(client, times(ITEMS)).createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt());
+		assertTrue(rasterCache.getStats().hitCount() > 0);
+	}
+
+	private static int color(int itemId)
+	{
+		return 0xff000000 | itemId;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemPriceIndexTest
+{
+	private static final String[] NAMES = {
+		"Abyssal whip", "Abyssal dagger", "Dragon dagger", "Dragon dagger(p++)", "Rune dagger",
+		"Dragon scimitar", "Rune scimitar", "Coal", "Cannonball", "Bones", "Dragon bones",
+		"Saradomin brew(4)", "Shark", "Dragonfruit", "Lobster", "Rune platebody", "Aaaa",
+	};
+
+	private static ItemPrice[] items()
+	{
+		ItemPrice[] items = new ItemPrice[NAMES.length];
+		for (int i = 0; i < NAMES.length; ++i)
+		{
+			ItemPrice item = new ItemPrice();
+			item.setId(i * 3);
+			item.setName(NAMES[i]);
+			item.setPrice(i * 100 + 1);
+			items[i] = item;
+		}
+		return items;
+	}
+
+	@Test
+	public void testGetPrice()
+	{
+		ItemPrice[] items = items();
+		ItemPriceIndex index = new ItemPriceIndex(items);
+
+		for (ItemPrice item : items)
+		{
+			assertEquals(item.getPrice(), index.getPrice(item.getId()));
+		}
+		assertEquals(0, index.getPrice(1));
+		assertEquals(0, index.getPrice(-1));
+		assertEquals(0, index.getPrice(Integer.MAX_VALUE));
+		assertEquals(0, ItemPriceIndex.EMPTY.getPrice(0));
+	}
+
+	@Test
+	public void testSearch()
+	{
+		ItemPrice[] items = items();
+		ItemPriceIndex index = new ItemPriceIndex(items);
+
+		String[] queries = {"", "a", "Da", "dag", "DAGGER", "dragon d", "aaa", "(p++)", "rune ", "xyz", "bones", "brew(4)x"};
+		for (String query : queries)
+		{
+			List<ItemPrice> expected = new ArrayList<>();
+			for (ItemPrice item : items)
+			{
+				if (item.getName().toLowerCase().contains(query.toLowerCase()))
+				{
+					expected.add(item);
+				}
+			}
+
+			assertEquals(query, expected, index.search(query));
+		}
+	}
+
+	@Test
+	public void testSearchPrefix()
+	{
+		ItemPrice[] items = items();
+		ItemPriceIndex index = new ItemPriceIndex(items);
+
+		String[] prefixes = {"", "d", "Dragon", "dragon d", "rune", "zzz", "aaaa", "aaaaa"};
+		for (String prefix : prefixes)
+		{
+			List<ItemPrice> expected = new ArrayList<>();
+			for (ItemPrice item : items)
+			{
+				if (item.getName().toLowerCase().startsWith(prefix.toLowerCase()))
+				{
+					expected.add(item);
+				}
+			}
+			expected.sort(Comparator.comparing(item -> item.getName().toLowerCase()));
+
+			assertEquals(prefix, expected, index.searchPrefix(prefix));
+		}
+	}
+}
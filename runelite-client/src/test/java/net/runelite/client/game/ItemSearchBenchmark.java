@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.http.api.item.ItemPrice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks item name searches and price lookups against a boxed price map scanned
+ * with {@link String#contains}, as ItemManager used to do. Run with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemSearchBenchmark
+{
+	private static final String[] MATERIALS = {
+		"Bronze", "Iron", "Steel", "Black", "Mithril", "Adamant", "Rune", "Dragon", "Granite", "Crystal",
+	};
+	private static final String[] ITEMS = {
+		"dagger", "sword", "longsword", "scimitar", "warhammer", "battleaxe", "2h sword", "platebody",
+		"platelegs", "plateskirt", "full helm", "med helm", "kiteshield", "sq shield", "boots", "gloves",
+		"pickaxe", "axe", "arrow", "dart", "bolts", "javelin", "knife", "spear", "hasta", "claws",
+	};
+	private static final String[] SUFFIXES = {"", "(p)", "(p+)", "(p++)", " (g)", " (t)", " (or)", " (broken)"};
+
+	@Param({"a", "drag", "dragon dag", "hasta(p+"})
+	private String query;
+
+	private Map<Integer, ItemPrice> priceMap;
+	private ItemPriceIndex index;
+	private int[] lookups;
+
+	@Setup
+	public void setup()
+	{
+		List<ItemPrice> prices = new ArrayList<>();
+		int id = 0;
+		for (String material : MATERIALS)
+		{
+			for (String item : ITEMS)
+			{
+				for (String suffix : SUFFIXES)
+				{
+					ItemPrice price = new ItemPrice();
+					price.setId(id);
+					price.setName(material + " " + item + suffix);
+					price.setPrice(id * 7);
+					prices.add(price);
+					// leave gaps in the ids, as the real item ids do
+					id += 3;
+				}
+			}
+		}
+
+		priceMap = new LinkedHashMap<>();
+		for (ItemPrice price : prices)
+		{
+			priceMap.put(price.getId(), price);
+		}
+		index = new ItemPriceIndex(prices.toArray(new ItemPrice[0]));
+
+		Random random = new Random(42);
+		lookups = new int[256];
+		for (int i = 0; i < lookups.length; ++i)
+		{
+			lookups[i] = random.nextInt(id);
+		}
+	}
+
+	@Benchmark
+	public List<ItemPrice> searchMap()
+	{
+		String itemName = query.toLowerCase();
+
+		List<ItemPrice> result = new ArrayList<>();
+		for (ItemPrice itemPrice : priceMap.values())
+		{
+			if (itemPrice.getName().toLowerCase().contains(itemName))
+			{
+				result.add(itemPrice);
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<ItemPrice> searchIndex()
+	{
+		return index.search(query);
+	}
+
+	@Benchmark
+	public List<ItemPrice> searchPrefixIndex()
+	{
+		return index.searchPrefix(query);
+	}
+
+	@Benchmark
+	public long priceMap()
+	{
+		long total = 0;
+		for (int id : lookups)
+		{
+			ItemPrice price = priceMap.get(id);
+			if (price != null)
+			{
+				total += price.getPrice();
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public long priceIndex()
+	{
+		long total = 0;
+		for (int id : lookups)
+		{
+			total += index.getPrice(id);
+		}
+		return total;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ItemSearchBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RasterCacheTest
+{
+	private static final int SIZE = 16;
+	private static final long IMAGE_BYTES = SIZE * SIZE * Integer.BYTES;
+
+	@Test
+	public void testRestore()
+	{
+		final RasterCache cache = new RasterCache(IMAGE_BYTES * 4);
+		final BufferedImage image = image(BufferedImage.TYPE_INT_ARGB, 1);
+		cache.put(1L, image);
+
+		final BufferedImage restored = cache.remove(1L);
+		assertNotNull(restored);
+		assertArrayEquals(pixels(image), pixels(restored));
+
+		// Restored images are removed
+		assertNull(cache.remove(1L));
+		assertEquals(1, cache.getStats().hitCount());
+		assertEquals(1, cache.getStats().missCount());
+	}
+
+	@Test
+	public void testRestoreInto()
+	{
+		final RasterCache cache = new RasterCache(IMAGE_BYTES * 4);
+		final BufferedImage image = image(BufferedImage.TYPE_4BYTE_ABGR, 2);
+		cache.put("image", image);
+
+		final BufferedImage into = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+		assertTrue(cache.remove("image", into));
+		assertArrayEquals(pixels(image), pixels(into));
+		assertFalse(cache.remove("image", into));
+	}
+
+	@Test
+	public void testRestoreIntoWrongSize()
+	{
+		final RasterCache cache = new RasterCache(IMAGE_BYTES * 4);
+		final BufferedImage image = image(BufferedImage.TYPE_INT_ARGB, 3);
+		cache.put(1L, image);
+
+		// the image is left cached for a caller it fits
+		assertFalse(cache.remove(1L, new BufferedImage(SIZE * 2, SIZE, BufferedImage.TYPE_INT_ARGB)));
+		final BufferedImage restored = cache.remove(1L);
+		assertNotNull(restored);
+		assertArrayEquals(pixels(image), pixels(restored));
+	}
+
+	@Test
+	public void testReusedBuffers()
+	{
+		// evicted, replaced and restored images give up their buffers to later images
+		final RasterCache cache = new RasterCache(IMAGE_BYTES * 4);
+		for (int round = 0; round < 4; round++)
+		{
+			for (long i = 0; i < 16; i++)
+			{
+				cache.put(i % 6, image(BufferedImage.TYPE_INT_ARGB, (int) i + round));
+			}
+			assertNotNull(cache.remove(15L % 6));
+		}
+
+		int cached = 0;
+		for (long i = 10; i < 15; i++)
+		{
+			final BufferedImage restored = cache.remove(i % 6);
+			if (restored != null)
+			{
+				assertArrayEquals(pixels(image(BufferedImage.TYPE_INT_ARGB, (int) i + 3)), pixels(restored));
+				cached++;
+			}
+		}
+		assertTrue(cached > 0);
+	}
+
+	@Test
+	public void testWeight()
+	{
+		final RasterCache cache = new RasterCache(IMAGE_BYTES * 4);
+		for (long i = 0; i < 8; i++)
+		{
+			cache.put(i, image(BufferedImage.TYPE_INT_ARGB, (int) i));
+		}
+
+		int cached = 0;
+		for (long i = 0; i < 8; i++)
+		{
+			if (cache.remove(i) != null)
+			{
+				cached++;
+			}
+		}
+
+		assertTrue(cached <= 4);
+		assertTrue(cache.getStats().evictionCount() >= 4);
+	}
+
+	@Test
+	public void testDisabled()
+	{
+		final RasterCache cache = new RasterCache(0);
+		cache.put(1L, image(BufferedImage.TYPE_INT_ARGB, 1));
+
+		assertNull(cache.remove(1L));
+		assertEquals(0, cache.getStats().requestCount());
+	}
+
+	private static BufferedImage image(int type, int seed)
+	{
+		final BufferedImage image = new BufferedImage(SIZE, SIZE, type);
+		for (int y = 0; y < SIZE; y++)
+		{
+			for (int x = 0; x < SIZE; x++)
+			{
+				// Fully opaque or fully transparent, so pixels survive premultiplied and byte backed images
+				final int alpha = (x + y + seed) % 3 == 0 ? 0 : 0xff;
+				image.setRGB(x, y, alpha == 0 ? 0 : alpha << 24 | (x * 16 + seed) << 16 | y * 16 << 8 | seed);
+			}
+		}
+		return image;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, SIZE, SIZE, null, 0, SIZE);
+	}
+}
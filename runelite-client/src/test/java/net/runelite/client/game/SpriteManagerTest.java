@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.image.BufferedImage;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.SpritePixels;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SpriteManagerTest
+{
+	private static final int SPRITE_SIZE = 128;
+	// twice as many pixels as the sprite cache holds
+	private static final int SPRITES = 256;
+
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	ClientThread clientThread;
+
+	@Mock
+	@Bind
+	InfoBoxManager infoBoxManager;
+
+	@Bind
+	RasterCache rasterCache = new RasterCache(64L * 1024L * 1024L);
+
+	@Inject
+	SpriteManager spriteManager;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testRestoreEvicted()
+	{
+		when(client.isClientThread()).thenReturn(true);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		for (int archive = 0; archive < SPRITES; archive++)
+		{
+			SpritePixels sprite = mock(SpritePixels.class);
+			when(sprite.toBufferedImage()).thenReturn(sprite(archive));
+			when(client.getSprites(null, archive, 0)).thenReturn(new SpritePixels[]{sprite});
+		}
+
+		for (int archive = 0; archive < SPRITES; archive++)
+		{
+			assertNotNull(spriteManager.getSprite(archive, 0));
+		}
+		assertTrue(spriteManager.cache.stats().evictionCount() > 0);
+
+		// evicted sprites are restored by the injected raster cache instead of being drawn again
+		for (int archive = 0; archive < SPRITES; archive++)
+		{
+			BufferedImage sprite = spriteManager.getSprite(archive, 0);
+			assertEquals(color(archive), sprite.getRGB(SPRITE_SIZE - 1, SPRITE_SIZE - 1));
+		}
+		verify(client, times(SPRITES)).getSprites(any(), anyInt(), anyInt());
+		assertTrue(rasterCache.getStats().hitCount() > 0);
+	}
+
+	private static BufferedImage sprite(int archive)
+	{
+		BufferedImage image = new BufferedImage(SPRITE_SIZE, SPRITE_SIZE, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < SPRITE_SIZE; y++)
+		{
+			for (int x = 0; x < SPRITE_SIZE; x++)
+			{
+				image.setRGB(x, y, color(archive));
+			}
+		}
+		return image;
+	}
+
+	private static int color(int archive)
+	{
+		return 0xff000000 | archive << 8 | 0x40;
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.menus;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MenuManagerTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Inject
+	private MenuManager menuManager;
+
+	private MenuEntry cancel;
+	private MenuEntry walkHere;
+	private MenuEntry bank;
+	private MenuEntry talkTo;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		cancel = entry("Cancel", "");
+		walkHere = entry("Walk here", "");
+		bank = entry("Bank", "<col=ffff00>Banker");
+		talkTo = entry("Talk-to", "<col=ffff00>Banker");
+
+		when(client.getMenuEntries()).thenReturn(new MenuEntry[]{cancel, walkHere, bank, talkTo});
+	}
+
+	private static MenuEntry entry(String option, String target)
+	{
+		MenuEntry entry = new MenuEntry();
+		entry.setOption(option);
+		entry.setTarget(target);
+		entry.setIdentifier(42);
+		entry.setType(MenuAction.NPC_FIRST_OPTION.getId());
+		return entry;
+	}
+
+	private MenuEntry[] build()
+	{
+		menuManager.onClientTick(new ClientTick());
+
+		ArgumentCaptor<MenuEntry[]> captor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(client).setMenuEntries(captor.capture());
+		return captor.getValue();
+	}
+
+	@Test
+	public void testSwap()
+	{
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.SWAP)
+			.option("talk-to")
+			.target("banker")
+			.swapOption("bank")
+			.build());
+
+		assertArrayEquals(new MenuEntry[]{cancel, walkHere, talkTo, bank}, build());
+	}
+
+	@Test
+	public void testSwapFirstRuleWins()
+	{
+		MenuEntry trade = entry("Trade", "<col=ffff00>Banker");
+		when(client.getMenuEntries()).thenReturn(new MenuEntry[]{cancel, trade, bank, talkTo});
+
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.SWAP)
+			.option("talk-to")
+			.swapOption("bank")
+			.build());
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.SWAP)
+			.option("talk-to")
+			.swapOption("trade")
+			.build());
+
+		// bank is moved to the top, then trade into talk-to's new place below it
+		assertArrayEquals(new MenuEntry[]{cancel, talkTo, trade, bank}, build());
+	}
+
+	@Test
+	public void testSwapContains()
+	{
+		MenuEntry payNorth = entry("Pay (north)", "<col=ffff00>Banker");
+		when(client.getMenuEntries()).thenReturn(new MenuEntry[]{cancel, payNorth, talkTo});
+
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.SWAP)
+			.option("talk-to")
+			.swapOption("pay (")
+			.swapOptionContains(true)
+			.build());
+
+		assertArrayEquals(new MenuEntry[]{cancel, talkTo, payNorth}, build());
+	}
+
+	@Test
+	public void testOnlyNewMenus()
+	{
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.SWAP)
+			.option("talk-to")
+			.swapOption("bank")
+			.build());
+
+		menuManager.onClientTick(new ClientTick());
+		menuManager.onClientTick(new ClientTick());
+		verify(client, times(1)).getMenuEntries();
+
+		// the menu is only read again once it has been rebuilt
+		menuManager.onMenuEntryAdded(new MenuEntryAdded("Talk-to", "Banker", MenuAction.NPC_FIRST_OPTION.getId(), 42, 0, 0));
+		menuManager.onClientTick(new ClientTick());
+		verify(client, times(2)).getMenuEntries();
+	}
+
+	@Test
+	public void testHideAndInsert()
+	{
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.HIDE)
+			.option("walk here")
+			.build());
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.INSERT)
+			.option("talk-to")
+			.condition(entry -> entry.getIdentifier() == 42)
+			.insertOption("Lookup")
+			.build());
+
+		MenuEntry[] entries = build();
+		assertEquals(4, entries.length);
+		assertEquals(cancel, entries[0]);
+		assertEquals(bank, entries[1]);
+		assertEquals(talkTo, entries[2]);
+		assertEquals("Lookup", entries[3].getOption());
+		assertEquals(talkTo.getTarget(), entries[3].getTarget());
+		assertEquals(MenuAction.RUNELITE.getId(), entries[3].getType());
+	}
+
+	@Test
+	public void testRecolor()
+	{
+		menuManager.addMenuRule(MenuRule.builder()
+			.type(MenuRule.Type.RECOLOR)
+			.target("banker")
+			.color(Color.RED)
+			.build());
+
+		build();
+		assertEquals("<col=ff0000>Banker", bank.getTarget());
+		assertEquals("<col=ff0000>Banker", talkTo.getTarget());
+	}
+
+	@Test
+	public void testNoMatch()
+	{
+		MenuRule rule = MenuRule.builder()
+			.type(MenuRule.Type.HIDE)
+			.option("walk here")
+			.condition(entry -> false)
+			.build();
+		menuManager.addMenuRule(rule);
+		menuManager.onClientTick(new ClientTick());
+
+		menuManager.removeMenuRule(rule);
+		menuManager.onClientTick(new ClientTick());
+
+		verify(client, never()).setMenuEntries(any());
+	}
+}
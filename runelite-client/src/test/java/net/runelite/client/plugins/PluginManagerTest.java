@@ -40,11 +40,13 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -52,6 +54,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigItem;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -139,6 +142,43 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testPluginManifest() throws IOException
+	{
+		PluginManifest manifest = PluginManifest.load(getClass().getClassLoader());
+		assertNotNull("plugin manifest was not generated", manifest);
+
+		Set<String> expected = pluginClasses.stream()
+			.filter(cl -> cl.getSuperclass() == Plugin.class)
+			.map(Class::getName)
+			.collect(Collectors.toSet());
+		Set<String> classNames = manifest.getPlugins().stream()
+			.map(PluginManifest.Entry::getClassName)
+			.collect(Collectors.toSet());
+		assertEquals(expected, classNames);
+	}
+
+	@Test
+	public void testPluginManifestMatchesAnnotations() throws Exception
+	{
+		PluginManifest manifest = PluginManifest.load(getClass().getClassLoader());
+		assertNotNull("plugin manifest was not generated", manifest);
+
+		for (PluginManifest.Entry entry : manifest.getPlugins())
+		{
+			Class<?> clazz = Class.forName(entry.getClassName());
+			PluginDescriptor descriptor = clazz.getAnnotation(PluginDescriptor.class);
+			assertNotNull(entry.getClassName(), descriptor);
+			assertEquals(entry.getClassName(), descriptor.developerPlugin(), entry.isDeveloperPlugin());
+			assertEquals(entry.getClassName(), descriptor.loadWhenOutdated(), entry.isLoadWhenOutdated());
+
+			List<String> dependencies = Arrays.stream(clazz.getAnnotationsByType(PluginDependency.class))
+				.map(d -> d.value().getName())
+				.collect(Collectors.toList());
+			assertEquals(entry.getClassName(), dependencies, entry.getDependencies());
+		}
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
@@ -33,8 +33,10 @@ import static net.runelite.api.ChatMessageType.GAMEMESSAGE;
 import static net.runelite.api.ChatMessageType.TRADE;
 import net.runelite.api.Client;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.client.chat.ChatPatternManager;
 import net.runelite.client.config.ChatColorConfig;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -67,6 +69,13 @@ public class ChatCommandsPluginTest
 	@Bind
 	ChatCommandsConfig chatCommandsConfig;
 
+	@Mock
+	@Bind
+	EventBus eventBus;
+
+	@Inject
+	ChatPatternManager chatPatternManager;
+
 	@Inject
 	ChatCommandsPlugin chatCommandsPlugin;
 
@@ -74,6 +83,13 @@ public class ChatCommandsPluginTest
 	public void before()
 	{
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		chatCommandsPlugin.startUp();
+	}
+
+	private void onChatMessage(ChatMessage chatMessage)
+	{
+		chatPatternManager.onChatMessage(chatMessage);
+		chatCommandsPlugin.onChatMessage(chatMessage);
 	}
 
 	@Test
@@ -82,7 +98,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", "Your Corporeal Beast kill count is: <col=ff0000>4</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "corporeal beast", 4);
 	}
@@ -93,7 +109,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", "Your completed Theatre of Blood count is: <col=ff0000>73</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "theatre of blood", 73);
 	}
@@ -104,7 +120,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", "Your subdued Wintertodt count is: <col=ff0000>4</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "wintertodt", 4);
 	}
@@ -115,7 +131,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", "Your Kree'arra kill count is: <col=ff0000>4</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "kree'arra", 4);
 	}
@@ -126,7 +142,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", "Your Barrows chest count is: <col=ff0000>277</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "barrows chests", 277);
 	}
@@ -137,7 +153,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", "Your herbiboar harvest count is: <col=ff0000>4091</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "herbiboar", 4091);
 	}
@@ -148,7 +164,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage gauntletMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Gauntlet completion count is: <col=ff0000>123</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(gauntletMessage);
+		onChatMessage(gauntletMessage);
 
 		verify(configManager).setConfiguration("killcount.adam", "gauntlet", 123);
 	}
@@ -159,7 +175,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage corruptedGauntletMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Corrupted Gauntlet completion count is: <col=ff0000>4729</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(corruptedGauntletMessage);
+		onChatMessage(corruptedGauntletMessage);
 
 		verify(configManager).setConfiguration("killcount.adam", "corrupted gauntlet", 4729);
 	}
@@ -173,10 +189,10 @@ public class ChatCommandsPluginTest
 
 		// This sets lastBoss
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Kree'arra kill count is: <col=ff0000>4</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", FIGHT_DURATION, null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("kree'arra"), eq(79));
 	}
@@ -190,10 +206,10 @@ public class ChatCommandsPluginTest
 
 		// This sets lastBoss
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Zulrah kill count is: <col=ff0000>4</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", FIGHT_DURATION, null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("zulrah"), eq(55));
 	}
@@ -207,10 +223,10 @@ public class ChatCommandsPluginTest
 
 		// This sets lastBoss
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Kree'arra kill count is: <col=ff0000>4</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", NEW_PB, null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("kree'arra"), eq(181));
 	}
@@ -221,7 +237,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, TRADE, "", "You won! You have now won 27 duels.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "duel arena wins", 27);
 		verify(configManager).setConfiguration("killcount.adam", "duel arena win streak", 1);
@@ -233,7 +249,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, TRADE, "", "You were defeated! You have won 22 duels.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "duel arena wins", 22);
 	}
@@ -244,7 +260,7 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, TRADE, "", "You have now lost 999 duels.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		verify(configManager).setConfiguration("killcount.adam", "duel arena losses", 999);
 	}
@@ -258,10 +274,10 @@ public class ChatCommandsPluginTest
 
 		// This sets lastBoss
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Prifddinas Agility Course lap count is: <col=ff0000>2</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", NEW_PB, null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("prifddinas agility course"), eq(61));
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("prifddinas agility course"), eq(2));
@@ -273,10 +289,10 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your TzKal-Zuk kill count is: <col=ff0000>2</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Duration: <col=ff0000>104:31</col> (new personal best)", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("tzkal-zuk"), eq(104 * 60 + 31));
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("tzkal-zuk"), eq(2));
@@ -288,10 +304,10 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your TzKal-Zuk kill count is: <col=ff0000>3</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Duration: <col=ff0000>172:18</col>. Personal best: 134:52", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("tzkal-zuk"), eq(134 * 60 + 52));
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("tzkal-zuk"), eq(3));
@@ -303,10 +319,10 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Fight duration: <col=ff0000>1:36</col> (new personal best)", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Grotesque Guardians kill count is: <col=ff0000>179</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("grotesque guardians"), eq(96));
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("grotesque guardians"), eq(179));
@@ -318,10 +334,10 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Fight duration: <col=ff0000>2:41</col>. Personal best: 2:14", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Grotesque Guardians kill count is: <col=ff0000>32</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("grotesque guardians"), eq(2 * 60 + 14));
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("grotesque guardians"), eq(32));
@@ -333,10 +349,10 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Challenge duration: <col=ff0000>10:24</col>. Personal best: 7:59.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Gauntlet completion count is: <col=ff0000>124</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("gauntlet"), eq(124));
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("gauntlet"), eq(7 * 60 + 59));
@@ -348,10 +364,10 @@ public class ChatCommandsPluginTest
 		when(client.getUsername()).thenReturn("Adam");
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Challenge duration: <col=ff0000>10:24</col> (new personal best).", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		chatMessage = new ChatMessage(null, GAMEMESSAGE, "", "Your Gauntlet completion count is: <col=ff0000>124</col>.", null, 0);
-		chatCommandsPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		verify(configManager).setConfiguration(eq("personalbest.adam"), eq("gauntlet"), eq(10 * 60 + 24));
 		verify(configManager).setConfiguration(eq("killcount.adam"), eq("gauntlet"), eq(124));
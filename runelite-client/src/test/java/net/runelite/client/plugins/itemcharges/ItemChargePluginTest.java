@@ -38,7 +38,9 @@ import net.runelite.api.ItemContainer;
 import net.runelite.api.ItemID;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.client.Notifier;
+import net.runelite.client.chat.ChatPatternManager;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.ui.overlay.OverlayManager;
 import org.junit.Before;
 import org.junit.Test;
@@ -88,6 +90,13 @@ public class ItemChargePluginTest
 	@Bind
 	private ItemChargeConfig config;
 
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Inject
+	private ChatPatternManager chatPatternManager;
+
 	@Inject
 	private ItemChargePlugin itemChargePlugin;
 
@@ -95,38 +104,45 @@ public class ItemChargePluginTest
 	public void before()
 	{
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		itemChargePlugin.startUp();
+	}
+
+	private void onChatMessage(ChatMessage chatMessage)
+	{
+		chatPatternManager.onChatMessage(chatMessage);
+		itemChargePlugin.onChatMessage(chatMessage);
 	}
 
 	@Test
 	public void testOnChatMessage()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).dodgyNecklace(eq(10));
 		reset(config);
 
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", PROTECT, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).dodgyNecklace(eq(9));
 		reset(config);
 
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", PROTECT_1, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).dodgyNecklace(eq(1));
 		reset(config);
 
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).dodgyNecklace(eq(10));
 		reset(config);
 
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_RING_OF_FORGING_ONE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).ringOfForging(eq(1));
 		reset(config);
 
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_RING_OF_FORGING_FULL, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).ringOfForging(eq(140));
 		reset(config);
 
@@ -140,12 +156,12 @@ public class ItemChargePluginTest
 		items[EquipmentInventorySlot.RING.getSlotIdx()] = ring;
 		// Run message
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_RING_OF_FORGING, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).ringOfForging(eq(89));
 		reset(config);
 
 		chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_RING_OF_FORGING, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 		verify(config).ringOfForging(eq(140));
 		reset(config);
 	}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import javax.swing.JScrollPane;
+import javax.swing.JViewport;
+import net.runelite.api.Constants;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.PluginPanel;
+import net.runelite.client.util.AsyncBufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LootTrackerBoxListTest
+{
+	private static final int ENTRIES = 20_000;
+	private static final int VIEWPORT_HEIGHT = 600;
+	// Boxes are at least a header tall, so no more than this can fit in the viewport and its overscan
+	private static final int MAX_BOXES = 40;
+
+	@Mock
+	private ItemManager itemManager;
+
+	private LootTrackerBoxList list;
+	private JScrollPane scrollPane;
+
+	@Before
+	public void before()
+	{
+		when(itemManager.getImage(anyInt(), anyInt(), anyBoolean()))
+			.thenAnswer(a -> new AsyncBufferedImage(Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB));
+
+		list = new LootTrackerBoxList(entry -> new LootTrackerBox(itemManager, entry, true,
+			LootTrackerPriceType.GRAND_EXCHANGE, false, (name, ignore) ->
+		{
+		}));
+		list.setHideIgnoredItems(true);
+
+		scrollPane = new JScrollPane(list);
+		// Boxes are updated by laying out the scroll pane, rather than by listening to the viewport, as
+		// viewport events are dispatched on the event thread
+		scrollPane.setSize(PluginPanel.PANEL_WIDTH, VIEWPORT_HEIGHT);
+
+		for (int i = 0; i < ENTRIES; i++)
+		{
+			list.addEntry(entry(i));
+		}
+	}
+
+	@Test
+	public void testOnlyVisibleBoxesCreated()
+	{
+		layout(scrollPane);
+
+		assertTrue(list.getComponentCount() > 0);
+		assertTrue(list.getComponentCount() < MAX_BOXES);
+		assertBoxesVisible();
+
+		// The newest entry is displayed first
+		final LootTrackerBox top = (LootTrackerBox) list.getComponentAt(1, 1);
+		assertEquals(title(ENTRIES - 1), top.getEntry().getId());
+	}
+
+	@Test
+	public void testScrolling()
+	{
+		layout(scrollPane);
+		final int height = list.getPreferredSize().height;
+
+		final JViewport viewport = scrollPane.getViewport();
+		for (int y = 0; y < height - VIEWPORT_HEIGHT; y += height / 50)
+		{
+			viewport.setViewPosition(new Point(0, y));
+			layout(scrollPane);
+
+			assertTrue(list.getComponentCount() < MAX_BOXES);
+			assertBoxesVisible();
+			// Entries were sized from the measured boxes, so building more of them doesn't move the scrollbar
+			assertEquals(height, list.getPreferredSize().height);
+		}
+	}
+
+	@Test
+	public void testCollapseAll()
+	{
+		layout(scrollPane);
+		final LootTrackerBox box = (LootTrackerBox) list.getComponent(0);
+
+		list.setAllCollapsed(true);
+		layout(scrollPane);
+
+		assertTrue(list.isAllCollapsed());
+		assertTrue(box.isCollapsed());
+		assertEquals(ENTRIES * box.getCollapsedHeight(), list.getPreferredSize().height);
+
+		list.setCollapsed(box.getEntry(), false);
+		assertFalse(list.isAllCollapsed());
+		assertFalse(box.isCollapsed());
+	}
+
+	@Test
+	public void testRemove()
+	{
+		layout(scrollPane);
+		final LootTrackerBox box = (LootTrackerBox) list.getComponent(0);
+		final int height = list.getPreferredSize().height;
+
+		list.removeEntry(box.getEntry());
+		layout(scrollPane);
+
+		assertEquals(height - box.getPreferredSize().height, list.getPreferredSize().height);
+		assertBoxesVisible();
+
+		list.clear();
+		layout(scrollPane);
+
+		assertEquals(0, list.getComponentCount());
+		assertEquals(0, list.getPreferredSize().height);
+	}
+
+	private void assertBoxesVisible()
+	{
+		final Rectangle visible = list.getVisibleRect();
+		visible.grow(0, VIEWPORT_HEIGHT);
+
+		for (Component component : list.getComponents())
+		{
+			final LootTrackerBox box = (LootTrackerBox) component;
+			assertTrue(visible.intersects(box.getBounds()));
+			assertSame(box, box.getEntry().getBox());
+			assertEquals(box.getPreferredSize().height, box.getHeight());
+		}
+	}
+
+	private static LootTrackerEntry entry(int i)
+	{
+		final LootTrackerItem[] items = new LootTrackerItem[1 + i % 12];
+		for (int j = 0; j < items.length; j++)
+		{
+			items[j] = new LootTrackerItem(j, "Item " + j, 1 + i % 3, 100, 60, false);
+		}
+
+		final LootTrackerEntry entry = new LootTrackerEntry(title(i), null);
+		entry.add(new LootTrackerRecord(title(i), null, items));
+		return entry;
+	}
+
+	private static String title(int i)
+	{
+		return "Monster " + i;
+	}
+
+	/**
+	 * Lays out a component tree without it being displayed
+	 */
+	static void layout(Container container)
+	{
+		container.doLayout();
+
+		for (Component component : container.getComponents())
+		{
+			if (component instanceof Container)
+			{
+				layout((Container) component);
+			}
+		}
+	}
+}
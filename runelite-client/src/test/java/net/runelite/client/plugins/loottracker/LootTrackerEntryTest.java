@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.util.List;
+import net.runelite.api.ItemID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class LootTrackerEntryTest
+{
+	@Test
+	public void testStacking()
+	{
+		final LootTrackerEntry entry = new LootTrackerEntry("Goblin", "(lvl-2)");
+		entry.add(record(
+			new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, false),
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 10, 10, 10, false)));
+		entry.add(record(
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 5, 10, 10, false)));
+
+		final List<LootTrackerItem> items = entry.getItems(false, LootTrackerPriceType.GRAND_EXCHANGE);
+		assertEquals(2, items.size());
+
+		final LootTrackerItem bones = items.get(0);
+		assertEquals(ItemID.BONES, bones.getId());
+		assertEquals(1, bones.getQuantity());
+		assertEquals(100, bones.getGePrice());
+
+		// Stacked price uses the unit price of the latest drop
+		final LootTrackerItem coins = items.get(1);
+		assertEquals(ItemID.COINS_995, coins.getId());
+		assertEquals(15, coins.getQuantity());
+		assertEquals(30, coins.getGePrice());
+		assertEquals(30, coins.getHaPrice());
+
+		assertEquals(ItemID.COINS_995, entry.getItems(false, LootTrackerPriceType.HIGH_ALCHEMY).get(0).getId());
+	}
+
+	@Test
+	public void testAggregate()
+	{
+		final LootTrackerEntry entry = new LootTrackerEntry("Goblin", null);
+		entry.add(record(
+			new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, true),
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 10, 10, 10, false)));
+		entry.add(record(
+			new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, true)));
+		entry.add(record());
+
+		final LootTrackerAggregate aggregate = entry.getAggregate();
+		assertEquals(3, aggregate.getRecords());
+		assertEquals(2, aggregate.getKills(false));
+		assertEquals(1, aggregate.getKills(true));
+		assertEquals(210, aggregate.getGePrice(false));
+		assertEquals(10, aggregate.getGePrice(true));
+		assertEquals(12, aggregate.getHaPrice(false));
+		assertEquals(10, aggregate.getHaPrice(true));
+
+		assertEquals(2, entry.getItemCount(false));
+		assertEquals(1, entry.getItemCount(true));
+		assertFalse(entry.isHidden(true));
+
+		final LootTrackerAggregate overall = new LootTrackerAggregate();
+		overall.add(record(new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, false)));
+		entry.getRecords().forEach(overall::add);
+		overall.remove(aggregate);
+		assertEquals(1, overall.getRecords());
+		assertEquals(1, overall.getKills(true));
+		assertEquals(100, overall.getGePrice(true));
+		assertEquals(1, overall.getHaPrice(false));
+	}
+
+	@Test
+	public void testHidden()
+	{
+		final LootTrackerEntry entry = new LootTrackerEntry("Goblin", null);
+		entry.add(record(new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, true)));
+
+		assertTrue(entry.isHidden(true));
+		assertFalse(entry.isHidden(false));
+		assertTrue(entry.getItems(true, LootTrackerPriceType.GRAND_EXCHANGE).isEmpty());
+	}
+
+	private static LootTrackerRecord record(LootTrackerItem... items)
+	{
+		return new LootTrackerRecord("Goblin", "(lvl-2)", items);
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+import net.runelite.api.Constants;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.PluginPanel;
+import net.runelite.client.util.AsyncBufferedImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks a loot tracker panel holding {@link #history} records, laying the panel out after each change
+ * as it would be when displayed. Changes are made on the event dispatch thread, like the plugin does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LootTrackerPanelBenchmark
+{
+	private static final int TITLES = 50;
+	private static final int ITEMS = 100;
+
+	@Param({"10000", "50000"})
+	private int history;
+
+	private final Random random = new Random(42);
+	private LootTrackerPanel panel;
+	private JScrollPane scrollPane;
+
+	@Setup(Level.Iteration)
+	public void setup() throws InterruptedException, InvocationTargetException
+	{
+		// Mocks are stub only so the invocations of the benchmark aren't recorded
+		final LootTrackerPlugin plugin = mock(LootTrackerPlugin.class, withSettings().stubOnly());
+		final LootTrackerConfig config = mock(LootTrackerConfig.class, withSettings().stubOnly());
+		final ItemManager itemManager = mock(ItemManager.class, withSettings().stubOnly());
+		when(config.priceType()).thenReturn(LootTrackerPriceType.GRAND_EXCHANGE);
+		when(itemManager.getImage(anyInt(), anyInt(), anyBoolean()))
+			.thenAnswer(a -> new AsyncBufferedImage(Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB));
+
+		SwingUtilities.invokeAndWait(() ->
+		{
+			panel = new LootTrackerPanel(plugin, itemManager, config);
+			scrollPane = (JScrollPane) SwingUtilities.getAncestorOfClass(JScrollPane.class, panel);
+			scrollPane.setSize(PluginPanel.PANEL_WIDTH, 800);
+
+			for (int i = 0; i < history; i++)
+			{
+				panel.add(title(), 2, drop());
+			}
+
+			LootTrackerBoxListTest.layout(scrollPane);
+		});
+	}
+
+	@Benchmark
+	public void addDrop() throws InterruptedException, InvocationTargetException
+	{
+		final String title = title();
+		final LootTrackerItem[] drop = drop();
+
+		SwingUtilities.invokeAndWait(() ->
+		{
+			panel.add(title, 2, drop);
+			LootTrackerBoxListTest.layout(scrollPane);
+		});
+	}
+
+	@Benchmark
+	public void updateIgnoredRecords() throws InterruptedException, InvocationTargetException
+	{
+		SwingUtilities.invokeAndWait(() ->
+		{
+			panel.updateIgnoredRecords();
+			LootTrackerBoxListTest.layout(scrollPane);
+		});
+	}
+
+	private String title()
+	{
+		return "Monster " + random.nextInt(TITLES);
+	}
+
+	private LootTrackerItem[] drop()
+	{
+		final LootTrackerItem[] items = new LootTrackerItem[1 + random.nextInt(6)];
+		for (int i = 0; i < items.length; i++)
+		{
+			final int id = random.nextInt(ITEMS);
+			final int quantity = 1 + random.nextInt(5);
+			items[i] = new LootTrackerItem(id, "Item " + id, quantity, 100L * quantity * (id + 1), 60L * quantity * (id + 1), false);
+		}
+		return items;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(LootTrackerPanelBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -33,8 +33,10 @@ import net.runelite.api.GameState;
 import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.menus.MenuManager;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Before;
 import org.junit.Test;
@@ -44,7 +46,6 @@ import static org.mockito.ArgumentMatchers.any;
 import org.mockito.Mock;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -72,6 +73,9 @@ public class MenuEntrySwapperPluginTest
 	@Inject
 	MenuEntrySwapperPlugin menuEntrySwapperPlugin;
 
+	@Inject
+	MenuManager menuManager;
+
 	private MenuEntry[] entries;
 
 	@Before
@@ -95,6 +99,21 @@ public class MenuEntrySwapperPluginTest
 			entries = (MenuEntry[]) argument;
 			return null;
 		}).when(client).setMenuEntries(any(MenuEntry[].class));
+
+		when(config.swapHomePortal()).thenReturn(HouseMode.ENTER);
+		when(config.swapHouseAdvertisement()).thenReturn(HouseAdvertisementMode.VIEW);
+		when(config.swapFairyRing()).thenReturn(FairyRingMode.OFF);
+	}
+
+	/**
+	 * Apply the swaps to the menu, as the menu manager does after the client builds it
+	 */
+	private void buildMenu()
+	{
+		MenuEntry entry = entries[entries.length - 1];
+		menuManager.onMenuEntryAdded(new MenuEntryAdded(entry.getOption(), entry.getTarget(), entry.getType(),
+			entry.getIdentifier(), entry.getParam0(), entry.getParam1()));
+		menuManager.onClientTick(new ClientTick());
 	}
 
 	private static MenuEntry menu(String option, String target, MenuAction menuAction)
@@ -111,6 +130,7 @@ public class MenuEntrySwapperPluginTest
 	{
 		when(config.swapTrade()).thenReturn(true);
 		when(config.swapAssignment()).thenReturn(true);
+		menuEntrySwapperPlugin.startUp();
 
 		entries = new MenuEntry[]{
 			menu("Cancel", "", MenuAction.CANCEL),
@@ -119,11 +139,11 @@ public class MenuEntrySwapperPluginTest
 			menu("Assignment", "Duradel", MenuAction.NPC_THIRD_OPTION),
 			menu("Talk-to", "Duradel", MenuAction.NPC_FIRST_OPTION),
 		};
-		menuEntrySwapperPlugin.onClientTick(new ClientTick());
+		buildMenu();
 
 		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
-		// Once for assignment<->talk-to and once for trade<->talk-to
-		verify(client, times(2)).setMenuEntries(argumentCaptor.capture());
+		// assignment<->talk-to, then trade<->talk-to, written back once
+		verify(client).setMenuEntries(argumentCaptor.capture());
 
 		MenuEntry[] value = argumentCaptor.getValue();
 		assertArrayEquals(new MenuEntry[]{
@@ -139,6 +159,7 @@ public class MenuEntrySwapperPluginTest
 	public void testBankers()
 	{
 		when(config.swapBank()).thenReturn(true);
+		menuEntrySwapperPlugin.startUp();
 
 		entries = new MenuEntry[]{
 			menu("Cancel", "", MenuAction.CANCEL),
@@ -157,10 +178,10 @@ public class MenuEntrySwapperPluginTest
 			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
 		};
 
-		menuEntrySwapperPlugin.onClientTick(new ClientTick());
+		buildMenu();
 
 		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
-		verify(client, times(2)).setMenuEntries(argumentCaptor.capture());
+		verify(client).setMenuEntries(argumentCaptor.capture());
 
 		assertArrayEquals(new MenuEntry[]{
 			menu("Cancel", "", MenuAction.CANCEL),
@@ -184,6 +205,7 @@ public class MenuEntrySwapperPluginTest
 	public void testContains()
 	{
 		when(config.swapPay()).thenReturn(true);
+		menuEntrySwapperPlugin.startUp();
 
 		entries = new MenuEntry[]{
 			menu("Cancel", "", MenuAction.CANCEL),
@@ -195,7 +217,7 @@ public class MenuEntrySwapperPluginTest
 			menu("Talk-to", "Kragen", MenuAction.NPC_FIRST_OPTION),
 		};
 
-		menuEntrySwapperPlugin.onClientTick(new ClientTick());
+		buildMenu();
 
 		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
 		verify(client).setMenuEntries(argumentCaptor.capture());
@@ -216,6 +238,7 @@ public class MenuEntrySwapperPluginTest
 	{
 		when(config.swapTeleportSpell()).thenReturn(true);
 		menuEntrySwapperPlugin.setShiftModifier(true);
+		menuEntrySwapperPlugin.startUp();
 
 		// Cast -> Grand Exchange
 		entries = new MenuEntry[]{
@@ -226,7 +249,7 @@ public class MenuEntrySwapperPluginTest
 			menu("Cast", "Varrock Teleport", MenuAction.WIDGET_FIRST_OPTION),
 		};
 
-		menuEntrySwapperPlugin.onClientTick(new ClientTick());
+		buildMenu();
 
 		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
 		verify(client).setMenuEntries(argumentCaptor.capture());
@@ -250,7 +273,7 @@ public class MenuEntrySwapperPluginTest
 			menu("Grand Exchange", "Varrock Teleport", MenuAction.WIDGET_FIRST_OPTION),
 		};
 
-		menuEntrySwapperPlugin.onClientTick(new ClientTick());
+		buildMenu();
 
 		argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
 		verify(client).setMenuEntries(argumentCaptor.capture());
@@ -25,18 +25,24 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.time.Duration;
+import java.util.Random;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.Heuristic;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
 import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class PuzzleSolverTest
 {
-	private static final PuzzleState[] START_STATES =
+	static final PuzzleState[] START_STATES =
 	{
 		new PuzzleState(new int[]{0, 11, 1, 3, 4, 5, 12, 2, 7, 9, 6, 20, 18, 16, 8, 15, 22, 10, 14, 13, 21, -1, 17, 23, 19}),
 		new PuzzleState(new int[]{0, 2, 7, 3, 4, 10, 5, 12, 1, 9, 6, 17, 8, 14, 19, -1, 16, 21, 11, 13, 15, 20, 22, 18, 23}),
@@ -163,4 +169,106 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testSolverLinearConflict()
+	{
+		for (PuzzleState state : START_STATES)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new IDAStar(new LinearConflict()), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+
+			// both heuristics are admissible, so both solutions are the shortest
+			PuzzleSolver manhattanSolver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), state);
+			manhattanSolver.run();
+			assertEquals(manhattanSolver.getStepCount(), solver.getStepCount());
+		}
+
+		for (PuzzleState state : START_STATES_MM)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new IDAStarMM(new LinearConflict()), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+		}
+	}
+
+	@Test
+	public void testHeuristicDelta()
+	{
+		Heuristic[] heuristics = {new ManhattanDistance(), new LinearConflict()};
+		Random random = new Random(42);
+		int[] pieces = FINISHED_STATE.clone();
+		int empty = pieces.length - 1;
+
+		for (int i = 0; i < 10000; i++)
+		{
+			int[] moves = {empty - 1, empty + 1, empty - 5, empty + 5};
+			int next = moves[random.nextInt(moves.length)];
+			if (next < 0 || next >= pieces.length || (Math.abs(next - empty) == 1 && next / 5 != empty / 5))
+			{
+				continue;
+			}
+
+			for (Heuristic heuristic : heuristics)
+			{
+				int[] before = pieces.clone();
+				int delta = heuristic.computeDelta(pieces, next, empty);
+				assertArrayEquals(before, pieces);
+
+				int[] after = pieces.clone();
+				after[empty] = after[next];
+				after[next] = -1;
+				assertEquals(heuristic.computeValue(after) - heuristic.computeValue(pieces), delta);
+			}
+
+			pieces[empty] = pieces[next];
+			pieces[next] = -1;
+			empty = next;
+		}
+	}
+
+	@Test
+	public void testTimeBudget()
+	{
+		PuzzleSolver solver = new PuzzleSolver(new IDAStar(new LinearConflict()), reversedState(), Duration.ofMillis(100));
+		solver.run();
+
+		assertFalse(solver.hasSolution());
+		assertTrue(solver.hasFailed());
+	}
+
+	@Test
+	public void testInterrupted()
+	{
+		Thread.currentThread().interrupt();
+
+		try
+		{
+			PuzzleSolver solver = new PuzzleSolver(new IDAStar(new LinearConflict()), reversedState());
+			solver.run();
+
+			assertTrue(solver.hasFailed());
+		}
+		finally
+		{
+			Thread.interrupted();
+		}
+	}
+
+	private static PuzzleState reversedState()
+	{
+		// solvable, but far too hard to solve quickly
+		int[] pieces = new int[FINISHED_STATE.length];
+		for (int i = 0; i < pieces.length - 1; i++)
+		{
+			pieces[i] = pieces.length - 2 - i;
+		}
+		pieces[pieces.length - 1] = -1;
+		return new PuzzleState(pieces);
+	}
 }
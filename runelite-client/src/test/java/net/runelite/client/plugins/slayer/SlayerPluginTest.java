@@ -47,6 +47,8 @@ import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.Notifier;
 import net.runelite.client.chat.ChatCommandManager;
 import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.ChatPatternManager;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
@@ -159,13 +161,27 @@ public class SlayerPluginTest
 	@Bind
 	ChatClient chatClient;
 
+	@Mock
+	@Bind
+	EventBus eventBus;
+
+	@Inject
+	ChatPatternManager chatPatternManager;
+
 	@Inject
 	SlayerPlugin slayerPlugin;
 
 	@Before
-	public void before()
+	public void before() throws Exception
 	{
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		slayerPlugin.startUp();
+	}
+
+	private void onChatMessage(ChatMessage chatMessage)
+	{
+		chatPatternManager.onChatMessage(chatMessage);
+		slayerPlugin.onChatMessage(chatMessage);
 	}
 
 	@Test
@@ -273,7 +289,7 @@ public class SlayerPluginTest
 	public void testPartnerTask()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", TASK_NEW_FROM_PARTNER, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals("Dust Devils", slayerPlugin.getTaskName());
 		assertEquals(377, slayerPlugin.getAmount());
@@ -283,7 +299,7 @@ public class SlayerPluginTest
 	public void testCheckSlayerGem()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", TASK_CHECKSLAYERGEM, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 		assertEquals("Suqahs", slayerPlugin.getTaskName());
 		assertEquals(211, slayerPlugin.getAmount());
 	}
@@ -292,7 +308,7 @@ public class SlayerPluginTest
 	public void testCheckSlayerGemWildernessTask()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", TASK_CHECKSLAYERGEM_WILDERNESS, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 		assertEquals("Suqahs", slayerPlugin.getTaskName());
 		assertEquals(211, slayerPlugin.getAmount());
 		assertEquals("Wilderness", slayerPlugin.getTaskLocation());
@@ -302,7 +318,7 @@ public class SlayerPluginTest
 	public void testCheckSlayerGemKonarTask()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", TASK_CHECKSLAYERGEM_KONAR, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals("Blue dragons", slayerPlugin.getTaskName());
 		assertEquals(122, slayerPlugin.getAmount());
@@ -340,7 +356,7 @@ public class SlayerPluginTest
 	public void testOneTask()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Perterter", TASK_ONE, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(1, slayerPlugin.getStreak());
 		assertEquals("", slayerPlugin.getTaskName());
@@ -351,7 +367,7 @@ public class SlayerPluginTest
 	public void testNoPoints()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Perterter", TASK_COMPLETE_NO_POINTS, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(3, slayerPlugin.getStreak());
 		assertEquals("", slayerPlugin.getTaskName());
@@ -362,7 +378,7 @@ public class SlayerPluginTest
 	public void testPoints()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Perterter", TASK_POINTS, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(9, slayerPlugin.getStreak());
 		assertEquals("", slayerPlugin.getTaskName());
@@ -374,7 +390,7 @@ public class SlayerPluginTest
 	public void testLargeStreak()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Perterter", TASK_LARGE_STREAK, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(2465, slayerPlugin.getStreak());
 		assertEquals("", slayerPlugin.getTaskName());
@@ -389,7 +405,7 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(42);
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Perterter", TASK_COMPLETE, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals("", slayerPlugin.getTaskName());
 		assertEquals(0, slayerPlugin.getAmount());
@@ -402,7 +418,7 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(42);
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Perterter", TASK_CANCELED, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals("", slayerPlugin.getTaskName());
 		assertEquals(0, slayerPlugin.getAmount());
@@ -414,11 +430,11 @@ public class SlayerPluginTest
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Superior", SUPERIOR_MESSAGE, null, 0);
 
 		when(slayerConfig.showSuperiorNotification()).thenReturn(true);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 		verify(notifier).notify(SUPERIOR_MESSAGE);
 
 		when(slayerConfig.showSuperiorNotification()).thenReturn(false);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 		verifyNoMoreInteractions(notifier);
 	}
 
@@ -572,24 +588,24 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(42);
 		slayerPlugin.setSlaughterChargeCount(10);
 
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(9, slayerPlugin.getSlaughterChargeCount());
 		assertEquals(43, slayerPlugin.getAmount());
 
 		chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", CHAT_BRACELET_SLAUGHTER_CHARGE, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(12, slayerPlugin.getSlaughterChargeCount());
 
 		chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", CHAT_BRACELET_SLAUGHTER_CHARGE_ONE, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(1, slayerPlugin.getSlaughterChargeCount());
 
 		slayerPlugin.setSlaughterChargeCount(1);
 		chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", BRACLET_SLAUGHTER_V3, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(30, slayerPlugin.getSlaughterChargeCount());
 
@@ -606,7 +622,7 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(42);
 		slayerPlugin.setSlaughterChargeCount(2);
 
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(1, slayerPlugin.getSlaughterChargeCount());
 		assertEquals(43, slayerPlugin.getAmount());
@@ -620,24 +636,24 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(42);
 		slayerPlugin.setExpeditiousChargeCount(10);
 
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(41, slayerPlugin.getAmount());
 		assertEquals(9, slayerPlugin.getExpeditiousChargeCount());
 
 		chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", CHAT_BRACELET_EXPEDITIOUS_CHARGE, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(12, slayerPlugin.getExpeditiousChargeCount());
 
 		chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", CHAT_BRACELET_EXPEDITIOUS_CHARGE_ONE, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(1, slayerPlugin.getExpeditiousChargeCount());
 
 		slayerPlugin.setExpeditiousChargeCount(1);
 		chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", BRACLET_EXPEDITIOUS_V3, null, 0);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(30, slayerPlugin.getExpeditiousChargeCount());
 
@@ -654,7 +670,7 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(42);
 		slayerPlugin.setExpeditiousChargeCount(2);
 
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		onChatMessage(chatMessageEvent);
 
 		assertEquals(41, slayerPlugin.getAmount());
 		assertEquals(1, slayerPlugin.getExpeditiousChargeCount());
@@ -671,7 +687,7 @@ public class SlayerPluginTest
 		slayerPlugin.setAmount(231);
 
 		ChatMessage chatMessage = new ChatMessage(null, GAMEMESSAGE, "", TASK_UPDATE_COMBAT_BRACELET, null, 0);
-		slayerPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		assertEquals("Suqahs", slayerPlugin.getTaskName());
 		slayerPlugin.killedOne();
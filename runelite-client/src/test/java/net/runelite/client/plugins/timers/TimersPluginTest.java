@@ -33,6 +33,8 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.WorldType;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.client.chat.ChatPatternManager;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.ui.overlay.infobox.InfoBox;
@@ -54,6 +56,13 @@ public class TimersPluginTest
 	private static final String FULL_TELEBLOCK_MESSAGE = "<col=4f006f>A Tele Block spell has been cast on you by Runelite. It will expire in 5 minutes.</col>";
 	private static final String HALF_TELEBLOCK_MESSAGE = "<col=4f006f>A Tele Block spell has been cast on you by Runelite. It will expire in 2 minutes, 30 seconds.</col>";
 
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Inject
+	private ChatPatternManager chatPatternManager;
+
 	@Inject
 	private TimersPlugin timersPlugin;
 
@@ -78,9 +87,16 @@ public class TimersPluginTest
 	private InfoBoxManager infoBoxManager;
 
 	@Before
-	public void before()
+	public void before() throws Exception
 	{
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		timersPlugin.startUp();
+	}
+
+	private void onChatMessage(ChatMessage chatMessage)
+	{
+		chatPatternManager.onChatMessage(chatMessage);
+		timersPlugin.onChatMessage(chatMessage);
 	}
 
 	@Test
@@ -89,7 +105,7 @@ public class TimersPluginTest
 		when(timersConfig.showTeleblock()).thenReturn(true);
 		when(client.getWorldType()).thenReturn(EnumSet.of(WorldType.MEMBERS));
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.SPAM, "", HALF_TELEBLOCK_MESSAGE, "", 0);
-		timersPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		ArgumentCaptor<InfoBox> captor = ArgumentCaptor.forClass(InfoBox.class);
 		verify(infoBoxManager).addInfoBox(captor.capture());
@@ -102,7 +118,7 @@ public class TimersPluginTest
 	{
 		when(timersConfig.showTeleblock()).thenReturn(true);
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.SPAM, "", FULL_TELEBLOCK_MESSAGE, "", 0);
-		timersPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		ArgumentCaptor<InfoBox> captor = ArgumentCaptor.forClass(InfoBox.class);
 		verify(infoBoxManager).addInfoBox(captor.capture());
@@ -115,7 +131,7 @@ public class TimersPluginTest
 	{
 		when(timersConfig.showTeleblock()).thenReturn(true);
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.SPAM, "", DMM_HALF_TELEBLOCK_MESSAGE, "", 0);
-		timersPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		ArgumentCaptor<InfoBox> captor = ArgumentCaptor.forClass(InfoBox.class);
 		verify(infoBoxManager).addInfoBox(captor.capture());
@@ -129,7 +145,7 @@ public class TimersPluginTest
 		when(timersConfig.showTeleblock()).thenReturn(true);
 		when(client.getWorldType()).thenReturn(EnumSet.of(WorldType.DEADMAN));
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.SPAM, "", HALF_TELEBLOCK_MESSAGE, "", 0);
-		timersPlugin.onChatMessage(chatMessage);
+		onChatMessage(chatMessage);
 
 		ArgumentCaptor<InfoBox> captor = ArgumentCaptor.forClass(InfoBox.class);
 		verify(infoBoxManager).addInfoBox(captor.capture());
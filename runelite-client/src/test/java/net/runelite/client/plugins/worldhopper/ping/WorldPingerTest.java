@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.util.OSType;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+public class WorldPingerTest
+{
+	private final List<Channel> channels = new ArrayList<>();
+
+	@After
+	public void after() throws IOException
+	{
+		for (Channel channel : channels)
+		{
+			channel.close();
+		}
+	}
+
+	@Test
+	public void testReachableAndRefused() throws IOException
+	{
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		targets.put(301, listen(50));
+		targets.put(302, refused());
+		targets.put(303, listen(50));
+		targets.put(304, refused());
+
+		final Map<Integer, Integer> results = ping(new WorldPinger(16, 2000), targets);
+
+		assertEquals(targets.keySet(), results.keySet());
+		assertTrue(results.get(301) >= 0);
+		assertEquals(-1, (int) results.get(302));
+		assertTrue(results.get(303) >= 0);
+		assertEquals(-1, (int) results.get(304));
+	}
+
+	@Test
+	public void testDroppedConnectionsTimeOut() throws Exception
+	{
+		assumeDroppedSyns();
+
+		final InetSocketAddress drop = dropping();
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		targets.put(301, drop);
+		targets.put(302, listen(50));
+
+		final long start = System.nanoTime();
+		final Map<Integer, Integer> results = ping(new WorldPinger(16, 300), targets);
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertEquals(-1, (int) results.get(301));
+		assertTrue(results.get(302) >= 0);
+		// the dropped connect can't time out early, however loaded the machine is
+		assertTrue(elapsed >= 300);
+	}
+
+	@Test
+	public void testLatency() throws Exception
+	{
+		assumeDroppedSyns();
+
+		// The accept queue is full so the SYN is dropped, and the connect only completes
+		// once the queue has been drained and the SYN is retransmitted
+		final ServerSocketChannel server = ServerSocketChannel.open();
+		channels.add(server);
+		server.bind(new InetSocketAddress("127.0.0.1", 0), 1);
+		fill((InetSocketAddress) server.getLocalAddress());
+
+		final Thread drain = new Thread(() ->
+		{
+			try
+			{
+				Thread.sleep(200);
+				channels.add(server.accept());
+				channels.add(server.accept());
+			}
+			catch (InterruptedException | IOException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+		});
+		drain.start();
+
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		targets.put(301, (InetSocketAddress) server.getLocalAddress());
+		final Map<Integer, Integer> results = ping(new WorldPinger(16, 5000), targets);
+		drain.join();
+
+		assertTrue(results.get(301) >= 200);
+	}
+
+	@Test
+	public void testConcurrencyCap() throws Exception
+	{
+		assumeDroppedSyns();
+
+		final InetSocketAddress drop = dropping();
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (int i = 0; i < 4; ++i)
+		{
+			targets.put(301 + i, drop);
+		}
+		targets.put(305, listen(50));
+
+		// with room for every connect the reachable world is reported before the dropped ones time out
+		List<Integer> order = new ArrayList<>(ping(new WorldPinger(5, 1000), targets).keySet());
+		assertEquals(305, (int) order.get(0));
+
+		// with the dropped connects filling every slot, it can only start once they have timed out
+		order = new ArrayList<>(ping(new WorldPinger(4, 1000), targets).keySet());
+		assertEquals(305, (int) order.get(4));
+	}
+
+	@Test
+	public void testSmoothing()
+	{
+		final WorldPinger pinger = new WorldPinger(1, 2000);
+		assertEquals(-1, pinger.getPing(301));
+		assertEquals(100, pinger.record(301, 100));
+		assertEquals(110, pinger.record(301, 180));
+		assertEquals(-1, pinger.record(301, -1));
+		assertEquals(110, pinger.getPing(301));
+	}
+
+	@Test
+	public void testConnectsNotRecorded() throws IOException
+	{
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		targets.put(301, listen(50));
+
+		final WorldPinger pinger = new WorldPinger(16, 2000, false);
+		final Map<Integer, Integer> results = ping(pinger, targets);
+
+		// the connect time is reported, but left out of the smoothed ping
+		assertTrue(results.get(301) >= 0);
+		assertEquals(-1, pinger.getPing(301));
+		assertEquals(100, pinger.record(301, 100));
+	}
+
+	@Test
+	public void testResolve() throws IOException
+	{
+		final Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (int i = 0; i < 20; ++i)
+		{
+			final InetSocketAddress address = listen(50);
+			// every other address is looked up on the resolver threads
+			targets.put(301 + i, i % 2 == 0
+				? address
+				: InetSocketAddress.createUnresolved(address.getHostString(), address.getPort()));
+		}
+
+		final Map<Integer, Integer> results = ping(new WorldPinger(4, 2000), targets);
+
+		assertEquals(targets.keySet(), results.keySet());
+		for (int ping : results.values())
+		{
+			assertTrue(ping >= 0);
+		}
+	}
+
+	private static Map<Integer, Integer> ping(WorldPinger pinger, Map<Integer, InetSocketAddress> targets)
+	{
+		final Map<Integer, Integer> results = new LinkedHashMap<>();
+		pinger.ping(targets, results::put);
+		return results;
+	}
+
+	private InetSocketAddress listen(int backlog) throws IOException
+	{
+		final ServerSocketChannel server = ServerSocketChannel.open();
+		channels.add(server);
+		server.bind(new InetSocketAddress("127.0.0.1", 0), backlog);
+		return (InetSocketAddress) server.getLocalAddress();
+	}
+
+	private static InetSocketAddress refused() throws IOException
+	{
+		try (ServerSocketChannel server = ServerSocketChannel.open())
+		{
+			server.bind(new InetSocketAddress("127.0.0.1", 0));
+			return (InetSocketAddress) server.getLocalAddress();
+		}
+	}
+
+	/**
+	 * Connects to a full accept queue are only dropped, rather than refused, on Linux
+	 */
+	private static void assumeDroppedSyns()
+	{
+		assumeTrue(OSType.getOSType() == OSType.Linux);
+	}
+
+	/**
+	 * A server which never accepts and has a full accept queue, so new connects are dropped
+	 */
+	private InetSocketAddress dropping() throws IOException
+	{
+		final InetSocketAddress address = listen(1);
+		fill(address);
+		return address;
+	}
+
+	private void fill(InetSocketAddress address) throws IOException
+	{
+		// the accept queue holds one more connection than the backlog. Blocking connects return once
+		// the handshake has completed, so the queue is full on return.
+		for (int i = 0; i < 2; ++i)
+		{
+			channels.add(SocketChannel.open(address));
+		}
+	}
+}
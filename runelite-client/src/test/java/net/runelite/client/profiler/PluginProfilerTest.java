@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PluginProfilerTest
+{
+	@Test
+	public void testOwnerName()
+	{
+		assertEquals("grounditems", PluginProfiler.ownerName("net.runelite.client.plugins.grounditems.GroundItemsPlugin"));
+		assertEquals("grounditems", PluginProfiler.ownerName("net.runelite.client.plugins.grounditems.GroundItemsPlugin$$Lambda$12/1234"));
+		assertEquals("agility", PluginProfiler.ownerName("net.runelite.client.plugins.agility.AgilityOverlay"));
+		assertEquals(PluginProfiler.CORE, PluginProfiler.ownerName("net.runelite.client.plugins.PluginManager"));
+		assertEquals(PluginProfiler.CORE, PluginProfiler.ownerName("net.runelite.client.ui.overlay.WidgetOverlay"));
+	}
+
+	@Test
+	public void testEnable()
+	{
+		PluginProfiler profiler = new PluginProfiler();
+		assertFalse(profiler.isEnabled());
+
+		// frames are not closed while disabled
+		profiler.record(this, ProfileSource.EVENT, 100);
+		profiler.endFrame();
+		assertEquals(0, profiler.getProfiles().get(0).getFrames());
+
+		// and enabling discards anything recorded previously
+		profiler.setEnabled(true);
+		assertTrue(profiler.getProfiles().isEmpty());
+	}
+
+	@Test
+	public void testPercentiles()
+	{
+		PluginProfiler profiler = new PluginProfiler();
+		profiler.setEnabled(true);
+
+		for (int i = 1; i <= 100; ++i)
+		{
+			profiler.record(this, ProfileSource.EVENT, i);
+			profiler.record(this, ProfileSource.OVERLAY, i);
+			profiler.endFrame();
+		}
+
+		List<PluginProfile> profiles = profiler.getProfiles();
+		assertEquals(1, profiles.size());
+
+		PluginProfile profile = profiles.get(0);
+		assertEquals(PluginProfiler.CORE, profile.getName());
+		assertEquals(100, profile.getFrames());
+		assertEquals(100, profile.getP50());
+		assertEquals(190, profile.getP95());
+		assertEquals(200, profile.getMax());
+		assertEquals(5050, profile.getTotal(ProfileSource.EVENT));
+		assertEquals(0, profile.getTotal(ProfileSource.TASK));
+		assertTrue(profile.getMean() > 0);
+	}
+}
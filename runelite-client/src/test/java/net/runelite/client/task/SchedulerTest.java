@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SchedulerTest
+{
+	public static class Tasks
+	{
+		int fast;
+		int slow;
+		final CountDownLatch async = new CountDownLatch(1);
+
+		@Schedule(period = 1, unit = ChronoUnit.MILLIS)
+		public void fast()
+		{
+			++fast;
+		}
+
+		@Schedule(period = 1, unit = ChronoUnit.HOURS)
+		public void slow()
+		{
+			++slow;
+		}
+
+		@Schedule(period = 1, unit = ChronoUnit.MILLIS, asynchronous = true)
+		public void async()
+		{
+			async.countDown();
+		}
+	}
+
+	@Test
+	public void testTick() throws Exception
+	{
+		Tasks tasks = new Tasks();
+		Scheduler scheduler = new Scheduler();
+		scheduler.executor = Executors.newSingleThreadScheduledExecutor();
+		for (String name : new String[]{"fast", "slow", "async"})
+		{
+			scheduler.addScheduledMethod(create(tasks, name));
+		}
+
+		Thread.sleep(5);
+		scheduler.tick();
+
+		assertEquals(1, tasks.fast);
+		assertEquals(0, tasks.slow);
+		assertTrue(tasks.async.await(5, TimeUnit.SECONDS));
+
+		Thread.sleep(5);
+		scheduler.tick();
+		assertEquals(2, tasks.fast);
+		assertEquals(0, tasks.slow);
+
+		scheduler.executor.shutdown();
+	}
+
+	@Test
+	public void testRemove() throws Exception
+	{
+		Tasks tasks = new Tasks();
+		Scheduler scheduler = new Scheduler();
+		ScheduledMethod method = create(tasks, "fast");
+		scheduler.addScheduledMethod(method);
+		scheduler.removeScheduledMethod(method);
+
+		Thread.sleep(5);
+		scheduler.tick();
+
+		assertEquals(0, tasks.fast);
+		assertTrue(scheduler.getScheduledMethods().isEmpty());
+	}
+
+	private static ScheduledMethod create(Object object, String name) throws NoSuchMethodException
+	{
+		Method method = object.getClass().getMethod(name);
+		return new ScheduledMethod(method.getAnnotation(Schedule.class), method, object);
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Point;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.config.FontType;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OverlayRendererTest
+{
+	private static final int WIDTH = 765;
+	private static final int HEIGHT = 503;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private OverlayManager overlayManager;
+
+	@Mock
+	@Bind
+	private RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	@Bind
+	private MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	private KeyManager keyManager;
+
+	@Inject
+	private OverlayRenderer overlayRenderer;
+
+	private final BufferedImage canvas = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+	private static class TestOverlay extends Overlay
+	{
+		private int renders;
+		private int width = 50;
+		// extra fills per render, to make rendering the overlay expensive
+		private int work;
+
+		TestOverlay(boolean tickStatic)
+		{
+			setPosition(OverlayPosition.TOP_LEFT);
+			setLayer(OverlayLayer.ABOVE_WIDGETS);
+			setTickStatic(tickStatic);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, width, 20);
+			for (int i = 0; i < work; ++i)
+			{
+				graphics.fillRect(i % width, i % 20, 1, 1);
+			}
+			return new Dimension(width, 20);
+		}
+	}
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		Widget viewport = mock(Widget.class);
+		when(viewport.getBounds()).thenReturn(new Rectangle(0, 0, WIDTH, HEIGHT));
+
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getViewportWidget()).thenReturn(viewport);
+		when(client.getMouseCanvasPosition()).thenReturn(new Point(-1, -1));
+		when(client.getRealDimensions()).thenReturn(new Dimension(WIDTH, HEIGHT));
+		when(client.getCanvasWidth()).thenReturn(WIDTH);
+		when(client.getCanvasHeight()).thenReturn(HEIGHT);
+		when(runeLiteConfig.interfaceFontType()).thenReturn(FontType.REGULAR);
+	}
+
+	@Test
+	public void testTickStatic()
+	{
+		TestOverlay overlay = new TestOverlay(true);
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(Arrays.asList(overlay));
+
+		// the first frame is drawn directly to find the overlay's size, the second to the cache
+		render();
+		render();
+		assertEquals(2, overlay.renders);
+
+		render();
+		assertEquals(2, overlay.renders);
+		assertDrawn(overlay);
+
+		overlayRenderer.onGameTick(new GameTick());
+		render();
+		assertEquals(3, overlay.renders);
+
+		overlay.invalidate();
+		render();
+		render();
+		assertEquals(4, overlay.renders);
+		assertDrawn(overlay);
+	}
+
+	@Test
+	public void testTickStaticGrow()
+	{
+		TestOverlay overlay = new TestOverlay(true);
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(Arrays.asList(overlay));
+
+		render();
+		render();
+		assertEquals(2, overlay.renders);
+
+		// the cached image is too small for the grown overlay, so it is drawn directly instead of clipped
+		overlay.width = 80;
+		overlay.invalidate();
+		render();
+		assertEquals(80, overlay.getBounds().width);
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(overlay.getBounds().x + 70, overlay.getBounds().y + 10));
+
+		// and cached again at the new size on the next frame
+		int renders = overlay.renders;
+		render();
+		render();
+		assertEquals(renders + 1, overlay.renders);
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(overlay.getBounds().x + 70, overlay.getBounds().y + 10));
+	}
+
+	@Test
+	public void testTickStaticTiming()
+	{
+		final int frames = 200;
+		final long direct = timeFrames(new TestOverlay(false), frames);
+		final long cached = timeFrames(new TestOverlay(true), frames);
+
+		// a tick-static overlay is rendered once for the whole run, then only drawn
+		assertTrue("cached " + cached + "ns, direct " + direct + "ns", cached < direct);
+	}
+
+	/**
+	 * Time rendering an expensive overlay to the offscreen canvas, after warming up
+	 *
+	 * @return the time taken in nanoseconds
+	 */
+	private long timeFrames(TestOverlay overlay, int frames)
+	{
+		overlay.work = 5_000;
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(Arrays.asList(overlay));
+
+		for (int i = 0; i < frames; ++i)
+		{
+			render();
+		}
+
+		final long start = System.nanoTime();
+		for (int i = 0; i < frames; ++i)
+		{
+			render();
+		}
+		return System.nanoTime() - start;
+	}
+
+	@Test
+	public void testNotTickStatic()
+	{
+		TestOverlay overlay = new TestOverlay(false);
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(Arrays.asList(overlay));
+
+		for (int i = 0; i < 3; ++i)
+		{
+			render();
+		}
+
+		assertEquals(3, overlay.renders);
+		assertDrawn(overlay);
+	}
+
+	@Test
+	public void testLayout()
+	{
+		TestOverlay first = new TestOverlay(true);
+		TestOverlay second = new TestOverlay(false);
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(Arrays.asList(first, second));
+
+		for (int i = 0; i < 3; ++i)
+		{
+			render();
+		}
+
+		// the second overlay is stacked below the first in the same snap corner
+		assertEquals(first.getBounds().x, second.getBounds().x);
+		assertEquals(first.getBounds().y + first.getBounds().height + 2, second.getBounds().y);
+	}
+
+	private void render()
+	{
+		Graphics2D graphics = canvas.createGraphics();
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(0, 0, WIDTH, HEIGHT);
+		graphics.setComposite(AlphaComposite.SrcOver);
+		overlayRenderer.render(graphics, OverlayLayer.ABOVE_WIDGETS);
+		graphics.dispose();
+	}
+
+	private void assertDrawn(Overlay overlay)
+	{
+		Rectangle bounds = overlay.getBounds();
+		assertEquals(new Rectangle(bounds.x, bounds.y, 50, 20), bounds);
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(bounds.x + 25, bounds.y + 10));
+	}
+}
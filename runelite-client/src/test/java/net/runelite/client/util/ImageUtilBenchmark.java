@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.RescaleOp;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks {@link ImageUtil} outlines and offsets against the Graphics2D and RescaleOp based
+ * implementations they replaced, at the sizes of item sprites, clan rank icons and panel icons.
+ * Run with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageUtilBenchmark
+{
+	@Param({"36x32", "13x13", "16x16"})
+	public String size;
+
+	private BufferedImage image;
+	private BufferedImage outlined;
+
+	@Setup
+	public void setup()
+	{
+		final String[] dimensions = size.split("x");
+		final int width = Integer.parseInt(dimensions[0]);
+		final int height = Integer.parseInt(dimensions[1]);
+
+		// an opaque blob with a dark border in the middle, like an item sprite with its shadow
+		final Random random = new Random(42);
+		image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = height / 5; y < height - height / 5; y++)
+		{
+			for (int x = width / 5; x < width - width / 5; x++)
+			{
+				image.setRGB(x, y, 0xff000000 | random.nextInt(0xffffff));
+			}
+		}
+	}
+
+	@Benchmark
+	public BufferedImage outlineGraphics()
+	{
+		final BufferedImage filled = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < filled.getWidth(); x++)
+		{
+			for (int y = 0; y < filled.getHeight(); y++)
+			{
+				if (new Color(image.getRGB(x, y), true).getAlpha() != 0)
+				{
+					filled.setRGB(x, y, Color.WHITE.getRGB());
+				}
+			}
+		}
+
+		final BufferedImage out = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		final Graphics2D g2d = out.createGraphics();
+		g2d.drawImage(filled, -1, 0, null);
+		g2d.drawImage(filled, 1, 0, null);
+		g2d.drawImage(filled, 0, -1, null);
+		g2d.drawImage(filled, 0, 1, null);
+		g2d.drawImage(image, 0, 0, null);
+		g2d.dispose();
+		return out;
+	}
+
+	@Benchmark
+	public BufferedImage outline()
+	{
+		return ImageUtil.outlineImage(image, Color.WHITE);
+	}
+
+	@Benchmark
+	public BufferedImage outlineReused()
+	{
+		outlined = ImageUtil.outlineImage(image, Color.WHITE, outlined);
+		return outlined;
+	}
+
+	@Benchmark
+	public BufferedImage alphaOffsetRescaleOp()
+	{
+		return new RescaleOp(new float[]{1f, 1f, 1f, 0.5f}, new float[]{0f, 0f, 0f, 0f}, null).filter(image, null);
+	}
+
+	@Benchmark
+	public BufferedImage alphaOffset()
+	{
+		return ImageUtil.alphaOffset(image, 0.5f);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ImageUtilBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -40,6 +40,8 @@ import javax.annotation.Nonnull;
 import org.apache.commons.lang3.ArrayUtils;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -322,6 +324,29 @@ public class ImageUtilTest
 		assertTrue(bufferedImagesEqual(expected, ImageUtil.outlineImage(test, RED, testPredicate, true)));
 	}
 
+	@Test
+	public void outlineImageReuse()
+	{
+		final BufferedImage outlined = ImageUtil.outlineImage(centeredPixel(BLACK), RED, (BufferedImage) null);
+		assertTrue(bufferedImagesEqual(ImageUtil.outlineImage(centeredPixel(BLACK), RED), outlined));
+
+		// the destination is reused when it is the same size
+		assertSame(outlined, ImageUtil.outlineImage(centeredPixel(WHITE), BLACK, outlined));
+		assertTrue(bufferedImagesEqual(ImageUtil.outlineImage(centeredPixel(WHITE), BLACK), outlined));
+
+		final BufferedImage resized = ImageUtil.outlineImage(BLACK_PIXEL_TOP_LEFT, WHITE, outlined);
+		assertNotSame(outlined, resized);
+		assertTrue(bufferedImagesEqual(ImageUtil.outlineImage(BLACK_PIXEL_TOP_LEFT, WHITE), resized));
+	}
+
+	@Test
+	public void fillImageOtherType()
+	{
+		final BufferedImage image = new BufferedImage(CENTERED_SIZE, CENTERED_SIZE, BufferedImage.TYPE_4BYTE_ABGR);
+		image.setRGB(1, 1, BLACK.getRGB());
+		assertTrue(bufferedImagesEqual(centeredPixel(GRAY), ImageUtil.fillImage(image, GRAY)));
+	}
+
 	/**
 	 * Compares whether two {@link BufferedImage}s are equal in data.
 	 *
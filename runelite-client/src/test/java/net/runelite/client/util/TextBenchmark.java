@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.base.CharMatcher;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks {@link Text} on menu targets, menu options, chat messages and player names,
+ * against the regex based implementations it replaced. Run with {@link #main(String[])}
+ * and {@code -prof gc} to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark
+{
+	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+
+	private static final String[] INPUTS = {
+		"<col=ffff00>Goblin<col=ff00>  (level-2)",
+		"<col=ffffff><img=2>Zezima<col=00ffff>  (level-126)",
+		"<col=ff9040>Rune scimitar",
+		"<col=ff9040>Coins</col><col=ffffff> -> <col=ffff>Bank booth",
+		"Attack",
+		"Walk here",
+		"Take",
+		"Talk-to",
+		"Examine",
+		"Cancel",
+		"Bank booth",
+		"Your dodgy necklace has 7 charges left.",
+		"<col=ef1020>Valuable drop: Dragon bones (2,930 coins)</col>",
+		"anyone selling dragon bones?",
+		"wts 10k coal 150ea pm me",
+		"Iron\u00A0Mammal",
+		"Zezima",
+		"b0aty",
+	};
+
+	private final StringBuilder builder = new StringBuilder();
+
+	@Benchmark
+	public void removeTagsRegex(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(TAG_REGEXP.matcher(input).replaceAll(""));
+		}
+	}
+
+	@Benchmark
+	public void removeTags(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(Text.removeTags(input));
+		}
+	}
+
+	@Benchmark
+	public void standardizeRegex(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(TAG_REGEXP.matcher(input).replaceAll("").replace('\u00A0', ' ').trim().toLowerCase());
+		}
+	}
+
+	@Benchmark
+	public void standardize(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(Text.standardize(input));
+		}
+	}
+
+	@Benchmark
+	public void standardizeBuilder(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			builder.setLength(0);
+			blackhole.consume(Text.standardize(input, builder).length());
+		}
+	}
+
+	@Benchmark
+	public void toJagexNameRegex(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(CharMatcher.ascii().retainFrom(input.replace('\u00A0', ' ')).replaceAll("[_-]+", " ").trim());
+		}
+	}
+
+	@Benchmark
+	public void toJagexName(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(Text.toJagexName(input));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(TextBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.client.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class TextTest
@@ -40,6 +41,54 @@ public class TextTest
 		assertEquals("Use Item -> Man", Text.removeTags("Use Item -> Man"));
 		assertEquals("a < b", Text.removeTags("a < b"));
 		assertEquals("Remove no tags", Text.removeTags("Remove no tags"));
+		assertEquals("a <b", Text.removeTags("a <b"));
+		assertEquals("Test <col=ff", Text.removeTags("<col=ff>Test <col=ff"));
 	}
 
+	@Test
+	public void removeTagsUnchanged()
+	{
+		String str = "Remove no tags";
+		assertSame(str, Text.removeTags(str));
+		str = "Use Item -> Man";
+		assertSame(str, Text.removeTags(str));
+	}
+
+	@Test
+	public void standardize()
+	{
+		assertEquals("zezima  (level-126)", Text.standardize("<col=ffffff><img=2>Zezima<col=00ffff>  (level-126) "));
+		assertEquals("iron mammal", Text.standardize(" Iron\u00A0Mammal\u00A0"));
+		assertEquals("", Text.standardize("<col=ffffff> </col>"));
+
+		String str = "goblin";
+		assertSame(str, Text.standardize(str));
+	}
+
+	@Test
+	public void toJagexName()
+	{
+		assertEquals("Iron Mammal", Text.toJagexName("Iron\u00A0Mammal"));
+		assertEquals("Lo l", Text.toJagexName("-Lo__-l_"));
+		assertEquals("Zezima", Text.toJagexName("Zez\u00e9ima"));
+
+		String str = "Zezima";
+		assertSame(str, Text.toJagexName(str));
+	}
+
+	@Test
+	public void builders()
+	{
+		StringBuilder builder = new StringBuilder("> ");
+		Text.standardize("<col=ff9040>Rune Scimitar ", builder);
+		assertEquals("> rune scimitar", builder.toString());
+
+		builder.setLength(0);
+		Text.toJagexName(" Iron_Mammal", builder);
+		assertEquals("Iron Mammal", builder.toString());
+
+		builder.setLength(0);
+		Text.removeTags("<col=ff9040>Coins</col> -> <col=ffff>Bank booth", builder);
+		assertEquals("Coins -> Bank booth", builder.toString());
+	}
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatch()
+	{
+		WildcardMatcherSet set = new WildcardMatcherSet(Arrays.asList("Abyssal whip", "rune*", "*dagger", "a*e", "Goblin"));
+
+		assertEquals("rune*", set.match("Rune pouch"));
+		assertEquals("*dagger", set.match("Adamant dagger"));
+		assertEquals("Abyssal whip", set.match("abyssal WHIP"));
+		assertEquals("a*e", set.match("Arrow shafte"));
+		assertEquals("Goblin", set.match("goblin"));
+		assertNull(set.match("Goblins"));
+		assertNull(set.match(""));
+		assertNull(set.match(null));
+	}
+
+	@Test
+	public void testFirstMatch()
+	{
+		WildcardMatcherSet set = new WildcardMatcherSet(Arrays.asList("*", "goblin", "gob*"));
+
+		assertEquals(0, set.indexOf("goblin"));
+		assertEquals(0, set.indexOf(""));
+
+		set = new WildcardMatcherSet(Arrays.asList("gob*", "goblin", "*"));
+
+		assertEquals(0, set.indexOf("goblin"));
+		assertEquals(2, set.indexOf("imp"));
+	}
+
+	@Test
+	public void testMatchesWildcardMatcher()
+	{
+		String[] patterns = {"rune*", "*ore", "iron ore", "*a*b*", "ab", "*", "**x", "\u00c4*"};
+		String[] names = {"Rune pouch", "Iron ore", "ab", "AB", "cab", "xyz", "abx", "\u00e4pfel", "", "Runeite Ore"};
+		for (String pattern : patterns)
+		{
+			WildcardMatcherSet set = new WildcardMatcherSet(Collections.singletonList(pattern));
+			for (String name : names)
+			{
+				assertEquals(pattern + " ~ " + name, WildcardMatcher.matches(pattern, name), set.matches(name));
+			}
+		}
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		assertTrue(WildcardMatcherSet.EMPTY.isEmpty());
+		assertFalse(WildcardMatcherSet.EMPTY.matches("goblin"));
+	}
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ws;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.api.Skill;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdateCodec;
+import net.runelite.client.plugins.party.messages.SkillUpdate;
+import net.runelite.client.plugins.party.messages.SkillUpdateCodec;
+import net.runelite.client.plugins.party.messages.TilePing;
+import net.runelite.http.api.RuneLiteAPI;
+import net.runelite.http.api.ws.WebsocketGsonFactory;
+import net.runelite.http.api.ws.WebsocketMessage;
+import net.runelite.http.api.ws.messages.party.PartyMemberMessage;
+import net.runelite.http.api.ws.messages.party.UserJoin;
+import net.runelite.http.api.ws.messages.party.UserPart;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.ByteString;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WSClientTest
+{
+	private static final UUID MEMBER_A = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+	private static final UUID MEMBER_B = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+	private static final UUID MEMBER_C = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+	private static final UUID PARTY = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+	private static final Map<Class<?>, PartyMessageCodec<?>> CODECS = ImmutableMap.of(
+		SkillUpdate.class, new SkillUpdateCodec(),
+		LocationUpdate.class, new LocationUpdateCodec()
+	);
+
+	private final Gson gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(Arrays.asList(SkillUpdate.class, LocationUpdate.class, TilePing.class)));
+	private final MockWebServer server = new MockWebServer();
+	private final Relay relay = new Relay();
+	private final List<WSClient> clients = new ArrayList<>();
+
+	/**
+	 * Stands in for the party server, forwarding party messages to every connection
+	 */
+	private static class Relay extends WebSocketListener
+	{
+		private final List<WebSocket> sockets = new CopyOnWriteArrayList<>();
+		private final AtomicInteger binaryBytes = new AtomicInteger();
+		private final AtomicInteger binaryFrames = new AtomicInteger();
+		private final AtomicInteger jsonFrames = new AtomicInteger();
+
+		@Override
+		public void onOpen(WebSocket webSocket, Response response)
+		{
+			sockets.add(webSocket);
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, String text)
+		{
+			if (text.contains("\"_party\":true"))
+			{
+				jsonFrames.incrementAndGet();
+				broadcast(text);
+			}
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, ByteString bytes)
+		{
+			binaryBytes.addAndGet(bytes.size());
+			binaryFrames.incrementAndGet();
+			for (WebSocket socket : sockets)
+			{
+				socket.send(bytes);
+			}
+		}
+
+		private void broadcast(String text)
+		{
+			for (WebSocket socket : sockets)
+			{
+				socket.send(text);
+			}
+		}
+	}
+
+	/**
+	 * A client from before binary frames, which only understands json
+	 */
+	private static class JsonOnlyClient extends WebSocketListener
+	{
+		private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+		private final AtomicInteger binaryFrames = new AtomicInteger();
+
+		@Override
+		public void onMessage(WebSocket webSocket, String text)
+		{
+			messages.add(text);
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, ByteString bytes)
+		{
+			binaryFrames.incrementAndGet();
+		}
+	}
+
+	private static class Collector
+	{
+		private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+		@Subscribe
+		void onSkillUpdate(SkillUpdate event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		void onLocationUpdate(LocationUpdate event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		void onTilePing(TilePing event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		void onUserJoin(UserJoin event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		void onUserPart(UserPart event)
+		{
+			events.add(event);
+		}
+
+		Object poll() throws InterruptedException
+		{
+			return events.poll(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Before
+	public void before() throws IOException
+	{
+		for (int i = 0; i < 3; ++i)
+		{
+			server.enqueue(new MockResponse().withWebSocketUpgrade(relay));
+		}
+		server.start();
+		System.setProperty("runelite.ws.url", server.url("/ws").toString());
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		clients.forEach(WSClient::close);
+		System.clearProperty("runelite.ws.url");
+		server.shutdown();
+	}
+
+	@Test
+	public void testReplaySession() throws Exception
+	{
+		final Collector collectorA = new Collector();
+		final Collector collectorB = new Collector();
+		final Map<UUID, WSClient> senders = ImmutableMap.of(
+			MEMBER_A, connect(collectorA),
+			MEMBER_B, connect(collectorB)
+		);
+		awaitConnections(2);
+		announce(true, MEMBER_A, MEMBER_B);
+		awaitUserJoins(2, collectorA, collectorB);
+
+		final List<WebsocketMessage> session = readSession("party_session.txt");
+		final Map<UUID, List<String>> expected = new HashMap<>();
+		final Map<String, int[]> lastSent = new HashMap<>();
+		int jsonBytes = 0;
+
+		for (WebsocketMessage message : session)
+		{
+			final PartyMemberMessage memberMessage = (PartyMemberMessage) message;
+			final String json = gson.toJson(message, WebsocketMessage.class);
+			senders.get(memberMessage.getMemberId()).send(message);
+
+			if (CODECS.containsKey(message.getClass()))
+			{
+				jsonBytes += json.length();
+
+				@SuppressWarnings("unchecked")
+				final PartyMessageCodec<PartyMemberMessage> codec = (PartyMessageCodec<PartyMemberMessage>) CODECS.get(message.getClass());
+				final String stream = memberMessage.getMemberId() + message.getClass().getSimpleName() + codec.getKey(memberMessage);
+				final int[] fields = codec.encode(memberMessage);
+				if (Arrays.equals(lastSent.put(stream, fields), fields))
+				{
+					// unchanged, should not be sent
+					continue;
+				}
+			}
+
+			expected.computeIfAbsent(memberMessage.getMemberId(), k -> new ArrayList<>()).add(json);
+		}
+
+		final int expectedCount = expected.values().stream().mapToInt(List::size).sum();
+		assertEquals(session.size() - 4, expectedCount);
+
+		for (Collector collector : Arrays.asList(collectorA, collectorB))
+		{
+			final Map<UUID, List<String>> received = new HashMap<>();
+			for (int i = 0; i < expectedCount; ++i)
+			{
+				final PartyMemberMessage message = (PartyMemberMessage) collector.poll();
+				assertNotNull("timed out after " + i + " messages", message);
+				received.computeIfAbsent(message.getMemberId(), k -> new ArrayList<>()).add(gson.toJson(message, WebsocketMessage.class));
+			}
+
+			assertEquals(expected, received);
+		}
+
+		assertEquals(expectedCount - 1, relay.binaryFrames.get());
+		assertTrue("binary frames should be much smaller than json", relay.binaryBytes.get() * 3 < jsonBytes);
+	}
+
+	@Test
+	public void testKeyframeOnJoin() throws Exception
+	{
+		final Collector collectorA = new Collector();
+		final WSClient clientA = connect(collectorA);
+		awaitConnections(1);
+		announce(true, MEMBER_A);
+		awaitUserJoins(1, collectorA);
+
+		clientA.send(skillUpdate(MEMBER_A, 99, 99));
+		assertEquals(99, ((SkillUpdate) collectorA.poll()).getValue());
+
+		final Collector collectorC = new Collector();
+		connect(collectorC);
+		awaitConnections(2);
+
+		// a delta against a keyframe C never saw is dropped
+		clientA.send(skillUpdate(MEMBER_A, 90, 99));
+		assertEquals(90, ((SkillUpdate) collectorA.poll()).getValue());
+
+		announce(true, MEMBER_C);
+		awaitUserJoins(1, collectorA, collectorC);
+
+		// unchanged, but resent as a keyframe now that someone has joined
+		clientA.send(skillUpdate(MEMBER_A, 90, 99));
+		final SkillUpdate update = (SkillUpdate) collectorC.poll();
+		assertNotNull(update);
+		assertEquals(MEMBER_A, update.getMemberId());
+		assertEquals(Skill.HITPOINTS, update.getSkill());
+		assertEquals(90, update.getValue());
+		assertEquals(99, update.getMax());
+
+		// frames arrive in order, so nothing else was sent to C if the next update is the one sent next
+		clientA.send(skillUpdate(MEMBER_A, 80, 99));
+		assertEquals(80, ((SkillUpdate) collectorC.poll()).getValue());
+		assertEquals(4, relay.binaryFrames.get());
+	}
+
+	@Test
+	public void testJsonWithoutServerSupport() throws Exception
+	{
+		final Collector collectorA = new Collector();
+		final Collector collectorB = new Collector();
+		final WSClient clientA = connect(collectorA);
+		connect(collectorB);
+		awaitConnections(2);
+
+		// a server from before binary frames announces members without the flag
+		announce(false, MEMBER_A, MEMBER_B);
+		awaitUserJoins(2, collectorA, collectorB);
+		assertFalse(clientA.isBinaryFrames());
+
+		clientA.send(skillUpdate(MEMBER_A, 99, 99));
+		clientA.send(skillUpdate(MEMBER_A, 99, 99));
+
+		// json is sent in full every time
+		for (int i = 0; i < 2; ++i)
+		{
+			assertEquals(99, ((SkillUpdate) collectorB.poll()).getValue());
+		}
+		assertEquals(0, relay.binaryFrames.get());
+		assertEquals(2, relay.jsonFrames.get());
+	}
+
+	@Test
+	public void testMixedVersionParty() throws Exception
+	{
+		final Collector collectorA = new Collector();
+		final Collector collectorB = new Collector();
+		final WSClient clientA = connect(collectorA);
+		final WSClient clientB = connect(collectorB);
+		final JsonOnlyClient clientC = new JsonOnlyClient();
+		final WebSocket socketC = RuneLiteAPI.CLIENT.newWebSocket(new Request.Builder().url(server.url("/ws")).build(), clientC);
+		awaitConnections(3);
+
+		// C runs an older client, which didn't ask for binary frames in its handshake
+		announce(true, MEMBER_A, MEMBER_B);
+		announce(false, MEMBER_C);
+		awaitUserJoins(3, collectorA, collectorB);
+		assertFalse(clientA.isBinaryFrames());
+		assertFalse(clientB.isBinaryFrames());
+
+		clientA.send(skillUpdate(MEMBER_A, 99, 99));
+		assertEquals(99, ((SkillUpdate) collectorB.poll()).getValue());
+
+		String text;
+		do
+		{
+			text = clientC.messages.poll(5, TimeUnit.SECONDS);
+			assertNotNull("old client got no skill update", text);
+		}
+		while (!text.contains("SkillUpdate"));
+		final SkillUpdate update = (SkillUpdate) gson.fromJson(text, WebsocketMessage.class);
+		assertEquals(MEMBER_A, update.getMemberId());
+		assertEquals(99, update.getValue());
+		assertEquals(0, clientC.binaryFrames.get());
+
+		// once C leaves, the rest of the party switches to binary frames, starting with keyframes
+		socketC.close(1000, null);
+		relay.broadcast(gson.toJson(new UserPart(MEMBER_C), WebsocketMessage.class));
+		assertTrue(collectorA.poll() instanceof UserPart);
+		assertTrue(collectorB.poll() instanceof UserPart);
+		assertTrue(clientA.isBinaryFrames());
+
+		clientA.send(skillUpdate(MEMBER_A, 99, 99));
+		assertEquals(99, ((SkillUpdate) collectorB.poll()).getValue());
+		assertEquals(1, relay.binaryFrames.get());
+	}
+
+	private WSClient connect(Collector collector)
+	{
+		final EventBus eventBus = new EventBus();
+		eventBus.register(collector);
+
+		final WSClient client = Guice.createInjector(binder -> binder.bind(EventBus.class).toInstance(eventBus))
+			.getInstance(WSClient.class);
+		client.registerMessage(SkillUpdate.class, 1, new SkillUpdateCodec());
+		client.registerMessage(TilePing.class);
+		client.registerMessage(LocationUpdate.class, 2, new LocationUpdateCodec());
+		client.changeSession(UUID.randomUUID());
+		clients.add(client);
+		return client;
+	}
+
+	private void announce(boolean binaryFrames, UUID... members)
+	{
+		for (UUID member : members)
+		{
+			relay.broadcast(gson.toJson(new UserJoin(member, PARTY, member.toString(), binaryFrames), WebsocketMessage.class));
+		}
+	}
+
+	private static void awaitUserJoins(int count, Collector... collectors) throws InterruptedException
+	{
+		for (Collector collector : collectors)
+		{
+			for (int i = 0; i < count; ++i)
+			{
+				assertTrue(collector.poll() instanceof UserJoin);
+			}
+		}
+	}
+
+	private void awaitConnections(int count) throws InterruptedException
+	{
+		final long deadline = System.currentTimeMillis() + 5000;
+		while (relay.sockets.size() < count)
+		{
+			assertTrue("timed out waiting for connections", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private List<WebsocketMessage> readSession(String name) throws IOException
+	{
+		final List<WebsocketMessage> session = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(WSClientTest.class.getResourceAsStream(name), StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				session.add(gson.fromJson(line, WebsocketMessage.class));
+			}
+		}
+		return session;
+	}
+
+	private static SkillUpdate skillUpdate(UUID memberId, int value, int max)
+	{
+		final SkillUpdate update = new SkillUpdate(Skill.HITPOINTS, value, max);
+		update.setMemberId(memberId);
+		return update;
+	}
+}
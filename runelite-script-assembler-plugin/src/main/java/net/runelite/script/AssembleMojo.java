@@ -24,10 +24,32 @@
  */
 package net.runelite.script;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.ScriptDefinition;
 import net.runelite.cache.definitions.savers.ScriptSaver;
@@ -42,16 +64,42 @@ import org.apache.maven.plugins.annotations.Parameter;
 
 @Mojo(
 	name = "assemble",
-	defaultPhase = LifecyclePhase.GENERATE_RESOURCES
+	defaultPhase = LifecyclePhase.GENERATE_RESOURCES,
+	threadSafe = true
 )
 public class AssembleMojo extends AbstractMojo
 {
+	/**
+	 * State key of the digest of the assembler, which is not a script name as those end in .rs2asm
+	 */
+	private static final String ASSEMBLER_KEY = "assembler";
+
 	@Parameter(required = true)
 	private File scriptDirectory;
 
 	@Parameter(required = true)
 	private File outputDirectory;
 
+	/**
+	 * Records the digest and id of each assembled script, so unchanged
+	 * scripts can be skipped on the next build
+	 */
+	@Parameter(defaultValue = "${project.build.directory}/assemble-state.properties")
+	private File stateFile;
+
+	/**
+	 * Skip scripts whose source and hash files are unchanged since the last build, if the assembler
+	 * is also unchanged
+	 */
+	@Parameter(defaultValue = "true")
+	private boolean incremental;
+
+	/**
+	 * Number of scripts to assemble in parallel, defaults to the number of processors
+	 */
+	@Parameter(defaultValue = "0")
+	private int threads;
+
 	private final Log log = getLog();
 
 	@Override
@@ -61,44 +109,263 @@ public class AssembleMojo extends AbstractMojo
 		instructions.init();
 
 		Assembler assembler = new Assembler(instructions);
-		ScriptSaver saver = new ScriptSaver();
 
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 		scriptOut.mkdirs();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
+		String assemblerDigest = assemblerDigest();
+		Properties previousState = loadState();
+		Properties reusableState = incremental && assemblerDigest != null && assemblerDigest.equals(previousState.getProperty(ASSEMBLER_KEY))
+			? previousState
+			: new Properties();
+		Properties state = new Properties();
+
+		AtomicInteger assembled = new AtomicInteger();
+		AtomicInteger skipped = new AtomicInteger();
+
+		File[] scriptFiles = scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm"));
+		ExecutorService executor = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>(scriptFiles.length);
+			for (File scriptFile : scriptFiles)
+			{
+				futures.add(executor.submit(() ->
+				{
+					if (assemble(assembler, scriptFile, scriptOut, reusableState, state))
+					{
+						assembled.incrementAndGet();
+					}
+					else
+					{
+						skipped.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new MojoFailureException("interrupted assembling scripts", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof MojoExecutionException)
+			{
+				throw (MojoExecutionException) cause;
+			}
+			throw new MojoFailureException("unable to assemble scripts", cause);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		deleteRemovedOutputs(scriptOut, previousState, state);
+
+		if (assemblerDigest != null)
+		{
+			state.setProperty(ASSEMBLER_KEY, assemblerDigest);
+		}
+
+		stateFile.getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(stateFile))
+		{
+			state.store(out, null);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoFailureException("unable to write assembler state", ex);
+		}
+
+		log.info("Assembled " + assembled.get() + " scripts, " + skipped.get() + " unchanged");
+	}
+
+	/**
+	 * Assemble a single script
+	 *
+	 * @return true if the script was assembled, false if it was unchanged
+	 */
+	private boolean assemble(Assembler assembler, File scriptFile, File scriptOut, Properties previousState, Properties state)
+		throws IOException, MojoExecutionException
+	{
+		String name = Files.getNameWithoutExtension(scriptFile.getName());
+		File hashFile = new File(scriptDirectory, name + ".hash");
+
+		byte[] source = Files.toByteArray(scriptFile);
+		byte[] hash = hashFile.exists() ? Files.toByteArray(hashFile) : null;
+
+		Hasher hasher = Hashing.sha256().newHasher()
+			.putBytes(source);
+		if (hash != null)
+		{
+			hasher.putBytes(hash);
+		}
+		String digest = hasher.hash().toString();
+
+		String previous = previousState.getProperty(scriptFile.getName());
+		if (previous != null && previous.startsWith(digest + ":"))
+		{
+			String id = previous.substring(digest.length() + 1);
+			File targetFile = new File(scriptOut, id);
+			if (targetFile.exists() && (hash == null || new File(scriptOut, id + ".hash").exists()))
+			{
+				state.setProperty(scriptFile.getName(), previous);
+				return false;
+			}
+		}
+
+		log.debug("Assembling " + scriptFile);
+
+		ScriptDefinition script;
+		try (InputStream in = new ByteArrayInputStream(source))
+		{
+			script = assembler.assemble(in);
+		}
+		byte[] packedScript = new ScriptSaver().save(script);
+
+		File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+		writeIfChanged(packedScript, targetFile);
+
+		// Copy hash file
+
+		if (hash != null)
+		{
+			writeIfChanged(hash, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+		}
+		else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
 		{
-			log.debug("Assembling " + scriptFile);
+			throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
+		}
+
+		state.setProperty(scriptFile.getName(), digest + ":" + script.getId());
+		return true;
+	}
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+	/**
+	 * Delete the output of scripts which a previous build assembled, but which have since been
+	 * deleted or now assemble to a different id
+	 */
+	private void deleteRemovedOutputs(File scriptOut, Properties previousState, Properties state)
+	{
+		Set<String> ids = new HashSet<>();
+		for (String name : state.stringPropertyNames())
+		{
+			ids.add(scriptId(state.getProperty(name)));
+		}
+
+		for (String name : previousState.stringPropertyNames())
+		{
+			if (name.equals(ASSEMBLER_KEY))
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
+				continue;
+			}
 
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
+			String id = scriptId(previousState.getProperty(name));
+			if (ids.contains(id))
+			{
+				continue;
+			}
+
+			log.debug("Removing output " + id + " of " + name);
+			new File(scriptOut, id).delete();
+			new File(scriptOut, id + ".hash").delete();
+		}
+	}
+
+	private static String scriptId(String state)
+	{
+		return state.substring(state.indexOf(':') + 1);
+	}
 
-				// Copy hash file
+	/**
+	 * Digest the classes which assemble and save the scripts, so that a new assembler or
+	 * instruction table reassembles every script
+	 *
+	 * @return the digest, or null if the classes can't be read
+	 */
+	private String assemblerDigest()
+	{
+		Set<File> locations = new LinkedHashSet<>();
+		Hasher hasher = Hashing.sha256().newHasher();
+		try
+		{
+			for (Class<?> clazz : new Class<?>[]{Assembler.class, RuneLiteInstructions.class, ScriptSaver.class})
+			{
+				locations.add(new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()));
+			}
 
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
+			for (File location : locations)
+			{
+				if (location.isFile())
 				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+					hasher.putBytes(Files.toByteArray(location));
+					continue;
 				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+
+				// classes of a module in the same reactor build
+				List<Path> paths;
+				try (Stream<Path> walk = java.nio.file.Files.walk(location.toPath()))
 				{
-					throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
+					paths = walk.filter(java.nio.file.Files::isRegularFile)
+						.sorted()
+						.collect(Collectors.toList());
 				}
 
-				++count;
-			}
-			catch (IOException ex)
-			{
-				throw new MojoFailureException("unable to open file", ex);
+				for (Path path : paths)
+				{
+					hasher.putUnencodedChars(location.toPath().relativize(path).toString());
+					hasher.putBytes(java.nio.file.Files.readAllBytes(path));
+				}
 			}
 		}
+		catch (IOException | URISyntaxException | RuntimeException ex)
+		{
+			log.warn("Unable to read the assembler, assembling all scripts", ex);
+			return null;
+		}
+
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * Write a file, leaving it untouched if it already has the same
+	 * contents so its timestamp is kept for later build steps
+	 */
+	private static void writeIfChanged(byte[] data, File file) throws IOException
+	{
+		if (file.exists() && file.length() == data.length && Arrays.equals(Files.toByteArray(file), data))
+		{
+			return;
+		}
+
+		Files.write(data, file);
+	}
+
+	private Properties loadState()
+	{
+		Properties properties = new Properties();
+		if (!stateFile.exists())
+		{
+			return properties;
+		}
 
-		log.info("Assembled " + count + " scripts");
+		try (InputStream in = new FileInputStream(stateFile))
+		{
+			properties.load(in);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to read assembler state, assembling all scripts", ex);
+			properties.clear();
+		}
+		return properties;
 	}
 }